@@ -0,0 +1,34 @@
+#!/bin/bash
+# Print p99 latency per endpoint from two k6 summaries written by virtual-threads-p99.js.
+#
+#   load/compare.sh load/results/platform.json load/results/virtual-threads.json
+
+set -euo pipefail
+
+if [ $# -ne 2 ]; then
+    echo "usage: $0 <baseline.json> <candidate.json>" >&2
+    exit 1
+fi
+
+metrics='http_req_duration
+http_req_duration{endpoint:login}
+http_req_duration{endpoint:me}
+http_req_duration{endpoint:employees_page}
+http_req_duration{endpoint:employee_search}
+http_req_duration{endpoint:org_chart}
+http_req_duration{endpoint:departments}'
+
+p99() {
+    jq -r --arg metric "$2" '.metrics[$metric].values["p(99)"] // null | if . == null then "n/a" else (. * 10 | round / 10) end' "$1"
+}
+
+rate() {
+    jq -r --arg metric "$2" '.metrics[$metric].values.rate // null | if . == null then "n/a" else (. * 10000 | round / 10000) end' "$1"
+}
+
+printf '%-45s %14s %14s\n' "p99 (ms)" "$(basename "$1" .json)" "$(basename "$2" .json)"
+while read -r metric; do
+    printf '%-45s %14s %14s\n' "$metric" "$(p99 "$1" "$metric")" "$(p99 "$2" "$metric")"
+done <<< "$metrics"
+printf '%-45s %14s %14s\n' "http_req_failed (rate)" "$(rate "$1" http_req_failed)" "$(rate "$2" http_req_failed)"
+printf '%-45s %14s %14s\n' "http_reqs (per second)" "$(rate "$1" http_reqs)" "$(rate "$2" http_reqs)"
@@ -0,0 +1,95 @@
+// p99 latency under 2,000 concurrent clients, for comparing the default Tomcat pool with the
+// virtual-threads profile. See load/README.md for how to run both profiles.
+//
+//   k6 run -e PROFILE=platform load/virtual-threads-p99.js
+//   k6 run -e PROFILE=virtual-threads load/virtual-threads-p99.js
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { textSummary } from 'https://jslib.k6.io/k6-summary/0.1.0/index.js';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PROFILE = __ENV.PROFILE || 'unlabelled';
+const VUS = parseInt(__ENV.VUS || '2000', 10);
+const HOLD = __ENV.HOLD || '3m';
+// Share of iterations that log in; the rest are authenticated reads
+const LOGIN_RATIO = parseFloat(__ENV.LOGIN_RATIO || '0.1');
+
+const PASSWORD = 'load-test-password';
+
+export const options = {
+    scenarios: {
+        clients: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '1m', target: VUS },
+                { duration: HOLD, target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+            gracefulRampDown: '30s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    // Generous bounds: they exist so every endpoint's p99 shows up in the summary, not to gate a build
+    thresholds: {
+        'http_req_failed': ['rate<0.05'],
+        'http_req_duration': ['p(99)<10000'],
+        'http_req_duration{endpoint:login}': ['p(99)<10000'],
+        'http_req_duration{endpoint:me}': ['p(99)<10000'],
+        'http_req_duration{endpoint:employees_page}': ['p(99)<10000'],
+        'http_req_duration{endpoint:employee_search}': ['p(99)<10000'],
+        'http_req_duration{endpoint:org_chart}': ['p(99)<10000'],
+        'http_req_duration{endpoint:departments}': ['p(99)<10000'],
+    },
+};
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+// One tenant, registered through the normal sign-up so the run needs no seed data
+export function setup() {
+    const email = `load-${Date.now()}@example.test`;
+    const response = http.post(`${BASE_URL}/api/auth/register`, JSON.stringify({
+        companyName: `Load test ${PROFILE}`,
+        email: email,
+        password: PASSWORD,
+        firstName: 'Load',
+        lastName: 'Test',
+    }), { headers: JSON_HEADERS });
+    if (response.status !== 200 && response.status !== 201) {
+        throw new Error(`Registration failed with ${response.status}: ${response.body}`);
+    }
+    return { email: email, token: response.json('token') };
+}
+
+const READS = [
+    ['me', '/api/auth/me'],
+    ['employees_page', '/api/employees/page?page=0&size=20'],
+    ['employee_search', '/api/employees/search?q=loa'],
+    ['org_chart', '/api/employees/org-chart'],
+    ['departments', '/api/departments'],
+];
+
+export default function (data) {
+    if (Math.random() < LOGIN_RATIO) {
+        const response = http.post(`${BASE_URL}/api/auth/login`,
+            JSON.stringify({ email: data.email, password: PASSWORD }),
+            { headers: JSON_HEADERS, tags: { endpoint: 'login' } });
+        check(response, { 'login 200': (r) => r.status === 200 });
+        return;
+    }
+
+    const [name, path] = READS[Math.floor(Math.random() * READS.length)];
+    const response = http.get(`${BASE_URL}${path}`, {
+        headers: { Authorization: `Bearer ${data.token}` },
+        tags: { endpoint: name },
+    });
+    check(response, { [`${name} 200`]: (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+    return {
+        [`load/results/${PROFILE}.json`]: JSON.stringify(data, null, 2),
+        stdout: textSummary(data, { indent: ' ', enableColors: true }),
+    };
+}
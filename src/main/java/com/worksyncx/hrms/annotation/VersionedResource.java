@@ -0,0 +1,34 @@
+package com.worksyncx.hrms.annotation;
+
+import com.worksyncx.hrms.enums.ResourceType;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET controller method whose response depends only on the given resource type's data.
+ * The method is answered with 304 Not Modified, without being invoked, when the client's ETag or
+ * Last-Modified date still matches the tenant's version of that resource type.
+ *
+ * Example usage:
+ * <pre>
+ * {@code
+ * @GetMapping
+ * @VersionedResource(ResourceType.DEPARTMENTS)
+ * public ResponseEntity<List<DepartmentResponse>> getAllDepartments() {
+ *     return ResponseEntity.ok(departmentService.getAllDepartments());
+ * }
+ * }
+ * </pre>
+ *
+ * Writes to the resource type must call {@code ResourceVersionService.bump} in their transaction.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface VersionedResource {
+    /**
+     * The resource type the response is derived from
+     */
+    ResourceType value();
+}
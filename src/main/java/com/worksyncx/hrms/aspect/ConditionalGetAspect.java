@@ -0,0 +1,75 @@
+package com.worksyncx.hrms.aspect;
+
+import com.worksyncx.hrms.annotation.VersionedResource;
+import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.cache.ResourceVersionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Conditional GET for methods annotated with @VersionedResource.
+ *
+ * The ETag and Last-Modified come from the resource type's version counter, so a matching
+ * If-None-Match (or If-Modified-Since) is answered with 304 before the controller method runs:
+ * no query and no serialization. Other responses get the validators attached for the next request.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConditionalGetAspect {
+
+    private final ResourceVersionService resourceVersionService;
+
+    @Around("@annotation(versionedResource)")
+    public Object handleConditionalGet(ProceedingJoinPoint joinPoint, VersionedResource versionedResource) throws Throwable {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        if (attributes == null || attributes.getResponse() == null) {
+            return joinPoint.proceed();
+        }
+        HttpServletRequest request = attributes.getRequest();
+        HttpServletResponse response = attributes.getResponse();
+
+        // Read the version before the data, so a concurrent write can only make the ETag older than the body
+        Long tenantId = TenantContext.getTenantId();
+        ResourceVersionService.Version version = resourceVersionService.getVersion(tenantId, versionedResource.value());
+        String etag = resourceVersionService.getETag(tenantId, versionedResource.value(), version);
+        long lastModified = version.lastModified().toEpochMilli();
+
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            log.debug("{} not modified for tenant {}", versionedResource.value(), tenantId);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .lastModified(lastModified)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .build();
+        }
+
+        Object result = joinPoint.proceed();
+        if (result instanceof ResponseEntity<?> entity && entity.getStatusCode().is2xxSuccessful()) {
+            return ResponseEntity.status(entity.getStatusCode())
+                .headers(entity.getHeaders())
+                .eTag(etag)
+                .lastModified(lastModified)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(entity.getBody());
+        }
+        // checkNotModified already set the validators on the response; they do not describe an error
+        response.setHeader(HttpHeaders.ETAG, null);
+        response.setHeader(HttpHeaders.LAST_MODIFIED, null);
+        return result;
+    }
+}
@@ -5,12 +5,16 @@ import com.worksyncx.hrms.enums.Module;
 import com.worksyncx.hrms.exception.SubscriptionException;
 import com.worksyncx.hrms.security.TenantContext;
 import com.worksyncx.hrms.service.subscription.SubscriptionService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
@@ -26,6 +30,15 @@ import java.lang.reflect.Method;
 public class SubscriptionEnforcementAspect {
 
     private final SubscriptionService subscriptionService;
+    private final ObjectProvider<ObservationRegistry> observationRegistryProvider;
+
+    /** No-op unless the metrics profile provides a registry */
+    private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+    @PostConstruct
+    void resolveObservationRegistry() {
+        observationRegistry = observationRegistryProvider.getIfAvailable(() -> ObservationRegistry.NOOP);
+    }
 
     /**
      * Intercepts method calls annotated with @RequiresModule and checks if the tenant
@@ -60,6 +73,13 @@ public class SubscriptionEnforcementAspect {
 
         log.debug("Checking module access for tenant: {}, module: {}", tenantId, moduleName);
 
+        // Timed per module only; a tenant tag would create a time series per tenant
+        Observation.createNotStarted("hrms.subscription.check", observationRegistry)
+            .lowCardinalityKeyValue("module", moduleName)
+            .observe(() -> checkAccess(tenantId, moduleName));
+    }
+
+    private void checkAccess(Long tenantId, String moduleName) {
         // Check if tenant has access to the module
         boolean hasAccess = subscriptionService.hasModuleAccess(tenantId, moduleName);
 
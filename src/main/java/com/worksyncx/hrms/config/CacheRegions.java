@@ -0,0 +1,23 @@
+package com.worksyncx.hrms.config;
+
+/**
+ * Hibernate second-level cache regions for reference data, configured in caffeine-l2cache.conf.
+ *
+ * Caching is only active with the {@code l2cache} profile; otherwise these annotations are inert.
+ * Entity regions are keyed by id, which is unique across tenants, and query regions by the query
+ * and its parameters, which always include the tenant for tenant-owned data.
+ */
+public final class CacheRegions {
+
+    public static final String DEPARTMENTS = "reference-departments";
+    public static final String DESIGNATIONS = "reference-designations";
+    public static final String SHIFTS = "reference-shifts";
+    public static final String LEAVE_TYPES = "reference-leave-types";
+    public static final String ROLES = "reference-roles";
+    public static final String ROLE_PERMISSIONS = "reference-role-permissions";
+    public static final String PERMISSIONS = "reference-permissions";
+    public static final String PLANS = "reference-plans";
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,114 @@
+package com.worksyncx.hrms.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admission control in front of the connection pool.
+ *
+ * With virtual threads there is no request thread limit any more, so thousands of requests can queue
+ * inside Hikari at once and all run into its 30 second connection timeout together. A fair semaphore
+ * with one permit per pooled connection queues them first, in arrival order, parks waiting virtual
+ * threads cheaply, and fails a request after a short, separate timeout instead.
+ *
+ * Every pool the application builds goes through {@link #limit}: the auto-configured one (see
+ * {@link VirtualThreadConfig}), the primary and replica pools and each shard's pool.
+ */
+@Slf4j
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long timeoutMillis;
+
+    public ConnectionLimitingDataSource(DataSource target, int maxConnections, Duration timeout) {
+        super(target);
+        this.permits = new Semaphore(maxConnections, true);
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * The pool behind a limiter sized to it when requests run on virtual threads, otherwise the pool itself.
+     */
+    public static DataSource limit(HikariDataSource pool, Environment environment) {
+        if (!Threading.VIRTUAL.isActive(environment)) {
+            return pool;
+        }
+        Duration timeout = environment.getProperty("datasource.admission.timeout", Duration.class, Duration.ofSeconds(5));
+        log.info("Limiting {} to {} concurrent connections, waiting at most {}",
+            pool.getPoolName(), pool.getMaximumPoolSize(), timeout);
+        return new ConnectionLimitingDataSource(pool, pool.getMaximumPoolSize(), timeout);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("No database connection available within " + timeoutMillis
+                    + "ms (" + permits.getQueueLength() + " requests waiting)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                } finally {
+                    // close() may be called more than once; only the first returns the permit
+                    if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                }
+            });
+    }
+}
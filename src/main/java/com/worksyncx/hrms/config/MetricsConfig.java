@@ -0,0 +1,171 @@
+package com.worksyncx.hrms.config;
+
+import com.worksyncx.hrms.enums.CacheName;
+import com.worksyncx.hrms.security.BoundedPasswordEncoder;
+import com.worksyncx.hrms.security.TenantRateLimiter;
+import com.worksyncx.hrms.service.audit.AuditLogWriter;
+import com.worksyncx.hrms.service.cache.LocalCacheRegistry;
+import com.worksyncx.hrms.service.outbox.OutboxRelay;
+import com.worksyncx.hrms.service.shard.ShardDirectory;
+import com.worksyncx.hrms.util.LoadingMap;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Meters for the application's own queues, limiters and caches, registered with the metrics profile.
+ *
+ * Request and service timers come from the observations set up in {@link ObservabilityConfig};
+ * Hikari pools that are beans, JVM and Hibernate statistics are bound by Spring Boot. As there, no
+ * meter is tagged with a tenant.
+ */
+@Configuration
+@Profile("metrics")
+@Slf4j
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder passwordHashingMetrics(PasswordEncoder passwordEncoder) {
+        return registry -> {
+            if (!(passwordEncoder instanceof BoundedPasswordEncoder encoder)) {
+                return;
+            }
+            Gauge.builder("hrms.password.hashing.active", encoder, BoundedPasswordEncoder::getActiveCount)
+                .description("Password hashes being computed").register(registry);
+            Gauge.builder("hrms.password.hashing.queued", encoder, BoundedPasswordEncoder::getQueueDepth)
+                .description("Password hashes waiting for a hashing thread").register(registry);
+            FunctionCounter.builder("hrms.password.hashing.completed", encoder, BoundedPasswordEncoder::getCompletedCount)
+                .register(registry);
+            FunctionCounter.builder("hrms.password.hashing.rejected", encoder, BoundedPasswordEncoder::getRejectedCount)
+                .description("Hashes refused because the queue was full or the wait too long").register(registry);
+        };
+    }
+
+    /**
+     * Connection admission in front of each pool (see {@link ConnectionLimitingDataSource}), and Hikari
+     * metrics for the shard pools, which are not beans and so not seen by Spring Boot.
+     */
+    @Bean
+    public MeterBinder connectionMetrics(Map<String, DataSource> dataSources, ObjectProvider<ShardDirectory> shardDirectory) {
+        return registry -> {
+            dataSources.forEach((name, dataSource) -> {
+                if (dataSource instanceof LazyConnectionDataSourceProxy lazy
+                        && lazy.getTargetDataSource() instanceof AbstractRoutingDataSource routing) {
+                    // Replica and shard pools are limited behind the routing data source
+                    routing.getResolvedDataSources().forEach((key, target) -> bindAdmission(registry,
+                        String.valueOf(key).toLowerCase(Locale.ROOT), target));
+                } else {
+                    bindAdmission(registry, name, dataSource);
+                }
+            });
+            shardDirectory.ifAvailable(shards -> {
+                for (HikariDataSource pool : shards.getPools().values()) {
+                    if (pool.getMetricRegistry() != null || pool.getMetricsTrackerFactory() != null) {
+                        continue;
+                    }
+                    try {
+                        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+                    } catch (IllegalStateException e) {
+                        log.warn("Cannot bind metrics to pool {}: {}", pool.getPoolName(), e.getMessage());
+                    }
+                }
+            });
+        };
+    }
+
+    @Bean
+    public MeterBinder replicaLagMetrics(ObjectProvider<ReplicaLagGuard> replicaLagGuard) {
+        return registry -> replicaLagGuard.ifAvailable(guard -> {
+            TimeGauge.builder("hrms.datasource.replica.lag", guard, TimeUnit.MILLISECONDS, ReplicaLagGuard::getLagMillis)
+                .register(registry);
+            Gauge.builder("hrms.datasource.replica.available", guard, g -> g.isReplicaAvailable() ? 1 : 0)
+                .register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder rateLimitMetrics(TenantRateLimiter rateLimiter) {
+        return registry -> {
+            FunctionCounter.builder("hrms.ratelimit.rejected", rateLimiter, TenantRateLimiter::getRateRejections)
+                .tag("reason", "rate").register(registry);
+            FunctionCounter.builder("hrms.ratelimit.rejected", rateLimiter, TenantRateLimiter::getConcurrencyRejections)
+                .tag("reason", "concurrency").register(registry);
+        };
+    }
+
+    /**
+     * Hit and miss counts of the in-process caches. Caches register themselves as their services start,
+     * so each meter looks its cache up when read.
+     */
+    @Bean
+    public MeterBinder localCacheMetrics(LocalCacheRegistry caches) {
+        return registry -> {
+            for (CacheName name : CacheName.values()) {
+                String cache = name.name().toLowerCase(Locale.ROOT);
+                FunctionCounter.builder("hrms.cache.gets", caches, cacheValue(name, LoadingMap::getHitCount))
+                    .tag("cache", cache).tag("result", "hit").register(registry);
+                FunctionCounter.builder("hrms.cache.gets", caches, cacheValue(name, LoadingMap::getMissCount))
+                    .tag("cache", cache).tag("result", "miss").register(registry);
+                Gauge.builder("hrms.cache.size", caches, cacheValue(name, LoadingMap::size))
+                    .tag("cache", cache).register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder backgroundWriterMetrics(AuditLogWriter auditLogWriter, OutboxRelay outboxRelay) {
+        return registry -> {
+            Gauge.builder("hrms.audit.pending", auditLogWriter, AuditLogWriter::getPending)
+                .description("Audit events waiting for the writer").register(registry);
+            FunctionCounter.builder("hrms.audit.written", auditLogWriter, AuditLogWriter::getWritten)
+                .tag("mode", "batch").register(registry);
+            FunctionCounter.builder("hrms.audit.written", auditLogWriter, AuditLogWriter::getWrittenInline)
+                .tag("mode", "inline").register(registry);
+            FunctionCounter.builder("hrms.audit.failed", auditLogWriter, AuditLogWriter::getFailed)
+                .register(registry);
+
+            FunctionCounter.builder("hrms.outbox.published", outboxRelay, OutboxRelay::getPublishedCount)
+                .register(registry);
+            FunctionCounter.builder("hrms.outbox.failures", outboxRelay, OutboxRelay::getFailedAttemptCount)
+                .description("Delivery attempts that failed and will be retried").register(registry);
+            FunctionCounter.builder("hrms.outbox.abandoned", outboxRelay, OutboxRelay::getAbandonedCount)
+                .description("Events given up on after the maximum number of attempts").register(registry);
+        };
+    }
+
+    private static ToDoubleFunction<LocalCacheRegistry> cacheValue(
+            CacheName name, ToLongFunction<LoadingMap<?, ?>> value) {
+        return caches -> {
+            LoadingMap<?, ?> cache = caches.getCaches().get(name);
+            return cache != null ? value.applyAsLong(cache) : 0;
+        };
+    }
+
+    private static void bindAdmission(MeterRegistry registry, String name, DataSource dataSource) {
+        if (dataSource instanceof ConnectionLimitingDataSource limiter) {
+            Gauge.builder("hrms.datasource.admission.available", limiter, ConnectionLimitingDataSource::getAvailablePermits)
+                .tag("datasource", name).register(registry);
+            Gauge.builder("hrms.datasource.admission.waiting", limiter, ConnectionLimitingDataSource::getQueueLength)
+                .tag("datasource", name).register(registry);
+        }
+    }
+}
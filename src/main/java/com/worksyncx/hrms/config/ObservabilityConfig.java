@@ -0,0 +1,70 @@
+package com.worksyncx.hrms.config;
+
+import com.worksyncx.hrms.annotation.RequiresModule;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.ObservationFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Locale;
+
+/**
+ * Tags for the request and service timers.
+ *
+ * Every tag must have a small, fixed set of values: module, class, method, outcome and the URI
+ * template are fine, tenant and user ids are not, since each distinct value is a new time series.
+ * Actuator is always on the classpath, so there is always an observation registry and requests are
+ * observed in every profile. The hrms.service timers need management.observations.annotations.enabled
+ * and the Prometheus endpoint management.prometheus.metrics.export.enabled; only the metrics profile
+ * sets them.
+ */
+@Configuration
+public class ObservabilityConfig {
+
+    static final String MODULE = "module";
+    static final String OUTCOME = "outcome";
+
+    /**
+     * http.server.requests with a module tag: the handler's {@link RequiresModule}, or its controller.
+     */
+    @Bean
+    public ServerRequestObservationConvention serverRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context).and(KeyValue.of(MODULE, moduleOf(context)));
+            }
+        };
+    }
+
+    /**
+     * Adds SUCCESS/ERROR to the application's own timers (hrms.*), which otherwise only carry the exception name.
+     */
+    @Bean
+    public ObservationFilter outcomeObservationFilter() {
+        return context -> {
+            if (context.getName() != null && context.getName().startsWith("hrms.")) {
+                context.addLowCardinalityKeyValue(KeyValue.of(OUTCOME, context.getError() == null ? "SUCCESS" : "ERROR"));
+            }
+            return context;
+        };
+    }
+
+    private static String moduleOf(ServerRequestObservationContext context) {
+        if (context.getCarrier() == null
+                || !(context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler)) {
+            return "NONE";
+        }
+        RequiresModule requiresModule = handler.getMethodAnnotation(RequiresModule.class);
+        if (requiresModule != null) {
+            return requiresModule.value().name();
+        }
+        return handler.getBeanType().getSimpleName().replaceFirst("Controller$", "").toUpperCase(Locale.ROOT);
+    }
+}
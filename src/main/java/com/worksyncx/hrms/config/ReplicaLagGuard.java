@@ -0,0 +1,161 @@
+package com.worksyncx.hrms.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Decides whether a read may go to the replica.
+ *
+ * The replica's replay lag is sampled in the background; while it is above {@code max-lag}, or the
+ * replica cannot be reached, every read goes to the primary. Users who just committed a write read
+ * from the primary for {@code read-your-writes-window} or the current lag, whichever is longer, so
+ * they see their own changes. Writes are announced to the other instances (see
+ * {@link ReplicaWriteBroadcaster}), so the next request may land anywhere.
+ */
+@Slf4j
+public class ReplicaLagGuard implements SmartLifecycle {
+
+    // Lag is zero when everything received has been replayed, otherwise the age of the last replayed commit
+    private static final String LAG_QUERY = """
+        SELECT CASE
+            WHEN pg_last_wal_receive_lsn() IS NULL THEN NULL
+            WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+            ELSE (EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000)::bigint
+        END""";
+
+    private final DataSource replica;
+    private final long maxLagMillis;
+    private final long windowMillis;
+    private final Duration checkInterval;
+
+    private final Map<Long, Long> lastWrites = new ConcurrentHashMap<>();
+    private volatile Consumer<Long> writeAnnouncer = userId -> {};
+    private volatile long primaryOnlyUntil;
+    private volatile long lagMillis;
+    private volatile boolean replicaAvailable;
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagGuard(DataSource replica, Duration maxLag, Duration readYourWritesWindow, Duration checkInterval) {
+        this.replica = replica;
+        this.maxLagMillis = maxLag.toMillis();
+        this.windowMillis = readYourWritesWindow.toMillis();
+        this.checkInterval = checkInterval;
+    }
+
+    /**
+     * Whether a read-only transaction for this user (null when there is none) may use the replica.
+     */
+    public boolean canReadFromReplica(Long userId) {
+        if (!replicaAvailable || lagMillis > maxLagMillis || System.currentTimeMillis() < primaryOnlyUntil) {
+            return false;
+        }
+        if (userId == null) {
+            return true;
+        }
+        Long writtenAt = lastWrites.get(userId);
+        return writtenAt == null || System.currentTimeMillis() - writtenAt > Math.max(windowMillis, lagMillis);
+    }
+
+    public void recordWrite(Long userId) {
+        if (userId != null) {
+            lastWrites.put(userId, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Tell the other instances that this user is writing. Called inside the writing transaction.
+     */
+    public void announceWrite(Long userId) {
+        if (userId != null) {
+            writeAnnouncer.accept(userId);
+        }
+    }
+
+    public void onWriteAnnounced(Consumer<Long> announcer) {
+        this.writeAnnouncer = announcer;
+    }
+
+    /**
+     * Send every read to the primary for one window, used when announced writes may have been missed.
+     */
+    public void readFromPrimaryForWindow() {
+        primaryOnlyUntil = System.currentTimeMillis() + Math.max(windowMillis, lagMillis);
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    // ==================== Lifecycle ====================
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("replica-lag-guard").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::sample, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void sample() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(LAG_QUERY)) {
+            result.next();
+            long lag = result.getLong(1);
+            if (result.wasNull()) {
+                // Not in recovery: the "replica" is a primary, e.g. a misconfigured URL
+                markUnavailable("replica is not in recovery mode");
+                return;
+            }
+            lagMillis = lag;
+            if (!replicaAvailable) {
+                log.info("Replica available, lag {} ms", lag);
+            }
+            replicaAvailable = true;
+        } catch (SQLException | RuntimeException e) {
+            markUnavailable(e.getMessage());
+        }
+
+        // Entries older than any window still in force are no longer needed
+        long cutoff = System.currentTimeMillis() - Math.max(windowMillis, lagMillis);
+        lastWrites.values().removeIf(writtenAt -> writtenAt < cutoff);
+    }
+
+    private void markUnavailable(String reason) {
+        if (replicaAvailable) {
+            log.warn("Routing all reads to the primary: {}", reason);
+        }
+        replicaAvailable = false;
+    }
+}
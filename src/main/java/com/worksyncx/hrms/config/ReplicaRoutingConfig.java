@@ -0,0 +1,76 @@
+package com.worksyncx.hrms.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Read-replica routing, enabled with {@code datasource.replica.enabled=true} (see the {@code replica} profile).
+ *
+ * Replaces the auto-configured pool with two Hikari pools, the primary configured from
+ * {@code spring.datasource.*} as before and the replica from {@code datasource.replica.*}, behind a
+ * {@link ReplicaRoutingDataSource}. Flyway, the LISTEN connection and anything outside a transaction
+ * stay on the primary. On virtual threads each pool gets its own {@link ConnectionLimitingDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+@Slf4j
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username:${spring.datasource.username}}") String username,
+                                              @Value("${datasource.replica.password:${spring.datasource.password}}") String password) {
+        HikariDataSource replica = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(properties.determineDriverClassName())
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    public ReplicaLagGuard replicaLagGuard(@Qualifier("replicaDataSource") DataSource replica,
+                                           @Value("${datasource.replica.max-lag:5s}") Duration maxLag,
+                                           @Value("${datasource.replica.read-your-writes-window:5s}") Duration window,
+                                           @Value("${datasource.replica.lag-check-interval:1s}") Duration checkInterval) {
+        return new ReplicaLagGuard(replica, maxLag, window, checkInterval);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                 @Qualifier("replicaDataSource") HikariDataSource replica,
+                                 ReplicaLagGuard lagGuard, Environment environment) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+            ConnectionLimitingDataSource.limit(primary, environment),
+            ConnectionLimitingDataSource.limit(replica, environment), lagGuard);
+        routing.afterPropertiesSet();
+        log.info("Routing read-only transactions to the replica");
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,102 @@
+package com.worksyncx.hrms.config;
+
+import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.cache.CacheLoadTransaction;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to the replica and everything else to the primary.
+ * Cache loads ({@link CacheLoadTransaction}) are read-only but always use the primary.
+ *
+ * The routing key is read when a physical connection is first needed, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}; otherwise the connection
+ * would be taken when the transaction begins, before its read-only flag is visible. The route chosen
+ * is kept with the transaction, see {@link #holdOnPrimary()}.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final ReplicaLagGuard lagGuard;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagGuard lagGuard) {
+        this.lagGuard = lagGuard;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Keep the current transaction on the primary: true if it already uses the primary or has not taken a
+     * connection yet, in which case it will take one from the primary; false if it reads from the replica.
+     * Also true when replica routing is off, since every transaction then uses the primary.
+     */
+    public static boolean holdOnPrimary() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        RouteDecision decision = currentDecision();
+        if (decision == null) {
+            TransactionSynchronizationManager.registerSynchronization(new RouteDecision(Route.PRIMARY));
+            return true;
+        }
+        return decision.route == Route.PRIMARY;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.PRIMARY;
+        }
+        RouteDecision decision = currentDecision();
+        if (decision != null) {
+            return decision.route;
+        }
+        Route route = chooseRoute();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new RouteDecision(route));
+        }
+        return route;
+    }
+
+    private Route chooseRoute() {
+        Long userId = TenantContext.getUserId();
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (CacheLoadTransaction.NAME.equals(TransactionSynchronizationManager.getCurrentTransactionName())) {
+                return Route.PRIMARY;
+            }
+            return lagGuard.canReadFromReplica(userId) ? Route.REPLICA : Route.PRIMARY;
+        }
+
+        if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    lagGuard.announceWrite(userId);
+                }
+
+                @Override
+                public void afterCommit() {
+                    lagGuard.recordWrite(userId);
+                }
+            });
+        }
+        return Route.PRIMARY;
+    }
+
+    // Synchronizations are suspended with their transaction, so a nested REQUIRES_NEW one decides afresh
+    private static RouteDecision currentDecision() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof RouteDecision decision) {
+                return decision;
+            }
+        }
+        return null;
+    }
+
+    private record RouteDecision(Route route) implements TransactionSynchronization {}
+}
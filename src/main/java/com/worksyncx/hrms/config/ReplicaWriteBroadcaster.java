@@ -0,0 +1,31 @@
+package com.worksyncx.hrms.config;
+
+import com.worksyncx.hrms.enums.CacheName;
+import com.worksyncx.hrms.service.cache.CacheInvalidationBus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shares read-your-writes stickiness between instances.
+ *
+ * Every transaction that writes on behalf of a user sends one {@link CacheName#RECENT_WRITERS} event,
+ * delivered when it commits. Each instance then keeps that user's reads on the primary for the
+ * read-your-writes window. If the listener loses events, all reads stay on the primary for one window.
+ */
+@Component
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReplicaWriteBroadcaster {
+
+    private final ReplicaLagGuard lagGuard;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    @PostConstruct
+    void connect() {
+        lagGuard.onWriteAnnounced(userId -> cacheInvalidationBus.publish(CacheName.RECENT_WRITERS, null, userId));
+        cacheInvalidationBus.subscribe(CacheName.RECENT_WRITERS,
+            event -> lagGuard.recordWrite(Long.valueOf(event.key())), lagGuard::readFromPrimaryForWindow);
+    }
+}
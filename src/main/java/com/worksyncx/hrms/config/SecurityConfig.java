@@ -1,9 +1,14 @@
 package com.worksyncx.hrms.config;
 
+import com.worksyncx.hrms.security.BoundedPasswordEncoder;
 import com.worksyncx.hrms.security.CustomPermissionEvaluator;
+import com.worksyncx.hrms.security.TenantMoveFilter;
+import com.worksyncx.hrms.security.TenantRateLimitFilter;
 import com.worksyncx.hrms.security.jwt.JwtAuthenticationFilter;
 import com.worksyncx.hrms.security.jwt.JwtAuthenticationEntryPoint;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
@@ -15,6 +20,7 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -23,6 +29,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+
+import java.time.Duration;
 import java.util.Arrays;
 
 @Configuration
@@ -33,18 +41,44 @@ public class SecurityConfig {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private UserDetailsPasswordService userDetailsPasswordService;
+
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
     @Autowired
     private JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 
+    @Autowired
+    private TenantRateLimitFilter tenantRateLimitFilter;
+
+    // Only present with sharding enabled
+    @Autowired(required = false)
+    private TenantMoveFilter tenantMoveFilter;
+
     @Autowired
     private CustomPermissionEvaluator customPermissionEvaluator;
 
-    @Bean
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${security.password.hashing.threads:0}")
+    private int hashingThreads;
+
+    @Value("${security.password.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+
+    @Value("${security.password.hashing.max-wait:3s}")
+    private Duration hashingMaxWait;
+
+    /**
+     * BCrypt on a bounded pool of its own; by default half the CPUs, so hashing never takes all of them.
+     */
+    @Bean(destroyMethod = "shutdown")
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int threads = hashingThreads > 0 ? hashingThreads : Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), threads, hashingQueueCapacity, hashingMaxWait);
     }
 
     @Bean
@@ -52,6 +86,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        // Rehashes on successful login when the stored hash uses a lower cost than bcrypt-strength
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return authProvider;
     }
 
@@ -82,6 +118,17 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * The rate limit filter needs the tenant set by the JWT filter, so it only runs inside the
+     * security chain and is not registered with the servlet container as well.
+     */
+    @Bean
+    public FilterRegistrationBean<TenantRateLimitFilter> tenantRateLimitFilterRegistration() {
+        FilterRegistrationBean<TenantRateLimitFilter> registration = new FilterRegistrationBean<>(tenantRateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -94,11 +141,17 @@ public class SecurityConfig {
                 .requestMatchers("/api/public/**").permitAll()
                 .requestMatchers("/api/subscriptions/plans").permitAll()
                 .requestMatchers("/api/plans/active").permitAll()
+                // Only present with the metrics profile, on the management port
+                .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
                 .anyRequest().authenticated()
             );
 
         http.authenticationProvider(authenticationProvider());
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        http.addFilterAfter(tenantRateLimitFilter, JwtAuthenticationFilter.class);
+        if (tenantMoveFilter != null) {
+            http.addFilterAfter(tenantMoveFilter, TenantRateLimitFilter.class);
+        }
 
         return http.build();
     }
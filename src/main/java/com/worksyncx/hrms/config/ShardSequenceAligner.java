@@ -0,0 +1,59 @@
+package com.worksyncx.hrms.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps ids unique across shards.
+ *
+ * Ids must stay globally unique: caches are keyed by id alone, and a moved tenant keeps its ids. Every
+ * sequence on every shard therefore steps by the same {@code id-stride} and the shard's own
+ * {@code id-slot}, so shard n only hands out ids that are n modulo the stride. A sequence not yet
+ * strided (a new shard, or the default shard on first start) is restarted above the highest value any
+ * shard has reached for it.
+ */
+@Slf4j
+class ShardSequenceAligner {
+
+    private static final String SEQUENCES_SQL =
+        "SELECT format('%I.%I', schemaname, sequencename) AS name, COALESCE(last_value, 0) AS last_value, " +
+        "increment_by FROM pg_sequences WHERE schemaname = current_schema()";
+
+    private final int stride;
+
+    ShardSequenceAligner(int stride) {
+        this.stride = stride;
+    }
+
+    /**
+     * @param shards shard pools with their id slot
+     */
+    void align(Map<DataSource, Integer> shards) {
+        Map<DataSource, List<Map<String, Object>>> sequences = new HashMap<>();
+        Map<String, Long> highest = new HashMap<>();
+        shards.keySet().forEach(dataSource -> {
+            List<Map<String, Object>> rows = new JdbcTemplate(dataSource).queryForList(SEQUENCES_SQL);
+            sequences.put(dataSource, rows);
+            rows.forEach(row -> highest.merge((String) row.get("name"), ((Number) row.get("last_value")).longValue(), Math::max));
+        });
+
+        shards.forEach((dataSource, slot) -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            for (Map<String, Object> row : sequences.get(dataSource)) {
+                if (((Number) row.get("increment_by")).longValue() == stride) {
+                    continue;
+                }
+                String name = (String) row.get("name");
+                long next = (highest.get(name) / stride + 1) * stride + slot;
+                jdbcTemplate.queryForObject("SELECT setval(?::regclass, ?, false)", Long.class, name, next);
+                jdbcTemplate.execute("ALTER SEQUENCE " + name + " INCREMENT BY " + stride);
+                log.info("Sequence {} now hands out ids from {} in steps of {}", name, next, stride);
+            }
+        });
+    }
+}
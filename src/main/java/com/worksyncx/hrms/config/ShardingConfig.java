@@ -0,0 +1,138 @@
+package com.worksyncx.hrms.config;
+
+import com.worksyncx.hrms.security.TenantMoveFilter;
+import com.worksyncx.hrms.service.cache.CacheInvalidationBus;
+import com.worksyncx.hrms.service.shard.ShardDirectory;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tenant sharding, enabled with {@code datasource.sharding.enabled=true}.
+ *
+ * The default shard is the database in {@code spring.datasource.*}; further shards are listed in
+ * {@code datasource.sharding.shard-keys} and configured under {@code datasource.sharding.shards.<key>.*}
+ * (url, username, password, id-slot, and hikari settings on top of {@code spring.datasource.hikari.*}).
+ * Every shard has the full schema: Flyway migrates each one on startup. Tenants are placed with
+ * {@link com.worksyncx.hrms.service.shard.TenantMoveService}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.sharding.enabled", havingValue = "true")
+@Slf4j
+public class ShardingConfig {
+
+    private static final String SHARDS_PREFIX = "datasource.sharding.shards.";
+
+    @Bean(destroyMethod = "close")
+    public ShardDirectory shardDirectory(DataSourceProperties properties, Environment environment,
+                                         ObjectProvider<CacheInvalidationBus> cacheInvalidationBus) {
+        if (environment.getProperty("datasource.replica.enabled", Boolean.class, false)) {
+            throw new IllegalStateException("datasource.sharding.enabled cannot be combined with datasource.replica.enabled");
+        }
+        Binder binder = Binder.get(environment);
+
+        Map<String, HikariDataSource> shards = new LinkedHashMap<>();
+        HikariDataSource defaultShard = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(defaultShard));
+        shards.put(ShardDirectory.DEFAULT_SHARD, defaultShard);
+
+        for (String key : idSlots(environment).keySet()) {
+            if (ShardDirectory.DEFAULT_SHARD.equals(key)) {
+                continue;
+            }
+            String prefix = SHARDS_PREFIX + key;
+            HikariDataSource shard = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(environment.getRequiredProperty(prefix + ".url"))
+                .username(environment.getProperty(prefix + ".username", properties.determineUsername()))
+                .password(environment.getProperty(prefix + ".password", properties.determinePassword()))
+                .build();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(shard));
+            shard.setPoolName("HRMSShardPool-" + key);
+            binder.bind(prefix + ".hikari", Bindable.ofInstance(shard));
+            shards.put(key, shard);
+        }
+
+        log.info("Sharding enabled across {}", shards.keySet());
+        return new ShardDirectory(shards, pool -> ConnectionLimitingDataSource.limit(pool, environment), cacheInvalidationBus);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDirectory shardDirectory) {
+        TenantShardRoutingDataSource routing = new TenantShardRoutingDataSource(shardDirectory);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * Runs the migrations on every shard rather than only the default one, then aligns id sequences.
+     */
+    @Bean
+    public FlywayMigrationStrategy shardedMigrationStrategy(ShardDirectory shardDirectory, Environment environment) {
+        Map<String, Integer> idSlots = idSlots(environment);
+        int stride = environment.getProperty("datasource.sharding.id-stride", Integer.class, 64);
+        return flyway -> {
+            Map<DataSource, Integer> slots = new LinkedHashMap<>();
+            shardDirectory.getShards().forEach((key, dataSource) -> {
+                log.info("Migrating shard {}", key);
+                Flyway.configure()
+                    .configuration(flyway.getConfiguration())
+                    .dataSource(dataSource)
+                    .load()
+                    .migrate();
+                slots.put(dataSource, idSlots.get(key));
+            });
+            new ShardSequenceAligner(stride).align(slots);
+        };
+    }
+
+    /**
+     * The move filter needs the tenant set by the JWT filter, so it only runs inside the security chain.
+     */
+    @Bean
+    public FilterRegistrationBean<TenantMoveFilter> tenantMoveFilterRegistration(TenantMoveFilter tenantMoveFilter) {
+        FilterRegistrationBean<TenantMoveFilter> registration = new FilterRegistrationBean<>(tenantMoveFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static Map<String, Integer> idSlots(Environment environment) {
+        int stride = environment.getProperty("datasource.sharding.id-stride", Integer.class, 64);
+        Map<String, Integer> slots = new LinkedHashMap<>();
+        slots.put(ShardDirectory.DEFAULT_SHARD, 0);
+
+        Set<Integer> used = new HashSet<>(Set.of(0));
+        for (String key : environment.getProperty("datasource.sharding.shard-keys", String[].class, new String[0])) {
+            int slot = environment.getRequiredProperty(SHARDS_PREFIX + key + ".id-slot", Integer.class);
+            if (slot <= 0 || slot >= stride || !used.add(slot)) {
+                throw new IllegalStateException("Shard " + key + " needs a unique id-slot between 1 and "
+                    + (stride - 1) + ", got " + slot);
+            }
+            slots.put(key, slot);
+        }
+        return slots;
+    }
+}
@@ -0,0 +1,60 @@
+package com.worksyncx.hrms.config;
+
+import com.worksyncx.hrms.enums.TenantShardStatus;
+import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.shard.ShardDirectory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+
+/**
+ * Picks the pool of the current tenant's shard; work without a tenant (login, registration, super
+ * admin views, startup) uses the default shard.
+ *
+ * Like {@link ReplicaRoutingDataSource} this sits behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, so the shard is chosen
+ * when a transaction first touches the database and stays fixed for that transaction.
+ *
+ * Connections for a tenant that is being moved are read-only, so nothing is written to the source
+ * shard after the copy has started. The pool resets the flag when the connection is returned.
+ */
+public class TenantShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ShardDirectory shardDirectory;
+
+    public TenantShardRoutingDataSource(ShardDirectory shardDirectory) {
+        this.shardDirectory = shardDirectory;
+        setTargetDataSources(new HashMap<>(shardDirectory.getShards()));
+        setDefaultTargetDataSource(shardDirectory.getDataSource(ShardDirectory.DEFAULT_SHARD));
+        setLenientFallback(false);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return readOnlyWhileMoving(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return readOnlyWhileMoving(super.getConnection(username, password));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long tenantId = TenantContext.getTenantId();
+        if (tenantId == null) {
+            return ShardDirectory.DEFAULT_SHARD;
+        }
+        return shardDirectory.assignmentFor(tenantId).shardKey();
+    }
+
+    private Connection readOnlyWhileMoving(Connection connection) throws SQLException {
+        Long tenantId = TenantContext.getTenantId();
+        if (tenantId != null && shardDirectory.assignmentFor(tenantId).status() == TenantShardStatus.MOVING) {
+            connection.setReadOnly(true);
+        }
+        return connection;
+    }
+}
@@ -0,0 +1,34 @@
+package com.worksyncx.hrms.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Settings that only apply when requests run on virtual threads ({@code virtual-threads} profile).
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * Puts {@link ConnectionLimitingDataSource} in front of the auto-configured Hikari pool, sized to the pool.
+     * The replica and sharding setups build their own pools and limit them there.
+     */
+    @Bean
+    static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof HikariDataSource hikari) {
+                    return ConnectionLimitingDataSource.limit(hikari, environment);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -82,9 +82,13 @@ public class AttendanceController {
     public ResponseEntity<?> getEmployeeAttendance(
         @PathVariable Long employeeId,
         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+        @RequestParam(required = false) String fields
     ) {
         try {
+            if (fields != null) {
+                return ResponseEntity.ok(attendanceService.getAttendanceFields(employeeId, startDate, endDate, fields));
+            }
             List<AttendanceResponse> records = attendanceService.getEmployeeAttendance(employeeId, startDate, endDate);
             return ResponseEntity.ok(records);
         } catch (Exception e) {
@@ -109,9 +113,12 @@ public class AttendanceController {
     @GetMapping("/today")
     @RequiresModule(Module.ATTENDANCE)
     @PreAuthorize("hasAuthority('ATTENDANCE:READ')")
-    public ResponseEntity<?> getAllTodayAttendance() {
+    public ResponseEntity<?> getAllTodayAttendance(@RequestParam(required = false) String fields) {
         try {
             LocalDate today = LocalDate.now();
+            if (fields != null) {
+                return ResponseEntity.ok(attendanceService.getAttendanceFields(null, today, today, fields));
+            }
             List<AttendanceResponse> records = attendanceService.getAttendanceByDate(today);
             return ResponseEntity.ok(records);
         } catch (Exception e) {
@@ -124,9 +131,13 @@ public class AttendanceController {
     @RequiresModule(Module.ATTENDANCE)
     @PreAuthorize("hasAuthority('ATTENDANCE:READ')")
     public ResponseEntity<?> getAttendanceByDate(
-        @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+        @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @RequestParam(required = false) String fields
     ) {
         try {
+            if (fields != null) {
+                return ResponseEntity.ok(attendanceService.getAttendanceFields(null, date, date, fields));
+            }
             List<AttendanceResponse> records = attendanceService.getAttendanceByDate(date);
             return ResponseEntity.ok(records);
         } catch (Exception e) {
@@ -162,7 +173,8 @@ public class AttendanceController {
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size,
         @RequestParam(defaultValue = "attendanceDate") String sortBy,
-        @RequestParam(defaultValue = "DESC") String sortDirection
+        @RequestParam(defaultValue = "DESC") String sortDirection,
+        @RequestParam(required = false) String fields
     ) {
         try {
             // Create sort object
@@ -173,6 +185,11 @@ public class AttendanceController {
             // Create pageable object
             Pageable pageable = PageRequest.of(page, size, sort);
 
+            if (fields != null) {
+                return ResponseEntity.ok(attendanceService
+                    .getAttendanceFieldsPaginated(employeeId, startDate, endDate, fields, pageable));
+            }
+
             PageResponse<AttendanceResponse> recordsPage = attendanceService
                 .getEmployeeAttendancePaginated(employeeId, startDate, endDate, pageable);
 
@@ -191,7 +208,8 @@ public class AttendanceController {
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size,
         @RequestParam(defaultValue = "id") String sortBy,
-        @RequestParam(defaultValue = "ASC") String sortDirection
+        @RequestParam(defaultValue = "ASC") String sortDirection,
+        @RequestParam(required = false) String fields
     ) {
         try {
             // Create sort object
@@ -202,6 +220,11 @@ public class AttendanceController {
             // Create pageable object
             Pageable pageable = PageRequest.of(page, size, sort);
 
+            if (fields != null) {
+                return ResponseEntity.ok(attendanceService
+                    .getAttendanceFieldsPaginated(null, date, date, fields, pageable));
+            }
+
             PageResponse<AttendanceResponse> recordsPage = attendanceService
                 .getAttendanceByDatePaginated(date, pageable);
 
@@ -7,6 +7,7 @@ import com.worksyncx.hrms.dto.auth.ChangePasswordRequest;
 import com.worksyncx.hrms.dto.auth.LoginRequest;
 import com.worksyncx.hrms.dto.auth.RegisterRequest;
 import com.worksyncx.hrms.entity.User;
+import com.worksyncx.hrms.exception.PasswordHashingBusyException;
 import com.worksyncx.hrms.service.auth.AuthService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,6 +34,8 @@ public class AuthController {
         try {
             AuthResponse response = authService.login(loginRequest);
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            throw e;
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", "Invalid email or password");
@@ -46,6 +49,8 @@ public class AuthController {
         try {
             AuthResponse response = authService.register(registerRequest);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (PasswordHashingBusyException e) {
+            throw e;
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", "Registration failed");
@@ -113,6 +118,8 @@ public class AuthController {
             authService.changePassword(user.getId(), request);
 
             return ResponseEntity.ok(Map.of("message", "Password changed successfully"));
+        } catch (PasswordHashingBusyException e) {
+            throw e;
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", "Password change failed");
@@ -0,0 +1,40 @@
+package com.worksyncx.hrms.controller;
+
+import com.worksyncx.hrms.dto.cache.CacheStatisticsResponse;
+import com.worksyncx.hrms.service.cache.CacheStatisticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/cache-statistics")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001", "http://localhost:3002"})
+public class CacheStatisticsController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    /**
+     * Second-level and query cache hit rates (Super Admin only)
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<CacheStatisticsResponse> getStatistics() {
+        log.info("GET /api/admin/cache-statistics - Fetching cache statistics");
+        return ResponseEntity.ok(cacheStatisticsService.getStatistics());
+    }
+
+    /**
+     * Reset the counters to start a new measurement window (Super Admin only)
+     */
+    @PostMapping("/reset")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<Void> resetStatistics() {
+        log.info("POST /api/admin/cache-statistics/reset - Resetting cache statistics");
+        cacheStatisticsService.resetStatistics();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,7 +1,9 @@
 package com.worksyncx.hrms.controller;
 
 import com.worksyncx.hrms.annotation.RequiresModule;
+import com.worksyncx.hrms.annotation.VersionedResource;
 import com.worksyncx.hrms.enums.Module;
+import com.worksyncx.hrms.enums.ResourceType;
 import com.worksyncx.hrms.dto.common.PageResponse;
 import com.worksyncx.hrms.annotation.RequiresModule;
 import com.worksyncx.hrms.enums.Module;
@@ -47,6 +49,7 @@ public class DepartmentController {
     @GetMapping
     @RequiresModule(Module.DEPARTMENTS)
     @PreAuthorize("hasAuthority('DEPARTMENT:READ')")
+    @VersionedResource(ResourceType.DEPARTMENTS)
     public ResponseEntity<List<DepartmentResponse>> getAllDepartments(
         @RequestParam(required = false, defaultValue = "false") boolean activeOnly
     ) {
@@ -59,6 +62,7 @@ public class DepartmentController {
     @GetMapping("/page")
     @RequiresModule(Module.DEPARTMENTS)
     @PreAuthorize("hasAuthority('DEPARTMENT:READ')")
+    @VersionedResource(ResourceType.DEPARTMENTS)
     public ResponseEntity<PageResponse<DepartmentResponse>> getAllDepartmentsPaginated(
         @RequestParam(required = false, defaultValue = "false") boolean activeOnly,
         @RequestParam(defaultValue = "0") int page,
@@ -84,6 +88,7 @@ public class DepartmentController {
     @GetMapping("/{id}")
     @RequiresModule(Module.DEPARTMENTS)
     @PreAuthorize("hasAuthority('DEPARTMENT:READ')")
+    @VersionedResource(ResourceType.DEPARTMENTS)
     public ResponseEntity<?> getDepartmentById(@PathVariable Long id) {
         try {
             DepartmentResponse response = departmentService.getDepartmentById(id);
@@ -94,6 +99,20 @@ public class DepartmentController {
         }
     }
 
+    @GetMapping("/{id}/sub-departments")
+    @RequiresModule(Module.DEPARTMENTS)
+    @PreAuthorize("hasAuthority('DEPARTMENT:READ')")
+    @VersionedResource(ResourceType.DEPARTMENTS)
+    public ResponseEntity<?> getSubDepartments(@PathVariable Long id) {
+        try {
+            List<DepartmentResponse> departments = departmentService.getSubDepartments(id);
+            return ResponseEntity.ok(departments);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", "Department not found", "message", e.getMessage()));
+        }
+    }
+
     @PutMapping("/{id}")
     @RequiresModule(Module.DEPARTMENTS)
     @PreAuthorize("hasAuthority('DEPARTMENT:UPDATE')")
@@ -1,7 +1,9 @@
 package com.worksyncx.hrms.controller;
 
 import com.worksyncx.hrms.annotation.RequiresModule;
+import com.worksyncx.hrms.annotation.VersionedResource;
 import com.worksyncx.hrms.enums.Module;
+import com.worksyncx.hrms.enums.ResourceType;
 import com.worksyncx.hrms.dto.common.PageResponse;
 import com.worksyncx.hrms.annotation.RequiresModule;
 import com.worksyncx.hrms.enums.Module;
@@ -47,6 +49,7 @@ public class DesignationController {
     @GetMapping
     @RequiresModule(Module.DESIGNATIONS)
     @PreAuthorize("hasAuthority('DESIGNATION:READ')")
+    @VersionedResource(ResourceType.DESIGNATIONS)
     public ResponseEntity<List<DesignationResponse>> getAllDesignations(
         @RequestParam(required = false, defaultValue = "false") boolean activeOnly,
         @RequestParam(required = false) Long departmentId
@@ -67,6 +70,7 @@ public class DesignationController {
     @GetMapping("/page")
     @RequiresModule(Module.DESIGNATIONS)
     @PreAuthorize("hasAuthority('DESIGNATION:READ')")
+    @VersionedResource(ResourceType.DESIGNATIONS)
     public ResponseEntity<PageResponse<DesignationResponse>> getAllDesignationsPaginated(
         @RequestParam(required = false, defaultValue = "false") boolean activeOnly,
         @RequestParam(required = false) Long departmentId,
@@ -98,6 +102,7 @@ public class DesignationController {
     @GetMapping("/{id}")
     @RequiresModule(Module.DESIGNATIONS)
     @PreAuthorize("hasAuthority('DESIGNATION:READ')")
+    @VersionedResource(ResourceType.DESIGNATIONS)
     public ResponseEntity<?> getDesignationById(@PathVariable Long id) {
         try {
             DesignationResponse response = designationService.getDesignationById(id);
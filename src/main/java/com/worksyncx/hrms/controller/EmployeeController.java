@@ -4,15 +4,21 @@ import com.worksyncx.hrms.annotation.RequiresModule;
 import com.worksyncx.hrms.dto.common.PageResponse;
 import com.worksyncx.hrms.dto.employee.EmployeeRequest;
 import com.worksyncx.hrms.dto.employee.EmployeeResponse;
+import com.worksyncx.hrms.dto.employee.EmployeeSearchResult;
+import com.worksyncx.hrms.dto.employee.OrgChartResponse;
 import com.worksyncx.hrms.entity.User;
 import com.worksyncx.hrms.enums.EmploymentStatus;
 import com.worksyncx.hrms.enums.Module;
+import com.worksyncx.hrms.exception.PasswordHashingBusyException;
+import com.worksyncx.hrms.service.employee.EmployeeSearchService;
 import com.worksyncx.hrms.service.employee.EmployeeService;
+import com.worksyncx.hrms.service.employee.OrgChartService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -30,6 +36,8 @@ import java.util.Map;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final OrgChartService orgChartService;
+    private final EmployeeSearchService employeeSearchService;
 
     // Admin-only endpoints
     @PostMapping
@@ -39,6 +47,8 @@ public class EmployeeController {
         try {
             EmployeeResponse response = employeeService.createEmployee(request);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (PasswordHashingBusyException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(Map.of("error", "Failed to create employee", "message", e.getMessage()));
@@ -48,10 +58,23 @@ public class EmployeeController {
     @GetMapping
     @RequiresModule(Module.EMPLOYEES)
     @PreAuthorize("hasAuthority('EMPLOYEE:READ')")
-    public ResponseEntity<List<EmployeeResponse>> getAllEmployees(
+    public ResponseEntity<?> getAllEmployees(
         @RequestParam(required = false) String status,
-        @RequestParam(required = false) Long departmentId
+        @RequestParam(required = false) Long departmentId,
+        @RequestParam(required = false) String fields
     ) {
+        if (fields != null) {
+            try {
+                // A department filter takes precedence over a status filter, as below
+                EmploymentStatus employmentStatus = departmentId == null && status != null
+                    ? EmploymentStatus.valueOf(status.toUpperCase()) : null;
+                return ResponseEntity.ok(employeeService.getEmployeeFields(employmentStatus, departmentId, fields));
+            } catch (Exception e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "Failed to get employees", "message", e.getMessage()));
+            }
+        }
+
         List<EmployeeResponse> employees;
 
         if (departmentId != null) {
@@ -73,13 +96,14 @@ public class EmployeeController {
     @GetMapping("/page")
     @RequiresModule(Module.EMPLOYEES)
     @PreAuthorize("hasAuthority('EMPLOYEE:READ')")
-    public ResponseEntity<PageResponse<EmployeeResponse>> getAllEmployeesPaginated(
+    public ResponseEntity<?> getAllEmployeesPaginated(
         @RequestParam(required = false) String status,
         @RequestParam(required = false) Long departmentId,
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size,
         @RequestParam(defaultValue = "id") String sortBy,
-        @RequestParam(defaultValue = "ASC") String sortDirection
+        @RequestParam(defaultValue = "ASC") String sortDirection,
+        @RequestParam(required = false) String fields
     ) {
         // Create sort object
         Sort sort = sortDirection.equalsIgnoreCase("DESC")
@@ -89,6 +113,18 @@ public class EmployeeController {
         // Create pageable object
         Pageable pageable = PageRequest.of(page, size, sort);
 
+        if (fields != null) {
+            try {
+                EmploymentStatus employmentStatus = departmentId == null && status != null
+                    ? EmploymentStatus.valueOf(status.toUpperCase()) : null;
+                return ResponseEntity.ok(employeeService
+                    .getEmployeeFieldsPaginated(employmentStatus, departmentId, fields, pageable));
+            } catch (Exception e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "Failed to get employees", "message", e.getMessage()));
+            }
+        }
+
         PageResponse<EmployeeResponse> employeesPage;
 
         if (departmentId != null) {
@@ -107,6 +143,43 @@ public class EmployeeController {
         return ResponseEntity.ok(employeesPage);
     }
 
+    @GetMapping("/search")
+    @RequiresModule(Module.EMPLOYEES)
+    @PreAuthorize("hasAuthority('EMPLOYEE:READ')")
+    public ResponseEntity<?> searchEmployees(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            List<EmployeeSearchResult> results = employeeSearchService.search(q, limit);
+            return ResponseEntity.ok(results);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Failed to search employees", "message", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/org-chart")
+    @RequiresModule(Module.EMPLOYEES)
+    @PreAuthorize("hasAuthority('EMPLOYEE:READ')")
+    public ResponseEntity<?> getOrgChart(
+            @RequestParam(required = false) Long rootId,
+            @RequestParam(required = false) Integer depth,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        try {
+            // The chart version covers every subtree, so a match means nothing has changed
+            String etag = "\"" + orgChartService.getVersion() + "\"";
+            if (etag.equals(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            // Tag the body with the version it was rendered at, in case a change landed in between
+            OrgChartResponse response = orgChartService.getOrgChart(rootId, depth);
+            return ResponseEntity.ok().eTag("\"" + response.getVersion() + "\"").body(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", "Failed to fetch org chart", "message", e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
     @RequiresModule(Module.EMPLOYEES)
     @PreAuthorize("hasAuthority('EMPLOYEE:READ')")
@@ -120,6 +193,19 @@ public class EmployeeController {
         }
     }
 
+    @GetMapping("/{id}/reports")
+    @RequiresModule(Module.EMPLOYEES)
+    @PreAuthorize("hasAuthority('EMPLOYEE:READ')")
+    public ResponseEntity<?> getReports(@PathVariable Long id) {
+        try {
+            List<EmployeeResponse> reports = employeeService.getReports(id);
+            return ResponseEntity.ok(reports);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", "Employee not found", "message", e.getMessage()));
+        }
+    }
+
     @GetMapping("/code/{employeeCode}")
     @RequiresModule(Module.EMPLOYEES)
     @PreAuthorize("hasAuthority('EMPLOYEE:READ')")
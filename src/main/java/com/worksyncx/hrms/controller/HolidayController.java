@@ -0,0 +1,91 @@
+package com.worksyncx.hrms.controller;
+
+import com.worksyncx.hrms.annotation.RequiresModule;
+import com.worksyncx.hrms.dto.calendar.HolidayRequest;
+import com.worksyncx.hrms.dto.calendar.HolidayResponse;
+import com.worksyncx.hrms.dto.calendar.WorkingDaysResponse;
+import com.worksyncx.hrms.enums.Module;
+import com.worksyncx.hrms.service.calendar.HolidayService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/holidays")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RequiredArgsConstructor
+public class HolidayController {
+
+    private final HolidayService holidayService;
+
+    @PostMapping
+    @RequiresModule(Module.LEAVE_MANAGEMENT)
+    @PreAuthorize("hasAuthority('LEAVE:CREATE')")
+    public ResponseEntity<?> createHoliday(@Valid @RequestBody HolidayRequest request) {
+        try {
+            HolidayResponse response = holidayService.createHoliday(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Failed to create holiday", "message", e.getMessage()));
+        }
+    }
+
+    @GetMapping
+    @RequiresModule(Module.LEAVE_MANAGEMENT)
+    @PreAuthorize("hasAnyAuthority('LEAVE:READ', 'ROLE_EMPLOYEE')")
+    public ResponseEntity<List<HolidayResponse>> getHolidays(@RequestParam(required = false) Integer year) {
+        return ResponseEntity.ok(holidayService.getHolidays(year));
+    }
+
+    @PutMapping("/{id}")
+    @RequiresModule(Module.LEAVE_MANAGEMENT)
+    @PreAuthorize("hasAuthority('LEAVE:UPDATE')")
+    public ResponseEntity<?> updateHoliday(@PathVariable Long id, @Valid @RequestBody HolidayRequest request) {
+        try {
+            HolidayResponse response = holidayService.updateHoliday(id, request);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Failed to update holiday", "message", e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    @RequiresModule(Module.LEAVE_MANAGEMENT)
+    @PreAuthorize("hasAuthority('LEAVE:DELETE')")
+    public ResponseEntity<?> deleteHoliday(@PathVariable Long id) {
+        try {
+            holidayService.deleteHoliday(id);
+            return ResponseEntity.ok(Map.of("message", "Holiday deleted successfully"));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Failed to delete holiday", "message", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/working-days")
+    @RequiresModule(Module.LEAVE_MANAGEMENT)
+    @PreAuthorize("hasAnyAuthority('LEAVE:READ', 'ROLE_EMPLOYEE')")
+    public ResponseEntity<?> getWorkingDays(
+        @RequestParam(required = false) Long employeeId,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        try {
+            WorkingDaysResponse response = holidayService.getWorkingDays(employeeId, startDate, endDate);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Failed to calculate working days", "message", e.getMessage()));
+        }
+    }
+}
@@ -1,21 +1,29 @@
 package com.worksyncx.hrms.controller;
 
 import com.worksyncx.hrms.annotation.RequiresModule;
+import com.worksyncx.hrms.annotation.VersionedResource;
 import com.worksyncx.hrms.dto.common.PageResponse;
 import com.worksyncx.hrms.dto.leave.*;
 import com.worksyncx.hrms.enums.LeaveStatus;
 import com.worksyncx.hrms.enums.Module;
+import com.worksyncx.hrms.enums.ResourceType;
+import com.worksyncx.hrms.exception.InsufficientLeaveBalanceException;
+import com.worksyncx.hrms.exception.LeaveOverlapException;
+import com.worksyncx.hrms.service.leave.LeaveBalanceService;
+import com.worksyncx.hrms.service.leave.LeaveCalendarService;
 import com.worksyncx.hrms.service.leave.LeaveService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +34,8 @@ import java.util.Map;
 public class LeaveController {
 
     private final LeaveService leaveService;
+    private final LeaveBalanceService leaveBalanceService;
+    private final LeaveCalendarService leaveCalendarService;
 
     // ==================== Leave Type Endpoints ====================
 
@@ -45,6 +55,7 @@ public class LeaveController {
     @GetMapping("/types")
     @RequiresModule(Module.LEAVE_MANAGEMENT)
     @PreAuthorize("hasAuthority('LEAVE:READ')")
+    @VersionedResource(ResourceType.LEAVE_TYPES)
     public ResponseEntity<List<LeaveTypeResponse>> getAllLeaveTypes(
         @RequestParam(required = false, defaultValue = "false") boolean activeOnly
     ) {
@@ -57,6 +68,7 @@ public class LeaveController {
     @GetMapping("/types/{id}")
     @RequiresModule(Module.LEAVE_MANAGEMENT)
     @PreAuthorize("hasAuthority('LEAVE:READ')")
+    @VersionedResource(ResourceType.LEAVE_TYPES)
     public ResponseEntity<?> getLeaveTypeById(@PathVariable Long id) {
         try {
             LeaveTypeResponse response = leaveService.getLeaveTypeById(id);
@@ -105,6 +117,12 @@ public class LeaveController {
         try {
             LeaveRequestResponse response = leaveService.createLeaveRequest(request);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (InsufficientLeaveBalanceException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(Map.of("error", "Insufficient leave balance", "message", e.getMessage()));
+        } catch (LeaveOverlapException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", "Overlapping leave request", "message", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(Map.of("error", "Failed to create leave request", "message", e.getMessage()));
@@ -116,12 +134,17 @@ public class LeaveController {
     @PreAuthorize("hasAnyAuthority('LEAVE:READ', 'ROLE_TENANT_ADMIN', 'ROLE_HR_MANAGER')")
     public ResponseEntity<?> getAllLeaveRequests(
         @RequestParam(required = false) Long employeeId,
-        @RequestParam(required = false) String status
+        @RequestParam(required = false) String status,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
     ) {
         try {
             List<LeaveRequestResponse> requests;
 
-            if (employeeId != null) {
+            if (startDate != null && endDate != null) {
+                LeaveStatus leaveStatus = status != null ? LeaveStatus.valueOf(status.toUpperCase()) : null;
+                requests = leaveService.getLeaveRequestsInRange(startDate, endDate, leaveStatus);
+            } else if (employeeId != null) {
                 requests = leaveService.getLeaveRequestsByEmployee(employeeId);
             } else if (status != null) {
                 LeaveStatus leaveStatus = LeaveStatus.valueOf(status.toUpperCase());
@@ -140,6 +163,34 @@ public class LeaveController {
         }
     }
 
+    @GetMapping("/requests/inbox")
+    @RequiresModule(Module.LEAVE_MANAGEMENT)
+    @PreAuthorize("hasAnyAuthority('LEAVE:APPROVE', 'ROLE_EMPLOYEE')")
+    public ResponseEntity<?> getApprovalInbox(
+        @RequestParam(required = false, defaultValue = "false") boolean includeIndirect
+    ) {
+        try {
+            List<LeaveRequestResponse> requests = leaveService.getApprovalInbox(includeIndirect);
+            return ResponseEntity.ok(requests);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Failed to get approval inbox", "message", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/requests/bulk-approve")
+    @RequiresModule(Module.LEAVE_MANAGEMENT)
+    @PreAuthorize("hasAuthority('LEAVE:APPROVE')")
+    public ResponseEntity<?> bulkDecideLeaveRequests(@Valid @RequestBody LeaveBulkDecisionRequest request) {
+        try {
+            LeaveBulkDecisionResponse response = leaveService.decideLeaveRequests(request);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Failed to process leave requests", "message", e.getMessage()));
+        }
+    }
+
     @GetMapping("/requests/page")
     @RequiresModule(Module.LEAVE_MANAGEMENT)
     @PreAuthorize("hasAnyAuthority('LEAVE:READ', 'ROLE_TENANT_ADMIN', 'ROLE_HR_MANAGER')")
@@ -238,4 +289,86 @@ public class LeaveController {
                 .body(Map.of("error", "Failed to cancel leave request", "message", e.getMessage()));
         }
     }
+
+    // ==================== Leave Calendar Endpoints ====================
+
+    @GetMapping("/calendar")
+    @RequiresModule(Module.LEAVE_MANAGEMENT)
+    @PreAuthorize("hasAnyAuthority('LEAVE:READ', 'ROLE_TENANT_ADMIN', 'ROLE_EMPLOYEE')")
+    public ResponseEntity<?> getLeaveCalendar(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) Long departmentId
+    ) {
+        try {
+            LeaveCalendarResponse response = leaveCalendarService.getCalendar(from, to, departmentId);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Failed to get leave calendar", "message", e.getMessage()));
+        }
+    }
+
+    // ==================== Leave Balance Endpoints ====================
+
+    @GetMapping("/balances")
+    @RequiresModule(Module.LEAVE_MANAGEMENT)
+    @PreAuthorize("hasAnyAuthority('LEAVE:READ', 'ROLE_TENANT_ADMIN', 'ROLE_EMPLOYEE')")
+    public ResponseEntity<?> getLeaveBalances(
+        @RequestParam Long employeeId,
+        @RequestParam(required = false) Long leaveTypeId,
+        @RequestParam(required = false) Integer year
+    ) {
+        try {
+            if (leaveTypeId != null) {
+                return ResponseEntity.ok(leaveBalanceService.getEmployeeBalance(employeeId, leaveTypeId, year));
+            }
+            return ResponseEntity.ok(leaveBalanceService.getEmployeeBalances(employeeId, year));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Failed to fetch leave balances", "message", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/balances/{id}/entries")
+    @RequiresModule(Module.LEAVE_MANAGEMENT)
+    @PreAuthorize("hasAnyAuthority('LEAVE:READ', 'ROLE_TENANT_ADMIN', 'ROLE_EMPLOYEE')")
+    public ResponseEntity<?> getLeaveBalanceEntries(@PathVariable Long id) {
+        try {
+            List<LeaveBalanceEntryResponse> entries = leaveBalanceService.getBalanceEntries(id);
+            return ResponseEntity.ok(entries);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", "Leave balance not found", "message", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/balances/encash")
+    @RequiresModule(Module.LEAVE_MANAGEMENT)
+    @PreAuthorize("hasAuthority('LEAVE:UPDATE')")
+    public ResponseEntity<?> encashLeave(@Valid @RequestBody LeaveEncashmentRequest request) {
+        try {
+            LeaveBalanceResponse response = leaveBalanceService.encashLeave(request);
+            return ResponseEntity.ok(response);
+        } catch (InsufficientLeaveBalanceException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(Map.of("error", "Insufficient leave balance", "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Failed to encash leave", "message", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/balances/carry-forward")
+    @RequiresModule(Module.LEAVE_MANAGEMENT)
+    @PreAuthorize("hasAuthority('LEAVE:UPDATE')")
+    public ResponseEntity<?> carryForwardLeave(@Valid @RequestBody LeaveCarryForwardRequest request) {
+        try {
+            LeaveBalanceResponse response = leaveBalanceService.carryForward(request);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Failed to carry forward leave", "message", e.getMessage()));
+        }
+    }
 }
@@ -6,6 +6,7 @@ import com.worksyncx.hrms.dto.payroll.PayrollCycleRequest;
 import com.worksyncx.hrms.dto.payroll.PayrollCycleResponse;
 import com.worksyncx.hrms.dto.payroll.PayrollRequest;
 import com.worksyncx.hrms.dto.payroll.PayrollResponse;
+import com.worksyncx.hrms.dto.payroll.PayrollRunResponse;
 import com.worksyncx.hrms.enums.Module;
 import com.worksyncx.hrms.service.payroll.PayrollService;
 import jakarta.validation.Valid;
@@ -121,6 +122,32 @@ public class PayrollController {
         }
     }
 
+    @GetMapping("/cycles/{id}/preview")
+    @RequiresModule(Module.PAYROLL)
+    @PreAuthorize("hasAuthority('PAYROLL:READ')")
+    public ResponseEntity<?> previewPayrollRun(@PathVariable Long id) {
+        try {
+            PayrollRunResponse response = payrollService.previewPayrollRun(id);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Failed to preview payroll run", "message", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/cycles/{id}/run")
+    @RequiresModule(Module.PAYROLL)
+    @PreAuthorize("hasAuthority('PAYROLL:CREATE')")
+    public ResponseEntity<?> runPayrollCycle(@PathVariable Long id) {
+        try {
+            PayrollRunResponse response = payrollService.runPayrollCycle(id);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Failed to run payroll cycle", "message", e.getMessage()));
+        }
+    }
+
     // ==================== Payroll Endpoints ====================
 
     @PostMapping
@@ -140,9 +167,15 @@ public class PayrollController {
     @PreAuthorize("hasAnyAuthority('ROLE_TENANT_ADMIN', 'ROLE_EMPLOYEE')")
     public ResponseEntity<?> getAllPayrolls(
         @RequestParam(required = false) Long cycleId,
-        @RequestParam(required = false) Long employeeId
+        @RequestParam(required = false) Long employeeId,
+        @RequestParam(required = false) String fields
     ) {
         try {
+            if (fields != null) {
+                // A cycle filter takes precedence over an employee filter, as below
+                return ResponseEntity.ok(payrollService.getPayrollFields(cycleId, cycleId != null ? null : employeeId, fields));
+            }
+
             List<PayrollResponse> payrolls;
 
             if (cycleId != null) {
@@ -1,8 +1,10 @@
 package com.worksyncx.hrms.controller;
 
+import com.worksyncx.hrms.annotation.VersionedResource;
 import com.worksyncx.hrms.dto.plan.CreatePlanRequest;
 import com.worksyncx.hrms.dto.plan.PlanDto;
 import com.worksyncx.hrms.dto.plan.UpdatePlanRequest;
+import com.worksyncx.hrms.enums.ResourceType;
 import com.worksyncx.hrms.service.plan.PlanService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +30,7 @@ public class PlanController {
      */
     @GetMapping
     @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @VersionedResource(ResourceType.PLANS)
     public ResponseEntity<List<PlanDto>> getAllPlans() {
         log.info("GET /api/plans - Fetching all plans");
         List<PlanDto> plans = planService.getAllPlans();
@@ -38,6 +41,7 @@ public class PlanController {
      * Get active plans (Public - for pricing page)
      */
     @GetMapping("/active")
+    @VersionedResource(ResourceType.PLANS)
     public ResponseEntity<List<PlanDto>> getActivePlans() {
         log.info("GET /api/plans/active - Fetching active plans");
         List<PlanDto> plans = planService.getActivePlans();
@@ -49,6 +53,7 @@ public class PlanController {
      */
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @VersionedResource(ResourceType.PLANS)
     public ResponseEntity<PlanDto> getPlanById(@PathVariable Long id) {
         log.info("GET /api/plans/{} - Fetching plan", id);
         PlanDto plan = planService.getPlanById(id);
@@ -0,0 +1,43 @@
+package com.worksyncx.hrms.controller;
+
+import com.worksyncx.hrms.dto.common.PageResponse;
+import com.worksyncx.hrms.dto.search.SearchResult;
+import com.worksyncx.hrms.enums.SearchEntityType;
+import com.worksyncx.hrms.service.search.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    // Module and read permissions are applied per result type in the service
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> search(
+        @RequestParam String q,
+        @RequestParam(required = false) List<SearchEntityType> types,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        try {
+            PageResponse<SearchResult> results = searchService.search(q, types,
+                PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100)));
+            return ResponseEntity.ok(results);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Failed to search", "message", e.getMessage()));
+        }
+    }
+}
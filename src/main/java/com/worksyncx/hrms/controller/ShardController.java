@@ -0,0 +1,57 @@
+package com.worksyncx.hrms.controller;
+
+import com.worksyncx.hrms.dto.shard.TenantMoveRequest;
+import com.worksyncx.hrms.dto.shard.TenantMoveResponse;
+import com.worksyncx.hrms.dto.shard.TenantShardResponse;
+import com.worksyncx.hrms.service.shard.TenantMoveService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/shards")
+@ConditionalOnProperty(name = "datasource.sharding.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001", "http://localhost:3002"})
+public class ShardController {
+
+    private final TenantMoveService tenantMoveService;
+
+    /**
+     * Shard currently holding a tenant's data (Super Admin only)
+     */
+    @GetMapping("/tenants/{tenantId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<TenantShardResponse> getTenantShard(@PathVariable Long tenantId) {
+        log.info("GET /api/admin/shards/tenants/{} - Fetching shard assignment", tenantId);
+        return ResponseEntity.ok(tenantMoveService.getTenantShard(tenantId));
+    }
+
+    /**
+     * Start moving a tenant to another shard (Super Admin only)
+     */
+    @PostMapping("/tenants/{tenantId}/move")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<TenantMoveResponse> moveTenant(@PathVariable Long tenantId,
+                                                         @Valid @RequestBody TenantMoveRequest request) {
+        log.info("POST /api/admin/shards/tenants/{}/move - Moving tenant to shard {}", tenantId, request.getTargetShard());
+        TenantMoveResponse move = tenantMoveService.startMove(tenantId, request.getTargetShard());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(move);
+    }
+
+    /**
+     * Progress of the latest move of a tenant (Super Admin only)
+     */
+    @GetMapping("/tenants/{tenantId}/move")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<TenantMoveResponse> getMove(@PathVariable Long tenantId) {
+        log.info("GET /api/admin/shards/tenants/{}/move - Fetching move progress", tenantId);
+        return ResponseEntity.ok(tenantMoveService.getMove(tenantId));
+    }
+}
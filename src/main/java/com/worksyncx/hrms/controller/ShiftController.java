@@ -1,7 +1,9 @@
 package com.worksyncx.hrms.controller;
 
 import com.worksyncx.hrms.annotation.RequiresModule;
+import com.worksyncx.hrms.annotation.VersionedResource;
 import com.worksyncx.hrms.enums.Module;
+import com.worksyncx.hrms.enums.ResourceType;
 import com.worksyncx.hrms.dto.common.PageResponse;
 import com.worksyncx.hrms.annotation.RequiresModule;
 import com.worksyncx.hrms.enums.Module;
@@ -39,6 +41,7 @@ public class ShiftController {
     @GetMapping
     @RequiresModule(Module.SHIFTS)
     @PreAuthorize("hasAnyAuthority('ROLE_TENANT_ADMIN', 'ROLE_HR_MANAGER', 'ROLE_EMPLOYEE', 'SHIFT:READ')")
+    @VersionedResource(ResourceType.SHIFTS)
     public ResponseEntity<List<ShiftResponse>> getAllShifts() {
         List<ShiftResponse> shifts = shiftService.getAllShifts();
         return ResponseEntity.ok(shifts);
@@ -47,6 +50,7 @@ public class ShiftController {
     @GetMapping("/active")
     @RequiresModule(Module.SHIFTS)
     @PreAuthorize("hasAnyAuthority('ROLE_TENANT_ADMIN', 'ROLE_HR_MANAGER', 'ROLE_EMPLOYEE', 'SHIFT:READ')")
+    @VersionedResource(ResourceType.SHIFTS)
     public ResponseEntity<List<ShiftResponse>> getActiveShifts() {
         List<ShiftResponse> shifts = shiftService.getActiveShifts();
         return ResponseEntity.ok(shifts);
@@ -55,6 +59,7 @@ public class ShiftController {
     @GetMapping("/{id}")
     @RequiresModule(Module.SHIFTS)
     @PreAuthorize("hasAnyAuthority('ROLE_TENANT_ADMIN', 'ROLE_HR_MANAGER', 'ROLE_EMPLOYEE', 'SHIFT:READ')")
+    @VersionedResource(ResourceType.SHIFTS)
     public ResponseEntity<ShiftResponse> getShiftById(@PathVariable Long id) {
         ShiftResponse shift = shiftService.getShiftById(id);
         return ResponseEntity.ok(shift);
@@ -148,6 +153,7 @@ public class ShiftController {
     @GetMapping("/page")
     @RequiresModule(Module.SHIFTS)
     @PreAuthorize("hasAnyAuthority('ROLE_TENANT_ADMIN', 'ROLE_HR_MANAGER', 'ROLE_EMPLOYEE', 'SHIFT:READ')")
+    @VersionedResource(ResourceType.SHIFTS)
     public ResponseEntity<PageResponse<ShiftResponse>> getAllShiftsPaginated(
             @RequestParam(required = false) Boolean active,
             @RequestParam(defaultValue = "0") int page,
@@ -0,0 +1,20 @@
+package com.worksyncx.hrms.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStats {
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private Double hitRatio;
+    // Null when the cache provider does not report it
+    private Long elementCountInMemory;
+}
@@ -0,0 +1,34 @@
+package com.worksyncx.hrms.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatisticsResponse {
+    private boolean secondLevelCacheEnabled;
+    private boolean queryCacheEnabled;
+    private boolean statisticsEnabled;
+    private Instant since;
+
+    // Statements sent to the database since `since`; compare with and without the l2cache profile
+    private long prepareStatementCount;
+    private long entityLoadCount;
+    private long queryExecutionCount;
+
+    private long secondLevelCacheHitCount;
+    private long secondLevelCacheMissCount;
+    private Double secondLevelCacheHitRatio;
+    private long queryCacheHitCount;
+    private long queryCacheMissCount;
+    private Double queryCacheHitRatio;
+
+    private List<CacheRegionStats> regions;
+}
@@ -0,0 +1,21 @@
+package com.worksyncx.hrms.dto.calendar;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkingDaysResponse {
+    private Long employeeId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private long calendarDays;
+    private long workingDays;
+    private long holidays;
+}
@@ -0,0 +1,30 @@
+package com.worksyncx.hrms.dto.employee;
+
+import com.worksyncx.hrms.enums.EmploymentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outbox payload of the EMPLOYEE_* events: identifiers, the organisational placement, and for updates the
+ * names of the fields that changed, never their values. Consumers that need personal, salary or bank
+ * details read them through the API, so the outbox table and its sinks never hold them.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeEvent {
+    private Long id;
+    private Long tenantId;
+    private Long userId;
+    private String employeeCode;
+    private Long departmentId;
+    private Long designationId;
+    private Long managerId;
+    private EmploymentStatus employmentStatus;
+    private List<String> changedFields; // Only on EMPLOYEE_UPDATED
+}
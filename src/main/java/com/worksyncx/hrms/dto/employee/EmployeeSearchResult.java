@@ -0,0 +1,22 @@
+package com.worksyncx.hrms.dto.employee;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSearchResult {
+    private Long id;
+    private String employeeCode;
+    private String name;
+    private String email;
+    private String phone;
+    private Long departmentId;
+    private String department;
+    // True when at least one search term only matched with a typo allowance
+    private boolean fuzzy;
+}
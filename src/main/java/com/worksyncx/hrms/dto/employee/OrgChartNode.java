@@ -0,0 +1,20 @@
+package com.worksyncx.hrms.dto.employee;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrgChartNode {
+    private Long id;
+    private String name;
+    private Long designationId;
+    private String designation;
+    private Long managerId;
+    // Lets the UI show an expander without fetching the subtree
+    private int directReports;
+}
@@ -0,0 +1,22 @@
+package com.worksyncx.hrms.dto.employee;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrgChartResponse {
+    private String version;
+    // Null when the response starts at the top of the organisation
+    private Long rootId;
+    private int depth;
+    private int totalEmployees;
+    // Flat, breadth-first; children reference their parent through managerId
+    private List<OrgChartNode> nodes;
+}
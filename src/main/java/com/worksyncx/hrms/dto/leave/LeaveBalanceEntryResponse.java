@@ -0,0 +1,26 @@
+package com.worksyncx.hrms.dto.leave;
+
+import com.worksyncx.hrms.enums.LeaveBalanceEntryType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveBalanceEntryResponse {
+    private Long id;
+    private Long leaveBalanceId;
+    private LeaveBalanceEntryType entryType;
+    private BigDecimal days;
+    private BigDecimal balanceAfter;
+    private Long leaveRequestId;
+    private String notes;
+    private LocalDateTime createdAt;
+    private Long createdBy;
+}
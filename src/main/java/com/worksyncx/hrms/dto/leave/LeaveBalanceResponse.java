@@ -0,0 +1,31 @@
+package com.worksyncx.hrms.dto.leave;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveBalanceResponse {
+    private Long id;
+    private Long tenantId;
+    private Long employeeId;
+    private Long leaveTypeId;
+    private String leaveTypeName;
+    private Integer periodYear;
+    private BigDecimal accrued;
+    private BigDecimal carriedForward;
+    private BigDecimal consumed;
+    private BigDecimal encashed;
+    private BigDecimal carriedOut;
+    private BigDecimal pending;
+    private BigDecimal balance;
+    private BigDecimal available;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package com.worksyncx.hrms.dto.leave;
+
+import com.worksyncx.hrms.enums.LeaveStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class LeaveBulkDecisionRequest {
+
+    @NotEmpty(message = "At least one leave request id is required")
+    @Size(max = 500, message = "Cannot decide more than 500 leave requests at once")
+    private List<Long> requestIds;
+
+    // APPROVED or REJECTED
+    private LeaveStatus decision = LeaveStatus.APPROVED;
+
+    private String rejectionReason;
+}
@@ -0,0 +1,22 @@
+package com.worksyncx.hrms.dto.leave;
+
+import com.worksyncx.hrms.enums.LeaveStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveBulkDecisionResponse {
+    private LeaveStatus decision;
+    private int requested;
+    private int processed;
+    private List<Long> processedIds;
+    // Ids that were not found, were no longer pending or are outside the caller's reporting tree
+    private List<Long> skippedIds;
+}
@@ -0,0 +1,24 @@
+package com.worksyncx.hrms.dto.leave;
+
+import com.worksyncx.hrms.enums.LeaveStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveCalendarEntry {
+    private Long leaveRequestId;
+    private Long employeeId;
+    private String employeeName;
+    private Long departmentId;
+    private Long leaveTypeId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LeaveStatus status;
+}
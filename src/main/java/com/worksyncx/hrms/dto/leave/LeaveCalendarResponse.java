@@ -0,0 +1,24 @@
+package com.worksyncx.hrms.dto.leave;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveCalendarResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private Long departmentId;
+    // One count per day starting at "from": employees on approved leave
+    private int[] approved;
+    // One count per day starting at "from": employees with a pending request
+    private int[] pending;
+    private List<LeaveCalendarEntry> entries;
+}
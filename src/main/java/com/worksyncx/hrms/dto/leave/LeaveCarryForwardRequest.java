@@ -0,0 +1,26 @@
+package com.worksyncx.hrms.dto.leave;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class LeaveCarryForwardRequest {
+
+    @NotNull(message = "Employee ID is required")
+    private Long employeeId;
+
+    @NotNull(message = "Leave type ID is required")
+    private Long leaveTypeId;
+
+    @NotNull(message = "Year to carry forward from is required")
+    private Integer fromYear;
+
+    /**
+     * Upper limit on the days carried into the next year; the whole available balance when omitted
+     */
+    @DecimalMin(value = "0", message = "Maximum days cannot be negative")
+    private BigDecimal maxDays;
+}
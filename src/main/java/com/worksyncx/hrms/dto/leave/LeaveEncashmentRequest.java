@@ -0,0 +1,26 @@
+package com.worksyncx.hrms.dto.leave;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class LeaveEncashmentRequest {
+
+    @NotNull(message = "Employee ID is required")
+    private Long employeeId;
+
+    @NotNull(message = "Leave type ID is required")
+    private Long leaveTypeId;
+
+    @NotNull(message = "Year is required")
+    private Integer year;
+
+    @NotNull(message = "Days are required")
+    @DecimalMin(value = "0.5", message = "At least half a day must be encashed")
+    private BigDecimal days;
+
+    private String notes;
+}
@@ -0,0 +1,24 @@
+package com.worksyncx.hrms.dto.payroll;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollDiffEntry {
+    private Long employeeId;
+    private String employeeCode;
+    private String employeeName;
+    private Long payrollId;
+    private BigDecimal payableDays;
+    private BigDecimal previousNetSalary;
+    private BigDecimal newNetSalary;
+    private BigDecimal difference;
+    private Boolean isNew;
+}
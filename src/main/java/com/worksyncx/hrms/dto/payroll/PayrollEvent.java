@@ -0,0 +1,30 @@
+package com.worksyncx.hrms.dto.payroll;
+
+import com.worksyncx.hrms.enums.PayrollStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Outbox payload of the PAYROLL_* and PAYROLL_CYCLE_* events: identifiers, the pay period and the status,
+ * and for a cycle run the ids of the employees whose payroll changed, never an amount. Consumers that need
+ * salary, tax or bank transfer details read them through the API, so the outbox table and its sinks never hold them.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollEvent {
+    private Long id; // Payroll id on PAYROLL_* events, cycle id on PAYROLL_CYCLE_*
+    private Long tenantId;
+    private Long payrollCycleId;
+    private Long employeeId; // Only on PAYROLL_*
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private PayrollStatus status;
+    private List<Long> changedEmployeeIds; // Only on PAYROLL_CYCLE_RUN
+}
@@ -0,0 +1,27 @@
+package com.worksyncx.hrms.dto.payroll;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRunResponse {
+    private Long payrollCycleId;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private Boolean committed;
+    private Integer totalEmployees;
+    private Integer changedEmployees;
+    private Integer unchangedEmployees;
+    private Integer lockedEmployees;
+    private BigDecimal totalNetDifference;
+    private List<PayrollDiffEntry> changes;
+}
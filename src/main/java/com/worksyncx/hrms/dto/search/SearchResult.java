@@ -0,0 +1,20 @@
+package com.worksyncx.hrms.dto.search;
+
+import com.worksyncx.hrms.enums.SearchEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResult {
+    private SearchEntityType type;
+    private Long id;
+    private String title;
+    // Employee, department, designation or shift code
+    private String subtitle;
+    private double rank;
+}
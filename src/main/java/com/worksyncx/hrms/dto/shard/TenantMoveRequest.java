@@ -0,0 +1,15 @@
+package com.worksyncx.hrms.dto.shard;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenantMoveRequest {
+
+    @NotBlank(message = "Target shard is required")
+    private String targetShard;
+}
@@ -0,0 +1,26 @@
+package com.worksyncx.hrms.dto.shard;
+
+import com.worksyncx.hrms.enums.TenantMoveState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenantMoveResponse {
+    private Long tenantId;
+    private String sourceShard;
+    private String targetShard;
+    private TenantMoveState state;
+    // Rows copied per table
+    private Map<String, Long> rowsCopied;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -0,0 +1,20 @@
+package com.worksyncx.hrms.dto.shard;
+
+import com.worksyncx.hrms.enums.TenantShardStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenantShardResponse {
+    private Long tenantId;
+    private String shardKey;
+    private TenantShardStatus status;
+    private Set<String> availableShards;
+}
@@ -1,15 +1,20 @@
 package com.worksyncx.hrms.entity;
 
+import com.worksyncx.hrms.config.CacheRegions;
 import com.worksyncx.hrms.entity.base.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.DESIGNATIONS)
 @Table(name = "designations", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"tenant_id", "code"})
 })
@@ -1,5 +1,6 @@
 package com.worksyncx.hrms.entity;
 
+import com.worksyncx.hrms.entity.base.Audited;
 import com.worksyncx.hrms.entity.base.BaseEntity;
 import com.worksyncx.hrms.enums.EmploymentStatus;
 import com.worksyncx.hrms.enums.EmploymentType;
@@ -14,6 +15,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
+@Audited
 @Table(name = "employees", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"tenant_id", "employee_code"}),
     @UniqueConstraint(columnNames = {"tenant_id", "user_id"})
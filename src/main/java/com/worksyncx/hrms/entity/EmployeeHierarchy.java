@@ -0,0 +1,27 @@
+package com.worksyncx.hrms.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Closure table row of the manager tree: {@code ancestorId} manages {@code descendantId} directly or indirectly,
+ * {@code depth} levels up (0 for the self row).
+ */
+@Entity
+@Table(name = "employee_hierarchy")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeHierarchy {
+
+    @EmbeddedId
+    private HierarchyId id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(nullable = false)
+    private Integer depth;
+}
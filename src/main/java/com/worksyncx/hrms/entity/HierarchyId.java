@@ -0,0 +1,25 @@
+package com.worksyncx.hrms.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Primary key of the hierarchy closure tables.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HierarchyId implements Serializable {
+
+    @Column(name = "ancestor_id", nullable = false)
+    private Long ancestorId;
+
+    @Column(name = "descendant_id", nullable = false)
+    private Long descendantId;
+}
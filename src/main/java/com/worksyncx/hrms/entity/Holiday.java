@@ -0,0 +1,30 @@
+package com.worksyncx.hrms.entity;
+
+import com.worksyncx.hrms.entity.base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "holidays", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"tenant_id", "holiday_date"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class Holiday extends BaseEntity {
+
+    @Column(name = "holiday_date", nullable = false)
+    private LocalDate holidayDate;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+}
@@ -0,0 +1,59 @@
+package com.worksyncx.hrms.entity;
+
+import com.worksyncx.hrms.entity.base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Running leave totals for one employee, leave type and calendar year.
+ * Every change is also recorded as a {@link LeaveBalanceEntry}.
+ */
+@Entity
+@Table(name = "leave_balances", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"tenant_id", "employee_id", "leave_type_id", "period_year"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class LeaveBalance extends BaseEntity {
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "leave_type_id", nullable = false)
+    private Long leaveTypeId;
+
+    @Column(name = "period_year", nullable = false)
+    private Integer periodYear;
+
+    @Column(nullable = false, precision = 6, scale = 2)
+    private BigDecimal accrued = BigDecimal.ZERO;
+
+    @Column(name = "carried_forward", nullable = false, precision = 6, scale = 2)
+    private BigDecimal carriedForward = BigDecimal.ZERO;
+
+    @Column(nullable = false, precision = 6, scale = 2)
+    private BigDecimal consumed = BigDecimal.ZERO;
+
+    @Column(nullable = false, precision = 6, scale = 2)
+    private BigDecimal encashed = BigDecimal.ZERO;
+
+    @Column(name = "carried_out", nullable = false, precision = 6, scale = 2)
+    private BigDecimal carriedOut = BigDecimal.ZERO;
+
+    @Column(nullable = false, precision = 6, scale = 2)
+    private BigDecimal pending = BigDecimal.ZERO;
+
+    @Column(nullable = false, precision = 6, scale = 2)
+    private BigDecimal balance = BigDecimal.ZERO;
+
+    public BigDecimal getAvailable() {
+        return balance.subtract(pending);
+    }
+}
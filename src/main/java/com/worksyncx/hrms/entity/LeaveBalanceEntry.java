@@ -0,0 +1,39 @@
+package com.worksyncx.hrms.entity;
+
+import com.worksyncx.hrms.entity.base.BaseEntity;
+import com.worksyncx.hrms.enums.LeaveBalanceEntryType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "leave_balance_entries")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class LeaveBalanceEntry extends BaseEntity {
+
+    @Column(name = "leave_balance_id", nullable = false)
+    private Long leaveBalanceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 30)
+    private LeaveBalanceEntryType entryType;
+
+    @Column(nullable = false, precision = 6, scale = 2)
+    private BigDecimal days;
+
+    @Column(name = "balance_after", nullable = false, precision = 6, scale = 2)
+    private BigDecimal balanceAfter;
+
+    @Column(name = "leave_request_id")
+    private Long leaveRequestId;
+
+    @Column(length = 255)
+    private String notes;
+}
@@ -45,6 +45,9 @@ public class LeaveRequest extends BaseEntity {
     @Column(length = 50)
     private LeaveStatus status = LeaveStatus.PENDING;
 
+    @Column(name = "approver_employee_id")
+    private Long approverEmployeeId;
+
     @Column(name = "approved_by")
     private Long approvedBy;
 
@@ -0,0 +1,53 @@
+package com.worksyncx.hrms.entity;
+
+import com.worksyncx.hrms.entity.base.BaseEntity;
+import com.worksyncx.hrms.enums.DomainEventType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Entity
+@Table(name = "outbox_events")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class OutboxEvent extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 50)
+    private DomainEventType eventType;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb", nullable = false)
+    private Map<String, Object> payload;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    // Defaults to the insert time; the relay moves it for retries and while delivering
+    @Column(name = "next_attempt_at", nullable = false, insertable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+}
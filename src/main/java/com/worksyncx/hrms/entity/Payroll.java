@@ -1,5 +1,6 @@
 package com.worksyncx.hrms.entity;
 
+import com.worksyncx.hrms.entity.base.Audited;
 import com.worksyncx.hrms.entity.base.BaseEntity;
 import com.worksyncx.hrms.enums.PayrollStatus;
 import jakarta.persistence.*;
@@ -12,6 +13,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+@Audited
 @Table(name = "payrolls", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"tenant_id", "employee_id", "payroll_cycle_id"})
 })
@@ -72,4 +74,11 @@ public class Payroll extends BaseEntity {
 
     @Column(name = "paid_date")
     private LocalDateTime paidDate;
+
+    // Hash of the inputs used by the last payroll run, compared on re-runs to skip unchanged employees
+    @Column(name = "input_hash", length = 64)
+    private String inputHash;
+
+    @Column(name = "computed_at")
+    private LocalDateTime computedAt;
 }
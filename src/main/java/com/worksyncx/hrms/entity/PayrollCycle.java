@@ -1,5 +1,6 @@
 package com.worksyncx.hrms.entity;
 
+import com.worksyncx.hrms.entity.base.Audited;
 import com.worksyncx.hrms.entity.base.BaseEntity;
 import com.worksyncx.hrms.enums.PayrollStatus;
 import jakarta.persistence.*;
@@ -11,6 +12,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
+@Audited
 @Table(name = "payroll_cycles", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"tenant_id", "month", "year"})
 })
@@ -1,14 +1,19 @@
 package com.worksyncx.hrms.entity;
 
+import com.worksyncx.hrms.config.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PERMISSIONS)
 @Table(name = "permissions")
 @Data
 @NoArgsConstructor
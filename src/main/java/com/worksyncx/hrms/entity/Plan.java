@@ -1,9 +1,12 @@
 package com.worksyncx.hrms.entity;
 
+import com.worksyncx.hrms.config.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
@@ -14,6 +17,8 @@ import java.time.LocalDateTime;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PLANS)
 @Table(name = "plans")
 @Data
 @NoArgsConstructor
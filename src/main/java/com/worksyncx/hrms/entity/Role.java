@@ -1,16 +1,23 @@
 package com.worksyncx.hrms.entity;
 
+import com.worksyncx.hrms.config.CacheRegions;
+import com.worksyncx.hrms.entity.base.Audited;
 import com.worksyncx.hrms.entity.base.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Audited
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ROLES)
 @Table(name = "roles", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"tenant_id", "name"})
 })
@@ -30,6 +37,7 @@ public class Role extends BaseEntity {
     private Boolean isSystemRole = false;
 
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ROLE_PERMISSIONS)
     @JoinTable(
         name = "role_permissions",
         joinColumns = @JoinColumn(name = "role_id"),
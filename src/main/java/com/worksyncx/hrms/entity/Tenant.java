@@ -48,6 +48,10 @@ public class Tenant {
     @Column(name = "primary_owner_user_id")
     private Long primaryOwnerUserId;
 
+    // Number of TENANT_ADMIN users, maintained by a database trigger on user_roles
+    @Column(name = "admin_count", insertable = false, updatable = false)
+    private Integer adminCount;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -1,5 +1,6 @@
 package com.worksyncx.hrms.entity;
 
+import com.worksyncx.hrms.entity.base.Audited;
 import com.worksyncx.hrms.entity.base.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -17,6 +18,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Entity
+@Audited(ignore = {"password", "lastLogin"})
 @Table(name = "users", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"tenant_id", "email"})
 })
@@ -0,0 +1,22 @@
+package com.worksyncx.hrms.entity.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an entity whose inserts, updates, deletes and collection changes are recorded field by field
+ * in audit_events (see {@link com.worksyncx.hrms.service.audit.AuditEventListener}).
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface Audited {
+
+    /**
+     * Properties never recorded, and whose changes alone do not produce an audit event.
+     */
+    String[] ignore() default {};
+}
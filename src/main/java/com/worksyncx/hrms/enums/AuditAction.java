@@ -0,0 +1,7 @@
+package com.worksyncx.hrms.enums;
+
+public enum AuditAction {
+    CREATE,
+    UPDATE,
+    DELETE
+}
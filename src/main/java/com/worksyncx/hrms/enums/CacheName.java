@@ -0,0 +1,15 @@
+package com.worksyncx.hrms.enums;
+
+/**
+ * In-process caches kept consistent across instances through the cache invalidation bus.
+ */
+public enum CacheName {
+    ORG_CHART,
+    EMPLOYEE_SEARCH,
+    LEAVE_CALENDAR,
+    HOLIDAY_CALENDAR,
+    RESOURCE_VERSION,
+    ACCESS_CONTROL,
+    RECENT_WRITERS,
+    TENANT_SHARD
+}
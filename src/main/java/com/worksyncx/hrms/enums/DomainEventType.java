@@ -0,0 +1,38 @@
+package com.worksyncx.hrms.enums;
+
+import lombok.Getter;
+
+/**
+ * Events written to the transactional outbox, grouped by the aggregate they describe.
+ */
+@Getter
+public enum DomainEventType {
+    ATTENDANCE_CHECKED_IN("ATTENDANCE"),
+    ATTENDANCE_CHECKED_OUT("ATTENDANCE"),
+    ATTENDANCE_MARKED("ATTENDANCE"),
+    ATTENDANCE_UPDATED("ATTENDANCE"),
+
+    LEAVE_REQUESTED("LEAVE_REQUEST"),
+    LEAVE_APPROVED("LEAVE_REQUEST"),
+    LEAVE_REJECTED("LEAVE_REQUEST"),
+    LEAVE_CANCELLED("LEAVE_REQUEST"),
+
+    PAYROLL_CYCLE_CREATED("PAYROLL_CYCLE"),
+    PAYROLL_CYCLE_UPDATED("PAYROLL_CYCLE"),
+    PAYROLL_CYCLE_DELETED("PAYROLL_CYCLE"),
+    PAYROLL_CYCLE_RUN("PAYROLL_CYCLE"),
+    PAYROLL_CREATED("PAYROLL"),
+    PAYROLL_UPDATED("PAYROLL"),
+    PAYROLL_PAID("PAYROLL"),
+    PAYROLL_DELETED("PAYROLL"),
+
+    EMPLOYEE_CREATED("EMPLOYEE"),
+    EMPLOYEE_UPDATED("EMPLOYEE"),
+    EMPLOYEE_DELETED("EMPLOYEE");
+
+    private final String aggregateType;
+
+    DomainEventType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+}
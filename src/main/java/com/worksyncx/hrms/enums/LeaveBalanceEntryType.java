@@ -0,0 +1,9 @@
+package com.worksyncx.hrms.enums;
+
+public enum LeaveBalanceEntryType {
+    ACCRUAL,
+    CONSUMPTION,
+    REVERSAL,
+    CARRY_FORWARD,
+    ENCASHMENT
+}
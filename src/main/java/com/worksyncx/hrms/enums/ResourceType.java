@@ -0,0 +1,12 @@
+package com.worksyncx.hrms.enums;
+
+/**
+ * Reference data whose reads are served with version-based ETags.
+ */
+public enum ResourceType {
+    DEPARTMENTS,
+    DESIGNATIONS,
+    SHIFTS,
+    LEAVE_TYPES,
+    PLANS
+}
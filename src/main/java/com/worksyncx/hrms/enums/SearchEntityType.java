@@ -0,0 +1,29 @@
+package com.worksyncx.hrms.enums;
+
+import java.util.List;
+
+/**
+ * Entities covered by the global search, with the module and authorities needed to see each kind.
+ */
+public enum SearchEntityType {
+    EMPLOYEE(Module.EMPLOYEES, List.of("EMPLOYEE:READ")),
+    DEPARTMENT(Module.DEPARTMENTS, List.of("DEPARTMENT:READ")),
+    DESIGNATION(Module.DESIGNATIONS, List.of("DESIGNATION:READ")),
+    SHIFT(Module.SHIFTS, List.of("ROLE_TENANT_ADMIN", "ROLE_HR_MANAGER", "ROLE_EMPLOYEE", "SHIFT:READ"));
+
+    private final Module module;
+    private final List<String> authorities;
+
+    SearchEntityType(Module module, List<String> authorities) {
+        this.module = module;
+        this.authorities = authorities;
+    }
+
+    public Module getModule() {
+        return module;
+    }
+
+    public List<String> getAuthorities() {
+        return authorities;
+    }
+}
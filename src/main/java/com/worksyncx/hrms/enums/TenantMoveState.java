@@ -0,0 +1,9 @@
+package com.worksyncx.hrms.enums;
+
+public enum TenantMoveState {
+    DRAINING,
+    COPYING,
+    CLEANING_UP,
+    COMPLETED,
+    FAILED
+}
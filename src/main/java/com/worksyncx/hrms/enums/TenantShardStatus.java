@@ -0,0 +1,6 @@
+package com.worksyncx.hrms.enums;
+
+public enum TenantShardStatus {
+    ACTIVE,
+    MOVING
+}
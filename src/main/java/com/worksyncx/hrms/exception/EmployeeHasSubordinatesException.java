@@ -0,0 +1,20 @@
+package com.worksyncx.hrms.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when attempting to delete an employee who still manages other employees.
+ * Subordinates must be reassigned to another manager before the employee can be removed.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class EmployeeHasSubordinatesException extends RuntimeException {
+
+    public EmployeeHasSubordinatesException(String message) {
+        super(message);
+    }
+
+    public EmployeeHasSubordinatesException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,6 +1,9 @@
 package com.worksyncx.hrms.exception;
 
+import com.worksyncx.hrms.security.TenantMoveFilter;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -8,6 +11,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -19,6 +23,9 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // PostgreSQL read_only_sql_transaction
+    private static final String READ_ONLY_TRANSACTION = "25006";
+
     @ExceptionHandler(SubscriptionException.class)
     public ResponseEntity<Map<String, Object>> handleSubscriptionException(SubscriptionException ex) {
         Map<String, Object> errorResponse = new HashMap<>();
@@ -208,6 +215,41 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
     }
 
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<Map<String, Object>> handlePasswordHashingBusyException(PasswordHashingBusyException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("error", "Service Busy");
+        errorResponse.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "2")
+            .body(errorResponse);
+    }
+
+    @ExceptionHandler(InsufficientLeaveBalanceException.class)
+    public ResponseEntity<Map<String, Object>> handleInsufficientLeaveBalanceException(InsufficientLeaveBalanceException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.UNPROCESSABLE_ENTITY.value());
+        errorResponse.put("error", "Insufficient Leave Balance");
+        errorResponse.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
+    }
+
+    @ExceptionHandler(LeaveOverlapException.class)
+    public ResponseEntity<Map<String, Object>> handleLeaveOverlapException(LeaveOverlapException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.CONFLICT.value());
+        errorResponse.put("error", "Overlapping Leave Request");
+        errorResponse.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationException(MethodArgumentNotValidException ex) {
         Map<String, Object> errorResponse = new HashMap<>();
@@ -256,6 +298,8 @@ public class GlobalExceptionHandler {
                 message = "A department with this code already exists for your organization";
             } else if (rootCause.contains("designations_tenant_id_code_key")) {
                 message = "A designation with this code already exists for your organization";
+            } else if (rootCause.contains("excl_leave_requests_no_overlap")) {
+                message = "The employee already has a pending or approved leave request for these dates";
             } else if (rootCause.contains("duplicate key") || rootCause.contains("unique constraint")) {
                 message = "This record already exists. Please use a different unique value.";
             }
@@ -267,13 +311,18 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
+    public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex, HttpServletRequest request) {
         // Check if this is a wrapped SubscriptionException
         Throwable cause = ex;
         while (cause != null) {
             if (cause instanceof SubscriptionException) {
                 return handleSubscriptionException((SubscriptionException) cause);
             }
+            // A read that writes while the tenant's data is being moved to another shard
+            if (cause instanceof SQLException sqlException && READ_ONLY_TRANSACTION.equals(sqlException.getSQLState())
+                    && request.getAttribute(TenantMoveFilter.MOVING_ATTRIBUTE) != null) {
+                return handleTenantMoving();
+            }
             cause = cause.getCause();
         }
 
@@ -308,4 +357,16 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
+
+    private ResponseEntity<Map<String, Object>> handleTenantMoving() {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("error", "Service Unavailable");
+        errorResponse.put("message", TenantMoveFilter.MOVING_MESSAGE);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "30")
+            .body(errorResponse);
+    }
 }
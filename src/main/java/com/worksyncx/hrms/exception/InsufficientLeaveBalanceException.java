@@ -0,0 +1,20 @@
+package com.worksyncx.hrms.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a leave request, encashment or carry-forward needs more days
+ * than the employee has available for that leave type and year.
+ */
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class InsufficientLeaveBalanceException extends RuntimeException {
+
+    public InsufficientLeaveBalanceException(String message) {
+        super(message);
+    }
+
+    public InsufficientLeaveBalanceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
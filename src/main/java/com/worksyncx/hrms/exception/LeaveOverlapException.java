@@ -0,0 +1,19 @@
+package com.worksyncx.hrms.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a leave request overlaps another pending or approved request of the same employee.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class LeaveOverlapException extends RuntimeException {
+
+    public LeaveOverlapException(String message) {
+        super(message);
+    }
+
+    public LeaveOverlapException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,9 +1,12 @@
 package com.worksyncx.hrms.repository;
 
 import com.worksyncx.hrms.entity.AttendanceRecord;
+import com.worksyncx.hrms.enums.AttendanceStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -26,4 +29,20 @@ public interface AttendanceRecordRepository extends JpaRepository<AttendanceReco
         Long tenantId, Long employeeId, LocalDate startDate, LocalDate endDate, Pageable pageable
     );
     Page<AttendanceRecord> findByTenantIdAndAttendanceDate(Long tenantId, LocalDate date, Pageable pageable);
+
+    // Per-employee attendance status counts for a period (used by payroll runs instead of loading every record)
+    @Query("SELECT a.employeeId AS employeeId, a.status AS status, COUNT(a) AS total FROM AttendanceRecord a " +
+           "WHERE a.tenantId = :tenantId AND a.attendanceDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY a.employeeId, a.status")
+    List<AttendanceStatusCount> countStatusesByEmployee(
+        @Param("tenantId") Long tenantId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    interface AttendanceStatusCount {
+        Long getEmployeeId();
+        AttendanceStatus getStatus();
+        Long getTotal();
+    }
 }
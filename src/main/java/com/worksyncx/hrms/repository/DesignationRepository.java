@@ -1,9 +1,12 @@
 package com.worksyncx.hrms.repository;
 
 import com.worksyncx.hrms.entity.Designation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,10 +14,19 @@ import java.util.Optional;
 
 @Repository
 public interface DesignationRepository extends JpaRepository<Designation, Long> {
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Designation> findByTenantId(Long tenantId);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Designation> findByTenantIdAndIsActiveTrue(Long tenantId);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Designation> findByTenantIdAndDepartmentId(Long tenantId, Long departmentId);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Designation> findByTenantIdAndId(Long tenantId, Long id);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Designation> findByTenantIdAndCode(Long tenantId, String code);
 
     // Paginated methods
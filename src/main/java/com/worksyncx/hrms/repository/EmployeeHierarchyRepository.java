@@ -0,0 +1,55 @@
+package com.worksyncx.hrms.repository;
+
+import com.worksyncx.hrms.entity.EmployeeHierarchy;
+import com.worksyncx.hrms.entity.HierarchyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EmployeeHierarchyRepository extends JpaRepository<EmployeeHierarchy, HierarchyId> {
+
+    // Ids below a node, nearest first (self row excluded)
+    @Query("SELECT h.id.descendantId FROM EmployeeHierarchy h WHERE h.tenantId = :tenantId " +
+           "AND h.id.ancestorId = :ancestorId AND h.depth > 0 ORDER BY h.depth")
+    List<Long> findDescendantIds(@Param("tenantId") Long tenantId, @Param("ancestorId") Long ancestorId);
+
+    // Ids above a node, nearest first (self row excluded)
+    @Query("SELECT h.id.ancestorId FROM EmployeeHierarchy h WHERE h.tenantId = :tenantId " +
+           "AND h.id.descendantId = :descendantId AND h.depth > 0 ORDER BY h.depth")
+    List<Long> findAncestorIds(@Param("tenantId") Long tenantId, @Param("descendantId") Long descendantId);
+
+    @Query("SELECT COUNT(h) FROM EmployeeHierarchy h WHERE h.tenantId = :tenantId " +
+           "AND h.id.ancestorId = :ancestorId AND h.depth > 0")
+    long countDescendants(@Param("tenantId") Long tenantId, @Param("ancestorId") Long ancestorId);
+
+    // True when descendantId is ancestorId itself or anywhere below it
+    boolean existsByIdAncestorIdAndIdDescendantId(Long ancestorId, Long descendantId);
+
+    @Modifying
+    @Query(value = "INSERT INTO employee_hierarchy (tenant_id, ancestor_id, descendant_id, depth) " +
+           "VALUES (:tenantId, :id, :id, 0) ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    void insertSelf(@Param("tenantId") Long tenantId, @Param("id") Long id);
+
+    // Cut the subtree rooted at :id from everything above it
+    @Modifying
+    @Query(value = "DELETE FROM employee_hierarchy " +
+           "WHERE descendant_id IN (SELECT descendant_id FROM employee_hierarchy WHERE ancestor_id = :id) " +
+           "AND ancestor_id NOT IN (SELECT descendant_id FROM employee_hierarchy WHERE ancestor_id = :id)",
+           nativeQuery = true)
+    void detachSubtree(@Param("id") Long id);
+
+    // Hang the subtree rooted at :id below :parentId
+    @Modifying
+    @Query(value = "INSERT INTO employee_hierarchy (tenant_id, ancestor_id, descendant_id, depth) " +
+           "SELECT sup.tenant_id, sup.ancestor_id, sub.descendant_id, sup.depth + sub.depth + 1 " +
+           "FROM employee_hierarchy sup CROSS JOIN employee_hierarchy sub " +
+           "WHERE sup.descendant_id = :parentId AND sub.ancestor_id = :id",
+           nativeQuery = true)
+    void attachSubtree(@Param("id") Long id, @Param("parentId") Long parentId);
+}
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,4 +42,54 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     @Query("SELECT COUNT(e) FROM Employee e WHERE e.tenantId = :tenantId AND e.managerId = :managerId")
     long countByTenantIdAndManagerId(@Param("tenantId") Long tenantId, @Param("managerId") Long managerId);
+
+    // A few direct reports by name, for messages that list examples rather than the whole team
+    List<EmployeeName> findTop3ByTenantIdAndManagerIdOrderByIdAsc(Long tenantId, Long managerId);
+
+    // Only the columns the org chart needs, without loading full entities
+    @Query("SELECT e.id AS id, e.firstName AS firstName, e.lastName AS lastName, " +
+           "e.designationId AS designationId, e.managerId AS managerId " +
+           "FROM Employee e WHERE e.tenantId = :tenantId AND e.employmentStatus <> :excludedStatus")
+    List<OrgChartRow> findOrgChartRows(@Param("tenantId") Long tenantId, @Param("excludedStatus") EmploymentStatus excludedStatus);
+
+    // Columns indexed by the in-memory employee search
+    @Query("SELECT e.id AS id, e.employeeCode AS employeeCode, e.firstName AS firstName, e.lastName AS lastName, " +
+           "e.email AS email, e.phone AS phone, e.departmentId AS departmentId " +
+           "FROM Employee e WHERE e.tenantId = :tenantId AND e.employmentStatus <> :excludedStatus")
+    List<EmployeeSearchRow> findSearchRows(@Param("tenantId") Long tenantId, @Param("excludedStatus") EmploymentStatus excludedStatus);
+
+    // Who is on leave in the team calendar, for the employees it lists
+    @Query("SELECT e.id AS id, e.firstName AS firstName, e.lastName AS lastName, e.departmentId AS departmentId " +
+           "FROM Employee e WHERE e.tenantId = :tenantId AND e.id IN :ids")
+    List<CalendarRow> findCalendarRowsByTenantIdAndIdIn(@Param("tenantId") Long tenantId, @Param("ids") Collection<Long> ids);
+
+    interface EmployeeSearchRow {
+        Long getId();
+        String getEmployeeCode();
+        String getFirstName();
+        String getLastName();
+        String getEmail();
+        String getPhone();
+        Long getDepartmentId();
+    }
+
+    interface EmployeeName {
+        String getFirstName();
+        String getLastName();
+    }
+
+    interface CalendarRow {
+        Long getId();
+        String getFirstName();
+        String getLastName();
+        Long getDepartmentId();
+    }
+
+    interface OrgChartRow {
+        Long getId();
+        String getFirstName();
+        String getLastName();
+        Long getDesignationId();
+        Long getManagerId();
+    }
 }
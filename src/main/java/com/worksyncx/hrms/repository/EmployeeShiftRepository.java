@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -80,6 +81,18 @@ public interface EmployeeShiftRepository extends JpaRepository<EmployeeShift, Lo
         @Param("date") LocalDate date
     );
 
+    // Find active assignments of several employees overlapping a date range
+    @Query("SELECT es FROM EmployeeShift es WHERE es.employeeId IN :employeeIds " +
+           "AND es.isActive = true " +
+           "AND es.effectiveFrom <= :endDate " +
+           "AND (es.effectiveTo IS NULL OR es.effectiveTo >= :startDate) " +
+           "ORDER BY es.effectiveFrom ASC")
+    List<EmployeeShift> findActiveAssignmentsOverlapping(
+        @Param("employeeIds") Collection<Long> employeeIds,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
     // Find future shift assignments for employee
     @Query("SELECT es FROM EmployeeShift es WHERE es.employeeId = :employeeId " +
            "AND es.effectiveFrom > :currentDate " +
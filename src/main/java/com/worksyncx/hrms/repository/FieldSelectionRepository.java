@@ -0,0 +1,144 @@
+package com.worksyncx.hrms.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldsets for list endpoints ({@code ?fields=id,firstName,lastName}).
+ *
+ * Only the requested columns are selected, as a tuple query, and each row is returned as a map keyed
+ * by field name. Selectable fields are the response DTO's fields that map to a basic attribute of the
+ * entity, so a fieldset can never expose more than the full response does.
+ */
+@Repository
+public class FieldSelectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Map<Class<?>, Set<String>> selectableFields = new ConcurrentHashMap<>();
+
+    /**
+     * Validate a comma-separated field list. The id is always included and comes first.
+     */
+    public List<String> resolveFields(Class<?> entityClass, Class<?> responseClass, String fields) {
+        Set<String> allowed = selectableFields.computeIfAbsent(responseClass, type -> selectable(entityClass, type));
+
+        Set<String> requested = new LinkedHashSet<>();
+        requested.add("id");
+        Arrays.stream(fields.split(","))
+            .map(String::trim)
+            .filter(field -> !field.isEmpty())
+            .forEach(requested::add);
+
+        List<String> unknown = requested.stream().filter(field -> !allowed.contains(field)).toList();
+        if (!unknown.isEmpty()) {
+            throw new RuntimeException("Unknown field(s) " + unknown + ". Selectable fields: " + allowed);
+        }
+        return new ArrayList<>(requested);
+    }
+
+    public <E> List<Map<String, Object>> findFields(Class<E> entityClass, Specification<E> spec,
+                                                    List<String> fields, Sort sort) {
+        return selectQuery(entityClass, spec, fields, sort).getResultList()
+            .stream()
+            .map(tuple -> toRow(tuple, fields))
+            .toList();
+    }
+
+    public <E> Page<Map<String, Object>> findFields(Class<E> entityClass, Specification<E> spec,
+                                                    List<String> fields, Pageable pageable) {
+        TypedQuery<Tuple> query = selectQuery(entityClass, spec, fields, pageable.getSort());
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+        List<Map<String, Object>> content = query.getResultList()
+            .stream()
+            .map(tuple -> toRow(tuple, fields))
+            .toList();
+
+        return new PageImpl<>(content, pageable, count(entityClass, spec));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private <E> TypedQuery<Tuple> selectQuery(Class<E> entityClass, Specification<E> spec, List<String> fields, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(entityClass);
+
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            selections.add(root.get(field).alias(field));
+        }
+        query.multiselect(selections);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private <E> long count(Class<E> entityClass, Specification<E> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<E> root = query.from(entityClass);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private Map<String, Object> toRow(Tuple tuple, List<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fields) {
+            row.put(field, tuple.get(field));
+        }
+        return row;
+    }
+
+    private Set<String> selectable(Class<?> entityClass, Class<?> responseClass) {
+        Set<String> entityAttributes = entityManager.getMetamodel().entity(entityClass).getSingularAttributes()
+            .stream()
+            .filter(attribute -> attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC)
+            .map(Attribute::getName)
+            .collect(Collectors.toSet());
+
+        return Arrays.stream(responseClass.getDeclaredFields())
+            .map(Field::getName)
+            .filter(entityAttributes::contains)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -0,0 +1,26 @@
+package com.worksyncx.hrms.repository;
+
+import com.worksyncx.hrms.entity.Holiday;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface HolidayRepository extends JpaRepository<Holiday, Long> {
+    Optional<Holiday> findByTenantIdAndId(Long tenantId, Long id);
+    boolean existsByTenantIdAndHolidayDate(Long tenantId, LocalDate holidayDate);
+    List<Holiday> findByTenantIdAndHolidayDateBetweenOrderByHolidayDateAsc(Long tenantId, LocalDate startDate, LocalDate endDate);
+
+    @Query("SELECT h.holidayDate FROM Holiday h WHERE h.tenantId = :tenantId " +
+           "AND h.holidayDate BETWEEN :startDate AND :endDate")
+    List<LocalDate> findHolidayDates(
+        @Param("tenantId") Long tenantId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+}
@@ -0,0 +1,12 @@
+package com.worksyncx.hrms.repository;
+
+import com.worksyncx.hrms.entity.LeaveBalanceEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LeaveBalanceEntryRepository extends JpaRepository<LeaveBalanceEntry, Long> {
+    List<LeaveBalanceEntry> findByTenantIdAndLeaveBalanceIdOrderByCreatedAtAsc(Long tenantId, Long leaveBalanceId);
+}
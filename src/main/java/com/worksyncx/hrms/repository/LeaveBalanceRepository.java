@@ -0,0 +1,46 @@
+package com.worksyncx.hrms.repository;
+
+import com.worksyncx.hrms.entity.LeaveBalance;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LeaveBalanceRepository extends JpaRepository<LeaveBalance, Long> {
+    Optional<LeaveBalance> findByTenantIdAndEmployeeIdAndLeaveTypeIdAndPeriodYear(
+        Long tenantId, Long employeeId, Long leaveTypeId, Integer periodYear
+    );
+    List<LeaveBalance> findByTenantIdAndEmployeeIdAndPeriodYear(Long tenantId, Long employeeId, Integer periodYear);
+    Optional<LeaveBalance> findByTenantIdAndId(Long tenantId, Long id);
+
+    // Row lock so concurrent approvals/cancellations serialize on the running total
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT lb FROM LeaveBalance lb WHERE lb.tenantId = :tenantId AND lb.employeeId = :employeeId " +
+           "AND lb.leaveTypeId = :leaveTypeId AND lb.periodYear = :periodYear")
+    Optional<LeaveBalance> findForUpdate(
+        @Param("tenantId") Long tenantId,
+        @Param("employeeId") Long employeeId,
+        @Param("leaveTypeId") Long leaveTypeId,
+        @Param("periodYear") Integer periodYear
+    );
+
+    // Creates the row unless a concurrent first touch already has; callers then lock it with findForUpdate
+    @Modifying
+    @Query(value = "INSERT INTO leave_balances (tenant_id, employee_id, leave_type_id, period_year, created_by) " +
+           "VALUES (:tenantId, :employeeId, :leaveTypeId, :periodYear, :createdBy) ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    void insertIfAbsent(
+        @Param("tenantId") Long tenantId,
+        @Param("employeeId") Long employeeId,
+        @Param("leaveTypeId") Long leaveTypeId,
+        @Param("periodYear") Integer periodYear,
+        @Param("createdBy") Long createdBy
+    );
+}
@@ -2,11 +2,19 @@ package com.worksyncx.hrms.repository;
 
 import com.worksyncx.hrms.entity.LeaveRequest;
 import com.worksyncx.hrms.enums.LeaveStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +29,101 @@ public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, Long
     Page<LeaveRequest> findByTenantId(Long tenantId, Pageable pageable);
     Page<LeaveRequest> findByTenantIdAndEmployeeId(Long tenantId, Long employeeId, Pageable pageable);
     Page<LeaveRequest> findByTenantIdAndStatus(Long tenantId, LeaveStatus status, Pageable pageable);
+
+    // Leave requests in a given status that overlap the [startDate, endDate] period
+    @Query("SELECT lr FROM LeaveRequest lr WHERE lr.tenantId = :tenantId AND lr.status = :status " +
+           "AND lr.startDate <= :endDate AND lr.endDate >= :startDate")
+    List<LeaveRequest> findByTenantIdAndStatusOverlapping(
+        @Param("tenantId") Long tenantId,
+        @Param("status") LeaveStatus status,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    // Pending or approved requests of an employee overlapping [startDate, endDate]; served by the exclusion constraint's GiST index
+    @Query(value = "SELECT * FROM leave_requests lr WHERE lr.tenant_id = :tenantId " +
+           "AND lr.employee_id = :employeeId " +
+           "AND lr.status IN ('PENDING', 'APPROVED') " +
+           "AND lr.date_range && daterange(CAST(:startDate AS DATE), CAST(:endDate AS DATE), '[]') " +
+           "ORDER BY lr.start_date",
+           nativeQuery = true)
+    List<LeaveRequest> findActiveOverlapping(
+        @Param("tenantId") Long tenantId,
+        @Param("employeeId") Long employeeId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    // Requests in the given statuses overlapping [startDate, endDate] across the tenant
+    @Query(value = "SELECT * FROM leave_requests lr WHERE lr.tenant_id = :tenantId " +
+           "AND lr.status IN (:statuses) " +
+           "AND lr.date_range && daterange(CAST(:startDate AS DATE), CAST(:endDate AS DATE), '[]') " +
+           "ORDER BY lr.start_date, lr.employee_id",
+           nativeQuery = true)
+    List<LeaveRequest> findInDateRange(
+        @Param("tenantId") Long tenantId,
+        @Param("statuses") Collection<String> statuses,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    // Active requests still relevant to the leave calendar window
+    List<LeaveRequest> findByTenantIdAndStatusInAndEndDateGreaterThanEqual(
+        Long tenantId, Collection<LeaveStatus> statuses, LocalDate endDate);
+
+    // Pending requests awaiting a specific approver
+    List<LeaveRequest> findByTenantIdAndStatusAndApproverEmployeeIdOrderByStartDateAsc(
+        Long tenantId, LeaveStatus status, Long approverEmployeeId);
+
+    // Pending requests of everyone below a manager, via the employee_hierarchy closure table
+    @Query(value = "SELECT lr.* FROM leave_requests lr " +
+           "JOIN employee_hierarchy h ON h.descendant_id = lr.employee_id " +
+           "WHERE h.ancestor_id = :managerId AND h.depth > 0 " +
+           "AND lr.tenant_id = :tenantId AND lr.status = 'PENDING' " +
+           "ORDER BY lr.start_date",
+           nativeQuery = true)
+    List<LeaveRequest> findPendingForReportingTree(
+        @Param("tenantId") Long tenantId,
+        @Param("managerId") Long managerId
+    );
+
+    // Lock the still-pending requests of a batch that the approver may decide (same scope as the inbox:
+    // assigned to them or anywhere in their reporting tree, never their own) so concurrent decisions
+    // cannot double-post to the ledger
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT lr FROM LeaveRequest lr WHERE lr.tenantId = :tenantId AND lr.id IN :ids " +
+           "AND lr.status = com.worksyncx.hrms.enums.LeaveStatus.PENDING " +
+           "AND lr.employeeId <> :approverId " +
+           "AND (lr.approverEmployeeId = :approverId OR EXISTS (SELECT 1 FROM EmployeeHierarchy h " +
+           "WHERE h.id.ancestorId = :approverId AND h.id.descendantId = lr.employeeId AND h.depth > 0))")
+    List<LeaveRequest> findPendingForUpdate(
+        @Param("tenantId") Long tenantId,
+        @Param("approverId") Long approverId,
+        @Param("ids") Collection<Long> ids
+    );
+
+    // Set-based decision for a batch of still-pending requests; returns the number of rows changed
+    @Modifying
+    @Query("UPDATE LeaveRequest lr SET lr.status = :status, lr.rejectionReason = :rejectionReason, " +
+           "lr.approvedBy = :userId, lr.approvedAt = :decidedAt, lr.updatedBy = :userId, lr.updatedAt = :decidedAt " +
+           "WHERE lr.tenantId = :tenantId AND lr.id IN :ids AND lr.status = com.worksyncx.hrms.enums.LeaveStatus.PENDING")
+    int decidePending(
+        @Param("tenantId") Long tenantId,
+        @Param("ids") Collection<Long> ids,
+        @Param("status") LeaveStatus status,
+        @Param("rejectionReason") String rejectionReason,
+        @Param("userId") Long userId,
+        @Param("decidedAt") LocalDateTime decidedAt
+    );
+
+    // Move an employee's pending requests to their new manager
+    @Modifying
+    @Query("UPDATE LeaveRequest lr SET lr.approverEmployeeId = :approverEmployeeId " +
+           "WHERE lr.tenantId = :tenantId AND lr.employeeId = :employeeId " +
+           "AND lr.status = com.worksyncx.hrms.enums.LeaveStatus.PENDING")
+    int reassignPendingApprover(
+        @Param("tenantId") Long tenantId,
+        @Param("employeeId") Long employeeId,
+        @Param("approverEmployeeId") Long approverEmployeeId
+    );
 }
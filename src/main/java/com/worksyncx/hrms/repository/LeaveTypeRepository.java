@@ -1,7 +1,10 @@
 package com.worksyncx.hrms.repository;
 
 import com.worksyncx.hrms.entity.LeaveType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,7 +12,12 @@ import java.util.Optional;
 
 @Repository
 public interface LeaveTypeRepository extends JpaRepository<LeaveType, Long> {
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<LeaveType> findByTenantId(Long tenantId);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<LeaveType> findByTenantIdAndIsActiveTrue(Long tenantId);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<LeaveType> findByTenantIdAndId(Long tenantId, Long id);
 }
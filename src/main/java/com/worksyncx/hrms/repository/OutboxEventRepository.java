@@ -0,0 +1,12 @@
+package com.worksyncx.hrms.repository;
+
+import com.worksyncx.hrms.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Writes only; the relay reads and updates the table with plain JDBC on each shard.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+}
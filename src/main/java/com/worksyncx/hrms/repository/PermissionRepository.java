@@ -1,8 +1,11 @@
 package com.worksyncx.hrms.repository;
 
 import com.worksyncx.hrms.entity.Permission;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,8 +17,10 @@ public interface PermissionRepository extends JpaRepository<Permission, Long> {
 
     boolean existsByCode(String code);
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Permission> findByCode(String code);
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Permission> findByModule(String module);
 
     List<Permission> findByModuleAndAction(String module, String action);
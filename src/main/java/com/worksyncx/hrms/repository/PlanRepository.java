@@ -1,7 +1,10 @@
 package com.worksyncx.hrms.repository;
 
 import com.worksyncx.hrms.entity.Plan;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,11 +13,14 @@ import java.util.Optional;
 @Repository
 public interface PlanRepository extends JpaRepository<Plan, Long> {
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Plan> findByName(String name);
 
     List<Plan> findByIsActiveTrue();
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Plan> findAllByOrderByDisplayOrderAsc();
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Plan> findByIsActiveTrueOrderByDisplayOrderAsc();
 }
@@ -0,0 +1,72 @@
+package com.worksyncx.hrms.repository;
+
+import com.worksyncx.hrms.entity.Employee;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * Ranked search across employees, departments, designations and shifts.
+ *
+ * Each branch matches on the generated search_vector (word prefixes, GIN) or search_text (substring,
+ * trigram GIN) columns from V16 and ranks by ts_rank plus trigram similarity.
+ */
+@Repository
+public interface SearchRepository extends org.springframework.data.repository.Repository<Employee, Long> {
+
+    String SEARCH_HITS =
+        "SELECT 'EMPLOYEE' AS entity_type, e.id AS id, e.first_name || ' ' || e.last_name AS title, " +
+        "e.employee_code AS subtitle, " +
+        "ts_rank(e.search_vector, to_tsquery('simple', :tsQuery)) + similarity(e.search_text, :text) AS rank " +
+        "FROM employees e " +
+        "WHERE e.tenant_id = :tenantId AND 'EMPLOYEE' IN (:types) " +
+        "AND (e.search_vector @@ to_tsquery('simple', :tsQuery) OR e.search_text LIKE :pattern) " +
+        "UNION ALL " +
+        "SELECT 'DEPARTMENT', d.id, d.name, d.code, " +
+        "ts_rank(d.search_vector, to_tsquery('simple', :tsQuery)) + similarity(d.search_text, :text) " +
+        "FROM departments d " +
+        "WHERE d.tenant_id = :tenantId AND 'DEPARTMENT' IN (:types) " +
+        "AND (d.search_vector @@ to_tsquery('simple', :tsQuery) OR d.search_text LIKE :pattern) " +
+        "UNION ALL " +
+        "SELECT 'DESIGNATION', g.id, g.name, g.code, " +
+        "ts_rank(g.search_vector, to_tsquery('simple', :tsQuery)) + similarity(g.search_text, :text) " +
+        "FROM designations g " +
+        "WHERE g.tenant_id = :tenantId AND 'DESIGNATION' IN (:types) " +
+        "AND (g.search_vector @@ to_tsquery('simple', :tsQuery) OR g.search_text LIKE :pattern) " +
+        "UNION ALL " +
+        "SELECT 'SHIFT', s.id, s.name, s.code, " +
+        "ts_rank(s.search_vector, to_tsquery('simple', :tsQuery)) + similarity(s.search_text, :text) " +
+        "FROM shifts s " +
+        "WHERE s.tenant_id = :tenantId AND s.is_deleted = false AND 'SHIFT' IN (:types) " +
+        "AND (s.search_vector @@ to_tsquery('simple', :tsQuery) OR s.search_text LIKE :pattern)";
+
+    /**
+     * @param tsQuery prefix tsquery built from alphanumeric terms, e.g. {@code jo:* & sm:*}
+     * @param text    lower-cased query for similarity ranking
+     * @param pattern lower-cased, LIKE-escaped substring pattern, e.g. {@code %jo sm%}
+     */
+    @Query(value = "SELECT hits.entity_type AS \"entityType\", hits.id AS \"id\", hits.title AS \"title\", " +
+                   "hits.subtitle AS \"subtitle\", CAST(hits.rank AS DOUBLE PRECISION) AS \"rank\" " +
+                   "FROM (" + SEARCH_HITS + ") hits " +
+                   "ORDER BY hits.rank DESC, hits.title ASC, hits.id ASC",
+           countQuery = "SELECT COUNT(*) FROM (" + SEARCH_HITS + ") hits",
+           nativeQuery = true)
+    Page<SearchHit> search(@Param("tenantId") Long tenantId,
+                           @Param("types") Collection<String> types,
+                           @Param("tsQuery") String tsQuery,
+                           @Param("text") String text,
+                           @Param("pattern") String pattern,
+                           Pageable pageable);
+
+    interface SearchHit {
+        String getEntityType();
+        Long getId();
+        String getTitle();
+        String getSubtitle();
+        Double getRank();
+    }
+}
@@ -1,10 +1,13 @@
 package com.worksyncx.hrms.repository;
 
 import com.worksyncx.hrms.entity.Shift;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -15,12 +18,14 @@ import java.util.Optional;
 public interface ShiftRepository extends JpaRepository<Shift, Long> {
 
     // Find by tenant (excluding soft-deleted)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Shift> findByTenantIdAndIsDeleted(Long tenantId, Boolean isDeleted);
 
     default List<Shift> findByTenantId(Long tenantId) {
         return findByTenantIdAndIsDeleted(tenantId, false);
     }
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Shift> findByTenantIdAndIsActiveAndIsDeleted(Long tenantId, Boolean isActive, Boolean isDeleted);
 
     default List<Shift> findByTenantIdAndIsActive(Long tenantId, Boolean isActive) {
@@ -40,6 +45,7 @@ public interface ShiftRepository extends JpaRepository<Shift, Long> {
     Optional<Shift> findByTenantIdAndName(Long tenantId, String name);
 
     // Find default shift (excluding soft-deleted)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT s FROM Shift s WHERE s.tenantId = :tenantId AND s.code = 'REGULAR' AND s.isActive = true AND s.isDeleted = false")
     Optional<Shift> findDefaultShift(@Param("tenantId") Long tenantId);
 
@@ -47,13 +53,14 @@ public interface ShiftRepository extends JpaRepository<Shift, Long> {
     long countByTenantIdAndIsActive(Long tenantId, Boolean isActive);
 
     // Find all active shifts ordered by name (excluding soft-deleted)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT s FROM Shift s WHERE s.tenantId = :tenantId AND s.isActive = true AND s.isDeleted = false ORDER BY s.name ASC")
     List<Shift> findActiveShiftsByTenantIdOrderedByName(@Param("tenantId") Long tenantId);
 
-    // Search shifts by name or code (excluding soft-deleted)
-    @Query("SELECT s FROM Shift s WHERE s.tenantId = :tenantId AND s.isDeleted = false AND " +
-           "(LOWER(s.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(s.code) LIKE LOWER(CONCAT('%', :search, '%')))")
+    // Search shifts by name or code (excluding soft-deleted); search_text is trigram-indexed (V16)
+    @Query(value = "SELECT * FROM shifts s WHERE s.tenant_id = :tenantId AND s.is_deleted = false AND " +
+           "s.search_text LIKE LOWER(CONCAT('%', :search, '%'))",
+           nativeQuery = true)
     List<Shift> searchShifts(@Param("tenantId") Long tenantId, @Param("search") String search);
 
     // Paginated methods (excluding soft-deleted)
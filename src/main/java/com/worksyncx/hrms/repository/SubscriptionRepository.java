@@ -1,6 +1,7 @@
 package com.worksyncx.hrms.repository;
 
 import com.worksyncx.hrms.entity.Subscription;
+import com.worksyncx.hrms.enums.SubscriptionPlan;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -11,4 +12,7 @@ import java.util.Optional;
 public interface SubscriptionRepository extends JpaRepository<Subscription, Long> {
     @Query("SELECT s FROM Subscription s WHERE s.tenant.id = :tenantId")
     Optional<Subscription> findByTenantId(Long tenantId);
+
+    @Query("SELECT s.plan FROM Subscription s WHERE s.tenant.id = :tenantId")
+    Optional<SubscriptionPlan> findPlanByTenantId(Long tenantId);
 }
@@ -2,6 +2,8 @@ package com.worksyncx.hrms.repository;
 
 import com.worksyncx.hrms.entity.Tenant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +12,13 @@ import java.util.Optional;
 public interface TenantRepository extends JpaRepository<Tenant, Long> {
     Optional<Tenant> findByEmail(String email);
     Boolean existsByEmail(String email);
+
+    // Ownership facts checked before removing an employee, without loading the tenant or its subscription
+    @Query("SELECT t.primaryOwnerUserId AS primaryOwnerUserId, t.adminCount AS adminCount FROM Tenant t WHERE t.id = :tenantId")
+    Optional<TenantOwnership> findOwnershipById(@Param("tenantId") Long tenantId);
+
+    interface TenantOwnership {
+        Long getPrimaryOwnerUserId();
+        Integer getAdminCount();
+    }
 }
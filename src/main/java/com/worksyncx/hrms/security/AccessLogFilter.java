@@ -0,0 +1,89 @@
+package com.worksyncx.hrms.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One structured line per request on the {@code hrms.access} logger, which logback-spring.xml writes
+ * as JSON from a background thread.
+ *
+ * Only {@code logging.access.sample-rate} of ordinary requests are logged; server errors and requests
+ * slower than {@code logging.access.slow-threshold} always are. Each line carries the rate it was
+ * sampled at, so counts can be scaled back up. Runs outside the security chain, so requests rejected
+ * there (401, 429) are seen too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger ACCESS = LoggerFactory.getLogger("hrms.access");
+
+    /** Set by JwtAuthenticationFilter, whose TenantContext is cleared before this filter logs */
+    public static final String TENANT_ATTRIBUTE = AccessLogFilter.class.getName() + ".tenantId";
+    public static final String USER_ATTRIBUTE = AccessLogFilter.class.getName() + ".userId";
+
+    @Value("${logging.access.enabled:true}")
+    private boolean enabled;
+
+    @Value("${logging.access.sample-rate:1.0}")
+    private double sampleRate;
+
+    @Value("${logging.access.slow-threshold:1s}")
+    private Duration slowThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!enabled || !ACCESS.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            boolean always = status >= 500 || millis >= slowThreshold.toMillis();
+            if (always || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                log(request, status, millis, always ? 1.0 : sampleRate);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, int status, long millis, double rate) {
+        LoggingEventBuilder event = ACCESS.atInfo()
+            .addKeyValue("method", request.getMethod())
+            .addKeyValue("path", request.getRequestURI())
+            .addKeyValue("status", status)
+            .addKeyValue("duration_ms", millis)
+            .addKeyValue("sample_rate", rate);
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (route != null) {
+            event = event.addKeyValue("route", route);
+        }
+        Object tenantId = request.getAttribute(TENANT_ATTRIBUTE);
+        if (tenantId != null) {
+            event = event.addKeyValue("tenant_id", tenantId).addKeyValue("user_id", request.getAttribute(USER_ATTRIBUTE));
+        }
+        event.log("{} {} {} {}ms", request.getMethod(), request.getRequestURI(), status, millis);
+    }
+}
@@ -0,0 +1,148 @@
+package com.worksyncx.hrms.security;
+
+import com.worksyncx.hrms.exception.PasswordHashingBusyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs password hashing on a small, bounded pool instead of the request thread.
+ *
+ * BCrypt is deliberately CPU-expensive; a burst of logins at shift change used to occupy every request
+ * thread and starve cheap reads. Here at most {@code threads} hashes run at once, up to
+ * {@code queueCapacity} wait, and anything beyond that (or waiting longer than {@code maxWait}) fails
+ * fast with {@link PasswordHashingBusyException}, answered as 503.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMillis;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration maxWait) {
+        this.delegate = delegate;
+        this.maxWaitMillis = maxWait.toMillis();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            task -> {
+                Thread thread = new Thread(task, "password-hashing-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Only parses the stored hash's cost factor, so it stays on the calling thread.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // ==================== Metrics ====================
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public double getAverageMillis() {
+        long count = completed.sum();
+        return count == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / count;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * Called by the container on shutdown.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private <T> T run(Callable<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return hashing.call();
+                } finally {
+                    long elapsed = System.nanoTime() - start;
+                    completed.increment();
+                    totalNanos.add(elapsed);
+                    maxNanos.accumulateAndGet(elapsed, Math::max);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw busy("queue full (" + executor.getQueue().size() + " waiting)");
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw busy("no result within " + maxWaitMillis + "ms");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy("interrupted while waiting");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private PasswordHashingBusyException busy(String reason) {
+        rejected.increment();
+        log.warn("Rejected password hashing: {}", reason);
+        return new PasswordHashingBusyException("Too many sign-in requests right now, please try again in a few seconds");
+    }
+}
@@ -3,14 +3,17 @@ package com.worksyncx.hrms.security;
 import com.worksyncx.hrms.entity.User;
 import com.worksyncx.hrms.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+@Slf4j
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
@@ -24,4 +27,20 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         return user;
     }
+
+    /**
+     * Store a rehashed password, called on login when the configured BCrypt cost has increased.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findById(((User) userDetails).getId())
+            .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        log.info("Rehashed password for user {} with the current BCrypt cost", user.getId());
+
+        ((User) userDetails).setPassword(newPassword);
+        return userDetails;
+    }
 }
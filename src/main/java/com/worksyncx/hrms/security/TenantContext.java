@@ -1,5 +1,15 @@
 package com.worksyncx.hrms.security;
 
+import java.util.function.Supplier;
+
+/**
+ * Tenant and user of the current request, set by JwtAuthenticationFilter and cleared when it finishes.
+ *
+ * Values are thread-local. That holds with virtual threads too (one thread per request, never reused),
+ * but nothing is inherited by other threads: work handed to an executor must be wrapped with
+ * {@link #propagate(Runnable)}, which the application task executor does through
+ * {@link TenantContextTaskDecorator}.
+ */
 public class TenantContext {
 
     private static final ThreadLocal<Long> TENANT_ID = new ThreadLocal<>();
@@ -25,4 +35,48 @@ public class TenantContext {
         TENANT_ID.remove();
         USER_ID.remove();
     }
+
+    /**
+     * Run work on data shared by all tenants, such as the plan catalog, with the tenant cleared and
+     * restored afterwards. With sharding that work then uses the default shard, which owns shared data.
+     * Call it before the transaction first touches the database, which picks the shard.
+     */
+    public static <T> T withoutTenant(Supplier<T> work) {
+        Long tenantId = getTenantId();
+        TENANT_ID.remove();
+        try {
+            return work.get();
+        } finally {
+            restore(TENANT_ID, tenantId);
+        }
+    }
+
+    /**
+     * Wrap a task so it runs with the caller's tenant and user on whichever thread executes it.
+     * The executing thread's own values are restored afterwards, so pooled threads never keep them.
+     */
+    public static Runnable propagate(Runnable task) {
+        Long tenantId = getTenantId();
+        Long userId = getUserId();
+        return () -> {
+            Long previousTenantId = getTenantId();
+            Long previousUserId = getUserId();
+            setTenantId(tenantId);
+            setUserId(userId);
+            try {
+                task.run();
+            } finally {
+                restore(TENANT_ID, previousTenantId);
+                restore(USER_ID, previousUserId);
+            }
+        };
+    }
+
+    private static void restore(ThreadLocal<Long> holder, Long value) {
+        if (value == null) {
+            holder.remove();
+        } else {
+            holder.set(value);
+        }
+    }
 }
@@ -0,0 +1,17 @@
+package com.worksyncx.hrms.security;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Carries {@link TenantContext} into tasks run by the application task executor ({@code @Async} and
+ * injected executors), whether it runs on platform or virtual threads.
+ */
+@Component
+public class TenantContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return TenantContext.propagate(runnable);
+    }
+}
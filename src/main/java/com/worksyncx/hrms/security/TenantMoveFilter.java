@@ -0,0 +1,81 @@
+package com.worksyncx.hrms.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.worksyncx.hrms.enums.TenantShardStatus;
+import com.worksyncx.hrms.service.shard.ShardDirectory;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Refuses writes for a tenant whose data is being copied to another shard, with 503 and Retry-After.
+ * Reads keep being served from the old shard until the move completes. Their connections are
+ * read-only ({@link com.worksyncx.hrms.config.TenantShardRoutingDataSource}), so a GET that writes as
+ * a side effect, such as lazy leave accrual, fails in the database and gets the same 503 from
+ * {@link com.worksyncx.hrms.exception.GlobalExceptionHandler} instead of writing rows the copy misses.
+ */
+@Component
+@ConditionalOnProperty(name = "datasource.sharding.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TenantMoveFilter extends OncePerRequestFilter {
+
+    /**
+     * Request attribute set on reads let through while the tenant is moving.
+     */
+    public static final String MOVING_ATTRIBUTE = TenantMoveFilter.class.getName() + ".MOVING";
+
+    public static final String MOVING_MESSAGE =
+        "Your organization's data is being migrated. Changes are paused for a few minutes; please retry shortly.";
+
+    private static final Set<String> READ_METHODS = Set.of(
+        HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name());
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ShardDirectory shardDirectory;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Long tenantId = TenantContext.getTenantId();
+        if (tenantId == null || shardDirectory.assignmentFor(tenantId).status() != TenantShardStatus.MOVING) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (READ_METHODS.contains(request.getMethod())) {
+            request.setAttribute(MOVING_ATTRIBUTE, Boolean.TRUE);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "30");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        body.put("error", "Service Unavailable");
+        body.put("message", MOVING_MESSAGE);
+        MAPPER.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,84 @@
+package com.worksyncx.hrms.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Enforces {@link TenantRateLimiter} for authenticated requests. Runs after the JWT filter, which
+ * sets the tenant; requests without a tenant (login, public endpoints) are not limited.
+ *
+ * Every limited response carries the RateLimit-Limit, RateLimit-Remaining and RateLimit-Reset headers;
+ * rejected requests get 429 with Retry-After.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenantRateLimitFilter extends OncePerRequestFilter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final TenantRateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Long tenantId = TenantContext.getTenantId();
+        if (tenantId == null || !rateLimiter.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        TenantRateLimiter.Decision decision = rateLimiter.acquire(tenantId);
+        response.setHeader("RateLimit-Limit", Integer.toString(decision.limit()));
+        response.setHeader("RateLimit-Remaining", Long.toString(decision.remaining()));
+        response.setHeader("RateLimit-Reset", Long.toString(decision.resetSeconds()));
+
+        if (!decision.allowed()) {
+            log.debug("Rate limited tenant {} on {} {} (concurrency: {})",
+                tenantId, request.getMethod(), request.getRequestURI(), decision.concurrencyExceeded());
+            reject(response, decision);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            decision.release();
+        }
+    }
+
+    private void reject(HttpServletResponse response, TenantRateLimiter.Decision decision) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        body.put("error", "Too Many Requests");
+        body.put("message", decision.concurrencyExceeded()
+            ? "Too many concurrent requests for this organization. Please retry shortly."
+            : "Request rate limit exceeded for this organization. Please retry after "
+                + decision.retryAfterSeconds() + " seconds.");
+        MAPPER.writeValue(response.getOutputStream(), body);
+    }
+}
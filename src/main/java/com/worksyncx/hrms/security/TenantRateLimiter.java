@@ -0,0 +1,190 @@
+package com.worksyncx.hrms.security;
+
+import com.worksyncx.hrms.enums.SubscriptionPlan;
+import com.worksyncx.hrms.repository.SubscriptionRepository;
+import com.worksyncx.hrms.util.LoadingMap;
+import com.worksyncx.hrms.util.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-tenant request rate limits and concurrency bulkheads, sized by the tenant's subscription plan.
+ *
+ * Each tenant has a token bucket (refilled at {@code requests-per-second}, holding up to {@code burst}
+ * tokens) and a cap on requests in flight, so one tenant's bulk script cannot take the whole connection
+ * pool. Both are single atomic counters updated with compare-and-set; the bucket is kept as the time it
+ * will next be full (GCRA), which needs no separate refill step. State is per instance.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenantRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final Environment environment;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.plan-refresh:5m}")
+    private Duration planRefresh;
+
+    private final Map<SubscriptionPlan, PlanLimits> planLimits = new EnumMap<>(SubscriptionPlan.class);
+    private final LoadingMap<Long, TenantLimiter> limiters = new LoadingMap<>();
+    private final LongAdder rateRejections = new LongAdder();
+    private final LongAdder concurrencyRejections = new LongAdder();
+
+    @PostConstruct
+    void loadPlanLimits() {
+        for (SubscriptionPlan plan : SubscriptionPlan.values()) {
+            String prefix = "rate-limit.plans." + plan.name().toLowerCase() + ".";
+            PlanLimits limits = new PlanLimits(
+                environment.getRequiredProperty(prefix + "requests-per-second", Double.class),
+                environment.getRequiredProperty(prefix + "burst", Integer.class),
+                environment.getRequiredProperty(prefix + "max-concurrent", Integer.class));
+            planLimits.put(plan, limits);
+            log.info("Rate limit for {}: {}/s, burst {}, {} concurrent",
+                plan, limits.requestsPerSecond(), limits.burst(), limits.maxConcurrent());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Take a concurrency slot and a token for the tenant. An allowed decision must be released when
+     * the request completes.
+     */
+    public Decision acquire(Long tenantId) {
+        Decision decision = limiters.get(tenantId, id -> new TenantLimiter(id, lookupPlan(id, SubscriptionPlan.FREE)))
+            .acquire();
+        if (!decision.allowed()) {
+            (decision.concurrencyExceeded() ? concurrencyRejections : rateRejections).increment();
+        }
+        return decision;
+    }
+
+    public long getRateRejections() {
+        return rateRejections.sum();
+    }
+
+    public long getConcurrencyRejections() {
+        return concurrencyRejections.sum();
+    }
+
+    /**
+     * Re-read the tenant's plan on its next request, after a plan change commits.
+     */
+    public void refreshAfterCommit(Long tenantId) {
+        TransactionHooks.afterCommit(() -> {
+            TenantLimiter limiter = limiters.getIfPresent(tenantId);
+            if (limiter != null) {
+                limiter.refreshAt.set(System.nanoTime());
+            }
+        });
+    }
+
+    // ==================== Helper Methods ====================
+
+    private SubscriptionPlan lookupPlan(Long tenantId, SubscriptionPlan fallback) {
+        try {
+            return subscriptionRepository.findPlanByTenantId(tenantId).orElse(SubscriptionPlan.FREE);
+        } catch (RuntimeException e) {
+            // Keep serving on the last known plan; the lookup is retried after the next refresh interval
+            log.warn("Could not load subscription plan for tenant {}: {}", tenantId, e.getMessage());
+            return fallback;
+        }
+    }
+
+    private record PlanLimits(double requestsPerSecond, int burst, int maxConcurrent) {
+
+        long emissionIntervalNanos() {
+            return Math.max(1, (long) (NANOS_PER_SECOND / requestsPerSecond));
+        }
+    }
+
+    /**
+     * Outcome of {@link #acquire}, carrying the values for the rate-limit response headers.
+     */
+    public record Decision(boolean allowed, boolean concurrencyExceeded, int limit, long remaining,
+                           long resetSeconds, long retryAfterSeconds, AtomicInteger inFlight) {
+
+        public void release() {
+            if (allowed) {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private final class TenantLimiter {
+
+        private final Long tenantId;
+        private final AtomicLong fullAt = new AtomicLong(System.nanoTime());
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong refreshAt;
+        private volatile SubscriptionPlan plan;
+
+        private TenantLimiter(Long tenantId, SubscriptionPlan plan) {
+            this.tenantId = tenantId;
+            this.plan = plan;
+            this.refreshAt = new AtomicLong(System.nanoTime() + planRefresh.toNanos());
+        }
+
+        Decision acquire() {
+            refreshIfDue();
+            PlanLimits current = planLimits.get(plan);
+
+            if (inFlight.incrementAndGet() > current.maxConcurrent()) {
+                inFlight.decrementAndGet();
+                return new Decision(false, true, current.burst(), 0, 1, 1, inFlight);
+            }
+
+            long interval = current.emissionIntervalNanos();
+            long capacity = interval * current.burst();
+            while (true) {
+                long now = System.nanoTime();
+                long previous = fullAt.get();
+                long next = (previous - now > 0 ? previous : now) + interval;
+                long backlog = next - now;
+                if (backlog > capacity) {
+                    inFlight.decrementAndGet();
+                    long wait = backlog - capacity;
+                    return new Decision(false, false, current.burst(), 0, toSeconds(backlog - interval),
+                        Math.max(1, toSeconds(wait)), inFlight);
+                }
+                if (fullAt.compareAndSet(previous, next)) {
+                    return new Decision(true, false, current.burst(), (capacity - backlog) / interval,
+                        toSeconds(backlog), 0, inFlight);
+                }
+            }
+        }
+
+        private void refreshIfDue() {
+            long due = refreshAt.get();
+            long now = System.nanoTime();
+            // Only the thread that moves the deadline reloads; the rest carry on with the current limits
+            if (now - due >= 0 && refreshAt.compareAndSet(due, now + planRefresh.toNanos())) {
+                plan = lookupPlan(tenantId, plan);
+            }
+        }
+
+        private static long toSeconds(long nanos) {
+            return (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.worksyncx.hrms.security.jwt;
 
+import com.worksyncx.hrms.security.AccessLogFilter;
 import com.worksyncx.hrms.security.TenantContext;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -33,18 +34,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
-            String authHeader = request.getHeader("Authorization");
-            logger.info("JWT Filter - Path: {}, Authorization Header: {}",
-                request.getRequestURI(),
-                authHeader != null ? "Present (length=" + authHeader.length() + ")" : "MISSING");
-
             String jwt = parseJwt(request);
 
             if (jwt != null) {
-                logger.info("JWT Filter - Token parsed, length: {}, first 20 chars: {}",
-                    jwt.length(),
-                    jwt.length() > 20 ? jwt.substring(0, 20) + "..." : jwt);
-
                 if (jwtUtils.validateJwtToken(jwt)) {
                     String username = jwtUtils.getUserNameFromJwtToken(jwt);
                     Long userId = jwtUtils.getUserIdFromJwtToken(jwt);
@@ -53,6 +45,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     // Set tenant context BEFORE loading user details
                     TenantContext.setTenantId(tenantId);
                     TenantContext.setUserId(userId);
+                    request.setAttribute(AccessLogFilter.TENANT_ATTRIBUTE, tenantId);
+                    request.setAttribute(AccessLogFilter.USER_ATTRIBUTE, userId);
 
                     UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
@@ -66,12 +60,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                     SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                    logger.info("JWT Filter - Authentication set for user: {} with tenantId: {}", username, tenantId);
                 } else {
-                    logger.warn("JWT Filter - Token validation FAILED");
+                    logger.debug("JWT Filter - Token validation failed for {}", request.getRequestURI());
                 }
-            } else {
-                logger.warn("JWT Filter - No JWT token found in request");
             }
         } catch (Exception e) {
             logger.error("JWT Filter - Cannot set user authentication: {}", e.getMessage(), e);
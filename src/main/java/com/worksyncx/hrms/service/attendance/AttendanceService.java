@@ -9,14 +9,22 @@ import com.worksyncx.hrms.dto.shift.ShiftResponse;
 import com.worksyncx.hrms.entity.AttendanceRecord;
 import com.worksyncx.hrms.entity.Employee;
 import com.worksyncx.hrms.enums.AttendanceStatus;
+import com.worksyncx.hrms.enums.DomainEventType;
 import com.worksyncx.hrms.repository.AttendanceRecordRepository;
 import com.worksyncx.hrms.repository.EmployeeRepository;
+import com.worksyncx.hrms.repository.FieldSelectionRepository;
 import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.calendar.WorkingDayCalendarService;
+import com.worksyncx.hrms.service.outbox.OutboxService;
 import com.worksyncx.hrms.service.shift.ShiftService;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,18 +33,24 @@ import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
+@Observed(name = "hrms.service", lowCardinalityKeyValues = {"module", "ATTENDANCE"})
 @RequiredArgsConstructor
 @Slf4j
 public class AttendanceService {
 
     private final AttendanceRecordRepository attendanceRecordRepository;
+    private final FieldSelectionRepository fieldSelectionRepository;
     private final EmployeeRepository employeeRepository;
     private final ShiftService shiftService;
+    private final WorkingDayCalendarService workingDayCalendarService;
+    private final OutboxService outboxService;
 
     @Transactional
     public AttendanceResponse checkIn(Long employeeId, CheckInRequest request) {
@@ -94,7 +108,9 @@ public class AttendanceService {
         }
 
         record = attendanceRecordRepository.save(record);
-        return mapToResponse(record);
+        AttendanceResponse response = mapToResponse(record);
+        outboxService.append(record.getTenantId(), DomainEventType.ATTENDANCE_CHECKED_IN, record.getId(), response);
+        return response;
     }
 
     @Transactional
@@ -136,7 +152,9 @@ public class AttendanceService {
 
         record.setUpdatedBy(TenantContext.getUserId());
         record = attendanceRecordRepository.save(record);
-        return mapToResponse(record);
+        AttendanceResponse response = mapToResponse(record);
+        outboxService.append(record.getTenantId(), DomainEventType.ATTENDANCE_CHECKED_OUT, record.getId(), response);
+        return response;
     }
 
     @Transactional
@@ -161,14 +179,16 @@ public class AttendanceService {
         record.setCheckInTime(request.getCheckInTime());
         record.setCheckOutTime(request.getCheckOutTime());
         record.setWorkHours(request.getWorkHours());
-        record.setStatus(request.getStatus() != null ? request.getStatus() : AttendanceStatus.PRESENT);
+        record.setStatus(resolveStatus(tenantId, request));
         record.setLocation(request.getLocation());
         record.setNotes(request.getNotes());
         record.setMarkedBy(TenantContext.getUserId());
         record.setCreatedBy(TenantContext.getUserId());
 
         record = attendanceRecordRepository.save(record);
-        return mapToResponse(record);
+        AttendanceResponse response = mapToResponse(record);
+        outboxService.append(record.getTenantId(), DomainEventType.ATTENDANCE_MARKED, record.getId(), response);
+        return response;
     }
 
     @Transactional(readOnly = true)
@@ -220,7 +240,9 @@ public class AttendanceService {
         record.setUpdatedBy(TenantContext.getUserId());
 
         record = attendanceRecordRepository.save(record);
-        return mapToResponse(record);
+        AttendanceResponse response = mapToResponse(record);
+        outboxService.append(record.getTenantId(), DomainEventType.ATTENDANCE_UPDATED, record.getId(), response);
+        return response;
     }
 
     // ==================== Paginated Methods ====================
@@ -243,6 +265,57 @@ public class AttendanceService {
         return mapToPageResponse(page);
     }
 
+    // ==================== Sparse Fieldsets ====================
+
+    /**
+     * Only the requested columns of attendance in [startDate, endDate], optionally for one employee.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAttendanceFields(Long employeeId, LocalDate startDate, LocalDate endDate, String fields) {
+        Long tenantId = TenantContext.getTenantId();
+        List<String> columns = fieldSelectionRepository.resolveFields(AttendanceRecord.class, AttendanceResponse.class, fields);
+        return fieldSelectionRepository.findFields(AttendanceRecord.class,
+            attendanceFilter(tenantId, employeeId, startDate, endDate), columns, Sort.unsorted());
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> getAttendanceFieldsPaginated(
+        Long employeeId, LocalDate startDate, LocalDate endDate, String fields, Pageable pageable
+    ) {
+        Long tenantId = TenantContext.getTenantId();
+        List<String> columns = fieldSelectionRepository.resolveFields(AttendanceRecord.class, AttendanceResponse.class, fields);
+        return PageResponse.from(fieldSelectionRepository.findFields(AttendanceRecord.class,
+            attendanceFilter(tenantId, employeeId, startDate, endDate), columns, pageable));
+    }
+
+    private Specification<AttendanceRecord> attendanceFilter(Long tenantId, Long employeeId, LocalDate startDate, LocalDate endDate) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("tenantId"), tenantId));
+            if (employeeId != null) {
+                predicates.add(cb.equal(root.get("employeeId"), employeeId));
+            }
+            predicates.add(cb.between(root.get("attendanceDate"), startDate, endDate));
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * An absence cannot fall on a weekly off or holiday; record those days as what they are
+     * so absence counts used by payroll stay correct.
+     */
+    private AttendanceStatus resolveStatus(Long tenantId, AttendanceRequest request) {
+        AttendanceStatus status = request.getStatus() != null ? request.getStatus() : AttendanceStatus.PRESENT;
+        if (status != AttendanceStatus.ABSENT) {
+            return status;
+        }
+        return workingDayCalendarService
+            .getNonWorkingStatus(tenantId, request.getEmployeeId(), request.getAttendanceDate())
+            .orElse(status);
+    }
+
     // ==================== Mappers ====================
 
     private PageResponse<AttendanceResponse> mapToPageResponse(Page<AttendanceRecord> page) {
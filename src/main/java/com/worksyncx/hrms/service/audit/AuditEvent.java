@@ -0,0 +1,14 @@
+package com.worksyncx.hrms.service.audit;
+
+import com.worksyncx.hrms.enums.AuditAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * One audit_events row.
+ *
+ * @param changes JSON object of {@code {"field": {"old": ..., "new": ...}}}, serialised when captured
+ */
+public record AuditEvent(Long tenantId, String entityType, Long entityId, AuditAction action, String changes,
+                         Long changedBy, LocalDateTime changedAt) {
+}
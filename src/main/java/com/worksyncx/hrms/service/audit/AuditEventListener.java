@@ -0,0 +1,314 @@
+package com.worksyncx.hrms.service.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worksyncx.hrms.entity.base.Audited;
+import com.worksyncx.hrms.entity.base.BaseEntity;
+import com.worksyncx.hrms.enums.AuditAction;
+import com.worksyncx.hrms.security.TenantContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.event.spi.PreCollectionRecreateEvent;
+import org.hibernate.event.spi.PreCollectionRecreateEventListener;
+import org.hibernate.event.spi.PreCollectionRemoveEvent;
+import org.hibernate.event.spi.PreCollectionRemoveEventListener;
+import org.hibernate.event.spi.PreCollectionUpdateEvent;
+import org.hibernate.event.spi.PreCollectionUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Captures field-level changes to {@link Audited} entities as Hibernate flushes them.
+ *
+ * Diffs are taken from the state Hibernate already holds (loaded state against flushed state), so
+ * no extra reads are needed; many-to-many collections such as User.roles and Role.permissions are
+ * recorded as the ids before and after. Events are collected per transaction and handed to
+ * {@link AuditLogWriter} only once it commits, so rolled-back changes are never audited. Bulk JPQL
+ * and native updates bypass Hibernate's events and are not captured.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditEventListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener,
+        PreCollectionRecreateEventListener, PreCollectionUpdateEventListener, PreCollectionRemoveEventListener {
+
+    /** Already stored on every row as created_at/updated_at and changed_by */
+    private static final Set<String> ALWAYS_IGNORED = Set.of("createdAt", "updatedAt", "createdBy", "updatedBy");
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final AuditLogWriter auditLogWriter;
+    private final ObjectMapper objectMapper;
+
+    /** Audit events of the current transaction, bound as a transaction resource */
+    private static final class Pending {
+        private final List<AuditEvent> events = new ArrayList<>();
+        private final Map<String, CollectionChange> collections = new LinkedHashMap<>();
+    }
+
+    private record CollectionChange(Long tenantId, String entityType, Long entityId, String field,
+                                    List<Object> before, List<Object> after, Long changedBy, LocalDateTime changedAt) {}
+
+    @PostConstruct
+    void register() {
+        if (!auditLogWriter.isEnabled()) {
+            return;
+        }
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.PRE_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.PRE_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.PRE_COLLECTION_REMOVE, this);
+    }
+
+    // ==================== Entity Events ====================
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        Audited audited = auditedOf(event.getEntity());
+        if (audited != null) {
+            record(event.getEntity(), event.getId(), event.getPersister(), AuditAction.CREATE,
+                null, event.getState(), null, audited);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Audited audited = auditedOf(event.getEntity());
+        if (audited != null) {
+            record(event.getEntity(), event.getId(), event.getPersister(), AuditAction.UPDATE,
+                event.getOldState(), event.getState(), event.getDirtyProperties(), audited);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        Audited audited = auditedOf(event.getEntity());
+        if (audited != null) {
+            record(event.getEntity(), event.getId(), event.getPersister(), AuditAction.DELETE,
+                event.getDeletedState(), null, null, audited);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    // ==================== Collection Events ====================
+
+    @Override
+    public void onPreRecreateCollection(PreCollectionRecreateEvent event) {
+        recordCollection(event, List.of(), elementIds(event.getCollection(), event.getSession()));
+    }
+
+    @Override
+    public void onPreUpdateCollection(PreCollectionUpdateEvent event) {
+        recordCollection(event, snapshotIds(event.getCollection(), event.getSession()),
+            elementIds(event.getCollection(), event.getSession()));
+    }
+
+    @Override
+    public void onPreRemoveCollection(PreCollectionRemoveEvent event) {
+        recordCollection(event, snapshotIds(event.getCollection(), event.getSession()), List.of());
+    }
+
+    // ==================== Capture ====================
+
+    private void record(Object entity, Object id, EntityPersister persister, AuditAction action,
+                        Object[] oldState, Object[] newState, int[] dirtyProperties, Audited audited) {
+        String[] names = persister.getPropertyNames();
+        Type[] types = persister.getPropertyTypes();
+        List<String> ignored = Arrays.asList(audited.ignore());
+
+        Map<String, Map<String, Object>> changes = new LinkedHashMap<>();
+        for (int i : dirtyProperties != null ? dirtyProperties : allIndexes(names.length)) {
+            // Collections are recorded by the collection events, other associations by their own id column
+            if (types[i].isAssociationType() || ALWAYS_IGNORED.contains(names[i]) || ignored.contains(names[i])) {
+                continue;
+            }
+            Object before = oldState != null ? oldState[i] : null;
+            Object after = newState != null ? newState[i] : null;
+            if (action == AuditAction.UPDATE && oldState != null && Objects.equals(before, after)) {
+                continue;
+            }
+            Map<String, Object> change = new LinkedHashMap<>();
+            if (oldState != null) {
+                change.put("old", before);
+            }
+            if (action != AuditAction.DELETE) {
+                change.put("new", after);
+            }
+            changes.put(names[i], change);
+        }
+        if (changes.isEmpty() && action == AuditAction.UPDATE) {
+            return;
+        }
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(changes);
+        } catch (JsonProcessingException e) {
+            log.error("Cannot serialise audit changes of {} {}", persister.getEntityName(), id, e);
+            return;
+        }
+        AuditEvent auditEvent = new AuditEvent(tenantIdOf(entity), entityTypeOf(entity), id instanceof Long value ? value : null,
+            action, json, TenantContext.getUserId(), LocalDateTime.now());
+        collect(pending -> pending.events.add(auditEvent));
+    }
+
+    private void recordCollection(AbstractCollectionEvent event, List<Object> before, List<Object> after) {
+        Object owner = event.getAffectedOwnerOrNull();
+        Audited audited = auditedOf(owner);
+        if (audited == null || !(event.getAffectedOwnerIdOrNull() instanceof Long ownerId)) {
+            return;
+        }
+        String role = event.getCollection().getRole();
+        String field = role.substring(role.lastIndexOf('.') + 1);
+        if (Arrays.asList(audited.ignore()).contains(field)) {
+            return;
+        }
+
+        // A replaced collection arrives as a remove and a recreate; keep the first before and the last after
+        String key = entityTypeOf(owner) + "#" + ownerId + "#" + field;
+        CollectionChange change = new CollectionChange(tenantIdOf(owner), entityTypeOf(owner), ownerId, field,
+            before, after, TenantContext.getUserId(), LocalDateTime.now());
+        collect(pending -> pending.collections.merge(key, change,
+            (first, latest) -> new CollectionChange(first.tenantId(), first.entityType(), first.entityId(), first.field(),
+                first.before(), latest.after(), latest.changedBy(), latest.changedAt())));
+    }
+
+    /**
+     * Add to the current transaction's events, or write straight away when there is no Spring transaction.
+     */
+    private void collect(Consumer<Pending> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Pending single = new Pending();
+            change.accept(single);
+            handOver(single);
+            return;
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = bindPending();
+        }
+        change.accept(pending);
+    }
+
+    private Pending bindPending() {
+        Pending created = new Pending();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(AuditEventListener.this);
+                if (status == STATUS_COMMITTED) {
+                    handOver(created);
+                }
+            }
+        });
+        return created;
+    }
+
+    private void handOver(Pending pending) {
+        List<AuditEvent> events = new ArrayList<>(pending.events);
+        for (CollectionChange change : pending.collections.values()) {
+            if (change.before().equals(change.after())) {
+                continue;
+            }
+            Map<String, Object> diff = new LinkedHashMap<>();
+            diff.put("old", change.before());
+            diff.put("new", change.after());
+            try {
+                events.add(new AuditEvent(change.tenantId(), change.entityType(), change.entityId(), AuditAction.UPDATE,
+                    objectMapper.writeValueAsString(Map.of(change.field(), diff)), change.changedBy(), change.changedAt()));
+            } catch (JsonProcessingException e) {
+                log.error("Cannot serialise audit changes of {} {}", change.entityType(), change.entityId(), e);
+            }
+        }
+        if (!events.isEmpty()) {
+            auditLogWriter.enqueue(events);
+        }
+    }
+
+    // ==================== Helpers ====================
+
+    private static Audited auditedOf(Object entity) {
+        return entity != null ? entity.getClass().getAnnotation(Audited.class) : null;
+    }
+
+    private static String entityTypeOf(Object entity) {
+        Class<?> type = entity.getClass();
+        // Lazy proxies subclass the entity
+        while (type.getSuperclass() != null && !type.isAnnotationPresent(jakarta.persistence.Entity.class)) {
+            type = type.getSuperclass();
+        }
+        return type.getSimpleName();
+    }
+
+    private static Long tenantIdOf(Object entity) {
+        return entity instanceof BaseEntity base && base.getTenantId() != null ? base.getTenantId() : TenantContext.getTenantId();
+    }
+
+    private static List<Object> elementIds(PersistentCollection<?> collection, EventSource session) {
+        return collection instanceof Collection<?> elements ? idsOf(elements, session) : List.of();
+    }
+
+    private static List<Object> snapshotIds(PersistentCollection<?> collection, EventSource session) {
+        Object snapshot = collection.getStoredSnapshot();
+        if (snapshot instanceof Map<?, ?> map) {
+            // PersistentSet keeps its snapshot as a map of element to element
+            return idsOf(map.keySet(), session);
+        }
+        return snapshot instanceof Collection<?> elements ? idsOf(elements, session) : List.of();
+    }
+
+    private static List<Object> idsOf(Collection<?> elements, EventSource session) {
+        List<Object> ids = new ArrayList<>(elements.size());
+        for (Object element : elements) {
+            Object id = element instanceof BaseEntity base ? base.getId() : session.getContextEntityIdentifier(element);
+            ids.add(id != null ? id : String.valueOf(element));
+        }
+        ids.sort(Comparator.comparing((Object id) -> id instanceof Long value ? value : Long.MAX_VALUE)
+            .thenComparing(String::valueOf));
+        return ids;
+    }
+
+    private static int[] allIndexes(int count) {
+        int[] indexes = new int[count];
+        Arrays.setAll(indexes, i -> i);
+        return indexes;
+    }
+}
@@ -0,0 +1,317 @@
+package com.worksyncx.hrms.service.audit;
+
+import com.worksyncx.hrms.service.shard.ShardDirectory;
+import com.worksyncx.hrms.util.RingBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes audit events to audit_events off the request path.
+ *
+ * Committed transactions drop their events into a lock-free {@link RingBuffer};
+ * one writer thread drains it every {@code flush-interval}, or as soon as a batch is ready, and loads each
+ * batch with a single COPY. When the buffer is full the caller waits up to {@code max-enqueue-wait} for
+ * room and then writes its own events inline, so a slow database slows writers down rather than losing
+ * audit rows. On shutdown the buffer is flushed before the connection pools close.
+ *
+ * audit_events is partitioned by month; the writer creates the partitions it is about to write to.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditLogWriter implements SmartLifecycle {
+
+    private static final String COPY_SQL = "COPY audit_events (tenant_id, entity_type, entity_id, action, changes, "
+        + "changed_by, changed_at) FROM STDIN WITH (FORMAT csv)";
+
+    private final DataSource dataSource;
+    private final ObjectProvider<ShardDirectory> shardDirectory;
+
+    @Value("${audit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${audit.buffer-capacity:65536}")
+    private int bufferCapacity;
+
+    @Value("${audit.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${audit.flush-interval:200ms}")
+    private Duration flushInterval;
+
+    @Value("${audit.max-enqueue-wait:50ms}")
+    private Duration maxEnqueueWait;
+
+    @Value("${audit.shutdown-timeout:10s}")
+    private Duration shutdownTimeout;
+
+    private volatile RingBuffer<AuditEvent> buffer;
+    private volatile Thread writer;
+    private volatile boolean running;
+
+    /** Shard key and month of partitions known to exist */
+    private final Set<String> partitions = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong writtenInline = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Hand over the events of a committed transaction.
+     */
+    public void enqueue(List<AuditEvent> events) {
+        RingBuffer<AuditEvent> current = buffer;
+        if (!running || current == null) {
+            writeInline(events);
+            return;
+        }
+
+        int offered = offer(current, events, 0);
+        if (offered < events.size()) {
+            // Full: give the writer a chance to make room before doing the work here
+            long deadline = System.nanoTime() + maxEnqueueWait.toNanos();
+            while (offered < events.size() && System.nanoTime() < deadline) {
+                LockSupport.unpark(writer);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                offered = offer(current, events, offered);
+            }
+            if (offered < events.size()) {
+                log.warn("Audit buffer full ({} events); writing {} events inline", current.capacity(),
+                    events.size() - offered);
+                writeInline(events.subList(offered, events.size()));
+                return;
+            }
+        }
+        if (current.size() >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    public int getPending() {
+        RingBuffer<AuditEvent> current = buffer;
+        return current != null ? current.size() : 0;
+    }
+
+    public long getWritten() {
+        return written.get();
+    }
+
+    public long getWrittenInline() {
+        return writtenInline.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    // ==================== Lifecycle ====================
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            log.info("Audit log disabled");
+            return;
+        }
+        buffer = new RingBuffer<>(bufferCapacity);
+        running = true;
+        writer = Thread.ofPlatform().name("audit-writer").daemon().start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        Thread current = writer;
+        running = false;
+        if (current == null) {
+            return;
+        }
+        LockSupport.unpark(current);
+        try {
+            current.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (current.isAlive()) {
+            log.warn("Audit writer did not finish within {}; {} events not written", shutdownTimeout, getPending());
+        } else {
+            // Events offered while the writer was finishing its last pass
+            List<AuditEvent> rest = new ArrayList<>();
+            buffer.drainTo(rest, Integer.MAX_VALUE);
+            if (!rest.isEmpty()) {
+                writeInline(rest);
+            }
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Started before and stopped after the web server, so requests still in flight at shutdown are flushed.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    // ==================== Writer ====================
+
+    private void run() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (true) {
+            batch.clear();
+            buffer.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                if (!running) {
+                    return;
+                }
+                LockSupport.parkNanos(flushInterval.toNanos());
+                continue;
+            }
+            writeWithRetry(batch);
+        }
+    }
+
+    private void writeWithRetry(List<AuditEvent> batch) {
+        while (true) {
+            try {
+                write(batch);
+                written.addAndGet(batch.size());
+                return;
+            } catch (SQLException | IOException | RuntimeException e) {
+                if (!running) {
+                    failed.addAndGet(batch.size());
+                    log.error("Dropping {} audit events at shutdown: {}", batch.size(), e.getMessage());
+                    return;
+                }
+                log.error("Writing {} audit events failed, retrying: {}", batch.size(), e.getMessage());
+                LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+            }
+        }
+    }
+
+    private void writeInline(List<AuditEvent> events) {
+        try {
+            write(events);
+            writtenInline.addAndGet(events.size());
+        } catch (SQLException | IOException | RuntimeException e) {
+            failed.addAndGet(events.size());
+            log.error("Writing {} audit events failed: {}", events.size(), e.getMessage());
+        }
+    }
+
+    private void write(List<AuditEvent> events) throws SQLException, IOException {
+        for (Map.Entry<String, List<AuditEvent>> shard : byShard(events).entrySet()) {
+            DataSource target = shard.getKey() != null ? shardDirectory.getObject().getDataSource(shard.getKey()) : dataSource;
+            try (Connection connection = target.getConnection()) {
+                ensurePartitions(connection, shard.getKey(), shard.getValue());
+                connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn(COPY_SQL, new StringReader(toCsv(shard.getValue())));
+            }
+        }
+    }
+
+    /**
+     * Events grouped by the shard holding their tenant; a single null key when sharding is off.
+     */
+    private Map<String, List<AuditEvent>> byShard(List<AuditEvent> events) {
+        ShardDirectory shards = shardDirectory.getIfAvailable();
+        if (shards == null) {
+            Map<String, List<AuditEvent>> all = new LinkedHashMap<>();
+            all.put(null, events);
+            return all;
+        }
+        Map<String, List<AuditEvent>> grouped = new LinkedHashMap<>();
+        for (AuditEvent event : events) {
+            String shardKey = event.tenantId() != null
+                ? shards.assignmentFor(event.tenantId()).shardKey()
+                : ShardDirectory.DEFAULT_SHARD;
+            grouped.computeIfAbsent(shardKey, key -> new ArrayList<>()).add(event);
+        }
+        return grouped;
+    }
+
+    private void ensurePartitions(Connection connection, String shardKey, List<AuditEvent> events) throws SQLException {
+        Set<YearMonth> months = new TreeSet<>();
+        for (AuditEvent event : events) {
+            YearMonth month = YearMonth.from(event.changedAt());
+            months.add(month);
+            // Stay a month ahead so the first writes after midnight on the 1st do not wait for DDL
+            months.add(month.plusMonths(1));
+        }
+        for (YearMonth month : months) {
+            String key = shardKey + ":" + month;
+            if (partitions.contains(key)) {
+                continue;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS audit_events_y%dm%02d PARTITION OF audit_events "
+                        + "FOR VALUES FROM ('%s-01') TO ('%s-01')",
+                    month.getYear(), month.getMonthValue(), month, month.plusMonths(1)));
+            } catch (SQLException e) {
+                // Another instance created it first
+                if (!"42P07".equals(e.getSQLState())) {
+                    throw e;
+                }
+            }
+            partitions.add(key);
+        }
+    }
+
+    private static String toCsv(List<AuditEvent> events) {
+        StringBuilder csv = new StringBuilder(events.size() * 256);
+        for (AuditEvent event : events) {
+            csv.append(event.tenantId() != null ? event.tenantId() : "").append(',');
+            appendQuoted(csv, event.entityType()).append(',');
+            csv.append(event.entityId() != null ? event.entityId() : "").append(',');
+            csv.append(event.action().name()).append(',');
+            appendQuoted(csv, event.changes()).append(',');
+            csv.append(event.changedBy() != null ? event.changedBy() : "").append(',');
+            csv.append(event.changedAt()).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static StringBuilder appendQuoted(StringBuilder csv, String value) {
+        return csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private static int offer(RingBuffer<AuditEvent> buffer, List<AuditEvent> events, int from) {
+        int offered = from;
+        while (offered < events.size() && buffer.offer(events.get(offered))) {
+            offered++;
+        }
+        return offered;
+    }
+}
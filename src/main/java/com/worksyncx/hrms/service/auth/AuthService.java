@@ -27,7 +27,11 @@ import com.worksyncx.hrms.repository.RoleRepository;
 import com.worksyncx.hrms.repository.SubscriptionRepository;
 import com.worksyncx.hrms.repository.TenantRepository;
 import com.worksyncx.hrms.repository.UserRepository;
+import com.worksyncx.hrms.security.TenantContext;
 import com.worksyncx.hrms.security.jwt.JwtUtils;
+import com.worksyncx.hrms.service.hierarchy.OrgHierarchyService;
+import com.worksyncx.hrms.service.shard.ShardDirectory;
+import io.micrometer.observation.annotation.Observed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -46,6 +50,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
+@Observed(name = "hrms.service", lowCardinalityKeyValues = {"module", "AUTH"})
 public class AuthService {
 
     @Autowired
@@ -81,7 +86,19 @@ public class AuthService {
     @Autowired
     private SubscriptionRepository subscriptionRepository;
 
+    @Autowired
+    private OrgHierarchyService orgHierarchyService;
+
+    // Only present with sharding enabled
+    @Autowired(required = false)
+    private ShardDirectory shardDirectory;
+
     public AuthResponse login(LoginRequest loginRequest) {
+        // The user is on their tenant's shard, and login is the one request that arrives without a tenant
+        if (shardDirectory != null) {
+            shardDirectory.locateTenantByEmail(loginRequest.getEmail()).ifPresent(TenantContext::setTenantId);
+        }
+
         Authentication authentication = authenticationManager.authenticate(
             new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword())
         );
@@ -204,7 +221,9 @@ public class AuthService {
                 newDept.setDescription("Default administration department");
                 newDept.setIsActive(true);
                 newDept.setCreatedBy(userId);
-                return departmentRepository.save(newDept);
+                Department saved = departmentRepository.save(newDept);
+                orgHierarchyService.addDepartment(tenantId, saved.getId(), null);
+                return saved;
             });
 
         // Create default designation if none exists
@@ -240,7 +259,8 @@ public class AuthService {
         employee.setBasicSalary(BigDecimal.ZERO);
         employee.setCurrency("USD");
         employee.setCreatedBy(user.getId());
-        employeeRepository.save(employee);
+        employee = employeeRepository.save(employee);
+        orgHierarchyService.addEmployee(tenantId, employee.getId(), null);
 
         // Generate token
         Authentication authentication = authenticationManager.authenticate(
@@ -0,0 +1,117 @@
+package com.worksyncx.hrms.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worksyncx.hrms.enums.CacheName;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Cluster-wide invalidation of in-process caches over Postgres LISTEN/NOTIFY.
+ *
+ * Writers publish from inside their transaction with {@code pg_notify}, so Postgres delivers the event
+ * only if and when the write commits, and never before the data is visible. Every instance listens on
+ * a dedicated connection ({@link CacheInvalidationListener}) and hands events from other instances to
+ * the cache's subscribers. The writing instance keeps updating its own cache through its after-commit
+ * hooks and ignores its own events.
+ *
+ * When the listener is not connected, subscribers are reset on a fixed TTL instead, and once more
+ * after it reconnects, since events sent in between are lost.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationBus {
+
+    public static final String INSTANCE_ID = UUID.randomUUID().toString();
+
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${cache.invalidation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.invalidation.channel:hrms_cache_invalidation}")
+    private String channel;
+
+    private final Map<CacheName, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private record Subscriber(Consumer<CacheInvalidationEvent> onEvent, Runnable onReset) {}
+
+    /**
+     * @param onEvent applies an invalidation made by another instance
+     * @param onReset drops everything the cache holds, used when events may have been missed
+     */
+    public void subscribe(CacheName cache, Consumer<CacheInvalidationEvent> onEvent, Runnable onReset) {
+        subscribers.computeIfAbsent(cache, name -> new CopyOnWriteArrayList<>()).add(new Subscriber(onEvent, onReset));
+    }
+
+    /**
+     * Tell other instances about a change. Call inside the writing transaction: the event is sent on
+     * commit and discarded on rollback. Outside a transaction it is sent immediately.
+     */
+    public void publish(CacheName cache, Long tenantId, Object key) {
+        if (!enabled) {
+            return;
+        }
+        CacheInvalidationEvent event = new CacheInvalidationEvent(INSTANCE_ID, tenantId, cache,
+            key != null ? key.toString() : null, System.currentTimeMillis());
+        try {
+            jdbcTemplate.query(NOTIFY_SQL, (ResultSetExtractor<Void>) rs -> null, channel, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize cache invalidation " + event, e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    // ==================== Delivery ====================
+
+    void dispatch(String payload) {
+        CacheInvalidationEvent event;
+        try {
+            event = objectMapper.readValue(payload, CacheInvalidationEvent.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed cache invalidation: {}", payload);
+            return;
+        }
+        if (INSTANCE_ID.equals(event.origin()) || event.cache() == null) {
+            return;
+        }
+
+        log.debug("Cache invalidation from {}: {} tenant {} key {}", event.origin(), event.cache(), event.tenantId(), event.key());
+        for (Subscriber subscriber : subscribers.getOrDefault(event.cache(), List.of())) {
+            try {
+                subscriber.onEvent().accept(event);
+            } catch (RuntimeException e) {
+                // The entry may now be stale; dropping the whole cache is always safe
+                log.warn("Failed to apply {} invalidation, resetting the cache", event.cache(), e);
+                subscriber.onReset().run();
+            }
+        }
+    }
+
+    void resetAll() {
+        subscribers.forEach((cache, list) -> list.forEach(subscriber -> subscriber.onReset().run()));
+        log.info("Reset {} cluster-invalidated caches", subscribers.size());
+    }
+}
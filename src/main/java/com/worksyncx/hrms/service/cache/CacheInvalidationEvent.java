@@ -0,0 +1,15 @@
+package com.worksyncx.hrms.service.cache;
+
+import com.worksyncx.hrms.enums.CacheName;
+
+/**
+ * One invalidation, as carried in a NOTIFY payload.
+ *
+ * @param origin   instance that made the change; it has already updated its own cache
+ * @param tenantId tenant whose cache entry changed, or null for shared data
+ * @param cache    which cache
+ * @param key      entry within the tenant's cache (an id, a year, a resource type), or null for all of it
+ * @param version  publish time in epoch milliseconds, for ordering and diagnostics
+ */
+public record CacheInvalidationEvent(String origin, Long tenantId, CacheName cache, String key, long version) {
+}
@@ -0,0 +1,166 @@
+package com.worksyncx.hrms.service.cache;
+
+import com.worksyncx.hrms.service.shard.ShardDirectory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the LISTEN connection for {@link CacheInvalidationBus}.
+ *
+ * The connection is opened outside the Hikari pool, so it never takes a slot from request handling,
+ * and is re-opened after failures with a short backoff. While it is down, caches are reset every
+ * {@code cache.invalidation.fallback-ttl}, bounding staleness to that TTL.
+ *
+ * With sharding, a NOTIFY is sent on whichever shard the writing transaction used, so there is one
+ * connection per shard.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationListener implements SmartLifecycle {
+
+    private static final int POLL_TIMEOUT_MS = 5_000;
+    private static final long RECONNECT_DELAY_MS = 5_000;
+
+    private final CacheInvalidationBus bus;
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectProvider<ShardDirectory> shardDirectory;
+
+    @Value("${cache.invalidation.fallback-ttl:10m}")
+    private Duration fallbackTtl;
+
+    private record Endpoint(String name, String url, String username, String password) {}
+
+    private volatile boolean running;
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+    private final List<Thread> threads = new ArrayList<>();
+
+    @Override
+    public void start() {
+        if (!bus.isEnabled()) {
+            log.info("Cluster cache invalidation disabled; in-process caches are local to this instance");
+            return;
+        }
+        running = true;
+        for (Endpoint endpoint : endpoints()) {
+            threads.add(Thread.ofPlatform().name("cache-invalidation-listener-" + endpoint.name()).daemon()
+                .start(() -> listen(endpoint)));
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        connections.keySet().forEach(this::closeQuietly);
+        threads.forEach(Thread::interrupt);
+        threads.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // ==================== Listen Loop ====================
+
+    private List<Endpoint> endpoints() {
+        List<Endpoint> endpoints = new ArrayList<>();
+        endpoints.add(new Endpoint(ShardDirectory.DEFAULT_SHARD, dataSourceProperties.determineUrl(),
+            dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword()));
+        ShardDirectory shards = shardDirectory.getIfAvailable();
+        if (shards != null) {
+            shards.getPools().forEach((key, pool) -> {
+                if (!ShardDirectory.DEFAULT_SHARD.equals(key)) {
+                    endpoints.add(new Endpoint(key, pool.getJdbcUrl(), pool.getUsername(), pool.getPassword()));
+                }
+            });
+        }
+        return endpoints;
+    }
+
+    private void listen(Endpoint endpoint) {
+        boolean missedEvents = false;
+        long lastReset = System.currentTimeMillis();
+
+        while (running) {
+            try {
+                Connection connection = DriverManager.getConnection(endpoint.url(), endpoint.username(), endpoint.password());
+                connections.put(endpoint.name(), connection);
+                try (Statement statement = connection.createStatement()) {
+                    // Quoted, so the name matches pg_notify's exactly
+                    statement.execute("LISTEN \"" + bus.getChannel().replace("\"", "\"\"") + "\"");
+                }
+                log.info("Listening for cache invalidations on channel {} ({}) as instance {}",
+                    bus.getChannel(), endpoint.name(), CacheInvalidationBus.INSTANCE_ID);
+
+                lastReset = System.currentTimeMillis();
+                if (missedEvents) {
+                    bus.resetAll();
+                    missedEvents = false;
+                }
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            bus.dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Cache invalidation listener disconnected from {}: {}", endpoint.name(), e.getMessage());
+                missedEvents = true;
+            } finally {
+                closeQuietly(endpoint.name());
+            }
+
+            // Not listening: fall back to expiring everything on the TTL
+            if (running && System.currentTimeMillis() - lastReset >= fallbackTtl.toMillis()) {
+                bus.resetAll();
+                lastReset = System.currentTimeMillis();
+            }
+            sleepBeforeReconnect();
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private void closeQuietly(String endpoint) {
+        Connection current = connections.remove(endpoint);
+        if (current != null) {
+            try {
+                current.close();
+            } catch (SQLException e) {
+                log.debug("Error closing cache invalidation connection", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.worksyncx.hrms.service.cache;
+
+import com.worksyncx.hrms.config.ReplicaRoutingDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs the loader of an in-process cache on the primary.
+ *
+ * Caches are typically rebuilt right after an invalidation arrives, i.e. just after the write committed
+ * on the primary. A replica that has not replayed that write yet would hand the old rows back, and they
+ * would stay in memory until the next change.
+ *
+ * Outside a transaction the load gets a read-only transaction of its own, reading one snapshot. Inside
+ * one it joins the caller's transaction and connection, which is kept on the primary (see
+ * {@link ReplicaRoutingDataSource#holdOnPrimary()}), so a request never holds two connections from the
+ * same pool and a full pool cannot deadlock on loads. Only a caller already reading from the replica
+ * gets a separate transaction, taking its second connection from the primary's pool. A joined load
+ * sees the caller's own uncommitted writes, so a transaction must not load a cache over rows it has
+ * changed; writers update caches after commit instead.
+ */
+@Component
+public class CacheLoadTransaction {
+
+    /**
+     * Transaction name that {@link ReplicaRoutingDataSource} keeps on the primary.
+     */
+    public static final String NAME = "cache-load";
+
+    private final TransactionTemplate template;
+
+    public CacheLoadTransaction(PlatformTransactionManager transactionManager) {
+        template = new TransactionTemplate(transactionManager);
+        template.setName(NAME);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        template.setReadOnly(true);
+    }
+
+    public <T> T execute(Supplier<T> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive() && ReplicaRoutingDataSource.holdOnPrimary()) {
+            return loader.get();
+        }
+        return template.execute(status -> loader.get());
+    }
+}
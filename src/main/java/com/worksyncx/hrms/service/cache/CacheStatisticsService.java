@@ -0,0 +1,82 @@
+package com.worksyncx.hrms.service.cache;
+
+import com.worksyncx.hrms.dto.cache.CacheRegionStats;
+import com.worksyncx.hrms.dto.cache.CacheStatisticsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Hit rates of the Hibernate second-level and query caches, alongside the statement count, so DB load
+ * can be compared with and without the {@code l2cache} profile. Counters need
+ * {@code hibernate.generate_statistics}, which that profile turns on.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheStatisticsResponse getStatistics() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        Statistics statistics = sessionFactory.getStatistics();
+
+        List<CacheRegionStats> regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+            .sorted()
+            .map(statistics::getCacheRegionStatistics)
+            .filter(Objects::nonNull)
+            .map(this::toRegionStats)
+            .toList();
+
+        return CacheStatisticsResponse.builder()
+            .secondLevelCacheEnabled(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled())
+            .queryCacheEnabled(sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled())
+            .statisticsEnabled(statistics.isStatisticsEnabled())
+            .since(statistics.getStart())
+            .prepareStatementCount(statistics.getPrepareStatementCount())
+            .entityLoadCount(statistics.getEntityLoadCount())
+            .queryExecutionCount(statistics.getQueryExecutionCount())
+            .secondLevelCacheHitCount(statistics.getSecondLevelCacheHitCount())
+            .secondLevelCacheMissCount(statistics.getSecondLevelCacheMissCount())
+            .secondLevelCacheHitRatio(ratio(statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount()))
+            .queryCacheHitCount(statistics.getQueryCacheHitCount())
+            .queryCacheMissCount(statistics.getQueryCacheMissCount())
+            .queryCacheHitRatio(ratio(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount()))
+            .regions(regions)
+            .build();
+    }
+
+    /**
+     * Start a new measurement window.
+     */
+    public void resetStatistics() {
+        entityManagerFactory.unwrap(SessionFactory.class).getStatistics().clear();
+        log.info("Hibernate statistics reset at {}", Instant.now());
+    }
+
+    private CacheRegionStats toRegionStats(CacheRegionStatistics region) {
+        return CacheRegionStats.builder()
+            .region(region.getRegionName())
+            .hitCount(region.getHitCount())
+            .missCount(region.getMissCount())
+            .putCount(region.getPutCount())
+            .hitRatio(ratio(region.getHitCount(), region.getMissCount()))
+            .elementCountInMemory(region.getElementCountInMemory() >= 0 ? region.getElementCountInMemory() : null)
+            .build();
+    }
+
+    private Double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? null : (double) hits / total;
+    }
+}
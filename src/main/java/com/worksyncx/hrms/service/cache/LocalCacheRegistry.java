@@ -0,0 +1,26 @@
+package com.worksyncx.hrms.service.cache;
+
+import com.worksyncx.hrms.enums.CacheName;
+import com.worksyncx.hrms.util.LoadingMap;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The in-process caches by name, so their size and hit rate can be reported (see the metrics profile).
+ */
+@Component
+public class LocalCacheRegistry {
+
+    private final Map<CacheName, LoadingMap<?, ?>> caches = new ConcurrentHashMap<>();
+
+    public void register(CacheName name, LoadingMap<?, ?> cache) {
+        caches.put(name, cache);
+    }
+
+    public Map<CacheName, LoadingMap<?, ?>> getCaches() {
+        return Collections.unmodifiableMap(caches);
+    }
+}
@@ -0,0 +1,86 @@
+package com.worksyncx.hrms.service.cache;
+
+import com.worksyncx.hrms.enums.CacheName;
+import com.worksyncx.hrms.enums.ResourceType;
+import com.worksyncx.hrms.security.TenantContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
+
+/**
+ * Per-tenant, per-resource-type versions behind the reference-data ETags.
+ *
+ * Every write to a resource type bumps its row in resource_versions in the writing transaction, and the
+ * version and time become the ETag and Last-Modified of reads annotated with {@code @VersionedResource}.
+ * Because the version lives in the database it only moves forward, survives restarts, and matches on
+ * every instance behind the load balancer. Reading it is one primary-key lookup per conditional GET.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResourceVersionService {
+
+    // Plans are shared by all tenants
+    public static final Long GLOBAL = 0L;
+
+    private static final Version INITIAL = new Version(0, Instant.EPOCH);
+
+    // HTTP dates have second precision; never report a time before the previous version's
+    private static final String BUMP_VERSION_SQL = """
+        INSERT INTO resource_versions (tenant_id, resource_type, version) VALUES (?, ?, 1)
+        ON CONFLICT (tenant_id, resource_type) DO UPDATE
+        SET version = resource_versions.version + 1,
+            updated_at = GREATEST(CURRENT_TIMESTAMP, resource_versions.updated_at)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    public record Version(long counter, Instant lastModified) {}
+
+    public Version getVersion(Long tenantId, ResourceType type) {
+        Long scope = scope(tenantId, type);
+        return onOwningShard(scope, () -> jdbcTemplate.query(
+                "SELECT version, updated_at FROM resource_versions WHERE tenant_id = ? AND resource_type = ?",
+                (rs, rowNum) -> new Version(rs.getLong("version"),
+                    rs.getTimestamp("updated_at").toInstant().truncatedTo(ChronoUnit.SECONDS)),
+                scope, type.name())
+            .stream().findFirst().orElse(INITIAL));
+    }
+
+    /**
+     * Strong ETag for {@code version} of the tenant's resource type.
+     */
+    public String getETag(Long tenantId, ResourceType type, Version version) {
+        // The tenant is part of the tag so a browser shared between tenants never revalidates across them
+        return "\"" + type.name().toLowerCase() + "-" + scope(tenantId, type) + "-" + version.counter() + "\"";
+    }
+
+    /**
+     * Bump the version in the current transaction, so ETags change exactly when the write commits. The row
+     * stays locked until then, so versions commit in order. Other instances are told to evict the type
+     * from their second-level cache.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void bump(Long tenantId, ResourceType type) {
+        Long scope = scope(tenantId, type);
+        jdbcTemplate.update(BUMP_VERSION_SQL, scope, type.name());
+        cacheInvalidationBus.publish(CacheName.RESOURCE_VERSION, scope, type.name());
+        log.debug("Bumped {} version for tenant {}", type, scope);
+    }
+
+    private Long scope(Long tenantId, ResourceType type) {
+        return type == ResourceType.PLANS || tenantId == null ? GLOBAL : tenantId;
+    }
+
+    // Shared resources are owned by the default shard, like the plan catalog itself
+    private <T> T onOwningShard(Long scope, Supplier<T> read) {
+        return GLOBAL.equals(scope) ? TenantContext.withoutTenant(read) : read.get();
+    }
+}
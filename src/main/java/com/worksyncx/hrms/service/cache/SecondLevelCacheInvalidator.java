@@ -0,0 +1,69 @@
+package com.worksyncx.hrms.service.cache;
+
+import com.worksyncx.hrms.entity.Department;
+import com.worksyncx.hrms.entity.Designation;
+import com.worksyncx.hrms.entity.LeaveType;
+import com.worksyncx.hrms.entity.Permission;
+import com.worksyncx.hrms.entity.Plan;
+import com.worksyncx.hrms.entity.Role;
+import com.worksyncx.hrms.entity.Shift;
+import com.worksyncx.hrms.enums.CacheName;
+import com.worksyncx.hrms.enums.ResourceType;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Keeps the Hibernate second-level cache (l2cache profile) consistent across instances.
+ *
+ * Reference data writes already announce a resource version bump; other instances evict the matching
+ * entity region and the query results, which Hibernate would otherwise only invalidate locally.
+ * Role and permission writes publish {@link CacheName#ACCESS_CONTROL}, which evicts roles, their
+ * permission sets and permissions, so a revoked permission stops granting access on every instance.
+ * Without the profile the cache is disabled and these evictions are no-ops.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheInvalidator {
+
+    private static final Map<ResourceType, Class<?>> ENTITIES = Map.of(
+        ResourceType.DEPARTMENTS, Department.class,
+        ResourceType.DESIGNATIONS, Designation.class,
+        ResourceType.SHIFTS, Shift.class,
+        ResourceType.LEAVE_TYPES, LeaveType.class,
+        ResourceType.PLANS, Plan.class
+    );
+
+    // Collection role of Role.permissions
+    private static final String ROLE_PERMISSIONS = Role.class.getName() + ".permissions";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    @PostConstruct
+    void subscribeToInvalidations() {
+        cacheInvalidationBus.subscribe(CacheName.RESOURCE_VERSION, event -> {
+            entityManagerFactory.getCache().evict(ENTITIES.get(ResourceType.valueOf(event.key())));
+            evictQueryResults();
+        }, () -> {
+            entityManagerFactory.getCache().evictAll();
+            evictQueryResults();
+        });
+        cacheInvalidationBus.subscribe(CacheName.ACCESS_CONTROL, event -> evictAccessControl(), this::evictAccessControl);
+    }
+
+    private void evictAccessControl() {
+        entityManagerFactory.getCache().evict(Role.class);
+        entityManagerFactory.getCache().evict(Permission.class);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictCollectionData(ROLE_PERMISSIONS);
+        evictQueryResults();
+    }
+
+    private void evictQueryResults() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+    }
+}
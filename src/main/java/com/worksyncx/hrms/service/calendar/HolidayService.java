@@ -0,0 +1,152 @@
+package com.worksyncx.hrms.service.calendar;
+
+import com.worksyncx.hrms.dto.calendar.HolidayRequest;
+import com.worksyncx.hrms.dto.calendar.HolidayResponse;
+import com.worksyncx.hrms.dto.calendar.WorkingDaysResponse;
+import com.worksyncx.hrms.entity.Holiday;
+import com.worksyncx.hrms.enums.CacheName;
+import com.worksyncx.hrms.exception.EmployeeNotFoundException;
+import com.worksyncx.hrms.repository.EmployeeRepository;
+import com.worksyncx.hrms.repository.HolidayRepository;
+import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.cache.CacheInvalidationBus;
+import com.worksyncx.hrms.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class HolidayService {
+
+    private final HolidayRepository holidayRepository;
+    private final EmployeeRepository employeeRepository;
+    private final WorkingDayCalendarService workingDayCalendarService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    // ==================== Holiday Management ====================
+
+    @Transactional
+    public HolidayResponse createHoliday(HolidayRequest request) {
+        Long tenantId = TenantContext.getTenantId();
+
+        if (holidayRepository.existsByTenantIdAndHolidayDate(tenantId, request.getHolidayDate())) {
+            throw new RuntimeException("A holiday already exists on " + request.getHolidayDate());
+        }
+
+        Holiday holiday = new Holiday();
+        holiday.setTenantId(tenantId);
+        holiday.setHolidayDate(request.getHolidayDate());
+        holiday.setName(request.getName());
+        holiday.setDescription(request.getDescription());
+        holiday.setCreatedBy(TenantContext.getUserId());
+
+        holiday = holidayRepository.save(holiday);
+        evictAfterCommit(tenantId, holiday.getHolidayDate().getYear());
+        return mapToResponse(holiday);
+    }
+
+    @Transactional(readOnly = true)
+    public List<HolidayResponse> getHolidays(Integer year) {
+        Long tenantId = TenantContext.getTenantId();
+        int calendarYear = year != null ? year : LocalDate.now().getYear();
+
+        return holidayRepository.findByTenantIdAndHolidayDateBetweenOrderByHolidayDateAsc(
+                tenantId, LocalDate.of(calendarYear, 1, 1), LocalDate.of(calendarYear, 12, 31))
+            .stream()
+            .map(this::mapToResponse)
+            .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public HolidayResponse updateHoliday(Long id, HolidayRequest request) {
+        Long tenantId = TenantContext.getTenantId();
+
+        Holiday holiday = holidayRepository.findByTenantIdAndId(tenantId, id)
+            .orElseThrow(() -> new RuntimeException("Holiday not found with id: " + id));
+
+        LocalDate previousDate = holiday.getHolidayDate();
+        if (!previousDate.equals(request.getHolidayDate())
+                && holidayRepository.existsByTenantIdAndHolidayDate(tenantId, request.getHolidayDate())) {
+            throw new RuntimeException("A holiday already exists on " + request.getHolidayDate());
+        }
+
+        holiday.setHolidayDate(request.getHolidayDate());
+        holiday.setName(request.getName());
+        holiday.setDescription(request.getDescription());
+        holiday.setUpdatedBy(TenantContext.getUserId());
+
+        holiday = holidayRepository.save(holiday);
+        evictAfterCommit(tenantId, previousDate.getYear());
+        evictAfterCommit(tenantId, holiday.getHolidayDate().getYear());
+        return mapToResponse(holiday);
+    }
+
+    @Transactional
+    public void deleteHoliday(Long id) {
+        Long tenantId = TenantContext.getTenantId();
+
+        Holiday holiday = holidayRepository.findByTenantIdAndId(tenantId, id)
+            .orElseThrow(() -> new RuntimeException("Holiday not found with id: " + id));
+
+        holidayRepository.delete(holiday);
+        evictAfterCommit(tenantId, holiday.getHolidayDate().getYear());
+    }
+
+    // ==================== Working Days ====================
+
+    @Transactional(readOnly = true)
+    public WorkingDaysResponse getWorkingDays(Long employeeId, LocalDate startDate, LocalDate endDate) {
+        Long tenantId = TenantContext.getTenantId();
+
+        if (endDate.isBefore(startDate)) {
+            throw new RuntimeException("End date cannot be before start date");
+        }
+
+        long workingDays;
+        if (employeeId != null) {
+            employeeRepository.findByTenantIdAndId(tenantId, employeeId)
+                .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + employeeId));
+            workingDays = workingDayCalendarService.countWorkingDays(tenantId, employeeId, startDate, endDate);
+        } else {
+            workingDays = workingDayCalendarService.countWorkingDays(tenantId, startDate, endDate, List.of());
+        }
+
+        return WorkingDaysResponse.builder()
+            .employeeId(employeeId)
+            .startDate(startDate)
+            .endDate(endDate)
+            .calendarDays(ChronoUnit.DAYS.between(startDate, endDate) + 1)
+            .workingDays(workingDays)
+            .holidays(workingDayCalendarService.countHolidays(tenantId, startDate, endDate))
+            .build();
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Drop the cached calendar only once the change is visible, so a concurrent reader
+     * cannot re-cache the old holidays between eviction and commit.
+     */
+    private void evictAfterCommit(Long tenantId, int year) {
+        cacheInvalidationBus.publish(CacheName.HOLIDAY_CALENDAR, tenantId, year);
+        TransactionHooks.afterCommit(() -> workingDayCalendarService.evict(tenantId, year));
+    }
+
+    private HolidayResponse mapToResponse(Holiday holiday) {
+        return HolidayResponse.builder()
+            .id(holiday.getId())
+            .tenantId(holiday.getTenantId())
+            .holidayDate(holiday.getHolidayDate())
+            .name(holiday.getName())
+            .description(holiday.getDescription())
+            .createdAt(holiday.getCreatedAt())
+            .updatedAt(holiday.getUpdatedAt())
+            .build();
+    }
+}
@@ -0,0 +1,227 @@
+package com.worksyncx.hrms.service.calendar;
+
+import com.worksyncx.hrms.entity.EmployeeShift;
+import com.worksyncx.hrms.enums.AttendanceStatus;
+import com.worksyncx.hrms.enums.CacheName;
+import com.worksyncx.hrms.repository.EmployeeShiftRepository;
+import com.worksyncx.hrms.repository.HolidayRepository;
+import com.worksyncx.hrms.service.cache.CacheInvalidationBus;
+import com.worksyncx.hrms.service.cache.CacheLoadTransaction;
+import com.worksyncx.hrms.service.cache.LocalCacheRegistry;
+import com.worksyncx.hrms.util.LoadingMap;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Answers "how many working days between A and B for employee E".
+ *
+ * Each year is a bitmap indexed by day-of-year. Holidays are loaded once per tenant and year and
+ * cached in memory; weekly offs come from the employee's shift assignments. A range count is then
+ * {@code weekdays AND NOT holidays} followed by a popcount, with no per-day loops or queries.
+ * Holiday edits evict the affected tenant/year through {@link HolidayService}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WorkingDayCalendarService {
+
+    /**
+     * Weekly pattern for employees without a shift assignment; same default as {@link EmployeeShift}.
+     */
+    public static final Set<DayOfWeek> DEFAULT_WORKING_DAYS = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+
+    private static final int MAX_DAYS_IN_YEAR = 366;
+
+    private final HolidayRepository holidayRepository;
+    private final EmployeeShiftRepository employeeShiftRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final LocalCacheRegistry localCacheRegistry;
+    private final CacheLoadTransaction cacheLoadTransaction;
+
+    private final LoadingMap<TenantYear, BitSet> holidayBitmaps = new LoadingMap<>();
+    private final Map<Integer, BitSet[]> weekdayBitmaps = new ConcurrentHashMap<>();
+
+    private record TenantYear(Long tenantId, int year) {}
+
+    // ==================== Working Day Queries ====================
+
+    /**
+     * Working days in [startDate, endDate] for an employee, honouring shift weekdays and tenant holidays.
+     */
+    public long countWorkingDays(Long tenantId, Long employeeId, LocalDate startDate, LocalDate endDate) {
+        List<EmployeeShift> assignments = employeeShiftRepository
+            .findActiveAssignmentsOverlapping(List.of(employeeId), startDate, endDate);
+        return countWorkingDays(tenantId, startDate, endDate, assignments);
+    }
+
+    /**
+     * Working days for callers that already loaded the employee's assignments (see {@link #loadAssignments}).
+     * An empty list means the tenant default week.
+     */
+    public long countWorkingDays(Long tenantId, LocalDate startDate, LocalDate endDate, List<EmployeeShift> assignments) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            return 0;
+        }
+
+        long total = 0;
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            LocalDate from = year == startDate.getYear() ? startDate : LocalDate.of(year, 1, 1);
+            LocalDate to = year == endDate.getYear() ? endDate : LocalDate.of(year, 12, 31);
+
+            BitSet days = workingPattern(year, from, to, assignments);
+            days.andNot(holidayBitmap(tenantId, year));
+            total += days.get(index(from), index(to) + 1).cardinality();
+        }
+        return total;
+    }
+
+    /**
+     * Holidays falling in [startDate, endDate], regardless of weekly offs.
+     */
+    public long countHolidays(Long tenantId, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            return 0;
+        }
+
+        long total = 0;
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            LocalDate from = year == startDate.getYear() ? startDate : LocalDate.of(year, 1, 1);
+            LocalDate to = year == endDate.getYear() ? endDate : LocalDate.of(year, 12, 31);
+            total += holidayBitmap(tenantId, year).get(index(from), index(to) + 1).cardinality();
+        }
+        return total;
+    }
+
+    public boolean isHoliday(Long tenantId, LocalDate date) {
+        return holidayBitmap(tenantId, date.getYear()).get(index(date));
+    }
+
+    /**
+     * The status a day off should be recorded with for this employee, or empty if it is a working day.
+     */
+    public Optional<AttendanceStatus> getNonWorkingStatus(Long tenantId, Long employeeId, LocalDate date) {
+        if (isHoliday(tenantId, date)) {
+            return Optional.of(AttendanceStatus.HOLIDAY);
+        }
+        if (countWorkingDays(tenantId, employeeId, date, date) == 0) {
+            return Optional.of(AttendanceStatus.WEEKEND);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Active shift assignments of many employees in one query, for bulk callers such as payroll.
+     */
+    public Map<Long, List<EmployeeShift>> loadAssignments(Collection<Long> employeeIds, LocalDate startDate, LocalDate endDate) {
+        if (employeeIds.isEmpty()) {
+            return Map.of();
+        }
+        return employeeShiftRepository.findActiveAssignmentsOverlapping(employeeIds, startDate, endDate)
+            .stream()
+            .collect(Collectors.groupingBy(EmployeeShift::getEmployeeId));
+    }
+
+    // ==================== Cache Management ====================
+
+    /**
+     * Holiday edits on other instances arrive with the year as key.
+     */
+    @PostConstruct
+    void subscribeToInvalidations() {
+        localCacheRegistry.register(CacheName.HOLIDAY_CALENDAR, holidayBitmaps);
+        cacheInvalidationBus.subscribe(CacheName.HOLIDAY_CALENDAR, event -> {
+            if (event.key() == null) {
+                holidayBitmaps.removeIf(key -> key.tenantId().equals(event.tenantId()));
+            } else {
+                evict(event.tenantId(), Integer.parseInt(event.key()));
+            }
+        }, holidayBitmaps::clear);
+    }
+
+    public void evict(Long tenantId, int year) {
+        holidayBitmaps.remove(new TenantYear(tenantId, year));
+        log.debug("Evicted holiday calendar for tenant {} year {}", tenantId, year);
+    }
+
+    // ==================== Bitmap Helpers ====================
+
+    /**
+     * Weekdays worked in [from, to] of one year. Later assignments override earlier ones and days
+     * not covered by any assignment fall back to {@link #DEFAULT_WORKING_DAYS}.
+     */
+    private BitSet workingPattern(int year, LocalDate from, LocalDate to, List<EmployeeShift> assignments) {
+        BitSet pattern = weekdayMask(year, DEFAULT_WORKING_DAYS);
+
+        for (EmployeeShift assignment : assignments) {
+            LocalDate effectiveFrom = assignment.getEffectiveFrom().isAfter(from) ? assignment.getEffectiveFrom() : from;
+            LocalDate effectiveTo = assignment.getEffectiveTo() == null || assignment.getEffectiveTo().isAfter(to)
+                ? to : assignment.getEffectiveTo();
+            if (effectiveTo.isBefore(effectiveFrom)) {
+                continue;
+            }
+
+            int start = index(effectiveFrom);
+            int end = index(effectiveTo) + 1;
+            BitSet shiftDays = weekdayMask(year, workingDaysOf(assignment));
+            shiftDays.clear(0, start);
+            shiftDays.clear(end, MAX_DAYS_IN_YEAR);
+
+            pattern.clear(start, end);
+            pattern.or(shiftDays);
+        }
+        return pattern;
+    }
+
+    private Set<DayOfWeek> workingDaysOf(EmployeeShift assignment) {
+        // An assignment without days works every day, as in EmployeeShift.isWorkingDay
+        List<DayOfWeek> days = assignment.getWorkingDaysAsDayOfWeek();
+        return days.isEmpty() ? EnumSet.allOf(DayOfWeek.class) : EnumSet.copyOf(days);
+    }
+
+    private BitSet weekdayMask(int year, Set<DayOfWeek> days) {
+        BitSet[] byWeekday = weekdayBitmaps.computeIfAbsent(year, this::buildWeekdayBitmaps);
+        BitSet mask = new BitSet(MAX_DAYS_IN_YEAR);
+        for (DayOfWeek day : days) {
+            mask.or(byWeekday[day.ordinal()]);
+        }
+        return mask;
+    }
+
+    private BitSet[] buildWeekdayBitmaps(int year) {
+        BitSet[] byWeekday = new BitSet[7];
+        for (int i = 0; i < byWeekday.length; i++) {
+            byWeekday[i] = new BitSet(MAX_DAYS_IN_YEAR);
+        }
+        for (LocalDate date = LocalDate.of(year, 1, 1); date.getYear() == year; date = date.plusDays(1)) {
+            byWeekday[date.getDayOfWeek().ordinal()].set(index(date));
+        }
+        return byWeekday;
+    }
+
+    private BitSet holidayBitmap(Long tenantId, int year) {
+        return holidayBitmaps.get(new TenantYear(tenantId, year), key -> cacheLoadTransaction.execute(() -> {
+            BitSet holidays = new BitSet(MAX_DAYS_IN_YEAR);
+            holidayRepository.findHolidayDates(tenantId, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))
+                .forEach(date -> holidays.set(index(date)));
+            return holidays;
+        }));
+    }
+
+    private static int index(LocalDate date) {
+        return date.getDayOfYear() - 1;
+    }
+}
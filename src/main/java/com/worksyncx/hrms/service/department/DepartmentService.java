@@ -4,10 +4,14 @@ import com.worksyncx.hrms.dto.common.PageResponse;
 import com.worksyncx.hrms.dto.department.DepartmentRequest;
 import com.worksyncx.hrms.dto.department.DepartmentResponse;
 import com.worksyncx.hrms.entity.Department;
+import com.worksyncx.hrms.enums.ResourceType;
 import com.worksyncx.hrms.exception.DepartmentNotFoundException;
 import com.worksyncx.hrms.exception.DuplicateDepartmentCodeException;
 import com.worksyncx.hrms.repository.DepartmentRepository;
 import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.cache.ResourceVersionService;
+import com.worksyncx.hrms.service.employee.EmployeeSearchService;
+import com.worksyncx.hrms.service.hierarchy.OrgHierarchyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +19,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,6 +28,9 @@ import java.util.stream.Collectors;
 public class DepartmentService {
 
     private final DepartmentRepository departmentRepository;
+    private final OrgHierarchyService orgHierarchyService;
+    private final EmployeeSearchService employeeSearchService;
+    private final ResourceVersionService resourceVersionService;
 
     @Transactional
     public DepartmentResponse createDepartment(DepartmentRequest request) {
@@ -44,6 +53,8 @@ public class DepartmentService {
         department.setCreatedBy(TenantContext.getUserId());
 
         department = departmentRepository.save(department);
+        resourceVersionService.bump(tenantId, ResourceType.DEPARTMENTS);
+        orgHierarchyService.addDepartment(tenantId, department.getId(), department.getParentDepartmentId());
         return mapToResponse(department);
     }
 
@@ -73,6 +84,26 @@ public class DepartmentService {
         return mapToResponse(department);
     }
 
+    /**
+     * All departments nested below a department, nearest levels first.
+     */
+    @Transactional(readOnly = true)
+    public List<DepartmentResponse> getSubDepartments(Long id) {
+        Long tenantId = TenantContext.getTenantId();
+        departmentRepository.findByTenantIdAndId(tenantId, id)
+            .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id: " + id));
+
+        List<Long> subDepartmentIds = orgHierarchyService.getSubDepartmentIds(tenantId, id);
+        Map<Long, Department> departments = departmentRepository.findAllById(subDepartmentIds)
+            .stream()
+            .collect(Collectors.toMap(Department::getId, d -> d));
+        return subDepartmentIds.stream()
+            .map(departments::get)
+            .filter(Objects::nonNull)
+            .map(this::mapToResponse)
+            .collect(Collectors.toList());
+    }
+
     @Transactional
     public DepartmentResponse updateDepartment(Long id, DepartmentRequest request) {
         Long tenantId = TenantContext.getTenantId();
@@ -88,6 +119,17 @@ public class DepartmentService {
                 });
         }
 
+        final Long previousParentId = department.getParentDepartmentId();
+        boolean parentChanged = !Objects.equals(previousParentId, request.getParentDepartmentId());
+        if (parentChanged) {
+            orgHierarchyService.assertCanMoveDepartmentUnder(id, request.getParentDepartmentId());
+        }
+
+        // Department names are part of the employee search index
+        if (!department.getName().equals(request.getName())) {
+            employeeSearchService.evictAfterCommit(tenantId);
+        }
+
         department.setName(request.getName());
         department.setCode(request.getCode());
         department.setDescription(request.getDescription());
@@ -97,6 +139,10 @@ public class DepartmentService {
         department.setUpdatedBy(TenantContext.getUserId());
 
         department = departmentRepository.save(department);
+        resourceVersionService.bump(tenantId, ResourceType.DEPARTMENTS);
+        if (parentChanged) {
+            orgHierarchyService.moveDepartment(department.getId(), department.getParentDepartmentId());
+        }
         return mapToResponse(department);
     }
 
@@ -108,6 +154,8 @@ public class DepartmentService {
             .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id: " + id));
 
         departmentRepository.delete(department);
+        resourceVersionService.bump(tenantId, ResourceType.DEPARTMENTS);
+        employeeSearchService.evictAfterCommit(tenantId);
     }
 
     // Paginated methods
@@ -4,6 +4,7 @@ import com.worksyncx.hrms.dto.common.PageResponse;
 import com.worksyncx.hrms.dto.designation.DesignationRequest;
 import com.worksyncx.hrms.dto.designation.DesignationResponse;
 import com.worksyncx.hrms.entity.Designation;
+import com.worksyncx.hrms.enums.ResourceType;
 import com.worksyncx.hrms.exception.DepartmentNotFoundException;
 import com.worksyncx.hrms.exception.DesignationNotFoundException;
 import com.worksyncx.hrms.exception.DuplicateDesignationCodeException;
@@ -11,6 +12,8 @@ import com.worksyncx.hrms.exception.InvalidSalaryException;
 import com.worksyncx.hrms.repository.DepartmentRepository;
 import com.worksyncx.hrms.repository.DesignationRepository;
 import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.cache.ResourceVersionService;
+import com.worksyncx.hrms.service.employee.OrgChartService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -26,6 +29,8 @@ public class DesignationService {
 
     private final DesignationRepository designationRepository;
     private final DepartmentRepository departmentRepository;
+    private final OrgChartService orgChartService;
+    private final ResourceVersionService resourceVersionService;
 
     @Transactional
     public DesignationResponse createDesignation(DesignationRequest request) {
@@ -61,6 +66,7 @@ public class DesignationService {
         designation.setCreatedBy(TenantContext.getUserId());
 
         designation = designationRepository.save(designation);
+        resourceVersionService.bump(tenantId, ResourceType.DESIGNATIONS);
         return mapToResponse(designation);
     }
 
@@ -127,6 +133,11 @@ public class DesignationService {
             }
         }
 
+        // Designation names are shown on the cached org chart
+        if (!designation.getName().equals(request.getName())) {
+            orgChartService.evictAfterCommit(tenantId);
+        }
+
         designation.setName(request.getName());
         designation.setCode(request.getCode());
         designation.setDescription(request.getDescription());
@@ -138,6 +149,7 @@ public class DesignationService {
         designation.setUpdatedBy(TenantContext.getUserId());
 
         designation = designationRepository.save(designation);
+        resourceVersionService.bump(tenantId, ResourceType.DESIGNATIONS);
         return mapToResponse(designation);
     }
 
@@ -149,6 +161,8 @@ public class DesignationService {
             .orElseThrow(() -> new DesignationNotFoundException("Designation not found with id: " + id));
 
         designationRepository.delete(designation);
+        resourceVersionService.bump(tenantId, ResourceType.DESIGNATIONS);
+        orgChartService.evictAfterCommit(tenantId);
     }
 
     // Paginated methods
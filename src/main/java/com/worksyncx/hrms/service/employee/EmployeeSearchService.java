@@ -0,0 +1,550 @@
+package com.worksyncx.hrms.service.employee;
+
+import com.worksyncx.hrms.dto.employee.EmployeeSearchResult;
+import com.worksyncx.hrms.entity.Department;
+import com.worksyncx.hrms.entity.Employee;
+import com.worksyncx.hrms.enums.CacheName;
+import com.worksyncx.hrms.enums.EmploymentStatus;
+import com.worksyncx.hrms.repository.DepartmentRepository;
+import com.worksyncx.hrms.repository.EmployeeRepository;
+import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.cache.CacheInvalidationBus;
+import com.worksyncx.hrms.service.cache.CacheLoadTransaction;
+import com.worksyncx.hrms.service.cache.LocalCacheRegistry;
+import com.worksyncx.hrms.util.LoadingMap;
+import com.worksyncx.hrms.util.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Typeahead search over the employee directory, served from a per-tenant in-memory index.
+ *
+ * Name, employee code, email, phone and department name are split into words. Every word start and
+ * every trigram is a posting list of document ordinals kept in growable int arrays; a search term is
+ * the intersection of its grams, so lookups never scan the directory. Each term is tried as a word
+ * prefix, then as a substring (phone numbers without country code), and finally against the name and
+ * department vocabulary with a small edit-distance allowance.
+ *
+ * The index is built on first search and patched after employee writes commit. Updates append a new
+ * ordinal and retire the old one, which keeps posting lists sorted; the index compacts itself once
+ * retired ordinals outnumber live ones.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeSearchService {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    private static final char WORD_START = '\u0001';
+    private static final char WORD_END = '\u0002';
+    private static final int MIN_COMPACTION_SIZE = 1024;
+
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final LocalCacheRegistry localCacheRegistry;
+    private final CacheLoadTransaction cacheLoadTransaction;
+
+    private final LoadingMap<Long, TenantSearchIndex> indexes = new LoadingMap<>();
+
+    /**
+     * Changes made on other instances rebuild the tenant's index on next search.
+     */
+    @PostConstruct
+    void subscribeToInvalidations() {
+        localCacheRegistry.register(CacheName.EMPLOYEE_SEARCH, indexes);
+        cacheInvalidationBus.subscribe(CacheName.EMPLOYEE_SEARCH, event -> indexes.remove(event.tenantId()), indexes::clear);
+    }
+
+    // ==================== Search ====================
+
+    @Transactional(readOnly = true)
+    public List<EmployeeSearchResult> search(String query, Integer limit) {
+        Long tenantId = TenantContext.getTenantId();
+        List<String> terms = words(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        int max = limit != null ? Math.max(1, Math.min(limit, MAX_LIMIT)) : DEFAULT_LIMIT;
+        return indexFor(tenantId).search(terms, max);
+    }
+
+    // ==================== Index Maintenance ====================
+
+    /**
+     * Re-index an employee once the current transaction commits. Separated employees are removed.
+     */
+    public void recordAfterCommit(Employee employee) {
+        Long tenantId = employee.getTenantId();
+        Long employeeId = employee.getId();
+        Doc doc = employee.getEmploymentStatus() == EmploymentStatus.SEPARATED ? null : new Doc(
+            employeeId, employee.getEmployeeCode(), employee.getFirstName(), employee.getLastName(),
+            employee.getEmail(), employee.getPhone(), employee.getDepartmentId());
+
+        cacheInvalidationBus.publish(CacheName.EMPLOYEE_SEARCH, tenantId, employeeId);
+        TransactionHooks.afterCommit(() -> indexes.computeIfPresent(tenantId, (id, index) -> {
+            if (doc == null) {
+                index.remove(employeeId);
+                return index;
+            }
+            // A department created after the index was built means a rebuild on next search
+            return index.upsert(doc) ? index : null;
+        }));
+    }
+
+    public void removeAfterCommit(Long tenantId, Long employeeId) {
+        cacheInvalidationBus.publish(CacheName.EMPLOYEE_SEARCH, tenantId, employeeId);
+        TransactionHooks.afterCommit(() -> indexes.computeIfPresent(tenantId, (id, index) -> {
+            index.remove(employeeId);
+            return index;
+        }));
+    }
+
+    /**
+     * Department names are indexed with each employee; renames rebuild the index on next search.
+     */
+    public void evictAfterCommit(Long tenantId) {
+        cacheInvalidationBus.publish(CacheName.EMPLOYEE_SEARCH, tenantId, null);
+        TransactionHooks.afterCommit(() -> indexes.remove(tenantId));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private TenantSearchIndex indexFor(Long tenantId) {
+        return indexes.get(tenantId, id -> cacheLoadTransaction.execute(() -> {
+            Map<Long, String> departments = departmentRepository.findByTenantId(id)
+                .stream()
+                .collect(Collectors.toMap(Department::getId, Department::getName));
+
+            TenantSearchIndex index = new TenantSearchIndex(departments);
+            employeeRepository.findSearchRows(id, EmploymentStatus.SEPARATED)
+                .forEach(row -> index.upsert(new Doc(row.getId(), row.getEmployeeCode(), row.getFirstName(),
+                    row.getLastName(), row.getEmail(), row.getPhone(), row.getDepartmentId())));
+            log.debug("Built employee search index for tenant {} with {} employees", id, index.size());
+            return index;
+        }));
+    }
+
+    /**
+     * Lower-cased alphanumeric runs, so "O'Neil", "emp-001" and "+1 (555) 010" split the same way
+     * when indexed and when searched.
+     */
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        StringBuilder current = new StringBuilder();
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (!current.isEmpty()) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            words.add(current.toString());
+        }
+        return words;
+    }
+
+    /**
+     * Words of a field, plus the field run together when it has several parts ("emp001", "5550101234").
+     */
+    private static void addFieldWords(Set<String> target, String field) {
+        List<String> parts = words(field);
+        target.addAll(parts);
+        if (parts.size() > 1) {
+            target.add(String.join("", parts));
+        }
+    }
+
+    private static long gramKey(char a, char b, char c) {
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+
+    /**
+     * Gram keys a word is posted under: its first character (for one-letter searches) and every
+     * trigram of the word padded with start and end markers.
+     */
+    private static long[] indexGrams(String word) {
+        String padded = WORD_START + word + WORD_END;
+        long[] grams = new long[padded.length() - 1];
+        grams[0] = gramKey(WORD_START, word.charAt(0), (char) 0);
+        for (int i = 0; i + 2 < padded.length(); i++) {
+            grams[i + 1] = gramKey(padded.charAt(i), padded.charAt(i + 1), padded.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * Gram keys a search term must hit to be a prefix of some word; the term is open-ended on the right.
+     */
+    private static long[] prefixGrams(String term) {
+        if (term.length() == 1) {
+            return new long[]{gramKey(WORD_START, term.charAt(0), (char) 0)};
+        }
+        return trigrams(WORD_START + term);
+    }
+
+    /**
+     * Gram keys a search term of three or more characters must hit to appear anywhere inside a word.
+     */
+    private static long[] trigrams(String text) {
+        long[] grams = new long[text.length() - 2];
+        for (int i = 0; i + 2 < text.length(); i++) {
+            grams[i] = gramKey(text.charAt(i), text.charAt(i + 1), text.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * Typo allowance for a search term; very short terms must match exactly.
+     */
+    private static int maxEdits(String term) {
+        return term.length() < 4 ? 0 : term.length() < 8 ? 1 : 2;
+    }
+
+    /**
+     * Whether some prefix of the word is within {@code max} edits (optimal string alignment) of the
+     * term, so half-typed names still match. Gives up as soon as every alignment exceeds the limit.
+     */
+    private static boolean withinEdits(String term, String word, int max) {
+        if (word.length() < term.length() - max) {
+            return false;
+        }
+        String target = word.length() > term.length() + max ? word.substring(0, term.length() + max) : word;
+
+        int[] previous2 = new int[target.length() + 1];
+        int[] previous = new int[target.length() + 1];
+        int[] current = new int[target.length() + 1];
+        for (int j = 0; j <= target.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= term.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= target.length(); j++) {
+                int cost = term.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && term.charAt(i - 1) == target.charAt(j - 2) && term.charAt(i - 2) == target.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return false;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        for (int j = Math.max(0, term.length() - max); j <= target.length(); j++) {
+            if (previous[j] <= max) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Doc(Long id, String employeeCode, String firstName, String lastName,
+                       String email, String phone, Long departmentId) {
+
+        String name() {
+            return lastName == null || lastName.isBlank() ? firstName : firstName + " " + lastName;
+        }
+    }
+
+    /**
+     * Growable, always-sorted list of ordinals.
+     */
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            // Ordinals are appended in increasing order, so a repeat can only be the last entry
+            if (size > 0 && ordinals[size - 1] == ordinal) {
+                return;
+            }
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+    }
+
+    private static final class TenantSearchIndex {
+
+        private final Map<Long, String> departments;
+        private final List<Doc> docs = new ArrayList<>();
+        private final List<String[]> nameWords = new ArrayList<>();
+        private final List<String[]> otherWords = new ArrayList<>();
+        private final BitSet live = new BitSet();
+        private final Map<Long, Integer> ordinalById = new HashMap<>();
+        private final Map<Long, Postings> gramPostings = new HashMap<>();
+        // Name and department words only; codes, emails and phones are not typo-matched
+        private final Map<String, Postings> vocabulary = new HashMap<>();
+
+        private TenantSearchIndex(Map<Long, String> departments) {
+            this.departments = departments;
+        }
+
+        /**
+         * @return false when the employee references a department this snapshot does not know
+         */
+        synchronized boolean upsert(Doc doc) {
+            if (doc.departmentId() != null && !departments.containsKey(doc.departmentId())) {
+                return false;
+            }
+            retire(doc.id());
+            append(doc);
+            compactIfSparse();
+            return true;
+        }
+
+        synchronized void remove(Long employeeId) {
+            retire(employeeId);
+            compactIfSparse();
+        }
+
+        synchronized int size() {
+            return ordinalById.size();
+        }
+
+        synchronized List<EmployeeSearchResult> search(List<String> terms, int limit) {
+            BitSet matches = null;
+            BitSet fuzzy = new BitSet();
+
+            for (String term : terms) {
+                BitSet termMatches = gramMatches(prefixGrams(term), ordinal -> hasWord(ordinal, word -> word.startsWith(term)));
+                if (termMatches.isEmpty() && term.length() >= 3) {
+                    termMatches = gramMatches(trigrams(term), ordinal -> hasWord(ordinal, word -> word.contains(term)));
+                }
+                if (termMatches.isEmpty()) {
+                    termMatches = fuzzyMatches(term);
+                    fuzzy.or(termMatches);
+                }
+                if (matches == null) {
+                    matches = termMatches;
+                } else {
+                    matches.and(termMatches);
+                }
+                if (matches.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<Scored> scored = new ArrayList<>();
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                scored.add(new Scored(ordinal, score(ordinal, terms)));
+            }
+            scored.sort(Comparator.comparingInt(Scored::score).reversed()
+                .thenComparing(entry -> docs.get(entry.ordinal()).name(), String.CASE_INSENSITIVE_ORDER));
+
+            return scored.stream()
+                .limit(limit)
+                .map(entry -> toResult(docs.get(entry.ordinal()), fuzzy.get(entry.ordinal())))
+                .toList();
+        }
+
+        // Intersect the posting lists of the grams, then confirm the candidate really matches
+        private BitSet gramMatches(long[] grams, IntPredicate confirm) {
+            Postings[] lists = new Postings[grams.length];
+            for (int i = 0; i < grams.length; i++) {
+                lists[i] = gramPostings.get(grams[i]);
+                if (lists[i] == null) {
+                    return new BitSet();
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+            BitSet result = new BitSet();
+            Postings smallest = lists[0];
+            int[] cursors = new int[lists.length];
+            candidates:
+            for (int i = 0; i < smallest.size; i++) {
+                int ordinal = smallest.ordinals[i];
+                if (!live.get(ordinal)) {
+                    continue;
+                }
+                for (int l = 1; l < lists.length; l++) {
+                    Postings list = lists[l];
+                    int cursor = cursors[l];
+                    while (cursor < list.size && list.ordinals[cursor] < ordinal) {
+                        cursor++;
+                    }
+                    cursors[l] = cursor;
+                    if (cursor == list.size) {
+                        break candidates;
+                    }
+                    if (list.ordinals[cursor] != ordinal) {
+                        continue candidates;
+                    }
+                }
+                if (confirm.test(ordinal)) {
+                    result.set(ordinal);
+                }
+            }
+            return result;
+        }
+
+        private BitSet fuzzyMatches(String term) {
+            BitSet result = new BitSet();
+            int max = maxEdits(term);
+            if (max == 0 || !term.chars().allMatch(Character::isLetter)) {
+                return result;
+            }
+            for (Map.Entry<String, Postings> entry : vocabulary.entrySet()) {
+                if (withinEdits(term, entry.getKey(), max)) {
+                    Postings postings = entry.getValue();
+                    for (int i = 0; i < postings.size; i++) {
+                        result.set(postings.ordinals[i]);
+                    }
+                }
+            }
+            result.and(live);
+            return result;
+        }
+
+        private boolean hasWord(int ordinal, Predicate<String> test) {
+            for (String word : nameWords.get(ordinal)) {
+                if (test.test(word)) {
+                    return true;
+                }
+            }
+            for (String word : otherWords.get(ordinal)) {
+                if (test.test(word)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Exact code first, then name prefixes, other prefixes and substrings; typo matches rank last
+        private int score(int ordinal, List<String> terms) {
+            Doc doc = docs.get(ordinal);
+            int score = 0;
+            if (terms.size() == 1 && doc.employeeCode() != null
+                && String.join("", words(doc.employeeCode())).equals(terms.get(0))) {
+                score += 10;
+            }
+            for (String term : terms) {
+                if (Arrays.stream(nameWords.get(ordinal)).anyMatch(word -> word.startsWith(term))) {
+                    score += 4;
+                } else if (Arrays.stream(otherWords.get(ordinal)).anyMatch(word -> word.startsWith(term))) {
+                    score += 3;
+                } else if (hasWord(ordinal, word -> word.contains(term))) {
+                    score += 2;
+                } else {
+                    score += 1;
+                }
+            }
+            return score;
+        }
+
+        private EmployeeSearchResult toResult(Doc doc, boolean fuzzy) {
+            return EmployeeSearchResult.builder()
+                .id(doc.id())
+                .employeeCode(doc.employeeCode())
+                .name(doc.name())
+                .email(doc.email())
+                .phone(doc.phone())
+                .departmentId(doc.departmentId())
+                .department(doc.departmentId() != null ? departments.get(doc.departmentId()) : null)
+                .fuzzy(fuzzy)
+                .build();
+        }
+
+        private void append(Doc doc) {
+            int ordinal = docs.size();
+
+            Set<String> names = new LinkedHashSet<>();
+            addFieldWords(names, doc.firstName());
+            addFieldWords(names, doc.lastName());
+            Set<String> departmentWords = new LinkedHashSet<>();
+            if (doc.departmentId() != null) {
+                addFieldWords(departmentWords, departments.get(doc.departmentId()));
+            }
+            Set<String> others = new LinkedHashSet<>();
+            addFieldWords(others, doc.employeeCode());
+            addFieldWords(others, doc.email());
+            addFieldWords(others, doc.phone());
+            others.addAll(departmentWords);
+            others.removeAll(names);
+
+            docs.add(doc);
+            nameWords.add(names.toArray(String[]::new));
+            otherWords.add(others.toArray(String[]::new));
+            live.set(ordinal);
+            ordinalById.put(doc.id(), ordinal);
+
+            for (Set<String> words : List.of(names, others)) {
+                for (String word : words) {
+                    for (long gram : indexGrams(word)) {
+                        gramPostings.computeIfAbsent(gram, key -> new Postings()).add(ordinal);
+                    }
+                }
+            }
+            for (Set<String> words : List.of(names, departmentWords)) {
+                for (String word : words) {
+                    vocabulary.computeIfAbsent(word, key -> new Postings()).add(ordinal);
+                }
+            }
+        }
+
+        private void retire(Long employeeId) {
+            Integer ordinal = ordinalById.remove(employeeId);
+            if (ordinal != null) {
+                live.clear(ordinal);
+            }
+        }
+
+        // Rebuild from the live documents once most ordinals are retired, releasing their postings
+        private void compactIfSparse() {
+            int retired = docs.size() - ordinalById.size();
+            if (retired < MIN_COMPACTION_SIZE || retired < ordinalById.size()) {
+                return;
+            }
+            List<Doc> current = new ArrayList<>(ordinalById.size());
+            for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+                current.add(docs.get(ordinal));
+            }
+            docs.clear();
+            nameWords.clear();
+            otherWords.clear();
+            live.clear();
+            ordinalById.clear();
+            gramPostings.clear();
+            vocabulary.clear();
+            current.forEach(this::append);
+        }
+
+        private record Scored(int ordinal, int score) {}
+    }
+}
@@ -1,37 +1,54 @@
 package com.worksyncx.hrms.service.employee;
 
+import com.worksyncx.hrms.dto.employee.EmployeeEvent;
 import com.worksyncx.hrms.dto.employee.EmployeeRequest;
 import com.worksyncx.hrms.dto.employee.EmployeeResponse;
 import com.worksyncx.hrms.entity.Employee;
-import com.worksyncx.hrms.entity.Tenant;
 import com.worksyncx.hrms.entity.User;
 import com.worksyncx.hrms.entity.Role;
+import com.worksyncx.hrms.enums.CacheName;
+import com.worksyncx.hrms.enums.DomainEventType;
 import com.worksyncx.hrms.enums.EmploymentStatus;
 import com.worksyncx.hrms.exception.*;
 import com.worksyncx.hrms.repository.DepartmentRepository;
 import com.worksyncx.hrms.repository.DesignationRepository;
 import com.worksyncx.hrms.repository.EmployeeRepository;
+import com.worksyncx.hrms.repository.FieldSelectionRepository;
+import com.worksyncx.hrms.repository.LeaveRequestRepository;
 import com.worksyncx.hrms.repository.TenantRepository;
 import com.worksyncx.hrms.repository.UserRepository;
 import com.worksyncx.hrms.repository.RoleRepository;
 import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.cache.CacheInvalidationBus;
+import com.worksyncx.hrms.service.hierarchy.OrgHierarchyService;
+import com.worksyncx.hrms.service.outbox.OutboxService;
 import com.worksyncx.hrms.service.subscription.SubscriptionService;
 import com.worksyncx.hrms.dto.common.PageResponse;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
+@Observed(name = "hrms.service", lowCardinalityKeyValues = {"module", "EMPLOYEES"})
 @RequiredArgsConstructor
 public class EmployeeService {
 
@@ -41,7 +58,14 @@ public class EmployeeService {
     private final SubscriptionService subscriptionService;
     private final TenantRepository tenantRepository;
     private final UserRepository userRepository;
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final OrgHierarchyService orgHierarchyService;
+    private final OrgChartService orgChartService;
+    private final EmployeeSearchService employeeSearchService;
+    private final OutboxService outboxService;
     private final RoleRepository roleRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final FieldSelectionRepository fieldSelectionRepository;
     private final PasswordEncoder passwordEncoder;
 
     private static final Pattern PHONE_PATTERN = Pattern.compile("^[+]?[0-9]{10,15}$");
@@ -172,6 +196,9 @@ public class EmployeeService {
         mapRequestToEntity(request, employee);
         employee.setCreatedBy(TenantContext.getUserId());
         employee = employeeRepository.save(employee);
+        orgHierarchyService.addEmployee(tenantId, employee.getId(), employee.getManagerId());
+        orgChartService.recordAfterCommit(employee);
+        employeeSearchService.recordAfterCommit(employee);
 
         // Generate secure random temporary password
         String temporaryPassword = generateTemporaryPassword();
@@ -197,7 +224,10 @@ public class EmployeeService {
                 newRole.setDescription("Employee with limited access");
                 newRole.setIsSystemRole(false);
                 newRole.setCreatedBy(TenantContext.getUserId());
-                return roleRepository.save(newRole);
+                Role created = roleRepository.save(newRole);
+                // Other instances may have cached the role lookup as empty
+                cacheInvalidationBus.publish(CacheName.ACCESS_CONTROL, tenantId, created.getId());
+                return created;
             });
 
         user.setRoles(new HashSet<>());
@@ -208,6 +238,8 @@ public class EmployeeService {
         employee.setUserId(user.getId());
         employee = employeeRepository.save(employee);
 
+        outboxService.append(tenantId, DomainEventType.EMPLOYEE_CREATED, employee.getId(), toEvent(employee, null));
+
         // Map to response and include temporary password
         EmployeeResponse response = mapToResponse(employee);
         response.setTemporaryPassword(temporaryPassword);
@@ -278,6 +310,42 @@ public class EmployeeService {
         return PageResponse.from(page, content);
     }
 
+    // =====================================================
+    // SPARSE FIELDSETS (only the requested columns are selected)
+    // =====================================================
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getEmployeeFields(EmploymentStatus status, Long departmentId, String fields) {
+        Long tenantId = TenantContext.getTenantId();
+        List<String> columns = fieldSelectionRepository.resolveFields(Employee.class, EmployeeResponse.class, fields);
+        return fieldSelectionRepository.findFields(Employee.class, employeeFilter(tenantId, status, departmentId),
+            columns, Sort.unsorted());
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> getEmployeeFieldsPaginated(
+        EmploymentStatus status, Long departmentId, String fields, Pageable pageable
+    ) {
+        Long tenantId = TenantContext.getTenantId();
+        List<String> columns = fieldSelectionRepository.resolveFields(Employee.class, EmployeeResponse.class, fields);
+        return PageResponse.from(fieldSelectionRepository.findFields(Employee.class,
+            employeeFilter(tenantId, status, departmentId), columns, pageable));
+    }
+
+    private Specification<Employee> employeeFilter(Long tenantId, EmploymentStatus status, Long departmentId) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("tenantId"), tenantId));
+            if (status != null) {
+                predicates.add(cb.equal(root.get("employmentStatus"), status));
+            }
+            if (departmentId != null) {
+                predicates.add(cb.equal(root.get("departmentId"), departmentId));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
     @Transactional(readOnly = true)
     public EmployeeResponse getEmployeeById(Long id) {
         Long tenantId = TenantContext.getTenantId();
@@ -286,6 +354,26 @@ public class EmployeeService {
         return mapToResponse(employee);
     }
 
+    /**
+     * Everyone reporting to an employee, directly or indirectly, nearest levels first.
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeResponse> getReports(Long id) {
+        Long tenantId = TenantContext.getTenantId();
+        employeeRepository.findByTenantIdAndId(tenantId, id)
+            .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + id));
+
+        List<Long> reportIds = orgHierarchyService.getReportIds(tenantId, id);
+        Map<Long, Employee> reports = employeeRepository.findAllById(reportIds)
+            .stream()
+            .collect(Collectors.toMap(Employee::getId, e -> e));
+        return reportIds.stream()
+            .map(reports::get)
+            .filter(Objects::nonNull)
+            .map(this::mapToResponse)
+            .collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public EmployeeResponse getEmployeeByCode(String employeeCode) {
         Long tenantId = TenantContext.getTenantId();
@@ -308,6 +396,7 @@ public class EmployeeService {
 
         Employee employee = employeeRepository.findByTenantIdAndUserId(tenantId, userId)
             .orElseThrow(() -> new EmployeeNotFoundException("Employee profile not found"));
+        Map<String, Object> previousFields = eventFields(employee);
 
         // Only allow updating specific fields for employee self-service
         if (updates.containsKey("phone")) {
@@ -340,6 +429,10 @@ public class EmployeeService {
 
         employee.setUpdatedBy(userId);
         employee = employeeRepository.save(employee);
+        // Phone is indexed for directory search
+        employeeSearchService.recordAfterCommit(employee);
+        outboxService.append(tenantId, DomainEventType.EMPLOYEE_UPDATED, employee.getId(),
+            toEvent(employee, changedFields(previousFields, eventFields(employee))));
         return mapToResponse(employee);
     }
 
@@ -399,10 +492,29 @@ public class EmployeeService {
                 .orElseThrow(() -> new EmployeeNotFoundException("Manager not found with id: " + request.getManagerId()));
         }
 
+        final Long previousManagerId = employee.getManagerId();
+        final List<Object> previousChartFields = orgChartFields(employee);
+        final Map<String, Object> previousFields = eventFields(employee);
+        if (!Objects.equals(previousManagerId, request.getManagerId())) {
+            orgHierarchyService.assertCanReportTo(id, request.getManagerId());
+        }
+
         mapRequestToEntity(request, employee);
         employee.setUpdatedBy(TenantContext.getUserId());
 
         employee = employeeRepository.save(employee);
+
+        if (!Objects.equals(previousManagerId, employee.getManagerId())) {
+            orgHierarchyService.moveEmployee(employee.getId(), employee.getManagerId());
+            // Pending leave follows the employee to their new manager's inbox
+            leaveRequestRepository.reassignPendingApprover(tenantId, employee.getId(), employee.getManagerId());
+        }
+        if (!previousChartFields.equals(orgChartFields(employee))) {
+            orgChartService.recordAfterCommit(employee);
+        }
+        employeeSearchService.recordAfterCommit(employee);
+        outboxService.append(tenantId, DomainEventType.EMPLOYEE_UPDATED, employee.getId(),
+            toEvent(employee, changedFields(previousFields, eventFields(employee))));
         return mapToResponse(employee);
     }
 
@@ -416,9 +528,8 @@ public class EmployeeService {
         // Check if this employee is a manager of other employees
         long subordinateCount = employeeRepository.countByTenantIdAndManagerId(tenantId, id);
         if (subordinateCount > 0) {
-            List<Employee> subordinates = employeeRepository.findByTenantIdAndManagerId(tenantId, id);
-            String subordinateNames = subordinates.stream()
-                .limit(3)
+            String subordinateNames = employeeRepository.findTop3ByTenantIdAndManagerIdOrderByIdAsc(tenantId, id)
+                .stream()
                 .map(e -> e.getFirstName() + " " + e.getLastName())
                 .reduce((a, b) -> a + ", " + b)
                 .orElse("");
@@ -436,10 +547,10 @@ public class EmployeeService {
         Long userId = employee.getUserId();
         if (userId != null) {
             // Check if this user is the primary owner of the tenant
-            Tenant tenant = tenantRepository.findById(tenantId)
+            TenantRepository.TenantOwnership ownership = tenantRepository.findOwnershipById(tenantId)
                 .orElseThrow(() -> new RuntimeException("Tenant not found"));
 
-            if (userId.equals(tenant.getPrimaryOwnerUserId())) {
+            if (userId.equals(ownership.getPrimaryOwnerUserId())) {
                 throw new TenantOwnerDeletionException(
                     "Cannot delete the primary owner of the tenant. " +
                     "The primary owner is the account that created and owns the subscription. " +
@@ -447,31 +558,85 @@ public class EmployeeService {
                 );
             }
 
-            // Check if this is the last tenant admin
-            User user = userRepository.findById(userId).orElse(null);
-            if (user != null && user.getRoles() != null) {
-                boolean isTenantAdmin = user.getRoles().stream()
-                    .anyMatch(role -> "TENANT_ADMIN".equals(role.getName()));
-
-                if (isTenantAdmin) {
-                    // Count total tenant admins
-                    long tenantAdminCount = userRepository.findByTenantId(tenantId).stream()
-                        .filter(u -> u.getRoles() != null && u.getRoles().stream()
-                            .anyMatch(r -> "TENANT_ADMIN".equals(r.getName())))
-                        .count();
-
-                    if (tenantAdminCount <= 1) {
-                        throw new LastTenantAdminException(
-                            "Cannot delete the last tenant administrator. " +
-                            "At least one tenant admin must exist to manage the organization. " +
-                            "Please assign another user as admin before deleting this account."
-                        );
-                    }
-                }
+            // Check if this is the last tenant admin (admin_count is maintained by a trigger on user_roles)
+            if (ownership.getAdminCount() <= 1 && userRepository.hasRole(userId, "TENANT_ADMIN")) {
+                throw new LastTenantAdminException(
+                    "Cannot delete the last tenant administrator. " +
+                    "At least one tenant admin must exist to manage the organization. " +
+                    "Please assign another user as admin before deleting this account."
+                );
             }
         }
 
+        EmployeeEvent deleted = toEvent(employee, null);
         employeeRepository.delete(employee);
+        outboxService.append(tenantId, DomainEventType.EMPLOYEE_DELETED, id, deleted);
+        orgChartService.removeAfterCommit(tenantId, id);
+        employeeSearchService.removeAfterCommit(tenantId, id);
+    }
+
+    // Fields shown on the org chart; a change in any of them patches the cached chart
+    private List<Object> orgChartFields(Employee employee) {
+        return Arrays.asList(employee.getFirstName(), employee.getLastName(),
+            employee.getDesignationId(), employee.getManagerId(), employee.getEmploymentStatus());
+    }
+
+    // Outbox payload: identifiers and placement only, so personal and bank details never leave the database
+    private EmployeeEvent toEvent(Employee employee, List<String> changedFields) {
+        return EmployeeEvent.builder()
+            .id(employee.getId())
+            .tenantId(employee.getTenantId())
+            .userId(employee.getUserId())
+            .employeeCode(employee.getEmployeeCode())
+            .departmentId(employee.getDepartmentId())
+            .designationId(employee.getDesignationId())
+            .managerId(employee.getManagerId())
+            .employmentStatus(employee.getEmploymentStatus())
+            .changedFields(changedFields)
+            .build();
+    }
+
+    // Every field an update can change, compared by value to name the changed fields in EMPLOYEE_UPDATED
+    private Map<String, Object> eventFields(Employee employee) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("userId", employee.getUserId());
+        fields.put("employeeCode", employee.getEmployeeCode());
+        fields.put("firstName", employee.getFirstName());
+        fields.put("lastName", employee.getLastName());
+        fields.put("email", employee.getEmail());
+        fields.put("phone", employee.getPhone());
+        fields.put("dateOfBirth", employee.getDateOfBirth());
+        fields.put("gender", employee.getGender());
+        fields.put("nationality", employee.getNationality());
+        fields.put("departmentId", employee.getDepartmentId());
+        fields.put("designationId", employee.getDesignationId());
+        fields.put("managerId", employee.getManagerId());
+        fields.put("dateOfJoining", employee.getDateOfJoining());
+        fields.put("dateOfLeaving", employee.getDateOfLeaving());
+        fields.put("employmentType", employee.getEmploymentType());
+        fields.put("employmentStatus", employee.getEmploymentStatus());
+        // 50000 and 50000.00 are the same salary
+        fields.put("basicSalary", employee.getBasicSalary() != null ? employee.getBasicSalary().stripTrailingZeros() : null);
+        fields.put("currency", employee.getCurrency());
+        fields.put("address", employee.getAddress());
+        fields.put("city", employee.getCity());
+        fields.put("state", employee.getState());
+        fields.put("country", employee.getCountry());
+        fields.put("postalCode", employee.getPostalCode());
+        fields.put("emergencyContactName", employee.getEmergencyContactName());
+        fields.put("emergencyContactPhone", employee.getEmergencyContactPhone());
+        fields.put("emergencyContactRelation", employee.getEmergencyContactRelation());
+        fields.put("bankName", employee.getBankName());
+        fields.put("bankAccount", employee.getBankAccount());
+        fields.put("ifscCode", employee.getIfscCode());
+        fields.put("pan", employee.getPan());
+        return fields;
+    }
+
+    private static List<String> changedFields(Map<String, Object> before, Map<String, Object> after) {
+        return before.keySet().stream()
+            .filter(field -> !Objects.equals(before.get(field), after.get(field)))
+            .toList();
     }
 
     private void mapRequestToEntity(EmployeeRequest request, Employee employee) {
@@ -0,0 +1,311 @@
+package com.worksyncx.hrms.service.employee;
+
+import com.worksyncx.hrms.dto.employee.OrgChartNode;
+import com.worksyncx.hrms.dto.employee.OrgChartResponse;
+import com.worksyncx.hrms.entity.Designation;
+import com.worksyncx.hrms.entity.Employee;
+import com.worksyncx.hrms.enums.CacheName;
+import com.worksyncx.hrms.enums.EmploymentStatus;
+import com.worksyncx.hrms.exception.EmployeeNotFoundException;
+import com.worksyncx.hrms.repository.DesignationRepository;
+import com.worksyncx.hrms.repository.EmployeeRepository;
+import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.cache.CacheInvalidationBus;
+import com.worksyncx.hrms.service.cache.CacheLoadTransaction;
+import com.worksyncx.hrms.service.cache.LocalCacheRegistry;
+import com.worksyncx.hrms.util.LoadingMap;
+import com.worksyncx.hrms.util.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Compact, cached org chart per tenant.
+ *
+ * The chart is built once from a narrow projection and then patched in place when an employee's
+ * name, designation, manager or status changes. Every such change bumps the tenant's row in
+ * org_chart_versions in the writing transaction, and that version doubles as the ETag, so unchanged
+ * charts are answered with 304 without serialising anything. Because the version lives in the
+ * database it only moves forward, survives rebuilds and restarts, and matches across instances.
+ * Responses are limited to a subtree and depth so large organisations can be expanded lazily.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrgChartService {
+
+    public static final int DEFAULT_DEPTH = 2;
+    public static final int MAX_DEPTH = 10;
+
+    private static final String BUMP_VERSION_SQL = """
+        INSERT INTO org_chart_versions (tenant_id, version) VALUES (?, 1)
+        ON CONFLICT (tenant_id) DO UPDATE
+        SET version = org_chart_versions.version + 1, updated_at = CURRENT_TIMESTAMP
+        RETURNING version""";
+
+    private final EmployeeRepository employeeRepository;
+    private final DesignationRepository designationRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final LocalCacheRegistry localCacheRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheLoadTransaction cacheLoadTransaction;
+
+    private final LoadingMap<Long, TenantOrgChart> charts = new LoadingMap<>();
+
+    /**
+     * Changes made on other instances rebuild the tenant's chart on next read.
+     */
+    @PostConstruct
+    void subscribeToInvalidations() {
+        localCacheRegistry.register(CacheName.ORG_CHART, charts);
+        cacheInvalidationBus.subscribe(CacheName.ORG_CHART, event -> charts.remove(event.tenantId()), charts::clear);
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Current chart version for the tenant; the controller compares it with If-None-Match.
+     */
+    public String getVersion() {
+        return chartFor(TenantContext.getTenantId()).versionTag();
+    }
+
+    @Transactional(readOnly = true)
+    public OrgChartResponse getOrgChart(Long rootId, Integer depth) {
+        Long tenantId = TenantContext.getTenantId();
+        int levels = depth != null ? Math.max(1, Math.min(depth, MAX_DEPTH)) : DEFAULT_DEPTH;
+        return chartFor(tenantId).render(rootId, levels);
+    }
+
+    // ==================== Incremental Updates ====================
+
+    /**
+     * Bump the tenant's chart version and patch the cached chart with an employee's current state
+     * once the transaction commits. Must be called inside the writing transaction.
+     */
+    public void recordAfterCommit(Employee employee) {
+        Long tenantId = employee.getTenantId();
+        Node node = employee.getEmploymentStatus() == EmploymentStatus.SEPARATED ? null : new Node(
+            employee.getId(), fullName(employee.getFirstName(), employee.getLastName()),
+            employee.getDesignationId(), employee.getManagerId());
+        Long employeeId = employee.getId();
+
+        long version = bumpVersion(tenantId);
+        cacheInvalidationBus.publish(CacheName.ORG_CHART, tenantId, employeeId);
+        // A designation created after the chart was built, or a patch arriving out of order, means a rebuild on next read
+        TransactionHooks.afterCommit(() -> charts.computeIfPresent(tenantId, (id, chart) ->
+            chart.apply(version, employeeId, node) ? chart : null));
+    }
+
+    public void removeAfterCommit(Long tenantId, Long employeeId) {
+        long version = bumpVersion(tenantId);
+        cacheInvalidationBus.publish(CacheName.ORG_CHART, tenantId, employeeId);
+        TransactionHooks.afterCommit(() -> charts.computeIfPresent(tenantId, (id, chart) ->
+            chart.apply(version, employeeId, null) ? chart : null));
+    }
+
+    /**
+     * Designation names are denormalised into the chart; renames rebuild it on next read.
+     */
+    public void evictAfterCommit(Long tenantId) {
+        bumpVersion(tenantId);
+        cacheInvalidationBus.publish(CacheName.ORG_CHART, tenantId, null);
+        TransactionHooks.afterCommit(() -> charts.remove(tenantId));
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Row-locks the tenant's version until the writing transaction ends, so versions commit in order.
+     */
+    private long bumpVersion(Long tenantId) {
+        return jdbcTemplate.queryForObject(BUMP_VERSION_SQL, Long.class, tenantId);
+    }
+
+    // The version and the rows come from one snapshot, so a chart never carries a version older than its rows
+    private TenantOrgChart chartFor(Long tenantId) {
+        return charts.get(tenantId, id -> cacheLoadTransaction.execute(() -> {
+            long version = jdbcTemplate.queryForList(
+                    "SELECT version FROM org_chart_versions WHERE tenant_id = ?", Long.class, id)
+                .stream().findFirst().orElse(0L);
+            Map<Long, String> designations = designationRepository.findByTenantId(id)
+                .stream()
+                .collect(Collectors.toMap(Designation::getId, Designation::getName));
+
+            TenantOrgChart chart = new TenantOrgChart(id, version, designations);
+            employeeRepository.findOrgChartRows(id, EmploymentStatus.SEPARATED)
+                .forEach(row -> chart.upsert(new Node(row.getId(), fullName(row.getFirstName(), row.getLastName()),
+                    row.getDesignationId(), row.getManagerId())));
+            log.debug("Built org chart for tenant {} at version {} with {} employees", id, version, chart.size());
+            return chart;
+        }));
+    }
+
+    private static String fullName(String firstName, String lastName) {
+        return lastName == null || lastName.isBlank() ? firstName : firstName + " " + lastName;
+    }
+
+    private record Node(Long id, String name, Long designationId, Long managerId) {}
+
+    private static final class TenantOrgChart {
+
+        private final Long tenantId;
+        private final Map<Long, String> designations;
+        private final Map<Long, Node> nodes = new HashMap<>();
+        private final Map<Long, Set<Long>> children = new HashMap<>();
+        private List<Long> roots;
+        private long version;
+
+        private TenantOrgChart(Long tenantId, long version, Map<Long, String> designations) {
+            this.tenantId = tenantId;
+            this.version = version;
+            this.designations = designations;
+        }
+
+        /**
+         * Apply the change committed as {@code newVersion}: upsert {@code node}, or remove the employee when it is null.
+         *
+         * @return false when the chart can no longer be patched and must be rebuilt: an earlier version
+         *         has not been applied yet, or the node references a designation this snapshot does not know
+         */
+        synchronized boolean apply(long newVersion, Long employeeId, Node node) {
+            if (newVersion <= version) {
+                // Already part of the snapshot this chart was built from
+                return true;
+            }
+            if (newVersion != version + 1) {
+                return false;
+            }
+            if (node == null) {
+                remove(employeeId);
+            } else if (!upsert(node)) {
+                return false;
+            }
+            version = newVersion;
+            return true;
+        }
+
+        /**
+         * @return false when the node references a designation this snapshot does not know
+         */
+        private boolean upsert(Node node) {
+            if (node.designationId() != null && !designations.containsKey(node.designationId())) {
+                return false;
+            }
+            Node previous = nodes.put(node.id(), node);
+            if (previous != null && !Objects.equals(previous.managerId(), node.managerId())) {
+                detach(previous);
+            }
+            if (node.managerId() != null) {
+                children.computeIfAbsent(node.managerId(), id -> new LinkedHashSet<>()).add(node.id());
+            }
+            roots = null;
+            return true;
+        }
+
+        private void remove(Long employeeId) {
+            Node previous = nodes.remove(employeeId);
+            if (previous != null) {
+                detach(previous);
+                roots = null;
+            }
+        }
+
+        // The tenant is part of the tag so a browser shared between tenants never revalidates across them
+        synchronized String versionTag() {
+            return "org-" + tenantId + "-" + version;
+        }
+
+        synchronized int size() {
+            return nodes.size();
+        }
+
+        synchronized OrgChartResponse render(Long rootId, int depth) {
+            List<Long> start;
+            if (rootId != null) {
+                if (!nodes.containsKey(rootId)) {
+                    throw new EmployeeNotFoundException("Employee not found in org chart with id: " + rootId);
+                }
+                start = List.of(rootId);
+            } else {
+                start = roots();
+            }
+
+            // Breadth-first, stopping `depth` levels below the starting nodes
+            List<OrgChartNode> result = new ArrayList<>();
+            Deque<Long> queue = new ArrayDeque<>(start);
+            Map<Long, Integer> level = new HashMap<>();
+            start.forEach(id -> level.put(id, 0));
+
+            while (!queue.isEmpty()) {
+                Long id = queue.poll();
+                Node node = nodes.get(id);
+                Set<Long> reports = children.getOrDefault(id, Set.of());
+                result.add(OrgChartNode.builder()
+                    .id(node.id())
+                    .name(node.name())
+                    .designationId(node.designationId())
+                    .designation(node.designationId() != null ? designations.get(node.designationId()) : null)
+                    .managerId(node.managerId())
+                    .directReports(reports.size())
+                    .build());
+
+                int nextLevel = level.get(id) + 1;
+                if (nextLevel <= depth) {
+                    for (Long reportId : reports) {
+                        if (level.putIfAbsent(reportId, nextLevel) == null) {
+                            queue.add(reportId);
+                        }
+                    }
+                }
+            }
+
+            return OrgChartResponse.builder()
+                .version(versionTag())
+                .rootId(rootId)
+                .depth(depth)
+                .totalEmployees(nodes.size())
+                .nodes(result)
+                .build();
+        }
+
+        private void detach(Node node) {
+            if (node.managerId() == null) {
+                return;
+            }
+            Set<Long> siblings = children.get(node.managerId());
+            if (siblings != null) {
+                siblings.remove(node.id());
+                if (siblings.isEmpty()) {
+                    children.remove(node.managerId());
+                }
+            }
+        }
+
+        // Employees without a manager in the chart (no manager, or the manager has left)
+        private List<Long> roots() {
+            if (roots == null) {
+                roots = nodes.values().stream()
+                    .filter(node -> node.managerId() == null || !nodes.containsKey(node.managerId()))
+                    .map(Node::id)
+                    .sorted()
+                    .collect(Collectors.toList());
+            }
+            return roots;
+        }
+    }
+}
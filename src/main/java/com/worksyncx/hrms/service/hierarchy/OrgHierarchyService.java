@@ -0,0 +1,118 @@
+package com.worksyncx.hrms.service.hierarchy;
+
+import com.worksyncx.hrms.exception.EmployeeValidationException;
+import com.worksyncx.hrms.repository.DepartmentHierarchyRepository;
+import com.worksyncx.hrms.repository.EmployeeHierarchyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Maintains and queries the closure tables behind the manager and department trees.
+ *
+ * Writers call the {@code add}/{@code move} methods inside their own transaction right after changing
+ * {@code managerId} or {@code parentDepartmentId}, so the closure rows commit or roll back with the change.
+ * A move is two set-based statements regardless of subtree size.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrgHierarchyService {
+
+    private final EmployeeHierarchyRepository employeeHierarchyRepository;
+    private final DepartmentHierarchyRepository departmentHierarchyRepository;
+
+    // ==================== Reporting Tree ====================
+
+    @Transactional
+    public void addEmployee(Long tenantId, Long employeeId, Long managerId) {
+        employeeHierarchyRepository.insertSelf(tenantId, employeeId);
+        if (managerId != null) {
+            employeeHierarchyRepository.attachSubtree(employeeId, managerId);
+        }
+    }
+
+    @Transactional
+    public void moveEmployee(Long employeeId, Long newManagerId) {
+        employeeHierarchyRepository.detachSubtree(employeeId);
+        if (newManagerId != null) {
+            employeeHierarchyRepository.attachSubtree(employeeId, newManagerId);
+        }
+    }
+
+    /**
+     * Reject a manager assignment that would make an employee report to themselves or to someone below them.
+     */
+    public void assertCanReportTo(Long employeeId, Long managerId) {
+        if (managerId != null && employeeHierarchyRepository.existsByIdAncestorIdAndIdDescendantId(employeeId, managerId)) {
+            throw new EmployeeValidationException("An employee cannot report to themselves or to one of their reports");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> getReportIds(Long tenantId, Long managerId) {
+        return employeeHierarchyRepository.findDescendantIds(tenantId, managerId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> getManagementChainIds(Long tenantId, Long employeeId) {
+        return employeeHierarchyRepository.findAncestorIds(tenantId, employeeId);
+    }
+
+    @Transactional(readOnly = true)
+    public long countReports(Long tenantId, Long managerId) {
+        return employeeHierarchyRepository.countDescendants(tenantId, managerId);
+    }
+
+    /**
+     * True when {@code employeeId} reports to {@code managerId} directly or indirectly.
+     */
+    @Transactional(readOnly = true)
+    public boolean isInReportingTree(Long managerId, Long employeeId) {
+        return !Objects.equals(managerId, employeeId)
+            && employeeHierarchyRepository.existsByIdAncestorIdAndIdDescendantId(managerId, employeeId);
+    }
+
+    // ==================== Department Tree ====================
+
+    @Transactional
+    public void addDepartment(Long tenantId, Long departmentId, Long parentDepartmentId) {
+        departmentHierarchyRepository.insertSelf(tenantId, departmentId);
+        if (parentDepartmentId != null) {
+            departmentHierarchyRepository.attachSubtree(departmentId, parentDepartmentId);
+        }
+    }
+
+    @Transactional
+    public void moveDepartment(Long departmentId, Long newParentDepartmentId) {
+        departmentHierarchyRepository.detachSubtree(departmentId);
+        if (newParentDepartmentId != null) {
+            departmentHierarchyRepository.attachSubtree(departmentId, newParentDepartmentId);
+        }
+    }
+
+    public void assertCanMoveDepartmentUnder(Long departmentId, Long parentDepartmentId) {
+        if (parentDepartmentId != null
+                && departmentHierarchyRepository.existsByIdAncestorIdAndIdDescendantId(departmentId, parentDepartmentId)) {
+            throw new RuntimeException("A department cannot be placed under itself or one of its sub-departments");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> getSubDepartmentIds(Long tenantId, Long departmentId) {
+        return departmentHierarchyRepository.findDescendantIds(tenantId, departmentId);
+    }
+
+    @Transactional(readOnly = true)
+    public long countSubDepartments(Long tenantId, Long departmentId) {
+        return departmentHierarchyRepository.countDescendants(tenantId, departmentId);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isSubDepartment(Long ancestorDepartmentId, Long departmentId) {
+        return !Objects.equals(ancestorDepartmentId, departmentId)
+            && departmentHierarchyRepository.existsByIdAncestorIdAndIdDescendantId(ancestorDepartmentId, departmentId);
+    }
+}
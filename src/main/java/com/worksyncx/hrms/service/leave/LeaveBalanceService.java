@@ -0,0 +1,460 @@
+package com.worksyncx.hrms.service.leave;
+
+import com.worksyncx.hrms.dto.leave.LeaveBalanceEntryResponse;
+import com.worksyncx.hrms.dto.leave.LeaveBalanceResponse;
+import com.worksyncx.hrms.dto.leave.LeaveCarryForwardRequest;
+import com.worksyncx.hrms.dto.leave.LeaveEncashmentRequest;
+import com.worksyncx.hrms.entity.LeaveBalance;
+import com.worksyncx.hrms.entity.LeaveBalanceEntry;
+import com.worksyncx.hrms.entity.LeaveRequest;
+import com.worksyncx.hrms.entity.LeaveType;
+import com.worksyncx.hrms.enums.LeaveBalanceEntryType;
+import com.worksyncx.hrms.enums.LeaveStatus;
+import com.worksyncx.hrms.exception.EmployeeNotFoundException;
+import com.worksyncx.hrms.exception.InsufficientLeaveBalanceException;
+import com.worksyncx.hrms.repository.EmployeeRepository;
+import com.worksyncx.hrms.repository.LeaveBalanceEntryRepository;
+import com.worksyncx.hrms.repository.LeaveBalanceRepository;
+import com.worksyncx.hrms.repository.LeaveTypeRepository;
+import com.worksyncx.hrms.security.TenantContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the per-employee leave balance ledger.
+ *
+ * Each (employee, leave type, year) has one {@link LeaveBalance} row holding running totals,
+ * so availability checks are a single indexed lookup. Every movement is also appended to
+ * {@link LeaveBalanceEntry}. Accrual is monthly and posted lazily the first time a balance is
+ * written in a new month, so no scheduler is needed. Only months that have started are ever posted;
+ * leave booked for a later month of the year may also draw on the days that will have accrued by
+ * then, but that allowance is checked at reservation time and never stored.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeaveBalanceService {
+
+    private static final BigDecimal MONTHS_PER_YEAR = BigDecimal.valueOf(12);
+
+    private final LeaveBalanceRepository leaveBalanceRepository;
+    private final LeaveBalanceEntryRepository leaveBalanceEntryRepository;
+    private final LeaveTypeRepository leaveTypeRepository;
+    private final EmployeeRepository employeeRepository;
+
+    // ==================== Leave Request Postings ====================
+
+    /**
+     * Reserve days for a new pending request. Throws if the employee does not have enough available balance.
+     */
+    @Transactional
+    public void reserve(LeaveRequest request, LeaveType leaveType) {
+        if (!isTracked(leaveType)) {
+            return;
+        }
+
+        int year = request.getStartDate().getYear();
+        int accrualMonth = accrualMonthFor(year);
+        BigDecimal days = daysOf(request);
+        LeaveBalance balance = lockBalance(request.getTenantId(), request.getEmployeeId(), leaveType, year, accrualMonth);
+
+        BigDecimal available = balance.getAvailable()
+            .add(accrualUntil(leaveType, accrualMonth, request.getStartDate().getMonthValue()));
+        if (available.compareTo(days) < 0) {
+            throw new InsufficientLeaveBalanceException(String.format(
+                "Insufficient %s balance for %d: requested %s day(s), available %s day(s)",
+                leaveType.getName(), year, days.toPlainString(), available.toPlainString()));
+        }
+
+        balance.setPending(balance.getPending().add(days));
+        balance.setUpdatedBy(TenantContext.getUserId());
+        leaveBalanceRepository.save(balance);
+    }
+
+    /**
+     * Move a request's reserved days into consumption once it is approved.
+     */
+    @Transactional
+    public void consume(LeaveRequest request) {
+        LeaveType leaveType = findTrackedLeaveType(request);
+        if (leaveType != null) {
+            consume(request, leaveType);
+        }
+    }
+
+    /**
+     * Release the reservation of a pending request that was rejected or cancelled.
+     */
+    @Transactional
+    public void release(LeaveRequest request) {
+        LeaveType leaveType = findTrackedLeaveType(request);
+        if (leaveType != null) {
+            release(request, leaveType);
+        }
+    }
+
+    /**
+     * Post a batch of approvals or rejections, resolving leave types once for the whole batch.
+     */
+    @Transactional
+    public void applyDecisions(Collection<LeaveRequest> requests, LeaveStatus decision) {
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        Map<Long, LeaveType> leaveTypes = leaveTypeRepository.findByTenantId(TenantContext.getTenantId())
+            .stream()
+            .collect(Collectors.toMap(LeaveType::getId, Function.identity()));
+
+        for (LeaveRequest request : requests) {
+            LeaveType leaveType = leaveTypes.get(request.getLeaveTypeId());
+            if (!isTracked(leaveType)) {
+                continue;
+            }
+            if (decision == LeaveStatus.APPROVED) {
+                consume(request, leaveType);
+            } else {
+                release(request, leaveType);
+            }
+        }
+    }
+
+    /**
+     * Give back the days of an approved request that was cancelled.
+     */
+    @Transactional
+    public void reverse(LeaveRequest request) {
+        LeaveType leaveType = findTrackedLeaveType(request);
+        if (leaveType == null) {
+            return;
+        }
+
+        BigDecimal days = daysOf(request);
+        int year = request.getStartDate().getYear();
+        LeaveBalance balance = lockBalance(request.getTenantId(), request.getEmployeeId(), leaveType, year,
+            accrualMonthFor(year));
+
+        balance.setConsumed(balance.getConsumed().subtract(days).max(BigDecimal.ZERO));
+        post(balance, LeaveBalanceEntryType.REVERSAL, days, request.getId(), "Leave request cancelled");
+    }
+
+    private void consume(LeaveRequest request, LeaveType leaveType) {
+        BigDecimal days = daysOf(request);
+        int year = request.getStartDate().getYear();
+        LeaveBalance balance = lockBalance(request.getTenantId(), request.getEmployeeId(), leaveType, year,
+            accrualMonthFor(year));
+
+        releasePending(balance, days);
+        balance.setConsumed(balance.getConsumed().add(days));
+        post(balance, LeaveBalanceEntryType.CONSUMPTION, days.negate(), request.getId(), null);
+    }
+
+    private void release(LeaveRequest request, LeaveType leaveType) {
+        leaveBalanceRepository.findForUpdate(request.getTenantId(), request.getEmployeeId(),
+                leaveType.getId(), request.getStartDate().getYear())
+            .ifPresent(balance -> {
+                releasePending(balance, daysOf(request));
+                balance.setUpdatedBy(TenantContext.getUserId());
+                leaveBalanceRepository.save(balance);
+            });
+    }
+
+    // ==================== Balance Queries ====================
+
+    /**
+     * Balances of every tracked leave type for an employee and year, in one indexed query.
+     * Reads never write: an accrual that is due but not yet posted is added to the response only.
+     */
+    @Transactional(readOnly = true)
+    public List<LeaveBalanceResponse> getEmployeeBalances(Long employeeId, Integer year) {
+        Long tenantId = TenantContext.getTenantId();
+        verifyEmployee(tenantId, employeeId);
+
+        int periodYear = year != null ? year : LocalDate.now().getYear();
+        int accrualMonth = accrualMonthFor(periodYear);
+
+        Map<Long, LeaveBalance> existing = leaveBalanceRepository
+            .findByTenantIdAndEmployeeIdAndPeriodYear(tenantId, employeeId, periodYear)
+            .stream()
+            .collect(Collectors.toMap(LeaveBalance::getLeaveTypeId, Function.identity()));
+
+        List<LeaveBalanceResponse> responses = new ArrayList<>();
+        for (LeaveType leaveType : leaveTypeRepository.findByTenantIdAndIsActiveTrue(tenantId)) {
+            if (!isTracked(leaveType)) {
+                continue;
+            }
+
+            responses.add(mapToResponse(existing.get(leaveType.getId()), leaveType, employeeId, periodYear, accrualMonth));
+        }
+        return responses;
+    }
+
+    @Transactional(readOnly = true)
+    public LeaveBalanceResponse getEmployeeBalance(Long employeeId, Long leaveTypeId, Integer year) {
+        Long tenantId = TenantContext.getTenantId();
+        verifyEmployee(tenantId, employeeId);
+        LeaveType leaveType = findLeaveType(tenantId, leaveTypeId);
+
+        int periodYear = year != null ? year : LocalDate.now().getYear();
+        LeaveBalance balance = leaveBalanceRepository
+            .findByTenantIdAndEmployeeIdAndLeaveTypeIdAndPeriodYear(tenantId, employeeId, leaveTypeId, periodYear)
+            .orElse(null);
+        return mapToResponse(balance, leaveType, employeeId, periodYear, accrualMonthFor(periodYear));
+    }
+
+    @Transactional(readOnly = true)
+    public List<LeaveBalanceEntryResponse> getBalanceEntries(Long balanceId) {
+        Long tenantId = TenantContext.getTenantId();
+        leaveBalanceRepository.findByTenantIdAndId(tenantId, balanceId)
+            .orElseThrow(() -> new RuntimeException("Leave balance not found with id: " + balanceId));
+
+        return leaveBalanceEntryRepository.findByTenantIdAndLeaveBalanceIdOrderByCreatedAtAsc(tenantId, balanceId)
+            .stream()
+            .map(this::mapEntryToResponse)
+            .collect(Collectors.toList());
+    }
+
+    // ==================== Encashment & Carry-Forward ====================
+
+    @Transactional
+    public LeaveBalanceResponse encashLeave(LeaveEncashmentRequest request) {
+        Long tenantId = TenantContext.getTenantId();
+        verifyEmployee(tenantId, request.getEmployeeId());
+        LeaveType leaveType = findLeaveType(tenantId, request.getLeaveTypeId());
+
+        LeaveBalance balance = lockBalance(tenantId, request.getEmployeeId(), leaveType, request.getYear(),
+            accrualMonthFor(request.getYear()));
+
+        if (balance.getAvailable().compareTo(request.getDays()) < 0) {
+            throw new InsufficientLeaveBalanceException(String.format(
+                "Cannot encash %s day(s) of %s: only %s day(s) available",
+                request.getDays().toPlainString(), leaveType.getName(), balance.getAvailable().toPlainString()));
+        }
+
+        balance.setEncashed(balance.getEncashed().add(request.getDays()));
+        post(balance, LeaveBalanceEntryType.ENCASHMENT, request.getDays().negate(), null, request.getNotes());
+        return mapToResponse(balance, leaveType);
+    }
+
+    /**
+     * Carry the unused balance of {@code fromYear} into the following year, capped at {@code maxDays}.
+     * Only a year that has ended can be carried forward, so its full accrual has been earned.
+     */
+    @Transactional
+    public LeaveBalanceResponse carryForward(LeaveCarryForwardRequest request) {
+        Long tenantId = TenantContext.getTenantId();
+        verifyEmployee(tenantId, request.getEmployeeId());
+        LeaveType leaveType = findLeaveType(tenantId, request.getLeaveTypeId());
+        int toYear = request.getFromYear() + 1;
+
+        if (request.getFromYear() >= LocalDate.now().getYear()) {
+            throw new RuntimeException("Leave balance for " + request.getFromYear() + " cannot be carried forward before the year has ended");
+        }
+
+        LeaveBalance source = lockBalance(tenantId, request.getEmployeeId(), leaveType, request.getFromYear(),
+            accrualMonthFor(request.getFromYear()));
+        if (source.getCarriedOut().signum() > 0) {
+            throw new RuntimeException("Leave balance for " + request.getFromYear() + " has already been carried forward");
+        }
+
+        BigDecimal days = source.getAvailable().max(BigDecimal.ZERO);
+        if (request.getMaxDays() != null) {
+            days = days.min(request.getMaxDays());
+        }
+
+        LeaveBalance target = lockBalance(tenantId, request.getEmployeeId(), leaveType, toYear, accrualMonthFor(toYear));
+        if (days.signum() > 0) {
+            source.setCarriedOut(source.getCarriedOut().add(days));
+            post(source, LeaveBalanceEntryType.CARRY_FORWARD, days.negate(), null, "Carried forward to " + toYear);
+
+            target.setCarriedForward(target.getCarriedForward().add(days));
+            post(target, LeaveBalanceEntryType.CARRY_FORWARD, days, null, "Carried forward from " + request.getFromYear());
+        }
+
+        log.info("Carried forward {} day(s) of leave type {} for employee {} from {} to {}",
+            days, leaveType.getCode(), request.getEmployeeId(), request.getFromYear(), toYear);
+        return mapToResponse(target, leaveType);
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Leave types without an annual allowance are unlimited and not tracked in the ledger.
+     */
+    private boolean isTracked(LeaveType leaveType) {
+        return leaveType != null && leaveType.getDaysPerYear() != null;
+    }
+
+    private LeaveType findTrackedLeaveType(LeaveRequest request) {
+        LeaveType leaveType = leaveTypeRepository.findByTenantIdAndId(request.getTenantId(), request.getLeaveTypeId())
+            .orElse(null);
+        return isTracked(leaveType) ? leaveType : null;
+    }
+
+    private LeaveType findLeaveType(Long tenantId, Long leaveTypeId) {
+        LeaveType leaveType = leaveTypeRepository.findByTenantIdAndId(tenantId, leaveTypeId)
+            .orElseThrow(() -> new RuntimeException("Leave type not found with id: " + leaveTypeId));
+        if (!isTracked(leaveType)) {
+            throw new RuntimeException("Leave type " + leaveType.getName() + " has no annual allowance and is not balance-tracked");
+        }
+        return leaveType;
+    }
+
+    private void verifyEmployee(Long tenantId, Long employeeId) {
+        employeeRepository.findByTenantIdAndId(tenantId, employeeId)
+            .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + employeeId));
+    }
+
+    /**
+     * Lock (creating if needed) the balance row and bring its accrual up to {@code accrualMonth},
+     * which callers take from {@link #accrualMonthFor(int)} so no future month is ever posted.
+     */
+    private LeaveBalance lockBalance(Long tenantId, Long employeeId, LeaveType leaveType, int year, int accrualMonth) {
+        LeaveBalance balance = leaveBalanceRepository.findForUpdate(tenantId, employeeId, leaveType.getId(), year)
+            .orElseGet(() -> {
+                // Two first touches may race here; ON CONFLICT lets the loser fall through to the lock
+                leaveBalanceRepository.insertIfAbsent(tenantId, employeeId, leaveType.getId(), year, TenantContext.getUserId());
+                return leaveBalanceRepository.findForUpdate(tenantId, employeeId, leaveType.getId(), year)
+                    .orElseThrow(() -> new IllegalStateException("Leave balance row missing after insert"));
+            });
+
+        BigDecimal delta = expectedAccrual(leaveType, accrualMonth).subtract(balance.getAccrued());
+        if (delta.signum() != 0) {
+            balance.setAccrued(balance.getAccrued().add(delta));
+            post(balance, LeaveBalanceEntryType.ACCRUAL, delta, null,
+                "Accrued through " + YearMonth.of(year, Math.max(accrualMonth, 1)));
+        }
+        return balance;
+    }
+
+    /**
+     * Cumulative accrual after {@code month} months; self-corrects if the annual allowance is edited mid-year.
+     */
+    private BigDecimal expectedAccrual(LeaveType leaveType, int month) {
+        return leaveType.getDaysPerYear()
+            .multiply(BigDecimal.valueOf(month))
+            .divide(MONTHS_PER_YEAR, 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Days that will accrue after {@code accrualMonth} up to and including {@code leaveMonth}, so leave
+     * can be booked against days that will have accrued by the time it is taken.
+     */
+    private BigDecimal accrualUntil(LeaveType leaveType, int accrualMonth, int leaveMonth) {
+        if (leaveMonth <= accrualMonth) {
+            return BigDecimal.ZERO;
+        }
+        return expectedAccrual(leaveType, leaveMonth).subtract(expectedAccrual(leaveType, accrualMonth));
+    }
+
+    /**
+     * Months of {@code year} that have started: all of a past year, none of a future one.
+     */
+    private int accrualMonthFor(int year) {
+        YearMonth now = YearMonth.now();
+        if (year < now.getYear()) {
+            return 12;
+        }
+        if (year > now.getYear()) {
+            return 0;
+        }
+        return now.getMonthValue();
+    }
+
+    private void releasePending(LeaveBalance balance, BigDecimal days) {
+        // Requests filed before balances were tracked never reserved anything
+        balance.setPending(balance.getPending().subtract(days).max(BigDecimal.ZERO));
+    }
+
+    private void post(LeaveBalance balance, LeaveBalanceEntryType type, BigDecimal days, Long leaveRequestId, String notes) {
+        balance.setBalance(balance.getBalance().add(days));
+        balance.setUpdatedBy(TenantContext.getUserId());
+        leaveBalanceRepository.save(balance);
+
+        LeaveBalanceEntry entry = new LeaveBalanceEntry();
+        entry.setTenantId(balance.getTenantId());
+        entry.setLeaveBalanceId(balance.getId());
+        entry.setEntryType(type);
+        entry.setDays(days);
+        entry.setBalanceAfter(balance.getBalance());
+        entry.setLeaveRequestId(leaveRequestId);
+        entry.setNotes(notes);
+        entry.setCreatedBy(TenantContext.getUserId());
+        leaveBalanceEntryRepository.save(entry);
+    }
+
+    private BigDecimal daysOf(LeaveRequest request) {
+        return request.getTotalDays() != null ? request.getTotalDays() : BigDecimal.ZERO;
+    }
+
+    // ==================== Mappers ====================
+
+    /**
+     * Map a balance as of {@code accrualMonth} without writing: a missing row reads as a fresh one, and
+     * accrual not yet posted is added to the totals. The next write posts it for real.
+     */
+    private LeaveBalanceResponse mapToResponse(LeaveBalance balance, LeaveType leaveType, Long employeeId,
+                                               int periodYear, int accrualMonth) {
+        if (balance == null) {
+            balance = new LeaveBalance();
+            balance.setTenantId(leaveType.getTenantId());
+            balance.setEmployeeId(employeeId);
+            balance.setLeaveTypeId(leaveType.getId());
+            balance.setPeriodYear(periodYear);
+        }
+
+        LeaveBalanceResponse response = mapToResponse(balance, leaveType);
+        BigDecimal delta = expectedAccrual(leaveType, accrualMonth).subtract(balance.getAccrued());
+        response.setAccrued(response.getAccrued().add(delta));
+        response.setBalance(response.getBalance().add(delta));
+        response.setAvailable(response.getAvailable().add(delta));
+        return response;
+    }
+
+    private LeaveBalanceResponse mapToResponse(LeaveBalance balance, LeaveType leaveType) {
+        return LeaveBalanceResponse.builder()
+            .id(balance.getId())
+            .tenantId(balance.getTenantId())
+            .employeeId(balance.getEmployeeId())
+            .leaveTypeId(balance.getLeaveTypeId())
+            .leaveTypeName(leaveType.getName())
+            .periodYear(balance.getPeriodYear())
+            .accrued(balance.getAccrued())
+            .carriedForward(balance.getCarriedForward())
+            .consumed(balance.getConsumed())
+            .encashed(balance.getEncashed())
+            .carriedOut(balance.getCarriedOut())
+            .pending(balance.getPending())
+            .balance(balance.getBalance())
+            .available(balance.getAvailable())
+            .updatedAt(balance.getUpdatedAt())
+            .build();
+    }
+
+    private LeaveBalanceEntryResponse mapEntryToResponse(LeaveBalanceEntry entry) {
+        return LeaveBalanceEntryResponse.builder()
+            .id(entry.getId())
+            .leaveBalanceId(entry.getLeaveBalanceId())
+            .entryType(entry.getEntryType())
+            .days(entry.getDays())
+            .balanceAfter(entry.getBalanceAfter())
+            .leaveRequestId(entry.getLeaveRequestId())
+            .notes(entry.getNotes())
+            .createdAt(entry.getCreatedAt())
+            .createdBy(entry.getCreatedBy())
+            .build();
+    }
+}
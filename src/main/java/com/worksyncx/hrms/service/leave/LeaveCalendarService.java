@@ -0,0 +1,297 @@
+package com.worksyncx.hrms.service.leave;
+
+import com.worksyncx.hrms.dto.leave.LeaveCalendarEntry;
+import com.worksyncx.hrms.dto.leave.LeaveCalendarResponse;
+import com.worksyncx.hrms.entity.LeaveRequest;
+import com.worksyncx.hrms.enums.CacheName;
+import com.worksyncx.hrms.enums.LeaveStatus;
+import com.worksyncx.hrms.repository.EmployeeRepository;
+import com.worksyncx.hrms.repository.EmployeeRepository.CalendarRow;
+import com.worksyncx.hrms.repository.LeaveRequestRepository;
+import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.cache.CacheInvalidationBus;
+import com.worksyncx.hrms.service.cache.CacheLoadTransaction;
+import com.worksyncx.hrms.service.cache.LocalCacheRegistry;
+import com.worksyncx.hrms.service.cache.CacheInvalidationEvent;
+import com.worksyncx.hrms.util.LoadingMap;
+import com.worksyncx.hrms.util.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Team leave calendar served from an in-memory, per-tenant index of pending and approved leave.
+ *
+ * The index is built lazily from leave_requests on first use (covering leave that ends on or after
+ * January 1st of the previous year) and kept current by the approve/reject/cancel paths after their
+ * transaction commits. Older ranges fall back to the daterange query in the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeaveCalendarService {
+
+    private static final int MAX_CALENDAR_DAYS = 366;
+    private static final List<LeaveStatus> CALENDAR_STATUSES = List.of(LeaveStatus.PENDING, LeaveStatus.APPROVED);
+
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final EmployeeRepository employeeRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final LocalCacheRegistry localCacheRegistry;
+    private final CacheLoadTransaction cacheLoadTransaction;
+
+    private final LoadingMap<Long, TenantLeaveIndex> indexes = new LoadingMap<>();
+
+    @PostConstruct
+    void subscribeToInvalidations() {
+        localCacheRegistry.register(CacheName.LEAVE_CALENDAR, indexes);
+        cacheInvalidationBus.subscribe(CacheName.LEAVE_CALENDAR, this::applyRemoteChange, indexes::clear);
+    }
+
+    // ==================== Calendar Query ====================
+
+    @Transactional(readOnly = true)
+    public LeaveCalendarResponse getCalendar(LocalDate from, LocalDate to, Long departmentId) {
+        Long tenantId = TenantContext.getTenantId();
+
+        if (to.isBefore(from)) {
+            throw new RuntimeException("End date cannot be before start date");
+        }
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > MAX_CALENDAR_DAYS) {
+            throw new RuntimeException("Calendar range cannot exceed " + MAX_CALENDAR_DAYS + " days");
+        }
+
+        List<LeaveInterval> intervals;
+        TenantLeaveIndex index = indexFor(tenantId);
+        if (from.isBefore(index.windowStart)) {
+            intervals = leaveRequestRepository.findInDateRange(tenantId,
+                    CALENDAR_STATUSES.stream().map(Enum::name).toList(), from, to)
+                .stream()
+                .map(request -> LeaveInterval.of(request, request.getStatus()))
+                .toList();
+        } else {
+            intervals = index.overlapping(from, to);
+        }
+
+        Map<Long, CalendarRow> employees = intervals.isEmpty() ? Map.of() : employeeRepository
+            .findCalendarRowsByTenantIdAndIdIn(tenantId,
+                intervals.stream().map(LeaveInterval::employeeId).collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(CalendarRow::getId, Function.identity()));
+
+        // Difference arrays turn every interval into two writes; a prefix sum yields per-day counts
+        int[] approved = new int[days + 1];
+        int[] pending = new int[days + 1];
+        List<LeaveCalendarEntry> entries = new ArrayList<>();
+
+        for (LeaveInterval interval : intervals) {
+            CalendarRow employee = employees.get(interval.employeeId());
+            if (employee == null || (departmentId != null && !departmentId.equals(employee.getDepartmentId()))) {
+                continue;
+            }
+
+            int start = (int) Math.max(0, ChronoUnit.DAYS.between(from, interval.startDate()));
+            int end = (int) Math.min(days - 1, ChronoUnit.DAYS.between(from, interval.endDate()));
+            int[] counts = interval.status() == LeaveStatus.APPROVED ? approved : pending;
+            counts[start]++;
+            counts[end + 1]--;
+
+            entries.add(LeaveCalendarEntry.builder()
+                .leaveRequestId(interval.leaveRequestId())
+                .employeeId(employee.getId())
+                .employeeName(employee.getFirstName() + " " + employee.getLastName())
+                .departmentId(employee.getDepartmentId())
+                .leaveTypeId(interval.leaveTypeId())
+                .startDate(interval.startDate())
+                .endDate(interval.endDate())
+                .status(interval.status())
+                .build());
+        }
+
+        entries.sort(Comparator.comparing(LeaveCalendarEntry::getStartDate)
+            .thenComparing(LeaveCalendarEntry::getEmployeeId));
+
+        return LeaveCalendarResponse.builder()
+            .from(from)
+            .to(to)
+            .departmentId(departmentId)
+            .approved(prefixSum(approved, days))
+            .pending(prefixSum(pending, days))
+            .entries(entries)
+            .build();
+    }
+
+    // ==================== Index Maintenance ====================
+
+    /**
+     * Reflect a request's new status in the calendar once the current transaction commits.
+     * Pending and approved requests are (re)indexed; anything else is removed.
+     */
+    public void recordAfterCommit(LeaveRequest request, LeaveStatus status) {
+        cacheInvalidationBus.publish(CacheName.LEAVE_CALENDAR, request.getTenantId(), request.getId());
+        applyAfterCommit(request, status);
+    }
+
+    /**
+     * Bulk decisions are announced as one tenant-wide invalidation rather than one event per request.
+     */
+    public void recordAfterCommit(Collection<LeaveRequest> requests, LeaveStatus status) {
+        requests.stream()
+            .map(LeaveRequest::getTenantId)
+            .distinct()
+            .forEach(tenantId -> cacheInvalidationBus.publish(CacheName.LEAVE_CALENDAR, tenantId, null));
+        requests.forEach(request -> applyAfterCommit(request, status));
+    }
+
+    public void evict(Long tenantId) {
+        indexes.remove(tenantId);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void applyAfterCommit(LeaveRequest request, LeaveStatus status) {
+        LeaveInterval interval = LeaveInterval.of(request, status);
+        Long tenantId = request.getTenantId();
+        TransactionHooks.afterCommit(() -> indexes.computeIfPresent(tenantId, (id, index) -> {
+            if (CALENDAR_STATUSES.contains(status)) {
+                index.upsert(interval);
+            } else {
+                index.remove(interval.leaveRequestId());
+            }
+            return index;
+        }));
+    }
+
+    /**
+     * Re-read a request changed on another instance; the write has committed before the event arrives,
+     * but only on the primary, so the read goes through the cache load transaction like {@link #indexFor}.
+     * The listener thread has no tenant, so the event's tenant is set for the read to reach its shard.
+     */
+    private void applyRemoteChange(CacheInvalidationEvent event) {
+        if (event.key() == null) {
+            indexes.remove(event.tenantId());
+            return;
+        }
+        if (indexes.getIfPresent(event.tenantId()) == null) {
+            return;
+        }
+        Long leaveRequestId = Long.valueOf(event.key());
+        LeaveInterval interval;
+        TenantContext.setTenantId(event.tenantId());
+        try {
+            interval = cacheLoadTransaction.execute(() -> leaveRequestRepository
+                .findByTenantIdAndId(event.tenantId(), leaveRequestId)
+                .filter(request -> CALENDAR_STATUSES.contains(request.getStatus()))
+                .map(request -> LeaveInterval.of(request, request.getStatus()))
+                .orElse(null));
+        } finally {
+            TenantContext.clear();
+        }
+        indexes.computeIfPresent(event.tenantId(), (id, index) -> {
+            if (interval != null) {
+                index.upsert(interval);
+            } else {
+                index.remove(leaveRequestId);
+            }
+            return index;
+        });
+    }
+
+    private TenantLeaveIndex indexFor(Long tenantId) {
+        return indexes.get(tenantId, id -> cacheLoadTransaction.execute(() -> {
+            LocalDate windowStart = LocalDate.now().minusYears(1).withDayOfYear(1);
+            TenantLeaveIndex index = new TenantLeaveIndex(windowStart);
+            leaveRequestRepository.findByTenantIdAndStatusInAndEndDateGreaterThanEqual(id, CALENDAR_STATUSES, windowStart)
+                .forEach(request -> index.upsert(LeaveInterval.of(request, request.getStatus())));
+            log.debug("Built leave calendar index for tenant {} with {} entries", id, index.size());
+            return index;
+        }));
+    }
+
+    private int[] prefixSum(int[] diff, int days) {
+        int[] counts = new int[days];
+        int running = 0;
+        for (int i = 0; i < days; i++) {
+            running += diff[i];
+            counts[i] = running;
+        }
+        return counts;
+    }
+
+    private record LeaveInterval(Long leaveRequestId, Long employeeId, Long leaveTypeId,
+                                 LocalDate startDate, LocalDate endDate, LeaveStatus status) {
+
+        static LeaveInterval of(LeaveRequest request, LeaveStatus status) {
+            return new LeaveInterval(request.getId(), request.getEmployeeId(), request.getLeaveTypeId(),
+                request.getStartDate(), request.getEndDate(), status);
+        }
+    }
+
+    /**
+     * Intervals keyed by start date. Any interval overlapping [from, to] starts no earlier than
+     * {@code from - longestSpan}, so a query is one bounded range scan of the tree.
+     */
+    private static final class TenantLeaveIndex {
+
+        private final LocalDate windowStart;
+        private final NavigableMap<LocalDate, Map<Long, LeaveInterval>> byStart = new TreeMap<>();
+        private final Map<Long, LeaveInterval> byId = new HashMap<>();
+        private long longestSpan = 0;
+
+        private TenantLeaveIndex(LocalDate windowStart) {
+            this.windowStart = windowStart;
+        }
+
+        synchronized void upsert(LeaveInterval interval) {
+            remove(interval.leaveRequestId());
+            byId.put(interval.leaveRequestId(), interval);
+            byStart.computeIfAbsent(interval.startDate(), date -> new HashMap<>())
+                .put(interval.leaveRequestId(), interval);
+            longestSpan = Math.max(longestSpan, ChronoUnit.DAYS.between(interval.startDate(), interval.endDate()));
+        }
+
+        synchronized void remove(Long leaveRequestId) {
+            LeaveInterval existing = byId.remove(leaveRequestId);
+            if (existing == null) {
+                return;
+            }
+            Map<Long, LeaveInterval> sameStart = byStart.get(existing.startDate());
+            sameStart.remove(leaveRequestId);
+            if (sameStart.isEmpty()) {
+                byStart.remove(existing.startDate());
+            }
+        }
+
+        synchronized List<LeaveInterval> overlapping(LocalDate from, LocalDate to) {
+            List<LeaveInterval> result = new ArrayList<>();
+            for (Map<Long, LeaveInterval> sameStart : byStart.subMap(from.minusDays(longestSpan), true, to, true).values()) {
+                for (LeaveInterval interval : sameStart.values()) {
+                    if (!interval.endDate().isBefore(from)) {
+                        result.add(interval);
+                    }
+                }
+            }
+            return result;
+        }
+
+        synchronized int size() {
+            return byId.size();
+        }
+    }
+}
@@ -2,31 +2,54 @@ package com.worksyncx.hrms.service.leave;
 
 import com.worksyncx.hrms.dto.common.PageResponse;
 import com.worksyncx.hrms.dto.leave.*;
+import com.worksyncx.hrms.entity.Employee;
 import com.worksyncx.hrms.entity.LeaveRequest;
 import com.worksyncx.hrms.entity.LeaveType;
+import com.worksyncx.hrms.enums.DomainEventType;
 import com.worksyncx.hrms.enums.LeaveStatus;
+import com.worksyncx.hrms.enums.ResourceType;
+import com.worksyncx.hrms.exception.LeaveOverlapException;
 import com.worksyncx.hrms.repository.EmployeeRepository;
 import com.worksyncx.hrms.repository.LeaveRequestRepository;
 import com.worksyncx.hrms.repository.LeaveTypeRepository;
 import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.cache.ResourceVersionService;
+import com.worksyncx.hrms.service.calendar.WorkingDayCalendarService;
+import com.worksyncx.hrms.service.outbox.OutboxService;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
+@Observed(name = "hrms.service", lowCardinalityKeyValues = {"module", "LEAVE_MANAGEMENT"})
 @RequiredArgsConstructor
 public class LeaveService {
 
+    // V12's daterange exclusion constraint and the SQLState Postgres raises for it
+    private static final String OVERLAP_CONSTRAINT = "excl_leave_requests_no_overlap";
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     private final LeaveTypeRepository leaveTypeRepository;
     private final LeaveRequestRepository leaveRequestRepository;
     private final EmployeeRepository employeeRepository;
+    private final ResourceVersionService resourceVersionService;
+    private final LeaveBalanceService leaveBalanceService;
+    private final WorkingDayCalendarService workingDayCalendarService;
+    private final LeaveCalendarService leaveCalendarService;
+    private final OutboxService outboxService;
 
     // ==================== Leave Type Management ====================
 
@@ -46,6 +69,7 @@ public class LeaveService {
         leaveType.setCreatedBy(TenantContext.getUserId());
 
         leaveType = leaveTypeRepository.save(leaveType);
+        resourceVersionService.bump(tenantId, ResourceType.LEAVE_TYPES);
         return mapLeaveTypeToResponse(leaveType);
     }
 
@@ -92,6 +116,7 @@ public class LeaveService {
         leaveType.setUpdatedBy(TenantContext.getUserId());
 
         leaveType = leaveTypeRepository.save(leaveType);
+        resourceVersionService.bump(tenantId, ResourceType.LEAVE_TYPES);
         return mapLeaveTypeToResponse(leaveType);
     }
 
@@ -103,6 +128,7 @@ public class LeaveService {
             .orElseThrow(() -> new RuntimeException("Leave type not found with id: " + id));
 
         leaveTypeRepository.delete(leaveType);
+        resourceVersionService.bump(tenantId, ResourceType.LEAVE_TYPES);
     }
 
     // ==================== Leave Request Management ====================
@@ -111,12 +137,17 @@ public class LeaveService {
     public LeaveRequestResponse createLeaveRequest(LeaveRequestDto request) {
         Long tenantId = TenantContext.getTenantId();
 
+        // The exclusion constraint builds a daterange from these, which Postgres rejects when reversed
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw new RuntimeException("End date cannot be before start date");
+        }
+
         // Verify employee exists
-        employeeRepository.findByTenantIdAndId(tenantId, request.getEmployeeId())
+        Employee employee = employeeRepository.findByTenantIdAndId(tenantId, request.getEmployeeId())
             .orElseThrow(() -> new RuntimeException("Employee not found with id: " + request.getEmployeeId()));
 
         // Verify leave type exists
-        leaveTypeRepository.findByTenantIdAndId(tenantId, request.getLeaveTypeId())
+        LeaveType leaveType = leaveTypeRepository.findByTenantIdAndId(tenantId, request.getLeaveTypeId())
             .orElseThrow(() -> new RuntimeException("Leave type not found with id: " + request.getLeaveTypeId()));
 
         LeaveRequest leaveRequest = new LeaveRequest();
@@ -126,21 +157,49 @@ public class LeaveService {
         leaveRequest.setStartDate(request.getStartDate());
         leaveRequest.setEndDate(request.getEndDate());
 
-        // Calculate total days if not provided
+        // Calculate total days if not provided; weekly offs and holidays are not charged as leave
         if (request.getTotalDays() != null) {
             leaveRequest.setTotalDays(request.getTotalDays());
         } else {
-            long days = ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1;
+            long days = workingDayCalendarService.countWorkingDays(
+                tenantId, request.getEmployeeId(), request.getStartDate(), request.getEndDate());
+            if (days == 0) {
+                throw new RuntimeException("Leave request does not cover any working days");
+            }
             leaveRequest.setTotalDays(java.math.BigDecimal.valueOf(days));
         }
 
         leaveRequest.setReason(request.getReason());
         leaveRequest.setAttachmentUrl(request.getAttachmentUrl());
         leaveRequest.setStatus(LeaveStatus.PENDING);
+        leaveRequest.setApproverEmployeeId(employee.getManagerId());
         leaveRequest.setCreatedBy(TenantContext.getUserId());
 
-        leaveRequest = leaveRequestRepository.save(leaveRequest);
-        return mapLeaveRequestToResponse(leaveRequest);
+        List<LeaveRequest> overlapping = leaveRequestRepository.findActiveOverlapping(
+            tenantId, request.getEmployeeId(), request.getStartDate(), request.getEndDate());
+        if (!overlapping.isEmpty()) {
+            LeaveRequest existing = overlapping.get(0);
+            throw new LeaveOverlapException(String.format(
+                "Leave request overlaps %s request #%d (%s to %s)",
+                existing.getStatus().name().toLowerCase(), existing.getId(), existing.getStartDate(), existing.getEndDate()));
+        }
+
+        // Reserve the days against the employee's balance so concurrent requests cannot overdraw it
+        leaveBalanceService.reserve(leaveRequest, leaveType);
+
+        try {
+            // Flush so a concurrent overlapping insert surfaces here via the exclusion constraint
+            leaveRequest = leaveRequestRepository.saveAndFlush(leaveRequest);
+        } catch (DataIntegrityViolationException e) {
+            if (!isOverlapViolation(e)) {
+                throw e;
+            }
+            throw new LeaveOverlapException("Leave request overlaps another pending or approved request", e);
+        }
+        leaveCalendarService.recordAfterCommit(leaveRequest, LeaveStatus.PENDING);
+        LeaveRequestResponse response = mapLeaveRequestToResponse(leaveRequest);
+        outboxService.append(tenantId, DomainEventType.LEAVE_REQUESTED, leaveRequest.getId(), response);
+        return response;
     }
 
     @Transactional(readOnly = true)
@@ -170,6 +229,28 @@ public class LeaveService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Requests overlapping [startDate, endDate], e.g. "who is on leave next week".
+     * Defaults to pending and approved requests when no status is given.
+     */
+    @Transactional(readOnly = true)
+    public List<LeaveRequestResponse> getLeaveRequestsInRange(LocalDate startDate, LocalDate endDate, LeaveStatus status) {
+        Long tenantId = TenantContext.getTenantId();
+
+        if (endDate.isBefore(startDate)) {
+            throw new RuntimeException("End date cannot be before start date");
+        }
+
+        List<String> statuses = status != null
+            ? List.of(status.name())
+            : List.of(LeaveStatus.PENDING.name(), LeaveStatus.APPROVED.name());
+
+        return leaveRequestRepository.findInDateRange(tenantId, statuses, startDate, endDate)
+            .stream()
+            .map(this::mapLeaveRequestToResponse)
+            .collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public LeaveRequestResponse getLeaveRequestById(Long id) {
         Long tenantId = TenantContext.getTenantId();
@@ -195,7 +276,11 @@ public class LeaveService {
         leaveRequest.setUpdatedBy(TenantContext.getUserId());
 
         leaveRequest = leaveRequestRepository.save(leaveRequest);
-        return mapLeaveRequestToResponse(leaveRequest);
+        leaveBalanceService.consume(leaveRequest);
+        leaveCalendarService.recordAfterCommit(leaveRequest, LeaveStatus.APPROVED);
+        LeaveRequestResponse response = mapLeaveRequestToResponse(leaveRequest);
+        outboxService.append(tenantId, DomainEventType.LEAVE_APPROVED, leaveRequest.getId(), response);
+        return response;
     }
 
     @Transactional
@@ -216,7 +301,11 @@ public class LeaveService {
         leaveRequest.setUpdatedBy(TenantContext.getUserId());
 
         leaveRequest = leaveRequestRepository.save(leaveRequest);
-        return mapLeaveRequestToResponse(leaveRequest);
+        leaveBalanceService.release(leaveRequest);
+        leaveCalendarService.recordAfterCommit(leaveRequest, LeaveStatus.REJECTED);
+        LeaveRequestResponse response = mapLeaveRequestToResponse(leaveRequest);
+        outboxService.append(tenantId, DomainEventType.LEAVE_REJECTED, leaveRequest.getId(), response);
+        return response;
     }
 
     @Transactional
@@ -230,11 +319,103 @@ public class LeaveService {
             throw new RuntimeException("Leave request is already cancelled");
         }
 
+        LeaveStatus previousStatus = leaveRequest.getStatus();
         leaveRequest.setStatus(LeaveStatus.CANCELLED);
         leaveRequest.setUpdatedBy(TenantContext.getUserId());
 
         leaveRequest = leaveRequestRepository.save(leaveRequest);
-        return mapLeaveRequestToResponse(leaveRequest);
+        if (previousStatus == LeaveStatus.PENDING) {
+            leaveBalanceService.release(leaveRequest);
+        } else if (previousStatus == LeaveStatus.APPROVED) {
+            leaveBalanceService.reverse(leaveRequest);
+        }
+        leaveCalendarService.recordAfterCommit(leaveRequest, LeaveStatus.CANCELLED);
+        LeaveRequestResponse response = mapLeaveRequestToResponse(leaveRequest);
+        outboxService.append(tenantId, DomainEventType.LEAVE_CANCELLED, leaveRequest.getId(), response);
+        return response;
+    }
+
+    // ==================== Approval Inbox ====================
+
+    /**
+     * Pending requests awaiting the current user. {@code includeIndirect} widens the scope from
+     * direct reports to the whole reporting tree below the caller.
+     */
+    @Transactional(readOnly = true)
+    public List<LeaveRequestResponse> getApprovalInbox(boolean includeIndirect) {
+        Long tenantId = TenantContext.getTenantId();
+
+        Employee approver = employeeRepository.findByTenantIdAndUserId(tenantId, TenantContext.getUserId())
+            .orElseThrow(() -> new RuntimeException("No employee profile is linked to the current user"));
+
+        List<LeaveRequest> pending = includeIndirect
+            ? leaveRequestRepository.findPendingForReportingTree(tenantId, approver.getId())
+            : leaveRequestRepository.findByTenantIdAndStatusAndApproverEmployeeIdOrderByStartDateAsc(
+                tenantId, LeaveStatus.PENDING, approver.getId());
+
+        return pending.stream()
+            .map(this::mapLeaveRequestToResponse)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Approve or reject a batch of pending requests in one transaction: one locking read,
+     * one set-based update and the matching balance ledger postings. Only requests the caller's
+     * inbox could show are decided; the rest come back in {@code skippedIds}.
+     */
+    @Transactional
+    public LeaveBulkDecisionResponse decideLeaveRequests(LeaveBulkDecisionRequest request) {
+        Long tenantId = TenantContext.getTenantId();
+        LeaveStatus decision = request.getDecision() != null ? request.getDecision() : LeaveStatus.APPROVED;
+
+        if (decision != LeaveStatus.APPROVED && decision != LeaveStatus.REJECTED) {
+            throw new RuntimeException("Decision must be APPROVED or REJECTED");
+        }
+        if (decision == LeaveStatus.REJECTED
+                && (request.getRejectionReason() == null || request.getRejectionReason().isBlank())) {
+            throw new RuntimeException("Rejection reason is required");
+        }
+
+        Employee approver = employeeRepository.findByTenantIdAndUserId(tenantId, TenantContext.getUserId())
+            .orElseThrow(() -> new RuntimeException("No employee profile is linked to the current user"));
+
+        // Requests outside the caller's inbox scope are reported as skipped, like already-decided ones
+        Set<Long> requestedIds = new LinkedHashSet<>(request.getRequestIds());
+        List<LeaveRequest> pending = leaveRequestRepository.findPendingForUpdate(tenantId, approver.getId(), requestedIds);
+        List<Long> processedIds = pending.stream().map(LeaveRequest::getId).collect(Collectors.toList());
+
+        if (!processedIds.isEmpty()) {
+            LocalDateTime decidedAt = LocalDateTime.now();
+            leaveRequestRepository.decidePending(tenantId, processedIds, decision,
+                decision == LeaveStatus.REJECTED ? request.getRejectionReason() : null,
+                TenantContext.getUserId(), decidedAt);
+            leaveBalanceService.applyDecisions(pending, decision);
+            leaveCalendarService.recordAfterCommit(pending, decision);
+
+            // The set-based update bypassed the entities, so the events carry the decision themselves
+            DomainEventType eventType = decision == LeaveStatus.APPROVED
+                ? DomainEventType.LEAVE_APPROVED : DomainEventType.LEAVE_REJECTED;
+            for (LeaveRequest leaveRequest : pending) {
+                LeaveRequestResponse response = mapLeaveRequestToResponse(leaveRequest);
+                response.setStatus(decision);
+                response.setApprovedBy(TenantContext.getUserId());
+                response.setApprovedAt(decidedAt);
+                response.setRejectionReason(decision == LeaveStatus.REJECTED ? request.getRejectionReason() : null);
+                outboxService.append(tenantId, eventType, leaveRequest.getId(), response);
+            }
+        }
+
+        List<Long> skippedIds = requestedIds.stream()
+            .filter(id -> !processedIds.contains(id))
+            .collect(Collectors.toList());
+
+        return LeaveBulkDecisionResponse.builder()
+            .decision(decision)
+            .requested(requestedIds.size())
+            .processed(processedIds.size())
+            .processedIds(processedIds)
+            .skippedIds(skippedIds)
+            .build();
     }
 
     // ==================== Paginated Methods ====================
@@ -301,6 +482,22 @@ public class LeaveService {
             .build();
     }
 
+    /**
+     * True only for the date-range exclusion constraint (SQLState 23P01), not FK or not-null violations.
+     */
+    private boolean isOverlapViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && OVERLAP_CONSTRAINT.equals(violation.getConstraintName())) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException && EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private LeaveRequestResponse mapLeaveRequestToResponse(LeaveRequest leaveRequest) {
         return LeaveRequestResponse.builder()
             .id(leaveRequest.getId())
@@ -0,0 +1,14 @@
+package com.worksyncx.hrms.service.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.worksyncx.hrms.enums.DomainEventType;
+
+import java.time.LocalDateTime;
+
+/**
+ * An outbox row as delivered to listeners and sinks. The id is unique per shard and increases in
+ * insertion order; delivery is at least once, so consumers should be idempotent on it.
+ */
+public record DomainEvent(Long id, Long tenantId, DomainEventType type, String aggregateType, Long aggregateId,
+                          JsonNode payload, LocalDateTime occurredAt) {
+}
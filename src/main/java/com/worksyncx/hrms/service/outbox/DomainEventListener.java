@@ -0,0 +1,24 @@
+package com.worksyncx.hrms.service.outbox;
+
+import com.worksyncx.hrms.enums.DomainEventType;
+
+import java.util.Set;
+
+/**
+ * In-process subscriber to the domain event stream. Implementations are picked up as Spring beans
+ * and called on the relay thread after the originating transaction has committed, without a
+ * tenant in {@link com.worksyncx.hrms.security.TenantContext}.
+ *
+ * Throwing holds back the event's aggregate until the event is retried, so handlers should be idempotent and quick.
+ */
+public interface DomainEventListener {
+
+    /**
+     * Event types to receive; all of them by default.
+     */
+    default Set<DomainEventType> eventTypes() {
+        return Set.of(DomainEventType.values());
+    }
+
+    void onEvent(DomainEvent event);
+}
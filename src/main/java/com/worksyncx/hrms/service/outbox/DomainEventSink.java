@@ -0,0 +1,10 @@
+package com.worksyncx.hrms.service.outbox;
+
+/**
+ * External destination for domain events, selected with {@code outbox.sink.type} (file or webhook).
+ * Throwing leaves the event unpublished, to be retried on the next relay pass.
+ */
+public interface DomainEventSink {
+
+    void publish(DomainEvent event) throws Exception;
+}
@@ -0,0 +1,41 @@
+package com.worksyncx.hrms.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends each event as one JSON line to {@code outbox.sink.file.path}, for log shippers and local debugging.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink.type", havingValue = "file")
+@Slf4j
+public class FileDomainEventSink implements DomainEventSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public FileDomainEventSink(ObjectMapper objectMapper,
+                               @Value("${outbox.sink.file.path:logs/domain-events.jsonl}") String path) throws IOException {
+        this.objectMapper = objectMapper;
+        this.path = Path.of(path).toAbsolutePath();
+        if (this.path.getParent() != null) {
+            Files.createDirectories(this.path.getParent());
+        }
+        log.info("Writing domain events to {}", this.path);
+    }
+
+    @Override
+    public void publish(DomainEvent event) throws IOException {
+        String line = objectMapper.writeValueAsString(event) + System.lineSeparator();
+        Files.writeString(path, line, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,305 @@
+package com.worksyncx.hrms.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worksyncx.hrms.enums.DomainEventType;
+import com.worksyncx.hrms.service.shard.ShardDirectory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox to {@link DomainEventListener}s and the configured {@link DomainEventSink}.
+ *
+ * Each pass claims up to {@code batch-size} due events in id order with one UPDATE over FOR UPDATE
+ * SKIP LOCKED, which leases them by moving next_attempt_at {@code lease} ahead, and commits. Delivery
+ * happens after that, outside any transaction, so a slow listener or sink holds no locks or
+ * connections; other instances skip leased events. Delivered events are then marked published. An
+ * instance that dies mid-batch leaves its events to be delivered again once the lease runs out, so
+ * delivery is at least once.
+ *
+ * Only the oldest pending event of an aggregate can be claimed; the next one becomes claimable once
+ * it is published or given up on. That keeps each aggregate's events in order across relays too: a
+ * relay that reads the older event as still pending, even from before another relay's claim
+ * committed, cannot claim the newer one. A failed event is retried after an exponential backoff from
+ * {@code initial-backoff} up to {@code max-backoff}, holding back its aggregate while other
+ * aggregates carry on. After {@code max-attempts} the event gets failed_at, stays unpublished and is
+ * logged. Concurrent relays can interleave across aggregates.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay implements SmartLifecycle {
+
+    // Due events with no earlier pending event of the same aggregate, whether leased, backing off or due
+    static final String CLAIM_SQL = """
+        UPDATE outbox_events
+        SET next_attempt_at = CURRENT_TIMESTAMP + ? * INTERVAL '1 millisecond'
+        WHERE id IN (
+            SELECT e.id FROM outbox_events e
+            WHERE e.published_at IS NULL AND e.failed_at IS NULL AND e.next_attempt_at <= CURRENT_TIMESTAMP
+              AND NOT EXISTS (
+                  SELECT 1 FROM outbox_events earlier
+                  WHERE earlier.tenant_id = e.tenant_id
+                    AND earlier.aggregate_type = e.aggregate_type
+                    AND earlier.aggregate_id IS NOT DISTINCT FROM e.aggregate_id
+                    AND earlier.id < e.id
+                    AND earlier.published_at IS NULL AND earlier.failed_at IS NULL)
+            ORDER BY e.id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED)
+        RETURNING id, tenant_id, event_type, aggregate_type, aggregate_id, payload::text AS payload, created_at, attempts""";
+
+    private static final String RETRY_SQL = """
+        UPDATE outbox_events
+        SET attempts = ?, last_error = ?, updated_at = CURRENT_TIMESTAMP,
+            next_attempt_at = CURRENT_TIMESTAMP + ? * INTERVAL '1 millisecond'
+        WHERE id = ?""";
+
+    private static final String GIVE_UP_SQL = """
+        UPDATE outbox_events
+        SET attempts = ?, last_error = ?, updated_at = CURRENT_TIMESTAMP, failed_at = CURRENT_TIMESTAMP
+        WHERE id = ?""";
+
+    private static final long PURGE_INTERVAL_MS = TimeUnit.HOURS.toMillis(1);
+
+    private final DataSource dataSource;
+    private final ObjectProvider<ShardDirectory> shardDirectory;
+    private final ObjectProvider<DomainEventListener> listeners;
+    private final ObjectProvider<DomainEventSink> sink;
+    private final ObjectMapper objectMapper;
+
+    @Value("${outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.interval:1s}")
+    private Duration interval;
+
+    @Value("${outbox.relay.max-attempts:12}")
+    private int maxAttempts;
+
+    @Value("${outbox.relay.initial-backoff:5s}")
+    private Duration initialBackoff;
+
+    @Value("${outbox.relay.max-backoff:1h}")
+    private Duration maxBackoff;
+
+    @Value("${outbox.relay.lease:5m}")
+    private Duration lease;
+
+    @Value("${outbox.retention:7d}")
+    private Duration retention;
+
+    private record Target(String name, JdbcTemplate jdbcTemplate) {}
+
+    private record Claimed(DomainEvent event, int attempts) {}
+
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong failedAttempts = new AtomicLong();
+    private final AtomicLong abandoned = new AtomicLong();
+    private volatile ScheduledExecutorService scheduler;
+    private List<Target> targets;
+    private long lastPurge;
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            log.info("Outbox relay disabled");
+            return;
+        }
+        Map<String, DataSource> databases = new LinkedHashMap<>();
+        ShardDirectory shards = shardDirectory.getIfAvailable();
+        if (shards != null) {
+            databases.putAll(shards.getShards());
+        } else {
+            databases.put("primary", dataSource);
+        }
+        targets = databases.entrySet().stream()
+            .map(entry -> new Target(entry.getKey(), new JdbcTemplate(entry.getValue())))
+            .toList();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("outbox-relay").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::drainAll, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Outbox relay started for {}", databases.keySet());
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService current = scheduler;
+        scheduler = null;
+        if (current != null) {
+            current.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * Run a pass now instead of waiting for the next poll; called after a transaction with events commits.
+     */
+    public void wakeUp() {
+        ScheduledExecutorService current = scheduler;
+        if (current == null || !wakeUpPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            current.execute(() -> {
+                wakeUpPending.set(false);
+                drainAll();
+            });
+        } catch (RejectedExecutionException e) {
+            wakeUpPending.set(false);
+        }
+    }
+
+    public long getPublishedCount() {
+        return published.get();
+    }
+
+    public long getFailedAttemptCount() {
+        return failedAttempts.get();
+    }
+
+    /**
+     * Events given up on after {@code max-attempts}; they keep failed_at and are never marked published.
+     */
+    public long getAbandonedCount() {
+        return abandoned.get();
+    }
+
+    // ==================== Relay ====================
+
+    private void drainAll() {
+        for (Target target : targets) {
+            try {
+                while (drain(target) > 0) {
+                    // A batch holds one event per aggregate, so the next may have become claimable
+                }
+            } catch (RuntimeException e) {
+                log.warn("Outbox relay pass on {} failed: {}", target.name(), e.getMessage());
+            }
+        }
+        if (System.currentTimeMillis() - lastPurge >= PURGE_INTERVAL_MS) {
+            purge();
+            lastPurge = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * @return number of events claimed
+     */
+    private int drain(Target target) {
+        List<Claimed> claimed = new ArrayList<>(
+            target.jdbcTemplate().query(CLAIM_SQL, this::mapRow, lease.toMillis(), batchSize));
+        claimed.sort(Comparator.comparing(entry -> entry.event().id()));
+
+        List<Long> delivered = new ArrayList<>(claimed.size());
+
+        for (Claimed entry : claimed) {
+            DomainEvent event = entry.event();
+            try {
+                deliver(event);
+                delivered.add(event.id());
+            } catch (Exception e) {
+                failedAttempts.incrementAndGet();
+                int attempts = entry.attempts() + 1;
+                String error = String.valueOf(e.getMessage());
+                if (attempts >= maxAttempts) {
+                    abandoned.incrementAndGet();
+                    log.error("Giving up on outbox event {} ({}) after {} attempts", event.id(), event.type(), attempts, e);
+                    target.jdbcTemplate().update(GIVE_UP_SQL, attempts, error, event.id());
+                } else {
+                    Duration delay = backoff(attempts);
+                    log.warn("Outbox event {} ({}) failed, attempt {}, retrying in {}: {}",
+                        event.id(), event.type(), attempts, delay, e.getMessage());
+                    target.jdbcTemplate().update(RETRY_SQL, attempts, error, delay.toMillis(), event.id());
+                }
+            }
+        }
+
+        if (!delivered.isEmpty()) {
+            target.jdbcTemplate().update(
+                "UPDATE outbox_events SET published_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", delivered.toArray())));
+            published.addAndGet(delivered.size());
+        }
+        return claimed.size();
+    }
+
+    // initial-backoff doubled for every further attempt, capped at max-backoff
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void deliver(DomainEvent event) throws Exception {
+        for (DomainEventListener listener : listeners.orderedStream().toList()) {
+            if (listener.eventTypes().contains(event.type())) {
+                listener.onEvent(event);
+            }
+        }
+        DomainEventSink destination = sink.getIfAvailable();
+        if (destination != null) {
+            destination.publish(event);
+        }
+    }
+
+    private void purge() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+        for (Target target : targets) {
+            try {
+                int deleted = target.jdbcTemplate().update("DELETE FROM outbox_events WHERE published_at < ?", cutoff);
+                if (deleted > 0) {
+                    log.info("Purged {} published outbox events older than {} from {}", deleted, retention, target.name());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Outbox purge on {} failed: {}", target.name(), e.getMessage());
+            }
+        }
+    }
+
+    private Claimed mapRow(ResultSet rs, int rowNum) throws SQLException {
+        try {
+            DomainEvent event = new DomainEvent(
+                rs.getLong("id"),
+                rs.getLong("tenant_id"),
+                DomainEventType.valueOf(rs.getString("event_type")),
+                rs.getString("aggregate_type"),
+                rs.getObject("aggregate_id", Long.class),
+                objectMapper.readTree(rs.getString("payload")),
+                rs.getTimestamp("created_at").toLocalDateTime());
+            return new Claimed(event, rs.getInt("attempts"));
+        } catch (JsonProcessingException e) {
+            throw new SQLException("Unreadable outbox payload for event " + rs.getLong("id"), e);
+        }
+    }
+}
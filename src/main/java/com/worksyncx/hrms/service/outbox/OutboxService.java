@@ -0,0 +1,61 @@
+package com.worksyncx.hrms.service.outbox;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worksyncx.hrms.entity.OutboxEvent;
+import com.worksyncx.hrms.enums.DomainEventType;
+import com.worksyncx.hrms.repository.OutboxEventRepository;
+import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * Records domain events in the transactional outbox.
+ *
+ * The event row commits or rolls back together with the change it describes, so the stream never
+ * reports a change that did not happen or misses one that did. Delivery happens later on
+ * {@link OutboxRelay}, keeping listeners and sinks out of the request transaction.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelay outboxRelay;
+    private final ObjectMapper objectMapper;
+
+    @Value("${outbox.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Append an event to the current transaction.
+     *
+     * @param payload serialised as JSON; the outbox and its sinks keep it, so leave out personal, salary and
+     *                bank details the consumers can read through the API (see {@code EmployeeEvent}, {@code PayrollEvent})
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Long tenantId, DomainEventType type, Long aggregateId, Object payload) {
+        if (!enabled) {
+            return;
+        }
+        OutboxEvent event = new OutboxEvent();
+        event.setTenantId(tenantId);
+        event.setEventType(type);
+        event.setAggregateType(type.getAggregateType());
+        event.setAggregateId(aggregateId);
+        event.setPayload(objectMapper.convertValue(payload, PAYLOAD_TYPE));
+        event.setCreatedBy(TenantContext.getUserId());
+        outboxEventRepository.save(event);
+
+        // Deliver soon after commit rather than on the next poll
+        TransactionHooks.afterCommit(outboxRelay::wakeUp);
+    }
+}
@@ -0,0 +1,55 @@
+package com.worksyncx.hrms.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * POSTs each event as JSON to {@code outbox.sink.webhook.url}. Any response other than 2xx counts as
+ * a failure and the event is retried; the receiver can deduplicate on the X-Event-Id header.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink.type", havingValue = "webhook")
+@Slf4j
+public class WebhookDomainEventSink implements DomainEventSink {
+
+    private final ObjectMapper objectMapper;
+    private final URI url;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+
+    public WebhookDomainEventSink(ObjectMapper objectMapper,
+                                  @Value("${outbox.sink.webhook.url}") String url,
+                                  @Value("${outbox.sink.webhook.timeout:5s}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.url = URI.create(url);
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+        log.info("Posting domain events to {}", this.url);
+    }
+
+    @Override
+    public void publish(DomainEvent event) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(url)
+            .timeout(timeout)
+            .header("Content-Type", "application/json")
+            .header("X-Event-Id", String.valueOf(event.id()))
+            .header("X-Event-Type", event.type().name())
+            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(event)))
+            .build();
+
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Webhook returned HTTP " + response.statusCode() + " for event " + event.id());
+        }
+    }
+}
@@ -3,33 +3,81 @@ package com.worksyncx.hrms.service.payroll;
 import com.worksyncx.hrms.dto.common.PageResponse;
 import com.worksyncx.hrms.dto.payroll.PayrollCycleRequest;
 import com.worksyncx.hrms.dto.payroll.PayrollCycleResponse;
+import com.worksyncx.hrms.dto.payroll.PayrollDiffEntry;
+import com.worksyncx.hrms.dto.payroll.PayrollEvent;
 import com.worksyncx.hrms.dto.payroll.PayrollRequest;
 import com.worksyncx.hrms.dto.payroll.PayrollResponse;
+import com.worksyncx.hrms.dto.payroll.PayrollRunResponse;
+import com.worksyncx.hrms.entity.Employee;
+import com.worksyncx.hrms.entity.EmployeeShift;
+import com.worksyncx.hrms.entity.LeaveRequest;
+import com.worksyncx.hrms.entity.LeaveType;
 import com.worksyncx.hrms.entity.Payroll;
 import com.worksyncx.hrms.entity.PayrollCycle;
+import com.worksyncx.hrms.enums.AttendanceStatus;
+import com.worksyncx.hrms.enums.DomainEventType;
+import com.worksyncx.hrms.enums.EmploymentStatus;
+import com.worksyncx.hrms.enums.LeaveStatus;
 import com.worksyncx.hrms.enums.PayrollStatus;
+import com.worksyncx.hrms.repository.AttendanceRecordRepository;
 import com.worksyncx.hrms.repository.EmployeeRepository;
+import com.worksyncx.hrms.repository.FieldSelectionRepository;
+import com.worksyncx.hrms.repository.LeaveRequestRepository;
+import com.worksyncx.hrms.repository.LeaveTypeRepository;
 import com.worksyncx.hrms.repository.PayrollCycleRepository;
 import com.worksyncx.hrms.repository.PayrollRepository;
 import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.calendar.WorkingDayCalendarService;
+import com.worksyncx.hrms.service.outbox.OutboxService;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Observed(name = "hrms.service", lowCardinalityKeyValues = {"module", "PAYROLL"})
 @RequiredArgsConstructor
+@Slf4j
 public class PayrollService {
 
+    /**
+     * Bump whenever the run formula changes so every employee is recomputed on the next run.
+     */
+    private static final String PAYROLL_FORMULA_VERSION = "3";
+
     private final PayrollCycleRepository payrollCycleRepository;
     private final PayrollRepository payrollRepository;
+    private final FieldSelectionRepository fieldSelectionRepository;
     private final EmployeeRepository employeeRepository;
+    private final AttendanceRecordRepository attendanceRecordRepository;
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final LeaveTypeRepository leaveTypeRepository;
+    private final WorkingDayCalendarService workingDayCalendarService;
+    private final OutboxService outboxService;
 
     // ==================== Payroll Cycle Management ====================
 
@@ -55,6 +103,7 @@ public class PayrollService {
         cycle.setCreatedBy(TenantContext.getUserId());
 
         cycle = payrollCycleRepository.save(cycle);
+        outboxService.append(tenantId, DomainEventType.PAYROLL_CYCLE_CREATED, cycle.getId(), toEvent(cycle));
         return mapCycleToResponse(cycle);
     }
 
@@ -92,6 +141,7 @@ public class PayrollService {
         cycle.setUpdatedBy(TenantContext.getUserId());
 
         cycle = payrollCycleRepository.save(cycle);
+        outboxService.append(tenantId, DomainEventType.PAYROLL_CYCLE_UPDATED, cycle.getId(), toEvent(cycle));
         return mapCycleToResponse(cycle);
     }
 
@@ -103,6 +153,7 @@ public class PayrollService {
             .orElseThrow(() -> new RuntimeException("Payroll cycle not found with id: " + id));
 
         payrollCycleRepository.delete(cycle);
+        outboxService.append(tenantId, DomainEventType.PAYROLL_CYCLE_DELETED, id, toEvent(cycle));
     }
 
     // ==================== Payroll Management ====================
@@ -141,6 +192,7 @@ public class PayrollService {
         payroll.setCreatedBy(TenantContext.getUserId());
 
         payroll = payrollRepository.save(payroll);
+        outboxService.append(tenantId, DomainEventType.PAYROLL_CREATED, payroll.getId(), toEvent(payroll));
         return mapPayrollToResponse(payroll);
     }
 
@@ -202,6 +254,7 @@ public class PayrollService {
         payroll.setUpdatedBy(TenantContext.getUserId());
 
         payroll = payrollRepository.save(payroll);
+        outboxService.append(tenantId, DomainEventType.PAYROLL_UPDATED, payroll.getId(), toEvent(payroll));
         return mapPayrollToResponse(payroll);
     }
 
@@ -220,6 +273,7 @@ public class PayrollService {
         payroll.setUpdatedBy(TenantContext.getUserId());
 
         payroll = payrollRepository.save(payroll);
+        outboxService.append(tenantId, DomainEventType.PAYROLL_PAID, payroll.getId(), toEvent(payroll));
         return mapPayrollToResponse(payroll);
     }
 
@@ -231,6 +285,188 @@ public class PayrollService {
             .orElseThrow(() -> new RuntimeException("Payroll not found with id: " + id));
 
         payrollRepository.delete(payroll);
+        outboxService.append(tenantId, DomainEventType.PAYROLL_DELETED, id, toEvent(payroll));
+    }
+
+    // ==================== Payroll Runs ====================
+
+    /**
+     * Dry-run a payroll cycle: recompute only employees whose inputs changed since the last run
+     * and return the net-salary diff without writing anything.
+     */
+    @Transactional(readOnly = true)
+    public PayrollRunResponse previewPayrollRun(Long cycleId) {
+        return executePayrollRun(cycleId, false);
+    }
+
+    /**
+     * Run a payroll cycle, rewriting only the payroll rows whose input hash changed.
+     * Rows that are already PAID are never touched.
+     */
+    @Transactional
+    public PayrollRunResponse runPayrollCycle(Long cycleId) {
+        PayrollRunResponse run = executePayrollRun(cycleId, true);
+        outboxService.append(TenantContext.getTenantId(), DomainEventType.PAYROLL_CYCLE_RUN, cycleId, toEvent(run));
+        return run;
+    }
+
+    private PayrollRunResponse executePayrollRun(Long cycleId, boolean commit) {
+        Long tenantId = TenantContext.getTenantId();
+
+        PayrollCycle cycle = payrollCycleRepository.findByTenantIdAndId(tenantId, cycleId)
+            .orElseThrow(() -> new RuntimeException("Payroll cycle not found with id: " + cycleId));
+
+        if (commit && cycle.getStatus() == PayrollStatus.PAID) {
+            throw new RuntimeException("Payroll cycle " + cycle.getName() + " is already paid and cannot be re-run");
+        }
+
+        LocalDate periodStart = periodStart(cycle);
+        LocalDate periodEnd = periodEnd(cycle);
+        long periodDays = ChronoUnit.DAYS.between(periodStart, periodEnd) + 1;
+
+        // Load every input for the cycle in a fixed number of set-based queries
+        List<Employee> employees = employeeRepository.findByTenantIdAndEmploymentStatus(tenantId, EmploymentStatus.ACTIVE);
+
+        Map<Long, Payroll> existingPayrolls = payrollRepository.findByTenantIdAndPayrollCycleId(tenantId, cycleId)
+            .stream()
+            .collect(Collectors.toMap(Payroll::getEmployeeId, Function.identity()));
+
+        Map<Long, Map<AttendanceStatus, Long>> attendanceByEmployee = new HashMap<>();
+        attendanceRecordRepository.countStatusesByEmployee(tenantId, periodStart, periodEnd)
+            .forEach(row -> {
+                if (row.getStatus() != null) {
+                    attendanceByEmployee
+                        .computeIfAbsent(row.getEmployeeId(), id -> new EnumMap<>(AttendanceStatus.class))
+                        .put(row.getStatus(), row.getTotal());
+                }
+            });
+
+        Map<Long, Boolean> paidLeaveTypes = leaveTypeRepository.findByTenantId(tenantId)
+            .stream()
+            .collect(Collectors.toMap(LeaveType::getId, lt -> Boolean.TRUE.equals(lt.getIsPaid())));
+
+        // Leave is counted in working days so weekly offs and holidays inside a leave are not deducted
+        List<LeaveRequest> approvedLeaves = leaveRequestRepository.findByTenantIdAndStatusOverlapping(
+            tenantId, LeaveStatus.APPROVED, periodStart, periodEnd);
+        Map<Long, List<EmployeeShift>> shiftAssignments = workingDayCalendarService.loadAssignments(
+            approvedLeaves.stream().map(LeaveRequest::getEmployeeId).collect(Collectors.toSet()), periodStart, periodEnd);
+
+        Map<Long, Long> paidLeaveDays = new HashMap<>();
+        Map<Long, Long> unpaidLeaveDays = new HashMap<>();
+        for (LeaveRequest leave : approvedLeaves) {
+            LocalDate from = leave.getStartDate().isBefore(periodStart) ? periodStart : leave.getStartDate();
+            LocalDate to = leave.getEndDate().isAfter(periodEnd) ? periodEnd : leave.getEndDate();
+            long days = workingDayCalendarService.countWorkingDays(
+                tenantId, from, to, shiftAssignments.getOrDefault(leave.getEmployeeId(), List.of()));
+            Map<Long, Long> target = paidLeaveTypes.getOrDefault(leave.getLeaveTypeId(), true) ? paidLeaveDays : unpaidLeaveDays;
+            target.merge(leave.getEmployeeId(), days, Long::sum);
+        }
+
+        List<PayrollDiffEntry> changes = new ArrayList<>();
+        List<Payroll> toSave = new ArrayList<>();
+        int unchanged = 0;
+        int locked = 0;
+        BigDecimal totalDifference = BigDecimal.ZERO;
+        LocalDateTime now = LocalDateTime.now();
+
+        for (Employee employee : employees) {
+            Payroll current = existingPayrolls.get(employee.getId());
+
+            if (current != null && current.getStatus() == PayrollStatus.PAID) {
+                locked++;
+                continue;
+            }
+
+            Map<AttendanceStatus, Long> attendance = attendanceByEmployee.getOrDefault(employee.getId(), Map.of());
+            long absentDays = attendance.getOrDefault(AttendanceStatus.ABSENT, 0L);
+            long halfDays = attendance.getOrDefault(AttendanceStatus.HALF_DAY, 0L);
+            long paidLeave = paidLeaveDays.getOrDefault(employee.getId(), 0L);
+            long unpaidLeave = unpaidLeaveDays.getOrDefault(employee.getId(), 0L);
+
+            String inputHash = computeInputHash(employee, periodStart, periodEnd, attendance, paidLeave, unpaidLeave, current);
+            if (current != null && inputHash.equals(current.getInputHash())) {
+                unchanged++;
+                continue;
+            }
+
+            // Payable days = period days minus absences, half of each half-day and unpaid leave
+            BigDecimal payableDays = BigDecimal.valueOf(periodDays)
+                .subtract(BigDecimal.valueOf(absentDays))
+                .subtract(BigDecimal.valueOf(halfDays).multiply(new BigDecimal("0.5")))
+                .subtract(BigDecimal.valueOf(unpaidLeave))
+                .max(BigDecimal.ZERO);
+
+            BigDecimal monthlyBasic = employee.getBasicSalary() != null ? employee.getBasicSalary() : BigDecimal.ZERO;
+            BigDecimal basic = monthlyBasic.multiply(payableDays)
+                .divide(BigDecimal.valueOf(periodDays), 2, RoundingMode.HALF_UP);
+
+            // Work on a copy so a dry run never dirties the managed entity
+            Payroll computed = new Payroll();
+            if (current != null) {
+                copyOverrides(current, computed);
+            }
+            computed.setBasicSalary(basic);
+            computed.setGrossSalary(calculateGrossSalary(computed));
+            computed.setTotalDeductions(calculateTotalDeductions(computed));
+            computed.setNetSalary(calculateNetSalary(computed));
+
+            BigDecimal previousNet = current != null ? current.getNetSalary() : null;
+            BigDecimal difference = computed.getNetSalary().subtract(previousNet != null ? previousNet : BigDecimal.ZERO);
+            totalDifference = totalDifference.add(difference);
+
+            changes.add(PayrollDiffEntry.builder()
+                .employeeId(employee.getId())
+                .employeeCode(employee.getEmployeeCode())
+                .employeeName(employee.getFirstName() + " " + employee.getLastName())
+                .payrollId(current != null ? current.getId() : null)
+                .payableDays(payableDays)
+                .previousNetSalary(previousNet)
+                .newNetSalary(computed.getNetSalary())
+                .difference(difference)
+                .isNew(current == null)
+                .build());
+
+            if (commit) {
+                Payroll target = current;
+                if (target == null) {
+                    target = new Payroll();
+                    target.setTenantId(tenantId);
+                    target.setEmployeeId(employee.getId());
+                    target.setPayrollCycleId(cycleId);
+                    target.setStatus(PayrollStatus.DRAFT);
+                    target.setCreatedBy(TenantContext.getUserId());
+                } else {
+                    target.setUpdatedBy(TenantContext.getUserId());
+                }
+                target.setBasicSalary(computed.getBasicSalary());
+                target.setGrossSalary(computed.getGrossSalary());
+                target.setTotalDeductions(computed.getTotalDeductions());
+                target.setNetSalary(computed.getNetSalary());
+                target.setInputHash(inputHash);
+                target.setComputedAt(now);
+                toSave.add(target);
+            }
+        }
+
+        if (commit && !toSave.isEmpty()) {
+            payrollRepository.saveAll(toSave);
+        }
+
+        log.info("Payroll run for cycle {} ({}): {} changed, {} unchanged, {} locked",
+            cycleId, commit ? "committed" : "preview", changes.size(), unchanged, locked);
+
+        return PayrollRunResponse.builder()
+            .payrollCycleId(cycleId)
+            .periodStart(periodStart)
+            .periodEnd(periodEnd)
+            .committed(commit)
+            .totalEmployees(employees.size())
+            .changedEmployees(changes.size())
+            .unchangedEmployees(unchanged)
+            .lockedEmployees(locked)
+            .totalNetDifference(totalDifference)
+            .changes(changes)
+            .build();
     }
 
     // ==================== Paginated Methods ====================
@@ -263,8 +499,94 @@ public class PayrollService {
         return mapPayrollPageToResponse(page);
     }
 
+    // ==================== Sparse Fieldsets ====================
+
+    /**
+     * Only the requested columns of payroll records, optionally for one cycle and/or employee.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getPayrollFields(Long cycleId, Long employeeId, String fields) {
+        Long tenantId = TenantContext.getTenantId();
+        List<String> columns = fieldSelectionRepository.resolveFields(Payroll.class, PayrollResponse.class, fields);
+        Specification<Payroll> filter = (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("tenantId"), tenantId));
+            if (cycleId != null) {
+                predicates.add(cb.equal(root.get("payrollCycleId"), cycleId));
+            }
+            if (employeeId != null) {
+                predicates.add(cb.equal(root.get("employeeId"), employeeId));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+        return fieldSelectionRepository.findFields(Payroll.class, filter, columns, Sort.unsorted());
+    }
+
     // ==================== Helper Methods ====================
 
+    /**
+     * Copies the manually maintained components (allowances and deductions) that a payroll run keeps as overrides.
+     */
+    private void copyOverrides(Payroll source, Payroll target) {
+        target.setHra(source.getHra());
+        target.setDearnessAllowance(source.getDearnessAllowance());
+        target.setOtherAllowances(source.getOtherAllowances());
+        target.setIncomeTax(source.getIncomeTax());
+        target.setProfessionalTax(source.getProfessionalTax());
+        target.setEmployeePf(source.getEmployeePf());
+        target.setEmployeeEsi(source.getEmployeeEsi());
+        target.setOtherDeductions(source.getOtherDeductions());
+    }
+
+    /**
+     * SHA-256 over a canonical rendering of everything a payroll run reads for one employee.
+     */
+    private String computeInputHash(Employee employee, LocalDate periodStart, LocalDate periodEnd,
+                                    Map<AttendanceStatus, Long> attendance, long paidLeaveDays,
+                                    long unpaidLeaveDays, Payroll overrides) {
+        StringBuilder canonical = new StringBuilder()
+            .append("v").append(PAYROLL_FORMULA_VERSION)
+            .append("|period=").append(periodStart).append('/').append(periodEnd)
+            .append("|salary=").append(canonicalAmount(employee.getBasicSalary()))
+            .append('|').append(employee.getCurrency());
+
+        // EnumMap iterates in declaration order, so the rendering is stable; copying from a plain map
+        // with the constructor would fail for employees without attendance in the period
+        Map<AttendanceStatus, Long> ordered = new EnumMap<>(AttendanceStatus.class);
+        ordered.putAll(attendance);
+        canonical.append("|attendance=");
+        ordered.forEach((status, count) -> canonical.append(status).append(':').append(count).append(','));
+
+        canonical.append("|leave=").append(paidLeaveDays).append('/').append(unpaidLeaveDays);
+
+        // Always rendered, with missing amounts as zero, so a row's first run and its re-runs hash alike
+        Payroll components = overrides != null ? overrides : new Payroll();
+        canonical.append("|overrides=")
+            .append(canonicalOverride(components.getHra())).append(',')
+            .append(canonicalOverride(components.getDearnessAllowance())).append(',')
+            .append(canonicalOverride(components.getOtherAllowances())).append(',')
+            .append(canonicalOverride(components.getIncomeTax())).append(',')
+            .append(canonicalOverride(components.getProfessionalTax())).append(',')
+            .append(canonicalOverride(components.getEmployeePf())).append(',')
+            .append(canonicalOverride(components.getEmployeeEsi())).append(',')
+            .append(canonicalOverride(components.getOtherDeductions()));
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private String canonicalAmount(BigDecimal amount) {
+        return amount != null ? amount.stripTrailingZeros().toPlainString() : "-";
+    }
+
+    private String canonicalOverride(BigDecimal amount) {
+        return canonicalAmount(amount != null ? amount : BigDecimal.ZERO);
+    }
+
     private void mapRequestToPayroll(PayrollRequest request, Payroll payroll) {
         payroll.setBasicSalary(request.getBasicSalary());
         payroll.setHra(request.getHra());
@@ -309,8 +631,49 @@ public class PayrollService {
         return gross.subtract(deductions);
     }
 
+    private LocalDate periodStart(PayrollCycle cycle) {
+        return cycle.getStartDate() != null ? cycle.getStartDate() : YearMonth.of(cycle.getYear(), cycle.getMonth()).atDay(1);
+    }
+
+    private LocalDate periodEnd(PayrollCycle cycle) {
+        return cycle.getEndDate() != null ? cycle.getEndDate() : YearMonth.of(cycle.getYear(), cycle.getMonth()).atEndOfMonth();
+    }
+
     // ==================== Mappers ====================
 
+    // Outbox payloads: identifiers, period and status only, so salary and bank details never leave the database
+    private PayrollEvent toEvent(PayrollCycle cycle) {
+        return PayrollEvent.builder()
+            .id(cycle.getId())
+            .tenantId(cycle.getTenantId())
+            .payrollCycleId(cycle.getId())
+            .periodStart(periodStart(cycle))
+            .periodEnd(periodEnd(cycle))
+            .status(cycle.getStatus())
+            .build();
+    }
+
+    private PayrollEvent toEvent(Payroll payroll) {
+        return PayrollEvent.builder()
+            .id(payroll.getId())
+            .tenantId(payroll.getTenantId())
+            .payrollCycleId(payroll.getPayrollCycleId())
+            .employeeId(payroll.getEmployeeId())
+            .status(payroll.getStatus())
+            .build();
+    }
+
+    private PayrollEvent toEvent(PayrollRunResponse run) {
+        return PayrollEvent.builder()
+            .id(run.getPayrollCycleId())
+            .tenantId(TenantContext.getTenantId())
+            .payrollCycleId(run.getPayrollCycleId())
+            .periodStart(run.getPeriodStart())
+            .periodEnd(run.getPeriodEnd())
+            .changedEmployeeIds(run.getChanges().stream().map(PayrollDiffEntry::getEmployeeId).toList())
+            .build();
+    }
+
     private PayrollCycleResponse mapCycleToResponse(PayrollCycle cycle) {
         return PayrollCycleResponse.builder()
             .id(cycle.getId())
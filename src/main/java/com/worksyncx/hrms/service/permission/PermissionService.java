@@ -4,9 +4,11 @@ import com.worksyncx.hrms.dto.permission.PermissionRequest;
 import com.worksyncx.hrms.dto.permission.PermissionResponse;
 import com.worksyncx.hrms.entity.Permission;
 import com.worksyncx.hrms.entity.Subscription;
+import com.worksyncx.hrms.enums.CacheName;
 import com.worksyncx.hrms.repository.PermissionRepository;
 import com.worksyncx.hrms.repository.SubscriptionRepository;
 import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.cache.CacheInvalidationBus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,6 +26,7 @@ public class PermissionService {
 
     private final PermissionRepository permissionRepository;
     private final SubscriptionRepository subscriptionRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     @Transactional
     public PermissionResponse createPermission(PermissionRequest request) {
@@ -40,6 +43,7 @@ public class PermissionService {
         permission.setDescription(request.getDescription());
 
         permission = permissionRepository.save(permission);
+        cacheInvalidationBus.publish(CacheName.ACCESS_CONTROL, null, permission.getId());
         log.info("Created new permission: {}", permission.getCode());
 
         return mapToResponse(permission);
@@ -143,6 +147,7 @@ public class PermissionService {
         permission.setDescription(request.getDescription());
 
         permission = permissionRepository.save(permission);
+        cacheInvalidationBus.publish(CacheName.ACCESS_CONTROL, null, permission.getId());
         log.info("Updated permission: {}", permission.getCode());
 
         return mapToResponse(permission);
@@ -166,6 +171,7 @@ public class PermissionService {
         }
 
         permissionRepository.delete(permission);
+        cacheInvalidationBus.publish(CacheName.ACCESS_CONTROL, null, permission.getId());
         log.info("Deleted permission: {}", permission.getCode());
     }
 
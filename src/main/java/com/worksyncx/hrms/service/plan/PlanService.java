@@ -4,7 +4,10 @@ import com.worksyncx.hrms.dto.plan.CreatePlanRequest;
 import com.worksyncx.hrms.dto.plan.PlanDto;
 import com.worksyncx.hrms.dto.plan.UpdatePlanRequest;
 import com.worksyncx.hrms.entity.Plan;
+import com.worksyncx.hrms.enums.ResourceType;
 import com.worksyncx.hrms.repository.PlanRepository;
+import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.cache.ResourceVersionService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,41 +17,65 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * The plan catalog. Plans are shared by all tenants and owned by the default shard, so every method
+ * runs without the caller's tenant; copies seeded on other shards by the migrations are never read.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PlanService {
 
     private final PlanRepository planRepository;
+    private final ResourceVersionService resourceVersionService;
 
     @Transactional(readOnly = true)
     public List<PlanDto> getAllPlans() {
         log.info("Fetching all plans");
-        return planRepository.findAllByOrderByDisplayOrderAsc()
+        return TenantContext.withoutTenant(() -> planRepository.findAllByOrderByDisplayOrderAsc()
                 .stream()
                 .map(this::convertToDto)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Transactional(readOnly = true)
     public List<PlanDto> getActivePlans() {
         log.info("Fetching active plans");
-        return planRepository.findByIsActiveTrueOrderByDisplayOrderAsc()
+        return TenantContext.withoutTenant(() -> planRepository.findByIsActiveTrueOrderByDisplayOrderAsc()
                 .stream()
                 .map(this::convertToDto)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Transactional(readOnly = true)
     public PlanDto getPlanById(Long id) {
         log.info("Fetching plan with id: {}", id);
-        Plan plan = planRepository.findById(id)
+        Plan plan = TenantContext.withoutTenant(() -> planRepository.findById(id))
                 .orElseThrow(() -> new EntityNotFoundException("Plan not found with id: " + id));
         return convertToDto(plan);
     }
 
     @Transactional
     public PlanDto createPlan(CreatePlanRequest request) {
+        return TenantContext.withoutTenant(() -> doCreatePlan(request));
+    }
+
+    @Transactional
+    public PlanDto updatePlan(Long id, UpdatePlanRequest request) {
+        return TenantContext.withoutTenant(() -> doUpdatePlan(id, request));
+    }
+
+    @Transactional
+    public void deletePlan(Long id) {
+        TenantContext.withoutTenant(() -> {
+            doDeletePlan(id);
+            return null;
+        });
+    }
+
+    // ==================== Helper Methods ====================
+
+    private PlanDto doCreatePlan(CreatePlanRequest request) {
         log.info("Creating new plan: {}", request.getName());
 
         // Check if plan with the same name already exists
@@ -72,13 +99,13 @@ public class PlanService {
         plan.setBadgeColor(request.getBadgeColor());
 
         Plan savedPlan = planRepository.save(plan);
+        resourceVersionService.bump(ResourceVersionService.GLOBAL, ResourceType.PLANS);
         log.info("Plan created successfully with id: {}", savedPlan.getId());
 
         return convertToDto(savedPlan);
     }
 
-    @Transactional
-    public PlanDto updatePlan(Long id, UpdatePlanRequest request) {
+    private PlanDto doUpdatePlan(Long id, UpdatePlanRequest request) {
         log.info("Updating plan with id: {}", id);
 
         Plan plan = planRepository.findById(id)
@@ -130,13 +157,13 @@ public class PlanService {
         }
 
         Plan updatedPlan = planRepository.save(plan);
+        resourceVersionService.bump(ResourceVersionService.GLOBAL, ResourceType.PLANS);
         log.info("Plan updated successfully with id: {}", updatedPlan.getId());
 
         return convertToDto(updatedPlan);
     }
 
-    @Transactional
-    public void deletePlan(Long id) {
+    private void doDeletePlan(Long id) {
         log.info("Deleting plan with id: {}", id);
 
         if (!planRepository.existsById(id)) {
@@ -144,6 +171,7 @@ public class PlanService {
         }
 
         planRepository.deleteById(id);
+        resourceVersionService.bump(ResourceVersionService.GLOBAL, ResourceType.PLANS);
         log.info("Plan deleted successfully with id: {}", id);
     }
 
@@ -8,9 +8,11 @@ import com.worksyncx.hrms.dto.role.RoleRequest;
 import com.worksyncx.hrms.dto.role.RoleResponse;
 import com.worksyncx.hrms.entity.Permission;
 import com.worksyncx.hrms.entity.Role;
+import com.worksyncx.hrms.enums.CacheName;
 import com.worksyncx.hrms.repository.PermissionRepository;
 import com.worksyncx.hrms.repository.RoleRepository;
 import com.worksyncx.hrms.repository.UserRepository;
+import com.worksyncx.hrms.service.cache.CacheInvalidationBus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -31,6 +33,7 @@ public class RoleService {
     private final RoleRepository roleRepository;
     private final PermissionRepository permissionRepository;
     private final UserRepository userRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     @Transactional
     public RoleResponse createRole(RoleRequest request) {
@@ -50,6 +53,7 @@ public class RoleService {
         role.setPermissions(new HashSet<>());
 
         role = roleRepository.save(role);
+        cacheInvalidationBus.publish(CacheName.ACCESS_CONTROL, tenantId, role.getId());
         log.info("Created new role: {} for tenant: {}", role.getName(), tenantId);
 
         return mapToResponse(role);
@@ -95,6 +99,7 @@ public class RoleService {
         role.setUpdatedBy(TenantContext.getUserId());
 
         role = roleRepository.save(role);
+        cacheInvalidationBus.publish(CacheName.ACCESS_CONTROL, tenantId, role.getId());
         log.info("Updated role: {} for tenant: {}", role.getName(), tenantId);
 
         return mapToResponse(role);
@@ -125,6 +130,7 @@ public class RoleService {
         }
 
         roleRepository.delete(role);
+        cacheInvalidationBus.publish(CacheName.ACCESS_CONTROL, tenantId, role.getId());
         log.info("Deleted role: {} for tenant: {}", role.getName(), tenantId);
     }
 
@@ -147,6 +153,7 @@ public class RoleService {
         role.setUpdatedBy(TenantContext.getUserId());
 
         role = roleRepository.save(role);
+        cacheInvalidationBus.publish(CacheName.ACCESS_CONTROL, tenantId, role.getId());
         log.info("Assigned {} permissions to role: {} for tenant: {}",
             permissions.size(), role.getName(), tenantId);
 
@@ -172,6 +179,7 @@ public class RoleService {
         role.setUpdatedBy(TenantContext.getUserId());
 
         role = roleRepository.save(role);
+        cacheInvalidationBus.publish(CacheName.ACCESS_CONTROL, tenantId, role.getId());
         log.info("Added {} permissions to role: {} for tenant: {}",
             permissionsToAdd.size(), role.getName(), tenantId);
 
@@ -192,6 +200,7 @@ public class RoleService {
         role.setUpdatedBy(TenantContext.getUserId());
 
         role = roleRepository.save(role);
+        cacheInvalidationBus.publish(CacheName.ACCESS_CONTROL, tenantId, role.getId());
         log.info("Removed permission {} from role: {} for tenant: {}",
             permission.getCode(), role.getName(), tenantId);
 
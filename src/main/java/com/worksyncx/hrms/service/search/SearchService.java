@@ -0,0 +1,103 @@
+package com.worksyncx.hrms.service.search;
+
+import com.worksyncx.hrms.dto.common.PageResponse;
+import com.worksyncx.hrms.dto.search.SearchResult;
+import com.worksyncx.hrms.enums.SearchEntityType;
+import com.worksyncx.hrms.repository.SearchRepository;
+import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.subscription.SubscriptionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Global search over employees, departments, designations and shifts, backed by the
+ * pg_trgm and tsvector indexes added in V16.
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    public static final int MIN_QUERY_LENGTH = 2;
+
+    private final SearchRepository searchRepository;
+    private final SubscriptionService subscriptionService;
+
+    @Transactional(readOnly = true)
+    public PageResponse<SearchResult> search(String query, Collection<SearchEntityType> types, Pageable pageable) {
+        Long tenantId = TenantContext.getTenantId();
+
+        String text = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        if (text.length() < MIN_QUERY_LENGTH) {
+            throw new RuntimeException("Search query must be at least " + MIN_QUERY_LENGTH + " characters");
+        }
+
+        // Only kinds the caller could read through their own endpoints
+        Set<String> visibleTypes = visibleTypes(tenantId, types == null || types.isEmpty()
+            ? Arrays.asList(SearchEntityType.values()) : types);
+
+        List<String> terms = Arrays.stream(text.split("[^\\p{L}\\p{N}]+"))
+            .filter(term -> !term.isEmpty())
+            .toList();
+        if (visibleTypes.isEmpty() || terms.isEmpty()) {
+            return PageResponse.from(new PageImpl<SearchResult>(List.of(), pageable, 0));
+        }
+
+        // Terms are alphanumeric only, so they are safe to splice into a tsquery
+        String tsQuery = terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & "));
+        String pattern = "%" + escapeLike(text) + "%";
+
+        Page<SearchRepository.SearchHit> hits = searchRepository.search(tenantId, visibleTypes, tsQuery, text, pattern, pageable);
+        List<SearchResult> content = hits.getContent()
+            .stream()
+            .map(this::mapToResult)
+            .toList();
+        return PageResponse.from(hits, content);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private Set<String> visibleTypes(Long tenantId, Collection<SearchEntityType> requested) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return Set.of();
+        }
+        Set<String> authorities = authentication.getAuthorities()
+            .stream()
+            .map(GrantedAuthority::getAuthority)
+            .collect(Collectors.toSet());
+
+        return requested.stream()
+            .filter(type -> type.getAuthorities().stream().anyMatch(authorities::contains))
+            .filter(type -> subscriptionService.hasModuleAccess(tenantId, type.getModule().name()))
+            .map(Enum::name)
+            .collect(Collectors.toSet());
+    }
+
+    private String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private SearchResult mapToResult(SearchRepository.SearchHit hit) {
+        return SearchResult.builder()
+            .type(SearchEntityType.valueOf(hit.getEntityType()))
+            .id(hit.getId())
+            .title(hit.getTitle())
+            .subtitle(hit.getSubtitle())
+            .rank(hit.getRank() != null ? hit.getRank() : 0)
+            .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.worksyncx.hrms.service.shard;
+
+import com.worksyncx.hrms.enums.CacheName;
+import com.worksyncx.hrms.enums.TenantShardStatus;
+import com.worksyncx.hrms.service.cache.CacheInvalidationBus;
+import com.worksyncx.hrms.util.LoadingMap;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Which database holds each tenant's data, when sharding is enabled ({@code datasource.sharding.enabled=true}).
+ *
+ * Owns one Hikari pool per shard, handed out behind the admission limiter it was built with (see
+ * {@link com.worksyncx.hrms.config.ConnectionLimitingDataSource}). The directory itself is the
+ * tenant_shards table on the default shard; tenants without a row live on the default shard. Lookups
+ * are cached per instance and invalidated on every instance when a tenant's assignment changes.
+ */
+@Slf4j
+public class ShardDirectory implements SmartInitializingSingleton {
+
+    public static final String DEFAULT_SHARD = "default";
+
+    private static final ShardAssignment UNASSIGNED = new ShardAssignment(DEFAULT_SHARD, TenantShardStatus.ACTIVE);
+
+    public record ShardAssignment(String shardKey, TenantShardStatus status) {}
+
+    private final Map<String, HikariDataSource> pools;
+    private final Map<String, DataSource> shards;
+    private final JdbcTemplate directory;
+    private final ObjectProvider<CacheInvalidationBus> cacheInvalidationBus;
+
+    private final LoadingMap<Long, ShardAssignment> assignments = new LoadingMap<>();
+
+    public ShardDirectory(Map<String, HikariDataSource> pools, Function<HikariDataSource, DataSource> admission,
+                          ObjectProvider<CacheInvalidationBus> cacheInvalidationBus) {
+        this.pools = Collections.unmodifiableMap(new LinkedHashMap<>(pools));
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        pools.forEach((key, pool) -> shards.put(key, admission.apply(pool)));
+        this.shards = Collections.unmodifiableMap(shards);
+        // Lookups run while routing a connection, so they must not queue behind the requests they route
+        this.directory = new JdbcTemplate(pools.get(DEFAULT_SHARD));
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    /**
+     * The bus needs the routed DataSource, which needs this directory, so subscribe once everything exists.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        cacheInvalidationBus.getObject().subscribe(CacheName.TENANT_SHARD,
+            event -> assignments.remove(event.tenantId()), assignments::clear);
+    }
+
+    // ==================== Lookups ====================
+
+    public ShardAssignment assignmentFor(Long tenantId) {
+        return assignments.get(tenantId, id -> directory.query(
+            "SELECT shard_key, status FROM tenant_shards WHERE tenant_id = ?",
+            rs -> rs.next()
+                ? new ShardAssignment(rs.getString("shard_key"), TenantShardStatus.valueOf(rs.getString("status")))
+                : UNASSIGNED,
+            id));
+    }
+
+    /**
+     * Shard data sources by key, the default shard first.
+     */
+    public Map<String, DataSource> getShards() {
+        return shards;
+    }
+
+    /**
+     * The Hikari pools behind {@link #getShards()}, for their settings and metrics.
+     */
+    public Map<String, HikariDataSource> getPools() {
+        return pools;
+    }
+
+    public DataSource getDataSource(String shardKey) {
+        DataSource dataSource = shards.get(shardKey);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Unknown shard: " + shardKey + ". Configured shards: " + shards.keySet());
+        }
+        return dataSource;
+    }
+
+    /**
+     * The tenant of the user with this login email, wherever the user's tenant lives. Login is the one
+     * request that arrives without a tenant, so it has to look on every shard; copies left on a shard
+     * the tenant has since moved away from are ignored.
+     */
+    public Optional<Long> locateTenantByEmail(String email) {
+        for (Map.Entry<String, DataSource> shard : shards.entrySet()) {
+            List<Long> tenantIds = new JdbcTemplate(shard.getValue())
+                .queryForList("SELECT tenant_id FROM users WHERE email = ?", Long.class, email);
+            for (Long tenantId : tenantIds) {
+                if (assignmentFor(tenantId).shardKey().equals(shard.getKey())) {
+                    return Optional.of(tenantId);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    // ==================== Changes ====================
+
+    public void assign(Long tenantId, String shardKey, TenantShardStatus status) {
+        getDataSource(shardKey);
+        directory.update("""
+            INSERT INTO tenant_shards (tenant_id, shard_key, status, updated_at)
+            VALUES (?, ?, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (tenant_id) DO UPDATE
+            SET shard_key = EXCLUDED.shard_key, status = EXCLUDED.status, updated_at = EXCLUDED.updated_at""",
+            tenantId, shardKey, status.name());
+        assignments.remove(tenantId);
+        cacheInvalidationBus.getObject().publish(CacheName.TENANT_SHARD, tenantId, null);
+        log.info("Tenant {} assigned to shard {} ({})", tenantId, shardKey, status);
+    }
+
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,108 @@
+package com.worksyncx.hrms.service.shard;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The rows that make up one tenant, read from the database catalog so new tables are picked up
+ * without changes here.
+ *
+ * A tenant is its tenants row, every row of a table with a tenant_id column, and rows of tables
+ * without one that belong to such a row through a non-null foreign key (user_roles,
+ * role_permissions, employee_shifts). Partitioned tables are copied through their parent, not
+ * partition by partition. Reference data seeded by migrations (plans, permissions) is already on
+ * every shard. The subscriptions row moves with the tenant like any other tenant-scoped row, so the
+ * tenant's shard is its only owner.
+ */
+record TenantCopyPlan(List<TableCopy> tables) {
+
+    /**
+     * Kept on the default shard after a tenant moves away, for registration checks and super admin views.
+     * Only the tenant's name and identity are read there; nothing tenant-scoped is.
+     */
+    static final Set<String> DIRECTORY_TABLES = Set.of("tenants");
+
+    private static final Set<String> EXCLUDED_TABLES = Set.of("tenant_shards", "flyway_schema_history");
+
+    /**
+     * @param filter     WHERE clause selecting the tenant's rows, with a single tenant id parameter
+     * @param columns    insertable columns (generated columns excluded)
+     * @param keyColumns primary key, for the upsert
+     */
+    record TableCopy(String table, String filter, List<String> columns, List<String> keyColumns) {
+
+        String selectSql() {
+            return "SELECT " + String.join(", ", columns) + " FROM " + table + " WHERE " + filter;
+        }
+
+        String upsertSql() {
+            String placeholders = String.join(", ", columns.stream().map(column -> "?").toList());
+            List<String> updates = columns.stream()
+                .filter(column -> !keyColumns.contains(column))
+                .map(column -> column + " = EXCLUDED." + column)
+                .toList();
+            return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" + placeholders + ")"
+                + " ON CONFLICT (" + String.join(", ", keyColumns) + ")"
+                + (updates.isEmpty() ? " DO NOTHING" : " DO UPDATE SET " + String.join(", ", updates));
+        }
+
+        String deleteSql() {
+            return "DELETE FROM " + table + " WHERE " + filter;
+        }
+    }
+
+    /**
+     * Build the plan from the source shard's catalog. Parents come before children.
+     */
+    static TenantCopyPlan load(JdbcTemplate catalog) {
+        List<String> tenantScoped = catalog.queryForList("""
+            SELECT table_name FROM information_schema.columns
+            WHERE table_schema = current_schema() AND column_name = 'tenant_id'
+              AND table_name NOT IN (SELECT relname FROM pg_class WHERE relispartition)
+            ORDER BY table_name""", String.class)
+            .stream()
+            .filter(table -> !EXCLUDED_TABLES.contains(table))
+            .toList();
+
+        Map<String, String> filters = new LinkedHashMap<>();
+        filters.put("tenants", "id = ?");
+        tenantScoped.forEach(table -> filters.put(table, "tenant_id = ?"));
+
+        // Single-column, non-null foreign keys from tables without tenant_id to tenant-scoped tables
+        catalog.queryForList("""
+            SELECT child.relname AS child_table, att.attname AS child_column, parent.relname AS parent_table
+            FROM pg_constraint con
+            JOIN pg_class child ON child.oid = con.conrelid
+            JOIN pg_class parent ON parent.oid = con.confrelid
+            JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = con.conkey[1]
+            WHERE con.contype = 'f'
+              AND array_length(con.conkey, 1) = 1
+              AND att.attnotnull
+              AND con.connamespace = current_schema()::regnamespace
+            ORDER BY child.relname, att.attname""")
+            .forEach(row -> {
+                String child = (String) row.get("child_table");
+                String parent = (String) row.get("parent_table");
+                if (!filters.containsKey(child) && tenantScoped.contains(parent) && !EXCLUDED_TABLES.contains(child)) {
+                    filters.put(child, row.get("child_column") + " IN (SELECT id FROM " + parent + " WHERE tenant_id = ?)");
+                }
+            });
+
+        List<TableCopy> tables = new ArrayList<>();
+        filters.forEach((table, filter) -> tables.add(new TableCopy(table, filter,
+            catalog.queryForList("""
+                SELECT column_name FROM information_schema.columns
+                WHERE table_schema = current_schema() AND table_name = ? AND is_generated = 'NEVER'
+                ORDER BY ordinal_position""", String.class, table),
+            catalog.queryForList("""
+                SELECT att.attname FROM pg_index idx
+                JOIN pg_attribute att ON att.attrelid = idx.indrelid AND att.attnum = ANY(idx.indkey)
+                WHERE idx.indrelid = ?::regclass AND idx.indisprimary""", String.class, table))));
+        return new TenantCopyPlan(tables);
+    }
+}
@@ -0,0 +1,265 @@
+package com.worksyncx.hrms.service.shard;
+
+import com.worksyncx.hrms.dto.shard.TenantMoveResponse;
+import com.worksyncx.hrms.dto.shard.TenantShardResponse;
+import com.worksyncx.hrms.enums.TenantMoveState;
+import com.worksyncx.hrms.enums.TenantShardStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.UnaryOperator;
+
+/**
+ * Moves a tenant's data to another shard while the application keeps running.
+ *
+ * 1. The tenant is marked MOVING: writes get 503 (see {@link com.worksyncx.hrms.security.TenantMoveFilter})
+ *    while reads carry on from the old shard on read-only connections, and in-flight writes are given
+ *    {@code move-drain} to finish.
+ * 2. Every row in the {@link TenantCopyPlan} is upserted into the target from one consistent snapshot,
+ *    in a single target transaction, so a failed move leaves nothing behind and can be retried.
+ * 3. The directory is pointed at the target and every instance drops its cached assignment.
+ * 4. The rows are deleted from the source, except the tenants row on the default shard.
+ *
+ * Copies run with session_replication_role = replica, as pg_dump's --disable-triggers does, so triggers
+ * do not fire twice and rows can arrive in any order; the shard's database user needs superuser or,
+ * from PostgreSQL 15, {@code GRANT SET ON PARAMETER session_replication_role}. Moves run one at a time.
+ */
+@Service
+@ConditionalOnProperty(name = "datasource.sharding.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class TenantMoveService {
+
+    private final ShardDirectory shardDirectory;
+
+    @Value("${datasource.sharding.move-drain:10s}")
+    private Duration moveDrain;
+
+    @Value("${datasource.sharding.move-batch-size:500}")
+    private int batchSize;
+
+    private final Map<Long, TenantMoveResponse> moves = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("tenant-move").daemon().factory());
+
+    public TenantShardResponse getTenantShard(Long tenantId) {
+        ShardDirectory.ShardAssignment assignment = shardDirectory.assignmentFor(tenantId);
+        return TenantShardResponse.builder()
+            .tenantId(tenantId)
+            .shardKey(assignment.shardKey())
+            .status(assignment.status())
+            .availableShards(shardDirectory.getShards().keySet())
+            .build();
+    }
+
+    public TenantMoveResponse getMove(Long tenantId) {
+        TenantMoveResponse move = moves.get(tenantId);
+        if (move == null) {
+            throw new RuntimeException("No move has been started for tenant " + tenantId + " since this instance started");
+        }
+        return move;
+    }
+
+    /**
+     * Start moving a tenant in the background; poll {@link #getMove} for progress.
+     */
+    public synchronized TenantMoveResponse startMove(Long tenantId, String targetShard) {
+        shardDirectory.getDataSource(targetShard);
+        ShardDirectory.ShardAssignment current = shardDirectory.assignmentFor(tenantId);
+        if (current.status() == TenantShardStatus.MOVING) {
+            throw new RuntimeException("Tenant " + tenantId + " is already being moved");
+        }
+        if (current.shardKey().equals(targetShard)) {
+            throw new RuntimeException("Tenant " + tenantId + " is already on shard " + targetShard);
+        }
+        if (new JdbcTemplate(shardDirectory.getDataSource(current.shardKey()))
+                .queryForObject("SELECT COUNT(*) FROM tenants WHERE id = ?", Long.class, tenantId) == 0) {
+            throw new RuntimeException("Tenant not found with id: " + tenantId);
+        }
+
+        TenantMoveResponse move = TenantMoveResponse.builder()
+            .tenantId(tenantId)
+            .sourceShard(current.shardKey())
+            .targetShard(targetShard)
+            .state(TenantMoveState.DRAINING)
+            .rowsCopied(Map.of())
+            .startedAt(LocalDateTime.now())
+            .build();
+        // Marked before returning, so writes stop even if the executor is still busy with another move
+        shardDirectory.assign(tenantId, current.shardKey(), TenantShardStatus.MOVING);
+        moves.put(tenantId, move);
+        executor.submit(() -> move(tenantId, current.shardKey(), targetShard));
+        return move;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ==================== Move Steps ====================
+
+    private void move(Long tenantId, String sourceShard, String targetShard) {
+        DataSource source = shardDirectory.getDataSource(sourceShard);
+        TenantCopyPlan plan;
+        try {
+            Thread.sleep(moveDrain.toMillis());
+            update(tenantId, move -> move.toBuilder().state(TenantMoveState.COPYING).build());
+
+            plan = TenantCopyPlan.load(new JdbcTemplate(source));
+            Map<String, Long> copied = copy(tenantId, plan, source, shardDirectory.getDataSource(targetShard));
+            update(tenantId, move -> move.toBuilder().rowsCopied(copied).build());
+
+            shardDirectory.assign(tenantId, targetShard, TenantShardStatus.ACTIVE);
+            log.info("Tenant {} moved from shard {} to {}: {}", tenantId, sourceShard, targetShard, copied);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.error("Moving tenant {} from shard {} to {} failed", tenantId, sourceShard, targetShard, e);
+            try {
+                shardDirectory.assign(tenantId, sourceShard, TenantShardStatus.ACTIVE);
+            } catch (RuntimeException restoreFailure) {
+                log.error("Tenant {} is still marked MOVING; reassign it to shard {}", tenantId, sourceShard, restoreFailure);
+            }
+            update(tenantId, move -> move.toBuilder()
+                .state(TenantMoveState.FAILED).error(e.getMessage()).finishedAt(LocalDateTime.now()).build());
+            return;
+        }
+
+        update(tenantId, move -> move.toBuilder().state(TenantMoveState.CLEANING_UP).build());
+        String error = null;
+        try {
+            deleteFromSource(tenantId, plan, source, ShardDirectory.DEFAULT_SHARD.equals(sourceShard));
+        } catch (SQLException | RuntimeException e) {
+            // The tenant is served from the target already; leftovers on the source are never read
+            log.warn("Tenant {} moved, but its rows could not be deleted from shard {}", tenantId, sourceShard, e);
+            error = "Moved, but the rows on " + sourceShard + " could not be deleted: " + e.getMessage();
+        }
+        String cleanupError = error;
+        update(tenantId, move -> move.toBuilder()
+            .state(TenantMoveState.COMPLETED).error(cleanupError).finishedAt(LocalDateTime.now()).build());
+    }
+
+    private Map<String, Long> copy(Long tenantId, TenantCopyPlan plan, DataSource source, DataSource target) throws SQLException {
+        Map<String, Long> copied = new LinkedHashMap<>();
+        try (Connection from = source.getConnection(); Connection to = target.getConnection()) {
+            // One snapshot for all tables; the cursor needs autocommit off to stream in batches
+            from.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            from.setReadOnly(true);
+            from.setAutoCommit(false);
+            to.setAutoCommit(false);
+            try {
+                disableTriggers(to);
+                for (TenantCopyPlan.TableCopy table : plan.tables()) {
+                    copied.put(table.table(), copyTable(tenantId, table, from, to));
+                }
+                to.commit();
+            } catch (SQLException | RuntimeException e) {
+                to.rollback();
+                throw e;
+            } finally {
+                from.rollback();
+            }
+        }
+        return copied;
+    }
+
+    private long copyTable(Long tenantId, TenantCopyPlan.TableCopy table, Connection from, Connection to) throws SQLException {
+        long rows = 0;
+        try (PreparedStatement select = from.prepareStatement(table.selectSql());
+             PreparedStatement upsert = to.prepareStatement(table.upsertSql())) {
+            select.setFetchSize(batchSize);
+            select.setLong(1, tenantId);
+            try (ResultSet resultSet = select.executeQuery()) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                int columns = metaData.getColumnCount();
+                while (resultSet.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        Object value = resultSet.getObject(i);
+                        if (value == null) {
+                            upsert.setNull(i, metaData.getColumnType(i));
+                        } else {
+                            upsert.setObject(i, value);
+                        }
+                    }
+                    upsert.addBatch();
+                    if (++rows % batchSize == 0) {
+                        upsert.executeBatch();
+                    }
+                }
+            }
+            upsert.executeBatch();
+        }
+        return rows;
+    }
+
+    private void deleteFromSource(Long tenantId, TenantCopyPlan plan, DataSource source, boolean keepDirectoryRows)
+            throws SQLException {
+        List<TenantCopyPlan.TableCopy> childrenFirst = new ArrayList<>(plan.tables());
+        Collections.reverse(childrenFirst);
+
+        try (Connection connection = source.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                disableTriggers(connection);
+                if (keepDirectoryRows) {
+                    // The owner is one of the users about to be deleted
+                    try (PreparedStatement statement = connection.prepareStatement(
+                            "UPDATE tenants SET primary_owner_user_id = NULL WHERE id = ?")) {
+                        statement.setLong(1, tenantId);
+                        statement.executeUpdate();
+                    }
+                }
+                for (TenantCopyPlan.TableCopy table : childrenFirst) {
+                    if (keepDirectoryRows && TenantCopyPlan.DIRECTORY_TABLES.contains(table.table())) {
+                        continue;
+                    }
+                    try (PreparedStatement statement = connection.prepareStatement(table.deleteSql())) {
+                        statement.setLong(1, tenantId);
+                        statement.executeUpdate();
+                    }
+                }
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private void disableTriggers(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET LOCAL session_replication_role = replica");
+        } catch (SQLException e) {
+            throw new SQLException("Cannot disable triggers for the copy (" + e.getMessage() + "); the shard user needs "
+                + "superuser or SET privilege on session_replication_role", e.getSQLState(), e);
+        }
+    }
+
+    private void update(Long tenantId, UnaryOperator<TenantMoveResponse> change) {
+        moves.computeIfPresent(tenantId, (id, move) -> change.apply(move));
+    }
+}
@@ -5,6 +5,7 @@ import com.worksyncx.hrms.dto.shift.*;
 import com.worksyncx.hrms.entity.Employee;
 import com.worksyncx.hrms.entity.EmployeeShift;
 import com.worksyncx.hrms.entity.Shift;
+import com.worksyncx.hrms.enums.ResourceType;
 import com.worksyncx.hrms.exception.DuplicateShiftCodeException;
 import com.worksyncx.hrms.exception.InvalidTimeRangeException;
 import com.worksyncx.hrms.exception.InvalidDateException;
@@ -12,6 +13,7 @@ import com.worksyncx.hrms.repository.EmployeeRepository;
 import com.worksyncx.hrms.repository.EmployeeShiftRepository;
 import com.worksyncx.hrms.repository.ShiftRepository;
 import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.cache.ResourceVersionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -36,6 +38,7 @@ public class ShiftService {
     private final ShiftRepository shiftRepository;
     private final EmployeeShiftRepository employeeShiftRepository;
     private final EmployeeRepository employeeRepository;
+    private final ResourceVersionService resourceVersionService;
 
     // ==================== Shift CRUD Operations ====================
 
@@ -67,6 +70,7 @@ public class ShiftService {
         shift.setIsActive(request.getIsActive());
 
         shift = shiftRepository.save(shift);
+        resourceVersionService.bump(shift.getTenantId(), ResourceType.SHIFTS);
         log.info("Created shift: {} for tenant: {}", shift.getName(), tenantId);
 
         return toShiftResponse(shift);
@@ -121,6 +125,7 @@ public class ShiftService {
         shift.setIsActive(request.getIsActive());
 
         shift = shiftRepository.save(shift);
+        resourceVersionService.bump(shift.getTenantId(), ResourceType.SHIFTS);
         log.info("Updated shift: {}", shift.getName());
 
         return toShiftResponse(shift);
@@ -136,6 +141,7 @@ public class ShiftService {
         shift.setDeletedBy(TenantContext.getUserId());
 
         shiftRepository.save(shift);
+        resourceVersionService.bump(shift.getTenantId(), ResourceType.SHIFTS);
         log.info("Soft deleted shift: {} by user: {}", shift.getName(), TenantContext.getUserId());
     }
 
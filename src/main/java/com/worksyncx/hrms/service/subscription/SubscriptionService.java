@@ -9,6 +9,7 @@ import com.worksyncx.hrms.enums.SubscriptionStatus;
 import com.worksyncx.hrms.repository.EmployeeRepository;
 import com.worksyncx.hrms.repository.SubscriptionRepository;
 import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.security.TenantRateLimiter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,6 +27,7 @@ public class SubscriptionService {
 
     private final SubscriptionRepository subscriptionRepository;
     private final EmployeeRepository employeeRepository;
+    private final TenantRateLimiter tenantRateLimiter;
 
     @Transactional(readOnly = true)
     public SubscriptionResponse getCurrentSubscription(Long tenantId) {
@@ -185,6 +187,7 @@ public class SubscriptionService {
         updateSubscriptionByPlan(subscription, newPlan, billingCycle);
 
         subscription = subscriptionRepository.save(subscription);
+        tenantRateLimiter.refreshAfterCommit(tenantId);
 
         int currentEmployees = employeeRepository.findByTenantId(tenantId).size();
 
@@ -0,0 +1,138 @@
+package com.worksyncx.hrms.util;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Concurrent map for caches whose values are loaded from the database.
+ *
+ * Behaves like {@code ConcurrentHashMap.computeIfAbsent} with patches and evictions waiting for an
+ * in-flight load of the same key, so a change can never be overwritten by a load that started before
+ * it. Loads run under a per-key {@link ReentrantLock} instead of the map's bin monitor: a virtual
+ * thread blocked on JDBC inside a monitor stays pinned to its carrier on Java 21, whereas one waiting
+ * on a ReentrantLock unmounts. A key's lock is dropped once no caller holds or waits for it, so the
+ * locks do not outlive the keys that were removed.
+ */
+public final class LoadingMap<K, V> {
+
+    private final Map<K, V> values = new ConcurrentHashMap<>();
+    private final Map<K, KeyLock> locks = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The cached value, loading it first if absent. Concurrent callers for the same key wait for one load.
+     */
+    public V get(K key, Function<K, V> loader) {
+        V value = values.get(key);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        KeyLock lock = lock(key);
+        try {
+            value = values.get(key);
+            if (value == null) {
+                value = loader.apply(key);
+                values.put(key, value);
+            }
+            return value;
+        } finally {
+            unlock(key, lock);
+        }
+    }
+
+    /**
+     * The cached value without loading, or null.
+     */
+    public V getIfPresent(K key) {
+        return values.get(key);
+    }
+
+    /**
+     * Replace a cached value; returning null from {@code update} removes it. Absent keys are left absent.
+     */
+    public void computeIfPresent(K key, BiFunction<K, V, V> update) {
+        KeyLock lock = lock(key);
+        try {
+            V current = values.get(key);
+            if (current == null) {
+                return;
+            }
+            V updated = update.apply(key, current);
+            if (updated == null) {
+                values.remove(key);
+            } else {
+                values.put(key, updated);
+            }
+        } finally {
+            unlock(key, lock);
+        }
+    }
+
+    public void remove(K key) {
+        KeyLock lock = lock(key);
+        try {
+            values.remove(key);
+        } finally {
+            unlock(key, lock);
+        }
+    }
+
+    public void removeIf(Predicate<K> condition) {
+        // Keys being loaded are only in `locks`; removing them waits for the load, then drops it
+        Set<K> keys = new HashSet<>(values.keySet());
+        keys.addAll(locks.keySet());
+        keys.stream().filter(condition).forEach(this::remove);
+    }
+
+    public void clear() {
+        removeIf(key -> true);
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Calls to {@link #get} answered from the map.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Calls to {@link #get} that had to load, or wait for another caller's load.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    // Callers are counted inside the map's atomic compute, so a lock is never dropped while someone still needs it
+    private KeyLock lock(K key) {
+        KeyLock lock = locks.compute(key, (k, existing) -> {
+            KeyLock current = existing != null ? existing : new KeyLock();
+            current.users++;
+            return current;
+        });
+        lock.lock();
+        return lock;
+    }
+
+    private void unlock(K key, KeyLock lock) {
+        lock.unlock();
+        locks.computeIfPresent(key, (k, current) -> --current.users == 0 ? null : current);
+    }
+
+    private static final class KeyLock extends ReentrantLock {
+        private int users;
+    }
+}
@@ -0,0 +1,109 @@
+package com.worksyncx.hrms.util;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free queue for handing work from request threads to a background consumer.
+ *
+ * Each slot carries a sequence number telling producers and consumers whose turn it is (Dmitry
+ * Vyukov's bounded MPMC queue), so {@link #offer} and {@link #poll} only ever CAS a counter and never
+ * block or allocate. A full buffer makes {@code offer} return false; what to do then is up to the caller.
+ */
+public final class RingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    public RingBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Ring buffer capacity must be at least 2");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        slots = new AtomicReferenceArray<>(size);
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * @return false if the buffer is full
+     */
+    public boolean offer(T item) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long sequence = sequences.get(index);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, item);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (sequence < position) {
+                // The slot still holds an item from the previous lap
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * @return the oldest item, or null if the buffer is empty
+     */
+    public T poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long sequence = sequences.get(index);
+            if (sequence == position + 1) {
+                if (head.compareAndSet(position, position + 1)) {
+                    T item = slots.getAndSet(index, null);
+                    sequences.set(index, position + mask + 1);
+                    return item;
+                }
+                position = head.get();
+            } else if (sequence < position + 1) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * Move up to {@code max} items into {@code sink}, oldest first.
+     */
+    public int drainTo(Collection<? super T> sink, int max) {
+        int drained = 0;
+        T item;
+        while (drained < max && (item = poll()) != null) {
+            sink.add(item);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Approximate number of items waiting; exact only while no other thread is using the buffer.
+     */
+    public int size() {
+        return (int) Math.max(0, Math.min(tail.get() - head.get(), mask + 1L));
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,57 @@
+-- Leave balance ledger
+-- leave_balances holds one running-total row per (employee, leave type, year) so balance
+-- checks are a single indexed lookup; leave_balance_entries is the append-only ledger behind it.
+
+CREATE TABLE leave_balances (
+    id BIGSERIAL PRIMARY KEY,
+    tenant_id BIGINT NOT NULL,
+    employee_id BIGINT NOT NULL,
+    leave_type_id BIGINT NOT NULL,
+    period_year INTEGER NOT NULL,
+    accrued DECIMAL(6, 2) NOT NULL DEFAULT 0,
+    carried_forward DECIMAL(6, 2) NOT NULL DEFAULT 0,
+    consumed DECIMAL(6, 2) NOT NULL DEFAULT 0,
+    encashed DECIMAL(6, 2) NOT NULL DEFAULT 0,
+    carried_out DECIMAL(6, 2) NOT NULL DEFAULT 0,
+    pending DECIMAL(6, 2) NOT NULL DEFAULT 0,
+    balance DECIMAL(6, 2) NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    created_by BIGINT,
+    updated_by BIGINT,
+    UNIQUE(tenant_id, employee_id, leave_type_id, period_year),
+    FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE,
+    FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE,
+    FOREIGN KEY (leave_type_id) REFERENCES leave_types(id) ON DELETE CASCADE
+);
+
+CREATE TABLE leave_balance_entries (
+    id BIGSERIAL PRIMARY KEY,
+    tenant_id BIGINT NOT NULL,
+    leave_balance_id BIGINT NOT NULL,
+    entry_type VARCHAR(30) NOT NULL,
+    days DECIMAL(6, 2) NOT NULL,
+    balance_after DECIMAL(6, 2) NOT NULL,
+    leave_request_id BIGINT,
+    notes VARCHAR(255),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    created_by BIGINT,
+    updated_by BIGINT,
+    FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE,
+    FOREIGN KEY (leave_balance_id) REFERENCES leave_balances(id) ON DELETE CASCADE,
+    FOREIGN KEY (leave_request_id) REFERENCES leave_requests(id) ON DELETE SET NULL
+);
+
+CREATE INDEX idx_leave_balances_tenant_employee_year
+ON leave_balances(tenant_id, employee_id, period_year);
+
+CREATE INDEX idx_leave_balance_entries_balance
+ON leave_balance_entries(leave_balance_id, created_at);
+
+CREATE INDEX idx_leave_balance_entries_request
+ON leave_balance_entries(leave_request_id);
+
+COMMENT ON COLUMN leave_balances.balance IS 'Running total: accrued + carried_forward - consumed - encashed - carried_out';
+COMMENT ON COLUMN leave_balances.pending IS 'Days reserved by pending leave requests; available = balance - pending';
+COMMENT ON COLUMN leave_balance_entries.days IS 'Signed movement: positive credits the balance, negative debits it';
@@ -0,0 +1,22 @@
+-- Tenant holiday calendar
+-- Combined with employee shift weekdays to answer "working days between A and B" for leave,
+-- attendance and payroll.
+
+CREATE TABLE holidays (
+    id BIGSERIAL PRIMARY KEY,
+    tenant_id BIGINT NOT NULL,
+    holiday_date DATE NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    description TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    created_by BIGINT,
+    updated_by BIGINT,
+    UNIQUE(tenant_id, holiday_date),
+    FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE
+);
+
+-- The unique constraint already serves (tenant_id, holiday_date) range scans for a calendar year
+
+COMMENT ON TABLE holidays IS 'Tenant-wide non-working days; weekly offs come from employee_shifts.days_of_week';
+COMMENT ON COLUMN holidays.holiday_date IS 'Calendar date of the holiday (one row per date)';
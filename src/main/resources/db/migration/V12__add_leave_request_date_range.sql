@@ -0,0 +1,22 @@
+-- Leave overlap detection
+-- date_range mirrors [start_date, end_date] so Postgres can enforce non-overlapping active leave
+-- per employee and answer "who is on leave between X and Y" from a GiST index.
+-- Migration fails if a tenant already has overlapping PENDING/APPROVED requests for an employee;
+-- cancel or reject the duplicates first.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE leave_requests
+    ADD COLUMN IF NOT EXISTS date_range DATERANGE
+    GENERATED ALWAYS AS (daterange(start_date, end_date, '[]')) STORED;
+
+ALTER TABLE leave_requests
+    ADD CONSTRAINT excl_leave_requests_no_overlap
+    EXCLUDE USING gist (tenant_id WITH =, employee_id WITH =, date_range WITH &&)
+    WHERE (status IN ('PENDING', 'APPROVED'));
+
+-- Tenant-wide range scans for leave calendars
+CREATE INDEX IF NOT EXISTS idx_leave_requests_tenant_date_range
+    ON leave_requests USING gist (tenant_id, date_range);
+
+COMMENT ON COLUMN leave_requests.date_range IS 'Inclusive [start_date, end_date] range, generated; used for overlap checks';
@@ -0,0 +1,20 @@
+-- Manager approval inbox
+-- approver_employee_id is the employee's manager when the request was filed (kept in sync when the
+-- manager changes), so an approver's pending queue is a single index range scan.
+
+ALTER TABLE leave_requests ADD COLUMN IF NOT EXISTS approver_employee_id BIGINT;
+
+ALTER TABLE leave_requests
+    ADD CONSTRAINT fk_leave_requests_approver
+    FOREIGN KEY (approver_employee_id) REFERENCES employees(id) ON DELETE SET NULL;
+
+UPDATE leave_requests lr
+SET approver_employee_id = e.manager_id
+FROM employees e
+WHERE e.id = lr.employee_id
+  AND lr.approver_employee_id IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_leave_requests_tenant_status_approver
+    ON leave_requests(tenant_id, status, approver_employee_id);
+
+COMMENT ON COLUMN leave_requests.approver_employee_id IS 'Manager (employee id) expected to decide the request';
@@ -0,0 +1,63 @@
+-- Org hierarchy closure tables
+-- One row per (ancestor, descendant) pair including the self pair at depth 0, so "everyone under X",
+-- subtree counts and "is Y under X" are single indexed statements instead of level-by-level walks.
+-- Maintained by the application whenever employees.manager_id or departments.parent_department_id changes.
+
+CREATE TABLE employee_hierarchy (
+    tenant_id BIGINT NOT NULL,
+    ancestor_id BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth INTEGER NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE,
+    FOREIGN KEY (ancestor_id) REFERENCES employees(id) ON DELETE CASCADE,
+    FOREIGN KEY (descendant_id) REFERENCES employees(id) ON DELETE CASCADE
+);
+
+CREATE TABLE department_hierarchy (
+    tenant_id BIGINT NOT NULL,
+    ancestor_id BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth INTEGER NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE,
+    FOREIGN KEY (ancestor_id) REFERENCES departments(id) ON DELETE CASCADE,
+    FOREIGN KEY (descendant_id) REFERENCES departments(id) ON DELETE CASCADE
+);
+
+-- The primary key serves subtree lookups; these serve ancestor lookups and moves
+CREATE INDEX IF NOT EXISTS idx_employee_hierarchy_descendant ON employee_hierarchy(descendant_id, ancestor_id);
+CREATE INDEX IF NOT EXISTS idx_department_hierarchy_descendant ON department_hierarchy(descendant_id, ancestor_id);
+
+-- Backfill from the existing adjacency lists (depth guard protects against pre-existing cycles)
+INSERT INTO employee_hierarchy (tenant_id, ancestor_id, descendant_id, depth)
+WITH RECURSIVE paths AS (
+    SELECT e.tenant_id, e.id AS ancestor_id, e.id AS descendant_id, 0 AS depth
+    FROM employees e
+    UNION ALL
+    SELECT p.tenant_id, p.ancestor_id, e.id, p.depth + 1
+    FROM paths p
+    JOIN employees e ON e.manager_id = p.descendant_id AND e.tenant_id = p.tenant_id
+    WHERE p.depth < 64
+)
+SELECT tenant_id, ancestor_id, descendant_id, MIN(depth)
+FROM paths
+GROUP BY tenant_id, ancestor_id, descendant_id;
+
+INSERT INTO department_hierarchy (tenant_id, ancestor_id, descendant_id, depth)
+WITH RECURSIVE paths AS (
+    SELECT d.tenant_id, d.id AS ancestor_id, d.id AS descendant_id, 0 AS depth
+    FROM departments d
+    UNION ALL
+    SELECT p.tenant_id, p.ancestor_id, d.id, p.depth + 1
+    FROM paths p
+    JOIN departments d ON d.parent_department_id = p.descendant_id AND d.tenant_id = p.tenant_id
+    WHERE p.depth < 64
+)
+SELECT tenant_id, ancestor_id, descendant_id, MIN(depth)
+FROM paths
+GROUP BY tenant_id, ancestor_id, descendant_id;
+
+COMMENT ON TABLE employee_hierarchy IS 'Closure table of employees.manager_id (ancestor = manager side)';
+COMMENT ON TABLE department_hierarchy IS 'Closure table of departments.parent_department_id (ancestor = parent side)';
+COMMENT ON COLUMN employee_hierarchy.depth IS '0 for the self row, 1 for direct reports, and so on';
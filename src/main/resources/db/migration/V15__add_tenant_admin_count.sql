@@ -0,0 +1,45 @@
+-- Per-tenant count of users holding the TENANT_ADMIN role
+-- The last-admin guard reads this single column instead of loading every user and their roles.
+-- Kept current by a trigger on user_roles so every assignment path (registration, user admin,
+-- role replacement) is covered without application bookkeeping.
+
+ALTER TABLE tenants ADD COLUMN IF NOT EXISTS admin_count INTEGER NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN tenants.admin_count IS 'Number of users holding the TENANT_ADMIN role. Maintained by trg_user_roles_admin_count.';
+
+CREATE OR REPLACE FUNCTION maintain_tenant_admin_count() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        UPDATE tenants t
+        SET admin_count = t.admin_count + 1
+        FROM roles r
+        WHERE r.id = NEW.role_id
+          AND r.name = 'TENANT_ADMIN'
+          AND t.id = r.tenant_id;
+        RETURN NEW;
+    END IF;
+
+    -- TENANT_ADMIN is a system role and cannot be renamed or deleted, so the role row is always found here
+    UPDATE tenants t
+    SET admin_count = GREATEST(t.admin_count - 1, 0)
+    FROM roles r
+    WHERE r.id = OLD.role_id
+      AND r.name = 'TENANT_ADMIN'
+      AND t.id = r.tenant_id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_user_roles_admin_count
+    AFTER INSERT OR DELETE ON user_roles
+    FOR EACH ROW EXECUTE FUNCTION maintain_tenant_admin_count();
+
+-- Backfill existing tenants
+UPDATE tenants t
+SET admin_count = (
+    SELECT COUNT(*)
+    FROM user_roles ur
+    JOIN roles r ON ur.role_id = r.id
+    WHERE r.tenant_id = t.id
+      AND r.name = 'TENANT_ADMIN'
+);
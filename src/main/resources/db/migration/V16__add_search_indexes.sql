@@ -0,0 +1,63 @@
+-- Indexed search for employees, departments, designations and shifts
+-- search_text is a lower-cased concatenation of the searchable columns with a trigram GIN index, so
+-- substring predicates (search_text LIKE '%x%') no longer sequential-scan. search_vector is a weighted
+-- tsvector for word and prefix matching and ranking. Both are generated columns and never written by
+-- the application. The 'simple' configuration is used because names and codes should not be stemmed.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Employees
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS search_text TEXT GENERATED ALWAYS AS (
+    lower(first_name || ' ' || last_name || ' ' || employee_code || ' ' || email || ' ' || coalesce(phone, ''))
+) STORED;
+
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', first_name || ' ' || last_name), 'A') ||
+    setweight(to_tsvector('simple', employee_code), 'A') ||
+    setweight(to_tsvector('simple', email), 'B')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_employees_search_text ON employees USING GIN (search_text gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_employees_search_vector ON employees USING GIN (search_vector);
+
+-- Departments
+ALTER TABLE departments ADD COLUMN IF NOT EXISTS search_text TEXT GENERATED ALWAYS AS (
+    lower(name || ' ' || code)
+) STORED;
+
+ALTER TABLE departments ADD COLUMN IF NOT EXISTS search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', name), 'A') ||
+    setweight(to_tsvector('simple', code), 'A') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_departments_search_text ON departments USING GIN (search_text gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_departments_search_vector ON departments USING GIN (search_vector);
+
+-- Designations
+ALTER TABLE designations ADD COLUMN IF NOT EXISTS search_text TEXT GENERATED ALWAYS AS (
+    lower(name || ' ' || code)
+) STORED;
+
+ALTER TABLE designations ADD COLUMN IF NOT EXISTS search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', name), 'A') ||
+    setweight(to_tsvector('simple', code), 'A') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_designations_search_text ON designations USING GIN (search_text gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_designations_search_vector ON designations USING GIN (search_vector);
+
+-- Shifts
+ALTER TABLE shifts ADD COLUMN IF NOT EXISTS search_text TEXT GENERATED ALWAYS AS (
+    lower(name || ' ' || code)
+) STORED;
+
+ALTER TABLE shifts ADD COLUMN IF NOT EXISTS search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', name), 'A') ||
+    setweight(to_tsvector('simple', code), 'A') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_shifts_search_text ON shifts USING GIN (search_text gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_shifts_search_vector ON shifts USING GIN (search_vector);
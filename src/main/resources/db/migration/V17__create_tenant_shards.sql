@@ -0,0 +1,12 @@
+-- Shard directory: which database holds each tenant's data
+-- Only read from the default database. Tenants without a row live there; a row is written when a
+-- tenant is moved, with status MOVING while its data is being copied (writes are refused meanwhile).
+
+CREATE TABLE IF NOT EXISTS tenant_shards (
+    tenant_id BIGINT PRIMARY KEY,
+    shard_key VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_tenant_shards_shard_key ON tenant_shards(shard_key);
@@ -0,0 +1,33 @@
+-- Field-level audit trail for @Audited entities (payroll, employees, users, roles)
+-- Rows are loaded in batches with COPY by AuditLogWriter after the audited transaction commits.
+-- Partitioned by month so old months can be detached or dropped without a large DELETE; the writer
+-- creates further partitions as it needs them. No foreign keys, so the trail outlives what it describes.
+
+CREATE TABLE IF NOT EXISTS audit_events (
+    id BIGSERIAL,
+    tenant_id BIGINT,
+    entity_type VARCHAR(100) NOT NULL,
+    entity_id BIGINT,
+    action VARCHAR(20) NOT NULL,
+    changes JSONB NOT NULL,
+    changed_by BIGINT,
+    changed_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id, changed_at)
+) PARTITION BY RANGE (changed_at);
+
+CREATE INDEX IF NOT EXISTS idx_audit_events_entity ON audit_events(tenant_id, entity_type, entity_id, changed_at);
+CREATE INDEX IF NOT EXISTS idx_audit_events_changed_by ON audit_events(tenant_id, changed_by, changed_at);
+
+-- Current and next month
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR i IN 0..1 LOOP
+        month_start := (date_trunc('month', CURRENT_DATE) + make_interval(months => i))::DATE;
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS audit_events_y%sm%s PARTITION OF audit_events FOR VALUES FROM (%L) TO (%L)',
+            to_char(month_start, 'YYYY'), to_char(month_start, 'MM'),
+            month_start, (month_start + INTERVAL '1 month')::DATE);
+    END LOOP;
+END $$;
@@ -0,0 +1,10 @@
+-- Per-tenant org chart version behind the org chart ETag
+-- Bumped in the same transaction as every change that patches or rebuilds the cached chart, so the
+-- version only moves forward, survives cache rebuilds and restarts, and is the same on every instance.
+
+CREATE TABLE IF NOT EXISTS org_chart_versions (
+    tenant_id BIGINT PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE
+);
@@ -0,0 +1,16 @@
+-- Retry schedule for the outbox relay
+-- next_attempt_at is when an event may be claimed again: after a failure it moves out by an exponential
+-- backoff, and while a relay is delivering it holds the claim as a lease. Events that exhaust their
+-- attempts get failed_at and stay unpublished, for inspection and manual replay.
+
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS failed_at TIMESTAMP;
+
+-- Events given up on were marked published with their error; the default max-attempts was 10
+UPDATE outbox_events
+SET failed_at = published_at, published_at = NULL
+WHERE published_at IS NOT NULL AND last_error IS NOT NULL AND attempts >= 10;
+
+DROP INDEX IF EXISTS idx_outbox_events_unpublished;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending ON outbox_events(id) WHERE published_at IS NULL AND failed_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_failed_at ON outbox_events(failed_at) WHERE failed_at IS NOT NULL;
@@ -0,0 +1,12 @@
+-- Per-tenant, per-resource-type versions behind the reference-data ETags
+-- Bumped in the same transaction as every write to the resource type, so like org_chart_versions the
+-- version only moves forward, survives restarts, and is the same on every instance. Plans are shared
+-- by all tenants and use tenant_id 0, which is why there is no foreign key to tenants.
+
+CREATE TABLE IF NOT EXISTS resource_versions (
+    tenant_id BIGINT NOT NULL,
+    resource_type VARCHAR(30) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (tenant_id, resource_type)
+);
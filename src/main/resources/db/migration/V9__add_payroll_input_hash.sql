@@ -0,0 +1,12 @@
+-- Track the inputs each payroll row was computed from so cycle re-runs
+-- only recompute employees whose salary, attendance, leave or overrides changed
+
+ALTER TABLE payrolls ADD COLUMN IF NOT EXISTS input_hash VARCHAR(64);
+ALTER TABLE payrolls ADD COLUMN IF NOT EXISTS computed_at TIMESTAMP;
+
+-- Speeds up the per-cycle attendance aggregate used by payroll runs
+CREATE INDEX IF NOT EXISTS idx_attendance_tenant_date_employee
+ON attendance_records(tenant_id, attendance_date, employee_id);
+
+COMMENT ON COLUMN payrolls.input_hash IS 'SHA-256 of the payroll inputs (salary, attendance aggregate, leave, overrides) used for the last computation';
+COMMENT ON COLUMN payrolls.computed_at IS 'Timestamp of the last payroll run that recomputed this row';
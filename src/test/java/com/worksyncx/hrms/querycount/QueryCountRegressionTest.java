@@ -0,0 +1,375 @@
+package com.worksyncx.hrms.querycount;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worksyncx.hrms.enums.Module;
+import com.worksyncx.hrms.querycount.QueryCountTenantSeeder.SeededTenant;
+import com.worksyncx.hrms.service.auth.AuthService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ValueConstants;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
+
+/**
+ * Calls every endpoint against seeded tenants of increasing size ({@code querycount.sizes}) and
+ * fails if an endpoint runs more SQL statements for a larger tenant than for the smallest one; a
+ * per-row lookup or lazy load shows up as a count that grows with the data.
+ *
+ * Each endpoint is called twice per tenant: the first call fills the in-process caches, the second
+ * is the steady state, and both are compared. A warm-up tenant goes first so one-off work (plan and
+ * permission lookups, class loading) is not charged to the smallest tenant.
+ *
+ * POST, PUT, PATCH and DELETE calls run in a transaction that is rolled back, so both calls see the
+ * seeded rows; their bodies come from {@link QueryCountRequestBodies} and deletes act on the
+ * tenant's disposable rows. Every call has to succeed: a status outside 2xx fails the test.
+ *
+ * Needs a local Postgres database of its own, see application-querycount.properties. Run with
+ * {@code mvn -Pquery-count test}; counts per endpoint and size are written to target/query-counts.csv.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("querycount")
+@Import(StatementCountingConfiguration.class)
+@Tag("query-count")
+@Slf4j
+class QueryCountRegressionTest {
+
+    private static final Pattern PATH_VARIABLE = Pattern.compile("\\{(\\w+)(?::[^}]*)?}");
+
+    private static final Set<RequestMethod> MEASURED_METHODS =
+        EnumSet.of(RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.PATCH, RequestMethod.DELETE);
+
+    /**
+     * What an {id} path variable refers to, by "METHOD path" or path prefix; the first match wins.
+     */
+    private static final Map<String, Function<SeededTenant, Object>> IDS_BY_PATH = new LinkedHashMap<>();
+
+    static {
+        IDS_BY_PATH.put("DELETE /api/employees/", tenant -> tenant.disposable().employeeId());
+        IDS_BY_PATH.put("DELETE /api/departments/", tenant -> tenant.disposable().departmentId());
+        IDS_BY_PATH.put("DELETE /api/designations/", tenant -> tenant.disposable().designationId());
+        IDS_BY_PATH.put("DELETE /api/leave/types/", tenant -> tenant.disposable().leaveTypeId());
+        IDS_BY_PATH.put("DELETE /api/payroll/cycles/", tenant -> tenant.disposable().payrollCycleId());
+        IDS_BY_PATH.put("POST /api/roles/", tenant -> tenant.disposable().roleId());
+        IDS_BY_PATH.put("PUT /api/roles/", tenant -> tenant.disposable().roleId());
+        IDS_BY_PATH.put("DELETE /api/roles/", tenant -> tenant.disposable().roleId());
+        IDS_BY_PATH.put("POST /api/users/", tenant -> tenant.disposable().userId());
+        IDS_BY_PATH.put("DELETE /api/users/", tenant -> tenant.disposable().userId());
+        IDS_BY_PATH.put("PUT /api/permissions/", tenant -> tenant.disposable().permissionId());
+        IDS_BY_PATH.put("DELETE /api/permissions/", tenant -> tenant.disposable().permissionId());
+        IDS_BY_PATH.put("PUT /api/plans/", tenant -> tenant.disposable().planId());
+        IDS_BY_PATH.put("DELETE /api/plans/", tenant -> tenant.disposable().planId());
+        IDS_BY_PATH.put("/api/shifts/assignments/", SeededTenant::shiftAssignmentId);
+        IDS_BY_PATH.put("/api/holidays/", SeededTenant::holidayId);
+        IDS_BY_PATH.put("/api/leave/types/", SeededTenant::leaveTypeId);
+        IDS_BY_PATH.put("/api/leave/requests/", SeededTenant::leaveRequestId);
+        IDS_BY_PATH.put("/api/leave/balances/", SeededTenant::leaveBalanceId);
+        IDS_BY_PATH.put("/api/payroll/cycles/", SeededTenant::payrollCycleId);
+        IDS_BY_PATH.put("/api/payroll/", SeededTenant::payrollId);
+        IDS_BY_PATH.put("/api/employees/", SeededTenant::employeeId);
+        IDS_BY_PATH.put("/api/departments/", SeededTenant::departmentId);
+        IDS_BY_PATH.put("/api/designations/", SeededTenant::designationId);
+        IDS_BY_PATH.put("/api/shifts/", SeededTenant::shiftId);
+        IDS_BY_PATH.put("/api/roles/", SeededTenant::roleId);
+        IDS_BY_PATH.put("/api/users/", SeededTenant::userId);
+        IDS_BY_PATH.put("/api/permissions/", SeededTenant::permissionId);
+        IDS_BY_PATH.put("/api/plans/", SeededTenant::planId);
+    }
+
+    record Endpoint(RequestMethod method, String pattern, HandlerMethod handler) {
+        boolean mutating() {
+            return method != RequestMethod.GET;
+        }
+
+        @Override
+        public String toString() {
+            return method + " " + pattern;
+        }
+    }
+
+    record Measurement(int status, int cold, int warm) {
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${querycount.sizes:10,1000,10000}")
+    private int[] sizes;
+
+    @Value("${querycount.tolerance:0}")
+    private int tolerance;
+
+    @Test
+    void queryCountsDoNotGrowWithTenantSize() throws Exception {
+        List<Endpoint> endpoints = endpoints();
+        QueryCountTenantSeeder seeder = new QueryCountTenantSeeder(authService, jdbcTemplate, passwordEncoder);
+
+        measureAll(seeder.seed("warmup", sizes[0]), endpoints);
+
+        Map<Endpoint, Map<Integer, Measurement>> results = new LinkedHashMap<>();
+        for (int size : sizes) {
+            long started = System.nanoTime();
+            SeededTenant tenant = seeder.seed("size" + size, size);
+            log.info("Seeded tenant {} with {} employees in {} ms", tenant.tenantId(), size,
+                (System.nanoTime() - started) / 1_000_000);
+            measureAll(tenant, endpoints).forEach((endpoint, measurement) ->
+                results.computeIfAbsent(endpoint, key -> new TreeMap<>()).put(size, measurement));
+        }
+
+        writeReport(results);
+        assertThat(failures(results))
+            .as("Endpoints that failed or whose SQL statement count grows with tenant size (see target/query-counts.csv)")
+            .isEmpty();
+    }
+
+    // ==================== Endpoints ====================
+
+    private List<Endpoint> endpoints() {
+        List<Endpoint> endpoints = new ArrayList<>();
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> mapping : handlerMapping.getHandlerMethods().entrySet()) {
+            RequestMappingInfo info = mapping.getKey();
+            HandlerMethod handler = mapping.getValue();
+            if (!handler.getBeanType().getPackageName().startsWith("com.worksyncx.hrms.controller")) {
+                continue;
+            }
+            for (RequestMethod method : info.getMethodsCondition().getMethods()) {
+                if (!MEASURED_METHODS.contains(method)) {
+                    continue;
+                }
+                for (String pattern : info.getPatternValues()) {
+                    endpoints.add(new Endpoint(method, pattern, handler));
+                }
+            }
+        }
+        endpoints.sort(Comparator.comparing(Endpoint::pattern).thenComparing(Endpoint::method));
+        return endpoints;
+    }
+
+    private Map<Endpoint, Measurement> measureAll(SeededTenant tenant, List<Endpoint> endpoints) throws Exception {
+        Map<Endpoint, Measurement> measurements = new LinkedHashMap<>();
+        for (Endpoint endpoint : endpoints) {
+            String uri = uri(endpoint, tenant);
+            String body = body(endpoint, tenant);
+            StatementCounter.Counted<Integer> cold = statementCounter.count(() -> call(endpoint, uri, body, tenant));
+            StatementCounter.Counted<Integer> warm = statementCounter.count(() -> call(endpoint, uri, body, tenant));
+            // The worse of the two statuses, so a cold call that fails is not hidden by a warm one that succeeds
+            measurements.put(endpoint, new Measurement(
+                Math.max(cold.result(), warm.result()), cold.statements(), warm.statements()));
+        }
+        return measurements;
+    }
+
+    /**
+     * Performs the request and returns its status. GETs run as they would in production; anything
+     * else goes through {@link #callRolledBack}.
+     */
+    private int call(Endpoint endpoint, String uri, String body, SeededTenant tenant) throws Exception {
+        MockHttpServletRequestBuilder request = request(HttpMethod.valueOf(endpoint.method().name()), uri)
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + tenant.token());
+        if (body != null) {
+            request.contentType(MediaType.APPLICATION_JSON).content(body);
+        }
+        if (!endpoint.mutating()) {
+            return mockMvc.perform(request).andReturn().getResponse().getStatus();
+        }
+        return callRolledBack(endpoint, request);
+    }
+
+    /**
+     * Performs the request inside a transaction that is always rolled back. The application's
+     * transactions join it instead of committing, so pending writes are flushed here, still inside the
+     * counted call; a flush that fails counts as the 500 the commit would have caused. Before- and
+     * after-commit callbacks do not run, so work deferred to them is not counted.
+     */
+    private int callRolledBack(Endpoint endpoint, MockHttpServletRequestBuilder request) {
+        Integer status = new TransactionTemplate(transactionManager).execute(transaction -> {
+            transaction.setRollbackOnly();
+            int responseStatus;
+            try {
+                responseStatus = mockMvc.perform(request).andReturn().getResponse().getStatus();
+            } catch (Exception e) {
+                throw new IllegalStateException(endpoint + " failed", e);
+            }
+            if (responseStatus >= 200 && responseStatus < 300) {
+                try {
+                    entityManager.flush();
+                } catch (RuntimeException e) {
+                    log.warn("{} returned {} but its writes failed to flush: {}", endpoint, responseStatus, e.getMessage());
+                    return 500;
+                }
+            }
+            return responseStatus;
+        });
+        return status;
+    }
+
+    /**
+     * The endpoint's sample body as JSON, or null if it takes none.
+     */
+    private String body(Endpoint endpoint, SeededTenant tenant) throws IOException {
+        Map<String, Object> body = QueryCountRequestBodies.body(endpoint.toString(), tenant);
+        if (body != null) {
+            return objectMapper.writeValueAsString(body);
+        }
+        for (MethodParameter parameter : endpoint.handler().getMethodParameters()) {
+            RequestBody requestBody = parameter.getParameterAnnotation(RequestBody.class);
+            if (requestBody != null && requestBody.required()) {
+                throw new IllegalStateException("No request body for " + endpoint + "; add it to QueryCountRequestBodies");
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The endpoint's path with its variables and required request parameters filled in from the tenant.
+     */
+    private String uri(Endpoint endpoint, SeededTenant tenant) {
+        Map<String, Object> variables = new HashMap<>();
+        Matcher matcher = PATH_VARIABLE.matcher(endpoint.pattern());
+        while (matcher.find()) {
+            variables.put(matcher.group(1), value(endpoint, matcher.group(1), tenant));
+        }
+
+        UriComponentsBuilder builder = UriComponentsBuilder.fromPath(endpoint.pattern());
+        for (MethodParameter parameter : endpoint.handler().getMethodParameters()) {
+            RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+            if (requestParam == null || !requestParam.required() || !ValueConstants.DEFAULT_NONE.equals(requestParam.defaultValue())) {
+                continue;
+            }
+            parameter.initParameterNameDiscovery(new DefaultParameterNameDiscoverer());
+            String name = !requestParam.name().isEmpty() ? requestParam.name() : parameter.getParameterName();
+            builder.queryParam(name, value(endpoint, name, tenant));
+        }
+        return builder.buildAndExpand(variables).toUriString();
+    }
+
+    private Object value(Endpoint endpoint, String name, SeededTenant tenant) {
+        return switch (name) {
+            case "id" -> IDS_BY_PATH.entrySet().stream()
+                .filter(entry -> endpoint.pattern().startsWith(entry.getKey()) || endpoint.toString().startsWith(entry.getKey()))
+                .findFirst()
+                .map(entry -> entry.getValue().apply(tenant))
+                .orElseThrow(() -> new IllegalStateException("No id for " + endpoint + "; add its path to IDS_BY_PATH"));
+            // The admin has checked in today already
+            case "employeeId" -> endpoint.toString().startsWith("POST /api/attendance/check-in/")
+                ? tenant.disposable().employeeId() : tenant.employeeId();
+            case "roleId" -> tenant.employeeRoleId();
+            case "permissionId" -> tenant.permissionId();
+            case "shiftId" -> tenant.shiftId();
+            case "tenantId" -> tenant.tenantId();
+            case "employeeCode" -> "EMP001";
+            case "code" -> tenant.permissionCode();
+            case "module" -> Module.EMPLOYEES.name();
+            case "date" -> LocalDate.now();
+            case "startDate", "from" -> LocalDate.now().minusDays(30);
+            case "endDate", "to" -> LocalDate.now().plusDays(30);
+            case "q" -> "first1";
+            default -> throw new IllegalStateException("No value for '" + name + "' in " + endpoint
+                + "; add it to QueryCountRegressionTest.value");
+        };
+    }
+
+    // ==================== Results ====================
+
+    private List<String> failures(Map<Endpoint, Map<Integer, Measurement>> results) {
+        List<String> failures = new ArrayList<>();
+        results.forEach((endpoint, bySize) -> {
+            Measurement smallest = bySize.get(sizes[0]);
+            bySize.forEach((size, measurement) -> {
+                if (!measurement.ok()) {
+                    failures.add(String.format("%s returned %d for %d employees, expected 2xx", endpoint,
+                        measurement.status(), size));
+                } else if (measurement.cold() > smallest.cold() + tolerance || measurement.warm() > smallest.warm() + tolerance) {
+                    failures.add(String.format("%s: %d/%d statements (cold/warm) for %d employees, %d/%d for %d",
+                        endpoint, measurement.cold(), measurement.warm(), size, smallest.cold(), smallest.warm(), sizes[0]));
+                }
+            });
+        });
+        return failures;
+    }
+
+    private void writeReport(Map<Endpoint, Map<Integer, Measurement>> results) throws IOException {
+        StringBuilder csv = new StringBuilder("endpoint,employees,status,cold_statements,warm_statements\n");
+        results.forEach((endpoint, bySize) -> bySize.forEach((size, measurement) ->
+            csv.append(endpoint).append(',').append(size).append(',').append(measurement.status()).append(',')
+                .append(measurement.cold()).append(',').append(measurement.warm()).append('\n')));
+        Path report = Path.of("target", "query-counts.csv");
+        Files.createDirectories(report.getParent());
+        Files.writeString(report, csv);
+        log.info("Query counts for {} endpoints written to {}", results.size(), report.toAbsolutePath());
+    }
+}
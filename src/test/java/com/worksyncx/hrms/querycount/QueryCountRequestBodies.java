@@ -0,0 +1,163 @@
+package com.worksyncx.hrms.querycount;
+
+import com.worksyncx.hrms.querycount.QueryCountTenantSeeder.SeededTenant;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A valid request body for every mutating endpoint that takes one, keyed by "METHOD pattern".
+ *
+ * Each body is built so the call succeeds against a freshly seeded tenant: new codes and dates do not
+ * collide with seeded rows, updates keep the row's unique values, and anything consumed (balances,
+ * pending requests) is well within what the seeder provides. The harness rolls every call back, so
+ * the same body succeeds again on the warm call.
+ */
+final class QueryCountRequestBodies {
+
+    private static final List<String> WEEKDAYS = List.of("MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY");
+
+    private static final Map<String, Function<SeededTenant, Map<String, Object>>> BODIES = new HashMap<>();
+
+    static {
+        // ==================== Attendance ====================
+        BODIES.put("POST /api/attendance/check-in/{employeeId}", tenant -> Map.of("location", "Office"));
+        BODIES.put("POST /api/attendance/check-out/{employeeId}", tenant -> Map.of("notes", "Query count"));
+        BODIES.put("POST /api/attendance/mark", tenant -> Map.of(
+            "employeeId", tenant.employeeId(), "attendanceDate", LocalDate.now().minusDays(10),
+            "checkInTime", "09:00", "checkOutTime", "18:00", "status", "PRESENT"));
+        BODIES.put("PUT /api/attendance/employee/{employeeId}/date/{date}", tenant -> Map.of(
+            "employeeId", tenant.employeeId(), "attendanceDate", LocalDate.now(),
+            "checkInTime", "09:00", "checkOutTime", "18:00", "status", "PRESENT"));
+
+        // ==================== Auth ====================
+        BODIES.put("POST /api/auth/login", tenant -> Map.of(
+            "email", tenant.email(), "password", QueryCountTenantSeeder.ADMIN_PASSWORD));
+        BODIES.put("POST /api/auth/register", tenant -> Map.of(
+            "companyName", "Query count registration", "email", "register-" + tenant.tenantId() + "@querycount.test",
+            "password", "query-count-register", "firstName", "Register", "lastName", tenant.label()));
+        BODIES.put("POST /api/auth/change-password", tenant -> Map.of(
+            "currentPassword", QueryCountTenantSeeder.ADMIN_PASSWORD,
+            "newPassword", "query-count-changed", "confirmPassword", "query-count-changed"));
+
+        // ==================== Organization ====================
+        BODIES.put("POST /api/departments", tenant -> Map.of(
+            "name", "Query count", "code", "QC", "parentDepartmentId", tenant.departmentId()));
+        BODIES.put("PUT /api/departments/{id}", tenant -> Map.of("name", "Administration", "code", "ADMIN"));
+        BODIES.put("POST /api/designations", tenant -> Map.of(
+            "name", "Query count", "code", "QC", "departmentId", tenant.departmentId(), "level", "L1"));
+        BODIES.put("PUT /api/designations/{id}", tenant -> Map.of(
+            "name", "Administrator", "code", "CADMIN", "departmentId", tenant.departmentId()));
+        BODIES.put("POST /api/employees", tenant -> Map.of(
+            "employeeCode", "QC1", "firstName", "Query", "lastName", "Count",
+            "email", "new-" + tenant.tenantId() + "@querycount.test",
+            "departmentId", tenant.departmentId(), "designationId", tenant.designationId(),
+            "managerId", tenant.employeeId(), "dateOfJoining", LocalDate.now(),
+            "employmentType", "PERMANENT", "employmentStatus", "ACTIVE"));
+        BODIES.put("PUT /api/employees/{id}", tenant -> Map.of(
+            "employeeCode", "EMP001", "firstName", "Admin", "lastName", tenant.label(), "email", tenant.email(),
+            "departmentId", tenant.departmentId(), "designationId", tenant.designationId(),
+            "dateOfJoining", LocalDate.now().minusYears(1),
+            "employmentType", "PERMANENT", "employmentStatus", "ACTIVE"));
+        BODIES.put("PUT /api/employees/me", tenant -> Map.of("phone", "+15550000001", "city", "Pune"));
+
+        // ==================== Shifts ====================
+        BODIES.put("POST /api/shifts", tenant -> Map.of(
+            "name", "Query count", "code", "QC", "startTime", "10:00", "endTime", "19:00"));
+        BODIES.put("PUT /api/shifts/{id}", tenant -> Map.of(
+            "name", "General", "code", "GENERAL", "startTime", "09:00", "endTime", "18:00"));
+        BODIES.put("POST /api/shifts/assignments", tenant -> Map.of(
+            "employeeId", tenant.disposable().employeeId(), "shiftId", tenant.shiftId(),
+            "effectiveFrom", LocalDate.now(), "daysOfWeek", WEEKDAYS));
+        BODIES.put("PUT /api/shifts/assignments/{id}", tenant -> Map.of(
+            "employeeId", tenant.employeeId(), "shiftId", tenant.shiftId(),
+            "effectiveFrom", LocalDate.now().minusDays(30), "daysOfWeek", WEEKDAYS));
+
+        // ==================== Leave ====================
+        BODIES.put("POST /api/holidays", tenant -> Map.of(
+            "holidayDate", LocalDate.now().withDayOfYear(1).plusDays(35), "name", "Query count holiday"));
+        BODIES.put("PUT /api/holidays/{id}", tenant -> Map.of(
+            "holidayDate", LocalDate.now().withDayOfYear(1), "name", "New Year"));
+        BODIES.put("POST /api/leave/types", tenant -> Map.of(
+            "name", "Query count leave", "code", "QC", "daysPerYear", 3, "colorCode", "#000000"));
+        BODIES.put("PUT /api/leave/types/{id}", tenant -> Map.of(
+            "name", "Casual Leave", "code", "CL", "daysPerYear", 12, "colorCode", "#3B82F6"));
+        BODIES.put("POST /api/leave/requests", tenant -> {
+            // A Monday and Tuesday well after the seeded requests
+            LocalDate start = LocalDate.now().plusDays(28).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+            return Map.of("employeeId", tenant.employeeId(), "leaveTypeId", tenant.leaveTypeId(),
+                "startDate", start, "endDate", start.plusDays(1), "reason", "Query count");
+        });
+        BODIES.put("POST /api/leave/requests/bulk-approve", tenant -> Map.of(
+            "requestIds", tenant.reportLeaveRequestIds(), "decision", "APPROVED"));
+        BODIES.put("POST /api/leave/requests/{id}/approve", tenant -> Map.of("notes", "Query count"));
+        BODIES.put("POST /api/leave/requests/{id}/reject", tenant -> Map.of("rejectionReason", "Query count"));
+        BODIES.put("POST /api/leave/balances/encash", tenant -> Map.of(
+            "employeeId", tenant.employeeId(), "leaveTypeId", tenant.leaveTypeId(),
+            "year", LocalDate.now().getYear(), "days", 1));
+        BODIES.put("POST /api/leave/balances/carry-forward", tenant -> Map.of(
+            "employeeId", tenant.employeeId(), "leaveTypeId", tenant.leaveTypeId(),
+            "fromYear", LocalDate.now().getYear() - 1, "maxDays", 5));
+
+        // ==================== Payroll ====================
+        BODIES.put("POST /api/payroll/cycles", tenant -> cycle("Query count", YearMonth.now().minusMonths(2)));
+        BODIES.put("PUT /api/payroll/cycles/{id}", tenant -> cycle("Payroll", YearMonth.now().minusMonths(1)));
+        BODIES.put("POST /api/payroll", tenant -> payroll(tenant.disposable().employeeId(), tenant.payrollCycleId()));
+        BODIES.put("PUT /api/payroll/{id}", tenant -> payroll(tenant.employeeId(), tenant.payrollCycleId()));
+        BODIES.put("POST /api/payroll/{id}/mark-paid", tenant -> Map.of("bankTransferRef", "QC-0001"));
+
+        // ==================== Access control ====================
+        BODIES.put("POST /api/roles", tenant -> Map.of("name", "QUERY_COUNT", "description", "Query count"));
+        BODIES.put("PUT /api/roles/{id}", tenant -> Map.of("name", "DISPOSABLE", "description", "Renamed"));
+        BODIES.put("POST /api/roles/{id}/permissions", tenant -> Map.of("permissionIds", List.of(tenant.permissionId())));
+        BODIES.put("POST /api/roles/{id}/permissions/add", tenant -> Map.of("permissionIds", List.of(tenant.permissionId())));
+        BODIES.put("POST /api/permissions", tenant -> Map.of(
+            "code", "QUERYCOUNT:CREATE", "name", "Query count", "module", "QUERYCOUNT", "action", "CREATE"));
+        BODIES.put("PUT /api/permissions/{id}", tenant -> Map.of(
+            "code", "QUERYCOUNT:PURGE_" + tenant.tenantId(), "name", "Renamed", "module", "QUERYCOUNT", "action", "PURGE"));
+        BODIES.put("POST /api/users", tenant -> Map.of(
+            "fullName", "Query Count", "email", "user-" + tenant.tenantId() + "@querycount.test", "password", "query-count-user"));
+        BODIES.put("POST /api/users/{id}/roles", tenant -> Map.of("roleIds", List.of(tenant.roleId(), tenant.employeeRoleId())));
+        BODIES.put("POST /api/users/{id}/roles/add", tenant -> Map.of("roleIds", List.of(tenant.employeeRoleId())));
+
+        // ==================== Platform ====================
+        BODIES.put("POST /api/subscriptions/upgrade", tenant -> Map.of("plan", "ENTERPRISE", "billingCycle", "MONTHLY"));
+        BODIES.put("POST /api/plans", tenant -> Map.of(
+            "name", "Query count " + tenant.tenantId(), "monthlyPrice", 1, "yearlyPrice", 10, "isActive", false));
+        BODIES.put("PUT /api/plans/{id}", tenant -> Map.of("description", "Updated by the query-count harness"));
+    }
+
+    private QueryCountRequestBodies() {
+    }
+
+    /**
+     * The body for {@code endpoint} ("METHOD pattern"), or null if there is none.
+     */
+    static Map<String, Object> body(String endpoint, SeededTenant tenant) {
+        Function<SeededTenant, Map<String, Object>> body = BODIES.get(endpoint);
+        return body != null ? body.apply(tenant) : null;
+    }
+
+    private static Map<String, Object> cycle(String name, YearMonth month) {
+        return Map.of("name", name + " " + month, "month", month.getMonthValue(), "year", month.getYear(),
+            "startDate", month.atDay(1), "endDate", month.atEndOfMonth(), "salaryDate", month.atEndOfMonth(),
+            "status", "DRAFT");
+    }
+
+    // Same figures as the seeded payrolls
+    private static Map<String, Object> payroll(Long employeeId, Long payrollCycleId) {
+        return Map.ofEntries(
+            Map.entry("employeeId", employeeId), Map.entry("payrollCycleId", payrollCycleId),
+            Map.entry("basicSalary", 4000), Map.entry("hra", 1600), Map.entry("dearnessAllowance", 400),
+            Map.entry("otherAllowances", 0), Map.entry("grossSalary", 6000),
+            Map.entry("incomeTax", 600), Map.entry("professionalTax", 200), Map.entry("employeePf", 480),
+            Map.entry("employeeEsi", 0), Map.entry("otherDeductions", 0), Map.entry("totalDeductions", 1280),
+            Map.entry("netSalary", 4720), Map.entry("status", "DRAFT"));
+    }
+}
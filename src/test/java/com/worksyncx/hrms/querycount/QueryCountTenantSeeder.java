@@ -0,0 +1,380 @@
+package com.worksyncx.hrms.querycount;
+
+import com.worksyncx.hrms.dto.auth.AuthResponse;
+import com.worksyncx.hrms.dto.auth.RegisterRequest;
+import com.worksyncx.hrms.enums.Module;
+import com.worksyncx.hrms.service.auth.AuthService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Creates a tenant through the normal sign-up, upgrades it to every module and fills it with
+ * {@code employees} employees and the rows that scale with them: users, departments, designations,
+ * shift assignments, a week of attendance, leave balances and requests, and a payroll cycle.
+ *
+ * Bulk rows are inserted set-based in SQL, so a 10,000-employee tenant takes seconds; the closure
+ * tables are rebuilt the same way the V14 migration first filled them.
+ *
+ * The admin also holds SUPER_ADMIN for the platform endpoints, and every tenant gets a set of
+ * {@link Disposable} rows for the mutating endpoints that delete or reassign something.
+ */
+class QueryCountTenantSeeder {
+
+    static final String ADMIN_PASSWORD = "query-count-admin";
+
+    record SeededTenant(String label, int employees, String token, String email, Long tenantId, Long userId,
+                        Long roleId, Long employeeRoleId, Long employeeId, Long departmentId, Long designationId,
+                        Long shiftId, Long shiftAssignmentId, Long holidayId, Long leaveTypeId, Long leaveRequestId,
+                        List<Long> reportLeaveRequestIds, Long leaveBalanceId, Long payrollCycleId, Long payrollId,
+                        Long permissionId, String permissionCode, Long planId, Disposable disposable) {}
+
+    /**
+     * Rows nothing else references, so deleting them succeeds. The employee is a second tenant admin
+     * reporting to the first, which takes its deletion through the owner and last-admin checks; its
+     * user also holds the EMPLOYEE role.
+     */
+    record Disposable(Long employeeId, Long userId, Long departmentId, Long designationId, Long leaveTypeId,
+                      Long payrollCycleId, Long roleId, Long permissionId, Long planId) {}
+
+    private final AuthService authService;
+    private final JdbcTemplate jdbc;
+    private final String seededPassword;
+
+    QueryCountTenantSeeder(AuthService authService, JdbcTemplate jdbc, PasswordEncoder passwordEncoder) {
+        this.authService = authService;
+        this.jdbc = jdbc;
+        // Seeded users never log in; one hash is enough for all of them
+        this.seededPassword = passwordEncoder.encode("seeded-password");
+    }
+
+    SeededTenant seed(String label, int employees) {
+        String domain = label + "-" + System.currentTimeMillis() + ".querycount.test";
+
+        RegisterRequest request = new RegisterRequest();
+        request.setCompanyName("Query count " + label);
+        request.setEmail("admin@" + domain);
+        request.setPassword(ADMIN_PASSWORD);
+        request.setFirstName("Admin");
+        request.setLastName(label);
+        AuthResponse admin = authService.register(request);
+
+        Long tenantId = admin.getTenantId();
+        Long userId = admin.getUserId();
+        Long employeeId = jdbc.queryForObject(
+            "SELECT id FROM employees WHERE tenant_id = ? AND user_id = ?", Long.class, tenantId, userId);
+        Long departmentId = jdbc.queryForObject(
+            "SELECT department_id FROM employees WHERE id = ?", Long.class, employeeId);
+
+        enableAllModules(tenantId, employees);
+        Long roleId = seedRoles(tenantId, userId);
+        seedOrganization(tenantId, userId, employeeId, departmentId, employees, domain);
+        Long shiftId = seedShiftsAndAttendance(tenantId, userId);
+        seedLeave(tenantId);
+        Long payrollCycleId = seedPayroll(tenantId, userId);
+        Long designationId = jdbc.queryForObject("SELECT MIN(id) FROM designations WHERE tenant_id = ?", Long.class, tenantId);
+        Long employeeRoleId = jdbc.queryForObject(
+            "SELECT id FROM roles WHERE tenant_id = ? AND name = 'EMPLOYEE'", Long.class, tenantId);
+        Disposable disposable = seedDisposable(label, tenantId, userId, employeeId, departmentId, designationId,
+            roleId, employeeRoleId, domain);
+        rebuildHierarchies(tenantId);
+
+        return new SeededTenant(label, employees, admin.getToken(), request.getEmail(), tenantId, userId, roleId,
+            employeeRoleId, employeeId, departmentId, designationId, shiftId,
+            jdbc.queryForObject("SELECT id FROM employee_shifts WHERE employee_id = ?", Long.class, employeeId),
+            jdbc.queryForObject("SELECT MIN(id) FROM holidays WHERE tenant_id = ?", Long.class, tenantId),
+            jdbc.queryForObject("SELECT id FROM leave_types WHERE tenant_id = ? AND code = 'CL'", Long.class, tenantId),
+            jdbc.queryForObject("SELECT id FROM leave_requests WHERE employee_id = ?", Long.class, employeeId),
+            jdbc.queryForList("""
+                SELECT id FROM leave_requests
+                WHERE tenant_id = ? AND approver_employee_id = ?
+                ORDER BY id
+                LIMIT 5""", Long.class, tenantId, employeeId),
+            jdbc.queryForObject("SELECT MIN(id) FROM leave_balances WHERE employee_id = ?", Long.class, employeeId),
+            payrollCycleId,
+            jdbc.queryForObject("SELECT id FROM payrolls WHERE employee_id = ?", Long.class, employeeId),
+            jdbc.queryForObject("SELECT MIN(id) FROM permissions", Long.class),
+            jdbc.queryForObject("SELECT code FROM permissions ORDER BY id LIMIT 1", String.class),
+            jdbc.queryForObject("SELECT MIN(id) FROM plans", Long.class),
+            disposable);
+    }
+
+    private void enableAllModules(Long tenantId, int employees) {
+        String modules = Arrays.stream(Module.values())
+            .map(module -> "\"" + module.name() + "\"")
+            .collect(Collectors.joining(",", "[", "]"));
+        jdbc.update("UPDATE subscriptions SET plan = 'ENTERPRISE', modules = ?::jsonb, max_employees = NULL WHERE tenant_id = ?",
+            modules, tenantId);
+        jdbc.update("UPDATE tenants SET employee_count = ? WHERE id = ?", employees, tenantId);
+    }
+
+    /**
+     * Every permission and SUPER_ADMIN for the admin; seeded users get an EMPLOYEE role with the read
+     * permissions. Disposable permissions of earlier tenants are not granted.
+     */
+    private Long seedRoles(Long tenantId, Long userId) {
+        Long adminRoleId = jdbc.queryForObject(
+            "SELECT id FROM roles WHERE tenant_id = ? AND name = 'TENANT_ADMIN'", Long.class, tenantId);
+        jdbc.update("""
+            INSERT INTO role_permissions (role_id, permission_id)
+            SELECT ?, id FROM permissions WHERE module <> 'QUERYCOUNT'
+            ON CONFLICT DO NOTHING""", adminRoleId);
+        Long superAdminRoleId = jdbc.queryForObject("""
+            INSERT INTO roles (tenant_id, name, description, is_system_role, created_by)
+            VALUES (?, 'SUPER_ADMIN', 'Platform operator', true, ?)
+            RETURNING id""", Long.class, tenantId, userId);
+        jdbc.update("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)", userId, superAdminRoleId);
+
+        Long employeeRoleId = jdbc.queryForObject("""
+            INSERT INTO roles (tenant_id, name, description, is_system_role, created_by)
+            VALUES (?, 'EMPLOYEE', 'Employee', false, ?)
+            RETURNING id""", Long.class, tenantId, userId);
+        jdbc.update("""
+            INSERT INTO role_permissions (role_id, permission_id)
+            SELECT ?, id FROM permissions WHERE action = 'READ' AND module <> 'QUERYCOUNT'""", employeeRoleId);
+        return adminRoleId;
+    }
+
+    /**
+     * One department (with one designation) per hundred employees under the admin's department, and
+     * a reporting tree ten wide under the admin. Seeded employee codes are S2..Sn.
+     */
+    private void seedOrganization(Long tenantId, Long userId, Long adminEmployeeId, Long adminDepartmentId,
+                                  int employees, String domain) {
+        int departments = Math.max(1, employees / 100);
+        jdbc.update("""
+            INSERT INTO departments (tenant_id, name, code, description, parent_department_id, is_active, created_by)
+            SELECT ?, 'Department ' || g, 'D' || g, 'Seeded department ' || g, ?, true, ?
+            FROM generate_series(1, ?) g""", tenantId, adminDepartmentId, userId, departments);
+        jdbc.update("""
+            INSERT INTO designations (tenant_id, name, code, department_id, level, is_active, created_by)
+            SELECT d.tenant_id, 'Designation ' || d.code, 'G' || d.code, d.id, 'L1', true, ?
+            FROM departments d
+            WHERE d.tenant_id = ? AND d.code LIKE 'D%'""", userId, tenantId);
+
+        if (employees < 2) {
+            return;
+        }
+        jdbc.update("""
+            INSERT INTO users (tenant_id, email, password, first_name, last_name, is_active, must_change_password, created_by)
+            SELECT ?, 'employee' || g || '@' || ?, ?, 'First' || g, 'Last' || g, true, false, ?
+            FROM generate_series(2, ?) g""", tenantId, domain, seededPassword, userId, employees);
+        jdbc.update("""
+            INSERT INTO user_roles (user_id, role_id)
+            SELECT u.id, r.id
+            FROM users u
+            JOIN roles r ON r.tenant_id = u.tenant_id AND r.name = 'EMPLOYEE'
+            WHERE u.tenant_id = ? AND u.id <> ?""", tenantId, userId);
+
+        jdbc.update("""
+            INSERT INTO employees (tenant_id, user_id, employee_code, first_name, last_name, email, phone,
+                department_id, designation_id, date_of_joining, employment_type, employment_status,
+                basic_salary, currency, created_by)
+            SELECT u.tenant_id, u.id, 'S' || u.n, u.first_name, u.last_name, u.email, '+1555' || lpad(u.n::text, 7, '0'),
+                d.id, g.id, CURRENT_DATE - 365, 'PERMANENT', 'ACTIVE', 48000 + u.n, 'USD', ?
+            FROM (
+                SELECT id, tenant_id, first_name, last_name, email, substring(first_name from 6)::int AS n
+                FROM users
+                WHERE tenant_id = ? AND id <> ?
+            ) u
+            JOIN departments d ON d.tenant_id = u.tenant_id AND d.code = 'D' || (u.n % ? + 1)
+            JOIN designations g ON g.department_id = d.id""", userId, tenantId, userId, departments);
+
+        // Manager of Sn is S((n - 2) / 10 + 1); the first ten report to the admin
+        jdbc.update("""
+            WITH seeded AS (
+                SELECT id, substring(employee_code from 2)::int AS n
+                FROM employees
+                WHERE tenant_id = ? AND employee_code LIKE 'S%'
+            )
+            UPDATE employees e
+            SET manager_id = CASE WHEN (s.n - 2) / 10 = 0 THEN ? ELSE m.id END
+            FROM seeded s
+            LEFT JOIN employees m ON m.tenant_id = ? AND m.employee_code = 'S' || ((s.n - 2) / 10 + 1)
+            WHERE e.id = s.id""", tenantId, adminEmployeeId, tenantId);
+    }
+
+    /**
+     * Inserted after the employees and without a REGULAR shift, which the V5 trigger would otherwise
+     * try to assign to every new employee. The admin has not checked out today yet.
+     */
+    private Long seedShiftsAndAttendance(Long tenantId, Long userId) {
+        jdbc.update("""
+            INSERT INTO shifts (tenant_id, name, code, start_time, end_time, description)
+            VALUES (?, 'General', 'GENERAL', '09:00', '18:00', 'Seeded day shift'),
+                   (?, 'Early', 'EARLY', '07:00', '15:00', 'Seeded early shift')""", tenantId, tenantId);
+        Long shiftId = jdbc.queryForObject(
+            "SELECT id FROM shifts WHERE tenant_id = ? AND code = 'GENERAL'", Long.class, tenantId);
+
+        jdbc.update("""
+            INSERT INTO employee_shifts (employee_id, shift_id, effective_from, assigned_by)
+            SELECT id, ?, CURRENT_DATE - 30, ?
+            FROM employees
+            WHERE tenant_id = ?""", shiftId, userId, tenantId);
+        jdbc.update("""
+            INSERT INTO attendance_records (tenant_id, employee_id, attendance_date, check_in_time, check_out_time,
+                work_hours, status, shift_id, expected_start_time, expected_end_time, marked_by)
+            SELECT e.tenant_id, e.id, day::date, '09:05', '18:00', 8.92, 'PRESENT', s.id, s.start_time, s.end_time, ?
+            FROM employees e
+            JOIN shifts s ON s.id = ?
+            CROSS JOIN generate_series(CURRENT_DATE - 6, CURRENT_DATE, INTERVAL '1 day') day
+            WHERE e.tenant_id = ?""", userId, shiftId, tenantId);
+        jdbc.update("""
+            UPDATE attendance_records
+            SET check_out_time = NULL, work_hours = NULL
+            WHERE attendance_date = CURRENT_DATE
+              AND employee_id = (SELECT id FROM employees WHERE tenant_id = ? AND user_id = ?)""", tenantId, userId);
+        jdbc.update("""
+            INSERT INTO holidays (tenant_id, holiday_date, name)
+            SELECT ?, date_trunc('year', CURRENT_DATE)::date + g * 70, 'Holiday ' || g
+            FROM generate_series(0, 4) g""", tenantId);
+        return shiftId;
+    }
+
+    /**
+     * Three leave types with a balance each per employee, and one pending request per employee for
+     * the manager's inbox.
+     */
+    private void seedLeave(Long tenantId) {
+        jdbc.update("""
+            INSERT INTO leave_types (tenant_id, name, code, days_per_year, is_paid, requires_approval, color_code)
+            VALUES (?, 'Casual Leave', 'CL', 12, true, true, '#3B82F6'),
+                   (?, 'Sick Leave', 'SL', 10, true, true, '#EF4444'),
+                   (?, 'Earned Leave', 'EL', 15, true, true, '#10B981')""", tenantId, tenantId, tenantId);
+        jdbc.update("""
+            INSERT INTO leave_balances (tenant_id, employee_id, leave_type_id, period_year, accrued, balance, pending)
+            SELECT e.tenant_id, e.id, t.id, EXTRACT(YEAR FROM CURRENT_DATE)::int, t.days_per_year, t.days_per_year,
+                CASE WHEN t.code = 'CL' THEN 2 ELSE 0 END
+            FROM employees e
+            JOIN leave_types t ON t.tenant_id = e.tenant_id
+            WHERE e.tenant_id = ?""", tenantId);
+        jdbc.update("""
+            INSERT INTO leave_balance_entries (tenant_id, leave_balance_id, entry_type, days, balance_after, notes)
+            SELECT tenant_id, id, 'ACCRUAL', accrued, accrued, 'Seeded accrual'
+            FROM leave_balances
+            WHERE tenant_id = ?""", tenantId);
+        jdbc.update("""
+            INSERT INTO leave_requests (tenant_id, employee_id, leave_type_id, start_date, end_date, total_days, reason,
+                status, approver_employee_id, created_by)
+            SELECT e.tenant_id, e.id, t.id, CURRENT_DATE + 14, CURRENT_DATE + 15, 2, 'Seeded request',
+                'PENDING', e.manager_id, e.user_id
+            FROM employees e
+            JOIN leave_types t ON t.tenant_id = e.tenant_id AND t.code = 'CL'
+            WHERE e.tenant_id = ?""", tenantId);
+    }
+
+    private Long seedPayroll(Long tenantId, Long userId) {
+        YearMonth month = YearMonth.now().minusMonths(1);
+        Long cycleId = jdbc.queryForObject("""
+            INSERT INTO payroll_cycles (tenant_id, name, month, year, start_date, end_date, salary_date, status, created_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, 'DRAFT', ?)
+            RETURNING id""", Long.class,
+            tenantId, "Payroll " + month, month.getMonthValue(), month.getYear(),
+            month.atDay(1), month.atEndOfMonth(), month.atEndOfMonth(), userId);
+        jdbc.update("""
+            INSERT INTO payrolls (tenant_id, employee_id, payroll_cycle_id, basic_salary, hra, dearness_allowance,
+                other_allowances, gross_salary, income_tax, professional_tax, employee_pf, employee_esi,
+                other_deductions, total_deductions, net_salary, status, created_by)
+            SELECT tenant_id, id, ?, 4000, 1600, 400, 0, 6000, 600, 200, 480, 0, 0, 1280, 4720, 'DRAFT', ?
+            FROM employees
+            WHERE tenant_id = ?""", cycleId, userId, tenantId);
+        return cycleId;
+    }
+
+    /**
+     * Inserted after the bulk rows, so no attendance, leave balance, payroll or shift assignment
+     * points at them; the employee gets its hierarchy rows from the rebuild that follows.
+     */
+    private Disposable seedDisposable(String label, Long tenantId, Long userId, Long adminEmployeeId,
+                                      Long adminDepartmentId, Long adminDesignationId, Long adminRoleId,
+                                      Long employeeRoleId, String domain) {
+        Long disposableUserId = jdbc.queryForObject("""
+            INSERT INTO users (tenant_id, email, password, first_name, last_name, is_active, must_change_password, created_by)
+            VALUES (?, 'disposable@' || ?, ?, 'Disposable', 'Admin', true, false, ?)
+            RETURNING id""", Long.class, tenantId, domain, seededPassword, userId);
+        jdbc.update("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?), (?, ?)",
+            disposableUserId, adminRoleId, disposableUserId, employeeRoleId);
+        Long employeeId = jdbc.queryForObject("""
+            INSERT INTO employees (tenant_id, user_id, employee_code, first_name, last_name, email, department_id,
+                designation_id, manager_id, date_of_joining, employment_type, employment_status, basic_salary,
+                currency, created_by)
+            VALUES (?, ?, 'X1', 'Disposable', 'Admin', 'disposable@' || ?, ?, ?, ?, CURRENT_DATE - 30, 'PERMANENT',
+                'ACTIVE', 50000, 'USD', ?)
+            RETURNING id""", Long.class,
+            tenantId, disposableUserId, domain, adminDepartmentId, adminDesignationId, adminEmployeeId, userId);
+
+        Long departmentId = jdbc.queryForObject("""
+            INSERT INTO departments (tenant_id, name, code, description, parent_department_id, is_active, created_by)
+            VALUES (?, 'Disposable', 'XD', 'Disposable department', ?, true, ?)
+            RETURNING id""", Long.class, tenantId, adminDepartmentId, userId);
+        Long designationId = jdbc.queryForObject("""
+            INSERT INTO designations (tenant_id, name, code, department_id, level, is_active, created_by)
+            VALUES (?, 'Disposable', 'XG', ?, 'L1', true, ?)
+            RETURNING id""", Long.class, tenantId, adminDepartmentId, userId);
+        Long leaveTypeId = jdbc.queryForObject("""
+            INSERT INTO leave_types (tenant_id, name, code, days_per_year, is_paid, requires_approval, color_code)
+            VALUES (?, 'Disposable Leave', 'XL', 5, false, true, '#6B7280')
+            RETURNING id""", Long.class, tenantId);
+
+        YearMonth month = YearMonth.now().minusMonths(3);
+        Long payrollCycleId = jdbc.queryForObject("""
+            INSERT INTO payroll_cycles (tenant_id, name, month, year, start_date, end_date, salary_date, status, created_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, 'DRAFT', ?)
+            RETURNING id""", Long.class,
+            tenantId, "Disposable " + month, month.getMonthValue(), month.getYear(),
+            month.atDay(1), month.atEndOfMonth(), month.atEndOfMonth(), userId);
+
+        Long roleId = jdbc.queryForObject("""
+            INSERT INTO roles (tenant_id, name, description, is_system_role, created_by)
+            VALUES (?, 'DISPOSABLE', 'Disposable role', false, ?)
+            RETURNING id""", Long.class, tenantId, userId);
+        jdbc.update("INSERT INTO role_permissions (role_id, permission_id) SELECT ?, MIN(id) FROM permissions", roleId);
+
+        // Permissions and plans are global; module QUERYCOUNT keeps these out of later tenants' roles
+        Long permissionId = jdbc.queryForObject("""
+            INSERT INTO permissions (code, name, module, action, description)
+            VALUES (?, 'Disposable permission', 'QUERYCOUNT', 'PURGE', 'Seeded by the query-count harness')
+            RETURNING id""", Long.class, "QUERYCOUNT:PURGE_" + tenantId);
+        Long planId = jdbc.queryForObject("""
+            INSERT INTO plans (name, short_description, monthly_price, yearly_price, is_active, is_popular)
+            VALUES (?, 'Seeded by the query-count harness', 1, 10, false, false)
+            RETURNING id""", Long.class, "Disposable " + label + " " + tenantId);
+
+        return new Disposable(employeeId, disposableUserId, departmentId, designationId, leaveTypeId, payrollCycleId,
+            roleId, permissionId, planId);
+    }
+
+    private void rebuildHierarchies(Long tenantId) {
+        jdbc.update("DELETE FROM employee_hierarchy WHERE tenant_id = ?", tenantId);
+        jdbc.update("""
+            INSERT INTO employee_hierarchy (tenant_id, ancestor_id, descendant_id, depth)
+            WITH RECURSIVE paths AS (
+                SELECT e.tenant_id, e.id AS ancestor_id, e.id AS descendant_id, 0 AS depth
+                FROM employees e
+                WHERE e.tenant_id = ?
+                UNION ALL
+                SELECT p.tenant_id, p.ancestor_id, e.id, p.depth + 1
+                FROM paths p
+                JOIN employees e ON e.manager_id = p.descendant_id AND e.tenant_id = p.tenant_id
+            )
+            SELECT tenant_id, ancestor_id, descendant_id, depth FROM paths""", tenantId);
+
+        jdbc.update("DELETE FROM department_hierarchy WHERE tenant_id = ?", tenantId);
+        jdbc.update("""
+            INSERT INTO department_hierarchy (tenant_id, ancestor_id, descendant_id, depth)
+            WITH RECURSIVE paths AS (
+                SELECT d.tenant_id, d.id AS ancestor_id, d.id AS descendant_id, 0 AS depth
+                FROM departments d
+                WHERE d.tenant_id = ?
+                UNION ALL
+                SELECT p.tenant_id, p.ancestor_id, d.id, p.depth + 1
+                FROM paths p
+                JOIN departments d ON d.parent_department_id = p.descendant_id AND d.tenant_id = p.tenant_id
+            )
+            SELECT tenant_id, ancestor_id, descendant_id, depth FROM paths""", tenantId);
+    }
+}
@@ -0,0 +1,97 @@
+package com.worksyncx.hrms.querycount;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+/**
+ * Counts the JDBC statements executed on the calling thread while {@link #count} runs.
+ *
+ * MockMvc handles a request on the test thread, so statements from background work (outbox relay,
+ * audit writer, cache invalidation listener) are not counted. A batch counts once, as one round trip.
+ */
+public class StatementCounter {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+        "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final ThreadLocal<int[]> current = new ThreadLocal<>();
+
+    public record Counted<T>(T result, int statements) {}
+
+    public <T> Counted<T> count(Callable<T> work) throws Exception {
+        int[] statements = new int[1];
+        current.set(statements);
+        try {
+            T result = work.call();
+            return new Counted<>(result, statements[0]);
+        } finally {
+            current.remove();
+        }
+    }
+
+    /**
+     * The data source with every connection it hands out counted.
+     */
+    public DataSource wrap(DataSource dataSource) {
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return counting(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return counting(super.getConnection(username, password));
+            }
+        };
+    }
+
+    private Connection counting(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> proxy(Statement.class, statementHandler((Statement) result));
+                case "prepareStatement" -> proxy(PreparedStatement.class, statementHandler((Statement) result));
+                case "prepareCall" -> proxy(CallableStatement.class, statementHandler((Statement) result));
+                default -> result;
+            };
+        });
+    }
+
+    private InvocationHandler statementHandler(Statement statement) {
+        return (proxy, method, args) -> {
+            if (EXECUTE_METHODS.contains(method.getName())) {
+                int[] statements = current.get();
+                if (statements != null) {
+                    statements[0]++;
+                }
+            }
+            return invoke(statement, method, args);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StatementCounter.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.worksyncx.hrms.querycount;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Routes the application's data source through a {@link StatementCounter}.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+class StatementCountingConfiguration {
+
+    @Bean
+    static StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    @Bean
+    static BeanPostProcessor statementCountingPostProcessor(StatementCounter statementCounter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                    return statementCounter.wrap(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
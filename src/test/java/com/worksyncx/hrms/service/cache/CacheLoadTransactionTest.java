@@ -0,0 +1,119 @@
+package com.worksyncx.hrms.service.cache;
+
+import com.worksyncx.hrms.config.ReplicaLagGuard;
+import com.worksyncx.hrms.config.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Where {@link CacheLoadTransaction} runs a load, without a database: the caller's transaction is set up
+ * on {@link TransactionSynchronizationManager} the way a transaction manager would, and a real
+ * {@link ReplicaRoutingDataSource} hands out one mock connection per database.
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheLoadTransactionTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ReplicaLagGuard lagGuard;
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private CacheLoadTransaction cacheLoadTransaction;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        cacheLoadTransaction = new CacheLoadTransaction(transactionManager);
+        routing = new ReplicaRoutingDataSource(primary, replica, lagGuard);
+        routing.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void loadJoinsAReadOnlyTransactionAndKeepsItOnThePrimary() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        beginReadOnlyTransaction();
+
+        Connection used = cacheLoadTransaction.execute(this::connect);
+
+        assertThat(used).isSameAs(primaryConnection);
+        // The rest of the caller's transaction stays on the primary too
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        verifyNoInteractions(transactionManager, lagGuard);
+    }
+
+    @Test
+    void loadFromATransactionOnTheReplicaGetsATransactionOfItsOwn() throws Exception {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(lagGuard.canReadFromReplica(null)).thenReturn(true);
+        beginReadOnlyTransaction();
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+
+        assertThat(cacheLoadTransaction.execute(() -> "loaded")).isEqualTo("loaded");
+
+        assertThat(startedTransaction().getPropagationBehavior()).isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Test
+    void loadOutsideATransactionGetsATransactionOfItsOwn() {
+        assertThat(cacheLoadTransaction.execute(() -> "loaded")).isEqualTo("loaded");
+
+        assertThat(startedTransaction().getName()).isEqualTo(CacheLoadTransaction.NAME);
+    }
+
+    private void beginReadOnlyTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    private Connection connect() {
+        try {
+            return routing.getConnection();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private TransactionDefinition startedTransaction() {
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        return definition.getValue();
+    }
+}
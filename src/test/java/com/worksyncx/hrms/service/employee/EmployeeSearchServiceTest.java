@@ -0,0 +1,252 @@
+package com.worksyncx.hrms.service.employee;
+
+import com.worksyncx.hrms.dto.employee.EmployeeSearchResult;
+import com.worksyncx.hrms.entity.Department;
+import com.worksyncx.hrms.entity.Employee;
+import com.worksyncx.hrms.enums.EmploymentStatus;
+import com.worksyncx.hrms.repository.DepartmentRepository;
+import com.worksyncx.hrms.repository.EmployeeRepository;
+import com.worksyncx.hrms.repository.EmployeeRepository.EmployeeSearchRow;
+import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.cache.CacheInvalidationBus;
+import com.worksyncx.hrms.service.cache.CacheLoadTransaction;
+import com.worksyncx.hrms.service.cache.LocalCacheRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The in-memory directory index behind {@link EmployeeSearchService}, without a database: the
+ * repositories return a fixed directory, loads run inline and writes are applied immediately (no transaction).
+ */
+@ExtendWith(MockitoExtension.class)
+class EmployeeSearchServiceTest {
+
+    private static final Long TENANT_ID = 1L;
+    private static final Long ENGINEERING = 10L;
+    private static final Long FINANCE = 20L;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private CacheLoadTransaction cacheLoadTransaction;
+
+    private EmployeeSearchService searchService;
+
+    record Row(Long getId, String getEmployeeCode, String getFirstName, String getLastName,
+               String getEmail, String getPhone, Long getDepartmentId) implements EmployeeSearchRow {}
+
+    @BeforeEach
+    void setUp() {
+        TenantContext.setTenantId(TENANT_ID);
+        searchService = new EmployeeSearchService(employeeRepository, departmentRepository, cacheInvalidationBus,
+            new LocalCacheRegistry(), cacheLoadTransaction);
+        searchService.subscribeToInvalidations();
+
+        when(cacheLoadTransaction.execute(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+
+        when(departmentRepository.findByTenantId(TENANT_ID)).thenReturn(List.of(
+            department(ENGINEERING, "Engineering"), department(FINANCE, "Finance")));
+        when(employeeRepository.findSearchRows(TENANT_ID, EmploymentStatus.SEPARATED)).thenReturn(List.of(
+            new Row(1L, "EMP-001", "Alice", "Smith", "alice.smith@example.com", "+1 555 010 1234", ENGINEERING),
+            new Row(2L, "EMP-002", "Jonathan", "Baker", "jbaker@example.com", "+1 555 020 5678", FINANCE),
+            new Row(3L, "EMP-003", "Alina", "Okafor", "alina@example.com", null, FINANCE),
+            new Row(4L, "EMP-010", "Bob", "O'Neil", "bob@example.com", "+44 20 7946 0958", null)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    // ==================== Prefix ====================
+
+    @Test
+    void matchesWordPrefixesOfEveryField() {
+        assertThat(ids("ali")).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(ids("smi")).containsExactly(1L);
+        assertThat(ids("jbaker")).containsExactly(2L);
+        assertThat(ids("fin")).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(ids("o")).containsExactlyInAnyOrder(3L, 4L);
+    }
+
+    @Test
+    void splitsPunctuationTheSameWayWhenIndexingAndSearching() {
+        assertThat(ids("oneil")).containsExactly(4L);
+        assertThat(ids("o'neil")).containsExactly(4L);
+        assertThat(ids("emp001")).containsExactly(1L);
+    }
+
+    @Test
+    void intersectsTermsAndRanksExactCodeFirst() {
+        assertThat(ids("ali fin")).containsExactly(3L);
+        assertThat(ids("ali smith eng")).containsExactly(1L);
+        assertThat(ids("alice finance")).isEmpty();
+
+        assertThat(ids("emp-003")).first().isEqualTo(3L);
+    }
+
+    @Test
+    void respectsTheLimit() {
+        assertThat(searchService.search("emp", 2)).hasSize(2);
+        assertThat(searchService.search("emp", null)).hasSize(4);
+    }
+
+    // ==================== Substring ====================
+
+    @Test
+    void fallsBackToSubstringsInsideWords() {
+        // Phone number without the country code
+        assertThat(ids("5550101234")).containsExactly(1L);
+        assertThat(ids("79460958")).containsExactly(4L);
+        assertThat(ids("aker")).containsExactly(2L);
+    }
+
+    @Test
+    void exactAndSubstringMatchesAreNotFlaggedFuzzy() {
+        assertThat(searchService.search("ali", null)).extracting(EmployeeSearchResult::isFuzzy).containsOnly(false);
+        assertThat(searchService.search("aker", null)).extracting(EmployeeSearchResult::isFuzzy).containsOnly(false);
+    }
+
+    // ==================== Fuzzy ====================
+
+    @Test
+    void matchesNamesWithTyposAndFlagsThemFuzzy() {
+        List<EmployeeSearchResult> transposed = searchService.search("alcie", null);
+        assertThat(transposed).extracting(EmployeeSearchResult::getId).containsExactly(1L);
+        assertThat(transposed.get(0).isFuzzy()).isTrue();
+
+        // Eight characters allow two edits
+        assertThat(ids("jonathon")).containsExactly(2L);
+        assertThat(ids("enginering")).containsExactly(1L);
+    }
+
+    @Test
+    void doesNotTypoMatchShortTermsCodesOrNumbers() {
+        assertThat(ids("bib")).isEmpty();
+        assertThat(ids("emp099")).isEmpty();
+        assertThat(ids("5559999")).isEmpty();
+    }
+
+    // ==================== Index Maintenance ====================
+
+    @Test
+    void upsertReplacesTheIndexedDocument() {
+        assertThat(ids("5550101234")).containsExactly(1L);
+
+        searchService.recordAfterCommit(employee(1L, "Alice", "Smith-Jones", "+1 555 777 8888", FINANCE,
+            EmploymentStatus.ACTIVE));
+
+        assertThat(ids("5550101234")).isEmpty();
+        assertThat(ids("5557778888")).containsExactly(1L);
+        assertThat(ids("jones fin")).containsExactly(1L);
+        assertThat(ids("alice eng")).isEmpty();
+        verify(employeeRepository, times(1)).findSearchRows(TENANT_ID, EmploymentStatus.SEPARATED);
+    }
+
+    @Test
+    void upsertAddsNewEmployees() {
+        assertThat(ids("zara")).isEmpty();
+
+        searchService.recordAfterCommit(employee(5L, "Zara", "Khan", "+1 555 030 0000", ENGINEERING,
+            EmploymentStatus.ACTIVE));
+
+        assertThat(ids("zara")).containsExactly(5L);
+        assertThat(ids("ali")).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void removeDropsTheEmployee() {
+        assertThat(ids("jon")).containsExactly(2L);
+
+        searchService.removeAfterCommit(TENANT_ID, 2L);
+
+        assertThat(ids("jon")).isEmpty();
+        assertThat(ids("jonathon")).isEmpty();
+        assertThat(ids("fin")).containsExactly(3L);
+    }
+
+    @Test
+    void separatedEmployeesAreRemoved() {
+        assertThat(ids("bob")).containsExactly(4L);
+
+        searchService.recordAfterCommit(employee(4L, "Bob", "O'Neil", null, null, EmploymentStatus.SEPARATED));
+
+        assertThat(ids("bob")).isEmpty();
+    }
+
+    @Test
+    void unknownDepartmentRebuildsTheIndexOnNextSearch() {
+        assertThat(ids("bob")).containsExactly(4L);
+
+        searchService.recordAfterCommit(employee(4L, "Bob", "O'Neil", null, 30L, EmploymentStatus.ACTIVE));
+        ids("bob");
+
+        verify(employeeRepository, times(2)).findSearchRows(TENANT_ID, EmploymentStatus.SEPARATED);
+    }
+
+    @Test
+    void survivesCompactionAfterManyUpdates() {
+        assertThat(ids("ali")).containsExactlyInAnyOrder(1L, 3L);
+
+        for (int i = 0; i < 3000; i++) {
+            searchService.recordAfterCommit(employee(1L, "Alice", "Smith", "+1 555 010 " + i, ENGINEERING,
+                EmploymentStatus.ACTIVE));
+        }
+
+        assertThat(ids("ali")).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(ids("5550102999")).containsExactly(1L);
+        assertThat(ids("5550101234")).isEmpty();
+    }
+
+    // ==================== Helpers ====================
+
+    private List<Long> ids(String query) {
+        return searchService.search(query, EmployeeSearchService.MAX_LIMIT)
+            .stream()
+            .map(EmployeeSearchResult::getId)
+            .toList();
+    }
+
+    private static Department department(Long id, String name) {
+        Department department = new Department();
+        department.setId(id);
+        department.setTenantId(TENANT_ID);
+        department.setName(name);
+        return department;
+    }
+
+    private static Employee employee(Long id, String firstName, String lastName, String phone, Long departmentId,
+                                     EmploymentStatus status) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setTenantId(TENANT_ID);
+        employee.setEmployeeCode(String.format("EMP-%03d", id));
+        employee.setFirstName(firstName);
+        employee.setLastName(lastName);
+        employee.setEmail(firstName.toLowerCase() + "@example.com");
+        employee.setPhone(phone);
+        employee.setDepartmentId(departmentId);
+        employee.setEmploymentStatus(status);
+        return employee;
+    }
+}
@@ -0,0 +1,182 @@
+package com.worksyncx.hrms.service.leave;
+
+import com.worksyncx.hrms.dto.leave.LeaveBalanceResponse;
+import com.worksyncx.hrms.dto.leave.LeaveCarryForwardRequest;
+import com.worksyncx.hrms.entity.Employee;
+import com.worksyncx.hrms.entity.LeaveBalance;
+import com.worksyncx.hrms.entity.LeaveRequest;
+import com.worksyncx.hrms.entity.LeaveType;
+import com.worksyncx.hrms.exception.InsufficientLeaveBalanceException;
+import com.worksyncx.hrms.repository.EmployeeRepository;
+import com.worksyncx.hrms.repository.LeaveBalanceEntryRepository;
+import com.worksyncx.hrms.repository.LeaveBalanceRepository;
+import com.worksyncx.hrms.repository.LeaveTypeRepository;
+import com.worksyncx.hrms.security.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Accrual posting in {@link LeaveBalanceService}, without a database: the balance row lives in memory
+ * and the ledger repository is only checked for what was appended.
+ */
+@ExtendWith(MockitoExtension.class)
+class LeaveBalanceServiceTest {
+
+    private static final Long TENANT_ID = 1L;
+    private static final Long EMPLOYEE_ID = 5L;
+    private static final Long LEAVE_TYPE_ID = 7L;
+
+    @Mock
+    private LeaveBalanceRepository leaveBalanceRepository;
+
+    @Mock
+    private LeaveBalanceEntryRepository leaveBalanceEntryRepository;
+
+    @Mock
+    private LeaveTypeRepository leaveTypeRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private LeaveBalanceService balanceService;
+    private LeaveType leaveType;
+    private LeaveBalance balance;
+
+    // Next year has no started months, so everything it can book is future accrual
+    private final int nextYear = LocalDate.now().getYear() + 1;
+
+    @BeforeEach
+    void setUp() {
+        TenantContext.setTenantId(TENANT_ID);
+        balanceService = new LeaveBalanceService(leaveBalanceRepository, leaveBalanceEntryRepository,
+            leaveTypeRepository, employeeRepository);
+
+        leaveType = new LeaveType();
+        leaveType.setId(LEAVE_TYPE_ID);
+        leaveType.setTenantId(TENANT_ID);
+        leaveType.setName("Casual Leave");
+        leaveType.setCode("CL");
+        leaveType.setDaysPerYear(BigDecimal.valueOf(12));
+
+        balance = new LeaveBalance();
+        balance.setId(100L);
+        balance.setTenantId(TENANT_ID);
+        balance.setEmployeeId(EMPLOYEE_ID);
+        balance.setLeaveTypeId(LEAVE_TYPE_ID);
+        balance.setPeriodYear(nextYear);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void futureDatedReserveDoesNotPostAccrualAndReadsDoNotWrite() {
+        when(leaveBalanceRepository.findForUpdate(TENANT_ID, EMPLOYEE_ID, LEAVE_TYPE_ID, nextYear))
+            .thenReturn(Optional.of(balance));
+
+        // June accrues 6 days; none of them are posted yet
+        balanceService.reserve(request(LocalDate.of(nextYear, 6, 15), 3), leaveType);
+
+        assertThat(balance.getAccrued()).isEqualByComparingTo("0");
+        assertThat(balance.getPending()).isEqualByComparingTo("3");
+
+        when(employeeRepository.findByTenantIdAndId(TENANT_ID, EMPLOYEE_ID)).thenReturn(Optional.of(new Employee()));
+        when(leaveTypeRepository.findByTenantIdAndIsActiveTrue(TENANT_ID)).thenReturn(List.of(leaveType));
+        when(leaveTypeRepository.findByTenantIdAndId(TENANT_ID, LEAVE_TYPE_ID)).thenReturn(Optional.of(leaveType));
+        when(leaveBalanceRepository.findByTenantIdAndEmployeeIdAndPeriodYear(TENANT_ID, EMPLOYEE_ID, nextYear))
+            .thenReturn(List.of(balance));
+        when(leaveBalanceRepository.findByTenantIdAndEmployeeIdAndLeaveTypeIdAndPeriodYear(
+                TENANT_ID, EMPLOYEE_ID, LEAVE_TYPE_ID, nextYear))
+            .thenReturn(Optional.of(balance));
+
+        List<LeaveBalanceResponse> balances = balanceService.getEmployeeBalances(EMPLOYEE_ID, nextYear);
+        LeaveBalanceResponse single = balanceService.getEmployeeBalance(EMPLOYEE_ID, LEAVE_TYPE_ID, nextYear);
+
+        assertThat(balances).singleElement().satisfies(response -> {
+            assertThat(response.getAccrued()).isEqualByComparingTo("0");
+            assertThat(response.getPending()).isEqualByComparingTo("3");
+        });
+        assertThat(single.getAccrued()).isEqualByComparingTo("0");
+        assertThat(balance.getAccrued()).isEqualByComparingTo("0");
+
+        verify(leaveBalanceEntryRepository, never()).save(any());
+        verify(leaveBalanceRepository, times(1)).findForUpdate(any(), any(), any(), any());
+        verify(leaveBalanceRepository, times(1)).save(balance);
+    }
+
+    @Test
+    void reserveBeyondFutureAccrualIsRejected() {
+        when(leaveBalanceRepository.findForUpdate(TENANT_ID, EMPLOYEE_ID, LEAVE_TYPE_ID, nextYear))
+            .thenReturn(Optional.of(balance));
+
+        // Only 2 days will have accrued by the end of February
+        assertThatThrownBy(() -> balanceService.reserve(request(LocalDate.of(nextYear, 2, 10), 3), leaveType))
+            .isInstanceOf(InsufficientLeaveBalanceException.class);
+
+        assertThat(balance.getPending()).isEqualByComparingTo("0");
+        verify(leaveBalanceEntryRepository, never()).save(any());
+    }
+
+    @Test
+    void missingBalanceReadsAsAccruedWithoutCreatingARow() {
+        int thisYear = LocalDate.now().getYear();
+        when(employeeRepository.findByTenantIdAndId(TENANT_ID, EMPLOYEE_ID)).thenReturn(Optional.of(new Employee()));
+        when(leaveTypeRepository.findByTenantIdAndId(TENANT_ID, LEAVE_TYPE_ID)).thenReturn(Optional.of(leaveType));
+        when(leaveBalanceRepository.findByTenantIdAndEmployeeIdAndLeaveTypeIdAndPeriodYear(
+                TENANT_ID, EMPLOYEE_ID, LEAVE_TYPE_ID, thisYear))
+            .thenReturn(Optional.empty());
+
+        LeaveBalanceResponse response = balanceService.getEmployeeBalance(EMPLOYEE_ID, LEAVE_TYPE_ID, thisYear);
+
+        BigDecimal accruedSoFar = BigDecimal.valueOf(LocalDate.now().getMonthValue());
+        assertThat(response.getAccrued()).isEqualByComparingTo(accruedSoFar);
+        assertThat(response.getAvailable()).isEqualByComparingTo(accruedSoFar);
+        verify(leaveBalanceRepository, never()).insertIfAbsent(any(), any(), any(), any(), any());
+        verify(leaveBalanceEntryRepository, never()).save(any());
+    }
+
+    @Test
+    void carryForwardOfTheCurrentYearIsRejected() {
+        when(employeeRepository.findByTenantIdAndId(TENANT_ID, EMPLOYEE_ID)).thenReturn(Optional.of(new Employee()));
+        when(leaveTypeRepository.findByTenantIdAndId(TENANT_ID, LEAVE_TYPE_ID)).thenReturn(Optional.of(leaveType));
+
+        LeaveCarryForwardRequest request = new LeaveCarryForwardRequest();
+        request.setEmployeeId(EMPLOYEE_ID);
+        request.setLeaveTypeId(LEAVE_TYPE_ID);
+        request.setFromYear(LocalDate.now().getYear());
+
+        assertThatThrownBy(() -> balanceService.carryForward(request)).hasMessageContaining("before the year has ended");
+        verify(leaveBalanceRepository, never()).findForUpdate(any(), any(), any(), any());
+    }
+
+    private LeaveRequest request(LocalDate startDate, int days) {
+        LeaveRequest request = new LeaveRequest();
+        request.setId(50L);
+        request.setTenantId(TENANT_ID);
+        request.setEmployeeId(EMPLOYEE_ID);
+        request.setLeaveTypeId(LEAVE_TYPE_ID);
+        request.setStartDate(startDate);
+        request.setEndDate(startDate.plusDays(days - 1));
+        request.setTotalDays(BigDecimal.valueOf(days));
+        return request;
+    }
+}
@@ -0,0 +1,161 @@
+package com.worksyncx.hrms.service.leave;
+
+import com.worksyncx.hrms.config.TenantShardRoutingDataSource;
+import com.worksyncx.hrms.dto.leave.LeaveCalendarResponse;
+import com.worksyncx.hrms.entity.LeaveRequest;
+import com.worksyncx.hrms.enums.CacheName;
+import com.worksyncx.hrms.enums.LeaveStatus;
+import com.worksyncx.hrms.enums.TenantShardStatus;
+import com.worksyncx.hrms.repository.EmployeeRepository;
+import com.worksyncx.hrms.repository.EmployeeRepository.CalendarRow;
+import com.worksyncx.hrms.repository.LeaveRequestRepository;
+import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.cache.CacheInvalidationBus;
+import com.worksyncx.hrms.service.cache.CacheInvalidationEvent;
+import com.worksyncx.hrms.service.cache.CacheLoadTransaction;
+import com.worksyncx.hrms.service.cache.LocalCacheRegistry;
+import com.worksyncx.hrms.service.shard.ShardDirectory;
+import com.worksyncx.hrms.service.shard.ShardDirectory.ShardAssignment;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Index maintenance in {@link LeaveCalendarService}, without a database: loads run inline, and the
+ * repository reports which shard a real {@link TenantShardRoutingDataSource} would have connected to.
+ */
+@ExtendWith(MockitoExtension.class)
+class LeaveCalendarServiceTest {
+
+    private static final Long TENANT_ID = 2L;
+    private static final Long EMPLOYEE_ID = 20L;
+    private static final Long LEAVE_REQUEST_ID = 42L;
+    private static final String SHARD = "shard-b";
+
+    @Mock
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private CacheLoadTransaction cacheLoadTransaction;
+
+    @Mock
+    private ShardDirectory shardDirectory;
+
+    @Mock
+    private HikariDataSource defaultShard;
+
+    @Mock
+    private HikariDataSource otherShard;
+
+    @Mock
+    private Connection otherShardConnection;
+
+    record Row(Long getId, String getFirstName, String getLastName, Long getDepartmentId) implements CalendarRow {}
+
+    private LeaveCalendarService calendarService;
+    private TenantShardRoutingDataSource routing;
+
+    private final LocalDate start = LocalDate.now().plusDays(7);
+
+    @BeforeEach
+    void setUp() {
+        calendarService = new LeaveCalendarService(leaveRequestRepository, employeeRepository, cacheInvalidationBus,
+            new LocalCacheRegistry(), cacheLoadTransaction);
+        calendarService.subscribeToInvalidations();
+
+        when(cacheLoadTransaction.execute(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+
+        // The tenant lives on a shard other than the default one
+        when(shardDirectory.getShards()).thenReturn(Map.of(ShardDirectory.DEFAULT_SHARD, defaultShard, SHARD, otherShard));
+        when(shardDirectory.getDataSource(ShardDirectory.DEFAULT_SHARD)).thenReturn(defaultShard);
+        when(shardDirectory.assignmentFor(TENANT_ID)).thenReturn(new ShardAssignment(SHARD, TenantShardStatus.ACTIVE));
+        routing = new TenantShardRoutingDataSource(shardDirectory);
+        routing.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void remoteChangeIsReadFromTheTenantsShard() throws Exception {
+        when(otherShard.getConnection()).thenReturn(otherShardConnection);
+
+        // Build the tenant's (empty) index the way a request would
+        TenantContext.setTenantId(TENANT_ID);
+        when(leaveRequestRepository.findByTenantIdAndStatusInAndEndDateGreaterThanEqual(eq(TENANT_ID), any(), any()))
+            .thenReturn(List.of());
+        calendarService.getCalendar(start, start.plusDays(6), null);
+        TenantContext.clear();
+
+        List<Connection> connections = new ArrayList<>();
+        when(leaveRequestRepository.findByTenantIdAndId(TENANT_ID, LEAVE_REQUEST_ID)).thenAnswer(invocation -> {
+            connections.add(routing.getConnection());
+            return Optional.of(leaveRequest());
+        });
+
+        // Delivered on the listener thread, which has no tenant of its own
+        remoteChangeListener().accept(new CacheInvalidationEvent("other-instance", TENANT_ID,
+            CacheName.LEAVE_CALENDAR, LEAVE_REQUEST_ID.toString(), System.currentTimeMillis()));
+
+        assertThat(connections).containsExactly(otherShardConnection);
+        assertThat(TenantContext.getTenantId()).isNull();
+
+        TenantContext.setTenantId(TENANT_ID);
+        when(employeeRepository.findCalendarRowsByTenantIdAndIdIn(eq(TENANT_ID), any()))
+            .thenReturn(List.of(new Row(EMPLOYEE_ID, "Priya", "Nair", null)));
+        LeaveCalendarResponse calendar = calendarService.getCalendar(start, start.plusDays(6), null);
+
+        assertThat(calendar.getEntries()).singleElement()
+            .satisfies(entry -> {
+                assertThat(entry.getLeaveRequestId()).isEqualTo(LEAVE_REQUEST_ID);
+                assertThat(entry.getEmployeeName()).isEqualTo("Priya Nair");
+            });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<CacheInvalidationEvent> remoteChangeListener() {
+        ArgumentCaptor<Consumer<CacheInvalidationEvent>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(cacheInvalidationBus).subscribe(eq(CacheName.LEAVE_CALENDAR), listener.capture(), any());
+        return listener.getValue();
+    }
+
+    private LeaveRequest leaveRequest() {
+        LeaveRequest request = new LeaveRequest();
+        request.setId(LEAVE_REQUEST_ID);
+        request.setTenantId(TENANT_ID);
+        request.setEmployeeId(EMPLOYEE_ID);
+        request.setLeaveTypeId(1L);
+        request.setStartDate(start);
+        request.setEndDate(start.plusDays(1));
+        request.setStatus(LeaveStatus.PENDING);
+        return request;
+    }
+}
@@ -0,0 +1,133 @@
+package com.worksyncx.hrms.service.outbox;
+
+import com.worksyncx.hrms.enums.DomainEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two relays on one outbox: relay A is a claim held open on a connection of its own, relay B is the
+ * application's {@link OutboxRelay}. B must not deliver a later event of an aggregate while A holds,
+ * or has leased, an earlier one, however A's batch ended.
+ *
+ * Needs a local Postgres database of its own, see application-postgres.properties. Run with
+ * {@code mvn -Ppostgres test}.
+ */
+@SpringBootTest
+@ActiveProfiles("postgres")
+@Tag("postgres")
+class OutboxRelayConcurrencyTest {
+
+    private static final BlockingQueue<DomainEvent> DELIVERED = new LinkedBlockingQueue<>();
+    private static final long LEASE_MS = 300_000;
+    private static final long QUIET_MS = 1_000;
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class RecordingListenerConfiguration {
+
+        @Bean
+        DomainEventListener recordingListener() {
+            return DELIVERED::add;
+        }
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    private Long tenantId;
+
+    @BeforeEach
+    void setUp() {
+        // A database of its own, so the relay has nothing else to claim
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        DELIVERED.clear();
+        tenantId = jdbcTemplate.queryForObject("INSERT INTO tenants (name, email) VALUES (?, ?) RETURNING id", Long.class,
+            "Outbox relay test", "outbox-relay-" + System.nanoTime() + "@example.com");
+    }
+
+    @Test
+    void laterEventWaitsForAnEarlierOneClaimedByAnotherRelay() throws Exception {
+        long first = append(DomainEventType.EMPLOYEE_CREATED);
+        long second = append(DomainEventType.EMPLOYEE_UPDATED);
+
+        try (Connection relayA = dataSource.getConnection()) {
+            relayA.setAutoCommit(false);
+
+            // A's batch ends after the first event and its claim has not committed yet
+            assertThat(claim(relayA, 1)).containsExactly(first);
+            relay.wakeUp();
+            assertThat(DELIVERED.poll(QUIET_MS, TimeUnit.MILLISECONDS)).isNull();
+
+            // Committed, the first event is leased to A while A delivers it
+            relayA.commit();
+            relay.wakeUp();
+            assertThat(DELIVERED.poll(QUIET_MS, TimeUnit.MILLISECONDS)).isNull();
+        }
+
+        jdbcTemplate.update("UPDATE outbox_events SET published_at = CURRENT_TIMESTAMP WHERE id = ?", first);
+        relay.wakeUp();
+
+        DomainEvent delivered = DELIVERED.poll(10, TimeUnit.SECONDS);
+        assertThat(delivered).isNotNull();
+        assertThat(delivered.id()).isEqualTo(second);
+    }
+
+    @Test
+    void relayClaimsOnlyTheOldestPendingEventOfAnAggregate() throws Exception {
+        long first = append(DomainEventType.EMPLOYEE_CREATED);
+        append(DomainEventType.EMPLOYEE_UPDATED);
+        append(DomainEventType.EMPLOYEE_UPDATED);
+
+        try (Connection relayA = dataSource.getConnection()) {
+            relayA.setAutoCommit(false);
+            assertThat(claim(relayA, 100)).containsExactly(first);
+            relayA.rollback();
+        }
+    }
+
+    private long append(DomainEventType type) {
+        return jdbcTemplate.queryForObject("""
+            INSERT INTO outbox_events (tenant_id, event_type, aggregate_type, aggregate_id, payload)
+            VALUES (?, ?, ?, ?, '{}'::jsonb) RETURNING id""",
+            Long.class, tenantId, type.name(), type.getAggregateType(), tenantId);
+    }
+
+    // The relay's claim, run on a connection whose transaction the test controls
+    private List<Long> claim(Connection connection, int batchSize) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(OutboxRelay.CLAIM_SQL)) {
+            statement.setLong(1, LEASE_MS);
+            statement.setInt(2, batchSize);
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    ids.add(rows.getLong("id"));
+                }
+            }
+        }
+        return ids;
+    }
+}
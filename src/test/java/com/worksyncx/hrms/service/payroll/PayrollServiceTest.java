@@ -0,0 +1,192 @@
+package com.worksyncx.hrms.service.payroll;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.worksyncx.hrms.entity.Employee;
+import com.worksyncx.hrms.entity.Payroll;
+import com.worksyncx.hrms.entity.PayrollCycle;
+import com.worksyncx.hrms.enums.DomainEventType;
+import com.worksyncx.hrms.enums.EmploymentStatus;
+import com.worksyncx.hrms.enums.LeaveStatus;
+import com.worksyncx.hrms.enums.PayrollStatus;
+import com.worksyncx.hrms.repository.AttendanceRecordRepository;
+import com.worksyncx.hrms.repository.EmployeeRepository;
+import com.worksyncx.hrms.repository.FieldSelectionRepository;
+import com.worksyncx.hrms.repository.LeaveRequestRepository;
+import com.worksyncx.hrms.repository.LeaveTypeRepository;
+import com.worksyncx.hrms.repository.PayrollCycleRepository;
+import com.worksyncx.hrms.repository.PayrollRepository;
+import com.worksyncx.hrms.security.TenantContext;
+import com.worksyncx.hrms.service.calendar.WorkingDayCalendarService;
+import com.worksyncx.hrms.service.outbox.OutboxService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Outbox payloads of {@link PayrollService}, serialised the way the outbox stores them: they identify
+ * what changed but never carry an amount or a bank transfer reference.
+ */
+@ExtendWith(MockitoExtension.class)
+class PayrollServiceTest {
+
+    private static final Long TENANT_ID = 1L;
+    private static final Long CYCLE_ID = 3L;
+    private static final Long EMPLOYEE_ID = 5L;
+    private static final Long PAYROLL_ID = 9L;
+    private static final String BANK_TRANSFER_REF = "UTR-2026-0001";
+
+    private static final Set<String> EVENT_FIELDS = Set.of(
+        "id", "tenantId", "payrollCycleId", "employeeId", "periodStart", "periodEnd", "status", "changedEmployeeIds");
+
+    @Mock
+    private PayrollCycleRepository payrollCycleRepository;
+
+    @Mock
+    private PayrollRepository payrollRepository;
+
+    @Mock
+    private FieldSelectionRepository fieldSelectionRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private AttendanceRecordRepository attendanceRecordRepository;
+
+    @Mock
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Mock
+    private LeaveTypeRepository leaveTypeRepository;
+
+    @Mock
+    private WorkingDayCalendarService workingDayCalendarService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    // Configured like Spring Boot's mapper, which the outbox uses
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private PayrollService payrollService;
+
+    @BeforeEach
+    void setUp() {
+        TenantContext.setTenantId(TENANT_ID);
+        payrollService = new PayrollService(payrollCycleRepository, payrollRepository, fieldSelectionRepository,
+            employeeRepository, attendanceRecordRepository, leaveRequestRepository, leaveTypeRepository,
+            workingDayCalendarService, outboxService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void paidEventCarriesNoAmountsOrBankReference() throws Exception {
+        Payroll payroll = new Payroll();
+        payroll.setId(PAYROLL_ID);
+        payroll.setTenantId(TENANT_ID);
+        payroll.setEmployeeId(EMPLOYEE_ID);
+        payroll.setPayrollCycleId(CYCLE_ID);
+        payroll.setBasicSalary(new BigDecimal("4000.00"));
+        payroll.setHra(new BigDecimal("1600.00"));
+        payroll.setGrossSalary(new BigDecimal("6000.00"));
+        payroll.setTotalDeductions(new BigDecimal("1280.00"));
+        payroll.setNetSalary(new BigDecimal("4720.00"));
+        when(payrollRepository.findByTenantIdAndId(TENANT_ID, PAYROLL_ID)).thenReturn(Optional.of(payroll));
+        when(payrollRepository.save(payroll)).thenReturn(payroll);
+
+        payrollService.markAsPaid(PAYROLL_ID, BANK_TRANSFER_REF);
+
+        String json = objectMapper.writeValueAsString(payloadOf(DomainEventType.PAYROLL_PAID));
+        assertThat(fieldsOf(json)).isSubsetOf(EVENT_FIELDS).contains("employeeId", "status");
+        assertThat(json).doesNotContain(BANK_TRANSFER_REF, "4720", "4000", "1600");
+    }
+
+    @Test
+    void cycleRunEventListsChangedEmployeesWithoutSalaries() throws Exception {
+        YearMonth period = YearMonth.now().minusMonths(1);
+        PayrollCycle cycle = new PayrollCycle();
+        cycle.setId(CYCLE_ID);
+        cycle.setTenantId(TENANT_ID);
+        cycle.setName("Payroll " + period);
+        cycle.setMonth(period.getMonthValue());
+        cycle.setYear(period.getYear());
+
+        Employee employee = new Employee();
+        employee.setId(EMPLOYEE_ID);
+        employee.setTenantId(TENANT_ID);
+        employee.setEmployeeCode("EMP-005");
+        employee.setFirstName("Priya");
+        employee.setLastName("Nair");
+        employee.setBasicSalary(new BigDecimal("98765.00"));
+
+        when(payrollCycleRepository.findByTenantIdAndId(TENANT_ID, CYCLE_ID)).thenReturn(Optional.of(cycle));
+        when(employeeRepository.findByTenantIdAndEmploymentStatus(TENANT_ID, EmploymentStatus.ACTIVE)).thenReturn(List.of(employee));
+        when(payrollRepository.findByTenantIdAndPayrollCycleId(TENANT_ID, CYCLE_ID)).thenReturn(List.of());
+        when(attendanceRecordRepository.countStatusesByEmployee(eq(TENANT_ID), any(), any())).thenReturn(List.of());
+        when(leaveTypeRepository.findByTenantId(TENANT_ID)).thenReturn(List.of());
+        when(leaveRequestRepository.findByTenantIdAndStatusOverlapping(eq(TENANT_ID), eq(LeaveStatus.APPROVED), any(), any()))
+            .thenReturn(List.of());
+        when(workingDayCalendarService.loadAssignments(anyCollection(), any(), any())).thenReturn(Map.of());
+
+        payrollService.runPayrollCycle(CYCLE_ID);
+
+        String json = objectMapper.writeValueAsString(payloadOf(DomainEventType.PAYROLL_CYCLE_RUN));
+        assertThat(fieldsOf(json)).isSubsetOf(EVENT_FIELDS);
+        assertThat(objectMapper.readTree(json).get("changedEmployeeIds").get(0).asLong()).isEqualTo(EMPLOYEE_ID);
+        assertThat(json).doesNotContain("98765", "Priya", "Nair");
+    }
+
+    @Test
+    void cycleEventsCarryThePeriodAndStatus() throws Exception {
+        PayrollCycle cycle = new PayrollCycle();
+        cycle.setId(CYCLE_ID);
+        cycle.setTenantId(TENANT_ID);
+        cycle.setMonth(1);
+        cycle.setYear(2026);
+        cycle.setStatus(PayrollStatus.DRAFT);
+        when(payrollCycleRepository.findByTenantIdAndId(TENANT_ID, CYCLE_ID)).thenReturn(Optional.of(cycle));
+
+        payrollService.deletePayrollCycle(CYCLE_ID);
+
+        Map<String, Object> payload = objectMapper.readValue(
+            objectMapper.writeValueAsString(payloadOf(DomainEventType.PAYROLL_CYCLE_DELETED)), new TypeReference<>() {});
+        assertThat(payload).containsEntry("periodStart", "2026-01-01")
+            .containsEntry("periodEnd", "2026-01-31")
+            .containsEntry("status", "DRAFT");
+    }
+
+    private Object payloadOf(DomainEventType type) {
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(outboxService).append(eq(TENANT_ID), eq(type), any(), payload.capture());
+        return payload.getValue();
+    }
+
+    private Set<String> fieldsOf(String json) throws Exception {
+        return objectMapper.readValue(json, new TypeReference<Map<String, Object>>() {}).keySet();
+    }
+}